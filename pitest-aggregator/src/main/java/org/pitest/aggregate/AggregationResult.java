@@ -6,12 +6,19 @@ public class AggregationResult {
   private final int  mutationCoverage;
 
   private final int testStrength;
+  private final long mutationsNotRun;
 
   public AggregationResult(long mutations, long mutationsSurvived, int mutationCoverage, int testStrength) {
+    this(mutations, mutationsSurvived, mutationCoverage, testStrength, 0);
+  }
+
+  public AggregationResult(long mutations, long mutationsSurvived, int mutationCoverage, int testStrength,
+      long mutationsNotRun) {
     this.mutations = mutations;
     this.mutationsSurvived = mutationsSurvived;
     this.mutationCoverage = mutationCoverage;
     this.testStrength = testStrength;
+    this.mutationsNotRun = mutationsNotRun;
   }
 
   public long getMutations() {
@@ -29,4 +36,12 @@ public class AggregationResult {
   public int getTestStrength() {
     return testStrength;
   }
+
+  /**
+   * Mutations not run before the time budget was spent. These are excluded
+   * from the other figures.
+   */
+  public long getMutationsNotRun() {
+    return mutationsNotRun;
+  }
 }
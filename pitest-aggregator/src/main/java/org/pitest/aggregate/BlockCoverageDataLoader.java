@@ -53,7 +53,7 @@ class BlockCoverageDataLoader extends DataLoader<BlockCoverage> {
     ClassName className = ClassName.fromString(line.classname);
     String methodName = line.method.substring(0, line.method.indexOf(OPEN_PAREN));
     String methodDesc = line.method.substring(line.method.indexOf(OPEN_PAREN));
-    Location location = new Location(className, methodName, methodDesc);
+    Location location = Location.location(className, methodName, methodDesc);
     BlockLocation loc = new BlockLocation(location, line.number);
     return new BlockCoverage(loc, toTestStrings(line));
   }
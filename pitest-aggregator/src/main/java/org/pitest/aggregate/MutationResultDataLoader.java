@@ -48,7 +48,7 @@ class MutationResultDataLoader extends DataLoader<MutationResult> {
   }
 
   private MutationResult xmlToResult(MutationXml xml) {
-    Location location = new Location(ClassName.fromString(xml.mutatedClass),
+    Location location = Location.location(ClassName.fromString(xml.mutatedClass),
             xml.mutatedMethod, xml.methodDescription);
     MutationIdentifier id = new MutationIdentifier(location, xml.indexes, xml.mutator);
     return new MutationResult(new MutationDetails(id,
@@ -1,6 +1,7 @@
 package org.pitest.aggregate;
 
 import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.report.html.MutationTotals;
 
@@ -14,10 +15,12 @@ public class ReportAggregatorResultListener implements MutationResultListener {
 
   @Override
   public void handleMutationResult(ClassMutationResults results) {
+    final long notRun = results.getMutations().stream().filter(it -> it.getStatus() == DetectionStatus.NOT_RUN).count();
     totals.addFiles(1);
-    totals.addMutations(results.getMutations().size());
+    totals.addMutations(results.getMutations().size() - notRun);
     totals.addMutationsDetetcted(results.getMutations().stream().filter(mutation -> mutation.getStatus().isDetected()).count());
     totals.addMutationsWithCoverage(results.getMutations().stream().filter(it -> it.getStatus().hasCoverage()).count());
+    totals.addMutationsNotRun(notRun);
   }
 
   @Override
@@ -27,6 +30,6 @@ public class ReportAggregatorResultListener implements MutationResultListener {
 
   public AggregationResult result() {
     return new AggregationResult(totals.getNumberOfMutations(), totals.getNumberOfMutations() - totals.getNumberOfMutationsDetected(),
-        totals.getMutationCoverage(), totals.getTestStrength());
+        totals.getMutationCoverage(), totals.getTestStrength(), totals.getNumberOfMutationsNotRun());
   }
 }
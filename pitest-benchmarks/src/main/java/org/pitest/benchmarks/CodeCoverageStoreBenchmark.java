@@ -0,0 +1,82 @@
+package org.pitest.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * The work the coverage minion does around each test: probes are set by the
+ * instrumented code as it runs, then hits are collected and the probes reset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodeCoverageStoreBenchmark {
+
+  @Param({ "100", "2000" })
+  public int classes;
+
+  @Param({ "300" })
+  public int probesPerClass;
+
+  @Param({ "0.05" })
+  public double hitShare;
+
+  private boolean[][] probes;
+  private int[]       hitClasses;
+  private int[]       hitProbes;
+
+  @Setup
+  public void setUp() {
+    CodeCoverageStore.resetAllStaticState();
+    this.probes = new boolean[this.classes][];
+    for (int c = 0; c != this.classes; c++) {
+      this.probes[c] = CodeCoverageStore.getOrRegisterClassProbes(c,
+          this.probesPerClass);
+    }
+
+    final Random random = new Random(42);
+    final int hits = (int) (this.classes * this.probesPerClass * this.hitShare);
+    this.hitClasses = new int[hits];
+    this.hitProbes = new int[hits];
+    for (int i = 0; i != hits; i++) {
+      this.hitClasses[i] = random.nextInt(this.classes);
+      this.hitProbes[i] = 1 + random.nextInt(this.probesPerClass);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    CodeCoverageStore.resetAllStaticState();
+  }
+
+  @Benchmark
+  public void runTestAndCollectHits(Blackhole bh) {
+    for (int i = 0; i != this.hitClasses.length; i++) {
+      final boolean[] classProbes = this.probes[this.hitClasses[i]];
+      classProbes[0] = true;
+      classProbes[this.hitProbes[i]] = true;
+    }
+    bh.consume(CodeCoverageStore.getHits());
+    CodeCoverageStore.reset();
+  }
+
+}
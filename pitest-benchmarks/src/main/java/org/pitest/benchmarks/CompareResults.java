@@ -0,0 +1,135 @@
+package org.pitest.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two sets of benchmark results written by JMH with -rf csv, such
+ * as those from two commits.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.pitest.benchmarks.CompareResults base.csv new.csv
+ * </pre>
+ *
+ * Changes larger than the combined error of the two scores are marked.
+ */
+public final class CompareResults {
+
+  private CompareResults() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: CompareResults <base.csv> <new.csv>");
+      System.exit(1);
+    }
+
+    final Map<String, Result> base = read(args[0]);
+    final Map<String, Result> current = read(args[1]);
+
+    final int width = current.keySet().stream().mapToInt(String::length).max()
+        .orElse(10);
+    final String name = "%-" + width + "s";
+    System.out.println(String.format(name + " %14s %14s %9s", "Benchmark",
+        "Base", "New", "Change"));
+    for (final Map.Entry<String, Result> each : current.entrySet()) {
+      final Result now = each.getValue();
+      final Result then = base.get(each.getKey());
+      if (then == null) {
+        System.out.println(String.format(name + " %14s %14.3f %9s", each.getKey(),
+            "-", now.score, "new"));
+        continue;
+      }
+      final double change = ((now.score - then.score) / then.score) * 100;
+      final boolean significant = Math.abs(now.score - then.score) > (now.error
+          + then.error);
+      System.out.println(String.format(name + " %14.3f %14.3f %+8.1f%%%s",
+          each.getKey(), then.score, now.score, change,
+          significant ? " *" : ""));
+    }
+    System.out.println("Scores are in each benchmark's units (" + units(current)
+        + "). Lower is better. * change exceeds the combined error");
+  }
+
+  static Map<String, Result> read(String file) throws IOException {
+    final List<String> lines = Files.readAllLines(Paths.get(file),
+        StandardCharsets.UTF_8);
+    final Map<String, Result> results = new LinkedHashMap<>();
+    final List<String> header = split(lines.get(0));
+    for (final String line : lines.subList(1, lines.size())) {
+      if (line.trim().isEmpty()) {
+        continue;
+      }
+      final List<String> cols = split(line);
+      final StringBuilder key = new StringBuilder(shorten(cols.get(0)));
+      for (int i = 7; i < cols.size(); i++) {
+        if (cols.get(i).isEmpty()) {
+          continue;
+        }
+        key.append(' ').append(header.get(i).replace("Param: ", ""))
+            .append('=').append(cols.get(i));
+      }
+      results.put(key.toString(), new Result(parse(cols.get(4)),
+          parse(cols.get(5)), cols.get(6)));
+    }
+    return results;
+  }
+
+  static List<String> split(String line) {
+    final List<String> cols = new ArrayList<>();
+    final StringBuilder current = new StringBuilder();
+    boolean quoted = false;
+    for (final char c : line.toCharArray()) {
+      if (c == '"') {
+        quoted = !quoted;
+      } else if (c == ',' && !quoted) {
+        cols.add(current.toString());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    cols.add(current.toString());
+    return cols;
+  }
+
+  private static String shorten(String benchmark) {
+    final String[] parts = benchmark.split("\\.");
+    if (parts.length < 2) {
+      return benchmark;
+    }
+    return parts[parts.length - 2] + "." + parts[parts.length - 1];
+  }
+
+  private static double parse(String value) {
+    try {
+      return Double.parseDouble(value);
+    } catch (final NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static String units(Map<String, Result> results) {
+    return results.values().stream().map(r -> r.unit).distinct()
+        .reduce((a, b) -> a + ", " + b).orElse("");
+  }
+
+  static final class Result {
+    final double score;
+    final double error;
+    final String unit;
+
+    Result(double score, double error, String unit) {
+      this.score = score;
+      this.error = error;
+      this.unit = unit;
+    }
+  }
+
+}
@@ -0,0 +1,70 @@
+package org.pitest.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.analysis.LineMapper;
+
+/**
+ * Recording the coverage of every test, as the main process does while the
+ * coverage minion reports back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoverageDataBenchmark {
+
+  @Param({ "50" })
+  public int classes;
+
+  @Param({ "500", "2000" })
+  public int tests;
+
+  @Param({ "0.02" })
+  public double coveredShare;
+
+  private SyntheticCodeSource  code;
+  private List<CoverageResult> results;
+  private CoverageData         coverage;
+
+  @Setup
+  public void setUp() {
+    this.code = new SyntheticCodeSource(
+        SyntheticClasses.generate(this.classes, 20, 30));
+    this.results = SyntheticCoverage.results(SyntheticCoverage.blocks(this.code),
+        this.tests, this.coveredShare);
+  }
+
+  // each invocation takes milliseconds, so the cost of a fresh CoverageData
+  // per invocation is not a concern
+  @Setup(Level.Invocation)
+  public void freshCoverage() {
+    this.coverage = new CoverageData(this.code, new LineMapper(this.code));
+  }
+
+  @Benchmark
+  public CoverageData calculateClassCoverage() {
+    for (final CoverageResult each : this.results) {
+      this.coverage.calculateClassCoverage(each);
+    }
+    return this.coverage;
+  }
+
+}
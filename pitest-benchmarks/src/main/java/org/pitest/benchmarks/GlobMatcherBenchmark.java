@@ -0,0 +1,87 @@
+package org.pitest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.functional.prelude.Prelude;
+import org.pitest.util.Glob;
+import org.pitest.util.GlobMatcher;
+
+/**
+ * Filtering the classes on a classpath with target and excluded class globs,
+ * combining a regex per glob as before against a single {@link GlobMatcher}.
+ * Each iteration builds a fresh filter, so the matcher's cache only helps
+ * with names seen earlier in the same pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobMatcherBenchmark {
+
+  @Param({ "5", "50" })
+  public int globs;
+
+  @Param({ "5000" })
+  public int classes;
+
+  private List<String> targets;
+  private List<String> excludes;
+  private List<String> names;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    this.targets = new ArrayList<>();
+    this.excludes = new ArrayList<>();
+    for (int i = 0; i != this.globs; i++) {
+      this.targets.add("com.example.module" + i + ".*");
+      this.excludes.add("com.example.module" + i + ".*Generated*");
+    }
+
+    this.names = new ArrayList<>();
+    for (int i = 0; i != this.classes; i++) {
+      final int module = random.nextInt(this.globs * 2);
+      final String suffix = random.nextInt(10) == 0 ? "Generated$1" : "";
+      this.names.add("com.example.module" + module + ".sub" + random.nextInt(20)
+          + ".SomeClass" + i + suffix);
+    }
+  }
+
+  @Benchmark
+  public void regexPerGlob(Blackhole bh) {
+    final Predicate<String> filter = Prelude.and(
+        Prelude.or(Glob.toGlobPredicates(this.targets)),
+        Prelude.not(Prelude.or(Glob.toGlobPredicates(this.excludes))));
+    for (final String each : this.names) {
+      bh.consume(filter.test(each));
+    }
+  }
+
+  @Benchmark
+  public void globMatcher(Blackhole bh) {
+    final Predicate<String> filter = Prelude.and(GlobMatcher.of(this.targets),
+        Prelude.not(GlobMatcher.of(this.excludes)));
+    for (final String each : this.names) {
+      bh.consume(filter.test(each));
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+package org.pitest.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+
+/**
+ * Finding the mutants in a large class with the default mutators, and
+ * creating the bytes for one of them as a mutation minion does for each
+ * mutant it tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GregorMutaterBenchmark {
+
+  @Param({ "20" })
+  public int methods;
+
+  @Param({ "30", "300" })
+  public int statements;
+
+  private ClassName                clazz;
+  private Mutater                  mutater;
+  private List<MutationIdentifier> ids;
+  private int                      next;
+
+  @Setup
+  public void setUp() {
+    final SyntheticCodeSource code = new SyntheticCodeSource(
+        SyntheticClasses.generate(1, this.methods, this.statements));
+    this.clazz = code.getCodeUnderTestNames().iterator().next();
+    this.mutater = new GregorEngineFactory()
+        .createEngine(EngineArguments.arguments()).createMutator(code);
+    this.ids = this.mutater.findMutations(this.clazz).stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<MutationDetails> findMutations() {
+    return this.mutater.findMutations(this.clazz);
+  }
+
+  @Benchmark
+  public Mutant getMutation() {
+    this.next = (this.next + 1) % this.ids.size();
+    return this.mutater.getMutation(this.ids.get(this.next));
+  }
+
+}
@@ -0,0 +1,114 @@
+package org.pitest.benchmarks;
+
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
+import org.pitest.mutationtest.incremental.WriterFactory;
+
+/**
+ * Writing the result of every mutant to the history file, and reading the
+ * file back at the start of the next run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HistoryStoreBenchmark {
+
+  @Param({ "10", "50" })
+  public int classes;
+
+  private List<MutationResult> results;
+  private String               history;
+
+  @Setup
+  public void setUp() {
+    final SyntheticCodeSource code = new SyntheticCodeSource(
+        SyntheticClasses.generate(this.classes, 20, 30));
+    final Mutater mutater = new GregorEngineFactory()
+        .createEngine(EngineArguments.arguments()).createMutator(code);
+    this.results = new ArrayList<>();
+    for (final ClassName each : code.getCodeUnderTestNames()) {
+      for (final MutationDetails md : mutater.findMutations(each)) {
+        this.results.add(new MutationResult(md, new MutationStatusTestPair(1,
+            DetectionStatus.KILLED, "com.example.generated.GeneratedTest.test")));
+      }
+    }
+    this.history = writeHistory();
+  }
+
+  @Benchmark
+  public String write() {
+    return writeHistory();
+  }
+
+  @Benchmark
+  public Map<MutationIdentifier, MutationStatusTestPair> read() {
+    final ObjectOutputStreamHistoryStore store = new ObjectOutputStreamHistoryStore(
+        new StringWriterFactory(), Optional.of(new StringReader(this.history)));
+    store.initialize();
+    return store.getHistoricResults();
+  }
+
+  private String writeHistory() {
+    final StringWriterFactory out = new StringWriterFactory();
+    final ObjectOutputStreamHistoryStore store = new ObjectOutputStreamHistoryStore(
+        out, Optional.empty());
+    store.recordClassPath(Collections.emptyList(), null);
+    for (final MutationResult each : this.results) {
+      store.recordResult(each);
+    }
+    return out.toString();
+  }
+
+  private static class StringWriterFactory implements WriterFactory {
+    private final StringWriter sw     = new StringWriter();
+    private final PrintWriter  writer = new PrintWriter(this.sw);
+
+    @Override
+    public PrintWriter create() {
+      return this.writer;
+    }
+
+    @Override
+    public void close() {
+      this.writer.close();
+    }
+
+    @Override
+    public String toString() {
+      return this.sw.toString();
+    }
+  }
+
+}
@@ -0,0 +1,92 @@
+package org.pitest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.analysis.LineMapper;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.build.DefaultTestPrioritiser;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+
+/**
+ * Filtering the mutants of one large generated class through the interceptors
+ * enabled by default, as is done for each class before its mutants are
+ * assigned tests. Time should grow in line with the number of methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+  @Param({ "100", "300", "1000" })
+  public int methods;
+
+  @Param({ "30" })
+  public int statements;
+
+  private MutationInterceptor   interceptor;
+  private Mutater               mutater;
+  private byte[]                bytes;
+  private List<MutationDetails> mutations;
+
+  @Setup
+  public void setUp() {
+    final SyntheticCodeSource code = new SyntheticCodeSource(
+        SyntheticClasses.generate(1, this.methods, this.statements));
+    final CoverageData coverage = new CoverageData(code, new LineMapper(code));
+    for (final CoverageResult each : SyntheticCoverage
+        .results(SyntheticCoverage.blocks(code), 100, 0.02)) {
+      coverage.calculateClassCoverage(each);
+    }
+
+    final ReportOptions data = new ReportOptions();
+    this.interceptor = new SettingsFactory(data,
+        PluginServices.makeForContextLoader()).getInterceptor()
+        .createInterceptor(data, coverage, code,
+            new DefaultTestPrioritiser(coverage));
+    this.interceptor.initialise(code);
+
+    final ClassName clazz = code.getCodeUnderTestNames().iterator().next();
+    this.mutater = new GregorEngineFactory()
+        .createEngine(EngineArguments.arguments()).createMutator(code);
+    this.bytes = code.getBytes(clazz.asJavaName()).get();
+    this.mutations = this.mutater.findMutations(clazz);
+  }
+
+  @Benchmark
+  public Collection<MutationDetails> intercept() {
+    // the tree is read for each class, so its indexes are built each time too
+    this.interceptor.begin(ClassTree.fromBytes(this.bytes));
+    final Collection<MutationDetails> filtered = this.interceptor
+        .intercept(new ArrayList<>(this.mutations), this.mutater);
+    this.interceptor.end();
+    return filtered;
+  }
+
+}
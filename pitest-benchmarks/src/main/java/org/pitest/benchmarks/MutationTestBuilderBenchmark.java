@@ -0,0 +1,93 @@
+package org.pitest.benchmarks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.analysis.LineMapper;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationConfig;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.CompoundMutationInterceptor;
+import org.pitest.mutationtest.build.DefaultGrouper;
+import org.pitest.mutationtest.build.DefaultTestPrioritiser;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.build.MutationSource;
+import org.pitest.mutationtest.build.MutationTestBuilder;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+
+/**
+ * Finding mutants, assigning tests to them from coverage and grouping them
+ * into units of work, for every class in a project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MutationTestBuilderBenchmark {
+
+  @Param({ "20", "100" })
+  public int classes;
+
+  @Param({ "500" })
+  public int tests;
+
+  private Collection<ClassName> codeClasses;
+  private MutationTestBuilder   builder;
+
+  @Setup
+  public void setUp() {
+    final SyntheticCodeSource code = new SyntheticCodeSource(
+        SyntheticClasses.generate(this.classes, 20, 30));
+    final CoverageData coverage = new CoverageData(code, new LineMapper(code));
+    for (final CoverageResult each : SyntheticCoverage
+        .results(SyntheticCoverage.blocks(code), this.tests, 0.02)) {
+      coverage.calculateClassCoverage(each);
+    }
+
+    final MutationConfig config = new MutationConfig(
+        new GregorEngineFactory().createEngine(EngineArguments.arguments()),
+        null);
+    final MutationSource source = new MutationSource(config,
+        new DefaultTestPrioritiser(coverage), code,
+        CompoundMutationInterceptor.nullInterceptor());
+
+    // units are built but never run, so no worker factory is needed
+    this.builder = new MutationTestBuilder(null,
+        MutationTestBuilderBenchmark::notAnalysed, source,
+        new DefaultGrouper(0));
+    this.codeClasses = code.getCodeUnderTestNames();
+  }
+
+  @Benchmark
+  public List<MutationAnalysisUnit> createMutationTestUnits() {
+    return this.builder.createMutationTestUnits(this.codeClasses);
+  }
+
+  private static Collection<MutationResult> notAnalysed(
+      Collection<MutationDetails> mutations) {
+    return FCollection.map(mutations, m -> new MutationResult(m,
+        MutationStatusTestPair.notAnalysed(0, DetectionStatus.NOT_STARTED)));
+  }
+
+}
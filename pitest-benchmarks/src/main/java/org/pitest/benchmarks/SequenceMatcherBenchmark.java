@@ -0,0 +1,103 @@
+package org.pitest.benchmarks;
+
+import static org.pitest.bytecode.analysis.InstructionMatchers.aConditionalJump;
+import static org.pitest.bytecode.analysis.InstructionMatchers.aLabelNode;
+import static org.pitest.bytecode.analysis.InstructionMatchers.anyInstruction;
+import static org.pitest.bytecode.analysis.InstructionMatchers.jumpsTo;
+import static org.pitest.bytecode.analysis.InstructionMatchers.labelNode;
+import static org.pitest.bytecode.analysis.InstructionMatchers.methodCallTo;
+import static org.pitest.bytecode.analysis.InstructionMatchers.notAnInstruction;
+import static org.pitest.bytecode.analysis.OpcodeMatchers.ALOAD;
+import static org.pitest.bytecode.analysis.OpcodeMatchers.ASTORE;
+import static org.pitest.bytecode.analysis.OpcodeMatchers.GOTO;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.sequence.QueryParams;
+import org.pitest.sequence.QueryStart;
+import org.pitest.sequence.SequenceMatcher;
+import org.pitest.sequence.SequenceQuery;
+import org.pitest.sequence.Slot;
+
+/**
+ * Matching a for each loop query, of the kind the interceptors use to filter
+ * mutants in compiler generated code, against every method of a large class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SequenceMatcherBenchmark {
+
+  private static final ClassName ITERATOR = ClassName.fromString("java/util/Iterator");
+
+  private static final SequenceMatcher<AbstractInsnNode> FOR_EACH = forEachLoop()
+      .compile(QueryParams.params(AbstractInsnNode.class)
+          .withIgnores(notAnInstruction()));
+
+  @Param({ "20" })
+  public int methods;
+
+  @Param({ "30", "300" })
+  public int statements;
+
+  private List<List<AbstractInsnNode>> instructions;
+
+  @Setup
+  public void setUp() {
+    final ClassTree tree = ClassTree.fromBytes(SyntheticClasses
+        .generateClass("com/example/generated/Generated", this.methods,
+            this.statements));
+    this.instructions = tree.methods().stream()
+        .map(MethodTree::instructions)
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public void matchEveryMethod(Blackhole bh) {
+    for (final List<AbstractInsnNode> each : this.instructions) {
+      bh.consume(FOR_EACH.matches(each));
+    }
+  }
+
+  private static SequenceQuery<AbstractInsnNode> forEachLoop() {
+    final Slot<LabelNode> loopStart = Slot.create(LabelNode.class);
+    final Slot<LabelNode> loopEnd = Slot.create(LabelNode.class);
+    return QueryStart
+        .any(AbstractInsnNode.class)
+        .then(methodCallTo(ClassName.fromString("java/util/List"), "iterator"))
+        .then(ASTORE)
+        .then(aLabelNode(loopStart.write()))
+        .then(ALOAD)
+        .then(methodCallTo(ITERATOR, "hasNext"))
+        .then(aConditionalJump().and(jumpsTo(loopEnd.write())))
+        .then(ALOAD)
+        .then(methodCallTo(ITERATOR, "next"))
+        .zeroOrMore(QueryStart.match(anyInstruction()))
+        .then(GOTO.and(jumpsTo(loopStart.read())))
+        .then(labelNode(loopEnd.read()))
+        .zeroOrMore(QueryStart.match(anyInstruction()));
+  }
+
+}
@@ -0,0 +1,197 @@
+package org.pitest.benchmarks;
+
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IADD;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IF_ICMPLE;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.IMUL;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.ISUB;
+import static org.objectweb.asm.Opcodes.IXOR;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.pitest.classinfo.ClassName;
+
+/**
+ * Generates classes shaped like ordinary application code: methods made of
+ * arithmetic, branches and for each loops, each statement on its own line.
+ * Sizes are chosen by the benchmarks so that fixtures can be made as large
+ * as needed without checking in class files.
+ */
+public final class SyntheticClasses {
+
+  private static final String METHOD_DESC = "(IILjava/util/List;)I";
+
+  private SyntheticClasses() {
+  }
+
+  /**
+   * Generates the given number of classes in package com.example.generated.
+   */
+  public static Map<ClassName, byte[]> generate(int classes, int methods,
+      int statements) {
+    final Map<ClassName, byte[]> generated = new LinkedHashMap<>();
+    for (int i = 0; i != classes; i++) {
+      final String name = "com/example/generated/Generated" + i;
+      generated.put(ClassName.fromString(name),
+          generateClass(name, methods, statements));
+    }
+    return generated;
+  }
+
+  public static byte[] generateClass(String internalName, int methods,
+      int statements) {
+    final ClassWriter cw = new ClassWriter(
+        ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+    cw.visit(V1_8, ACC_PUBLIC | ACC_SUPER, internalName, null,
+        "java/lang/Object", null);
+    cw.visitSource(internalName.substring(internalName.lastIndexOf('/') + 1)
+        + ".java", null);
+
+    int line = 1;
+    line = constructor(cw, line);
+    for (int m = 0; m != methods; m++) {
+      line = method(cw, "method" + m, statements, line);
+    }
+
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private static int constructor(ClassWriter cw, int line) {
+    final MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null,
+        null);
+    mv.visitCode();
+    lineNumber(mv, line);
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V",
+        false);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+    return line + 1;
+  }
+
+  private static int method(ClassWriter cw, String name, int statements,
+      int firstLine) {
+    int line = firstLine;
+    final MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, name, METHOD_DESC,
+        null, null);
+    mv.visitCode();
+
+    // int x = 0;
+    lineNumber(mv, line++);
+    mv.visitInsn(ICONST_0);
+    mv.visitVarInsn(ISTORE, 4);
+
+    for (int s = 0; s != statements; s++) {
+      switch (s % 3) {
+      case 0:
+        line = arithmetic(mv, s, line);
+        break;
+      case 1:
+        line = branch(mv, s, line);
+        break;
+      default:
+        line = forEachLoop(mv, line);
+      }
+    }
+
+    lineNumber(mv, line++);
+    mv.visitVarInsn(ILOAD, 4);
+    mv.visitInsn(IRETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+    return line;
+  }
+
+  // x = x + a * s;
+  private static int arithmetic(MethodVisitor mv, int s, int line) {
+    lineNumber(mv, line);
+    mv.visitVarInsn(ILOAD, 4);
+    mv.visitVarInsn(ILOAD, 1);
+    mv.visitLdcInsn(s);
+    mv.visitInsn(IMUL);
+    mv.visitInsn(IADD);
+    mv.visitVarInsn(ISTORE, 4);
+    return line + 1;
+  }
+
+  // if (x > b) { x = x - s; } else { x = x ^ s; }
+  private static int branch(MethodVisitor mv, int s, int line) {
+    final Label otherwise = new Label();
+    final Label end = new Label();
+    lineNumber(mv, line);
+    mv.visitVarInsn(ILOAD, 4);
+    mv.visitVarInsn(ILOAD, 2);
+    mv.visitJumpInsn(IF_ICMPLE, otherwise);
+    lineNumber(mv, line + 1);
+    mv.visitVarInsn(ILOAD, 4);
+    mv.visitLdcInsn(s);
+    mv.visitInsn(ISUB);
+    mv.visitVarInsn(ISTORE, 4);
+    mv.visitJumpInsn(GOTO, end);
+    mv.visitLabel(otherwise);
+    lineNumber(mv, line + 2);
+    mv.visitVarInsn(ILOAD, 4);
+    mv.visitLdcInsn(s);
+    mv.visitInsn(IXOR);
+    mv.visitVarInsn(ISTORE, 4);
+    mv.visitLabel(end);
+    return line + 3;
+  }
+
+  // for (Object o : list) { x = x + o.hashCode(); }
+  private static int forEachLoop(MethodVisitor mv, int line) {
+    final Label start = new Label();
+    final Label end = new Label();
+    lineNumber(mv, line);
+    mv.visitVarInsn(ALOAD, 3);
+    mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "iterator",
+        "()Ljava/util/Iterator;", true);
+    mv.visitVarInsn(ASTORE, 5);
+    mv.visitLabel(start);
+    mv.visitVarInsn(ALOAD, 5);
+    mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z",
+        true);
+    mv.visitJumpInsn(IFEQ, end);
+    mv.visitVarInsn(ALOAD, 5);
+    mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next",
+        "()Ljava/lang/Object;", true);
+    mv.visitVarInsn(ASTORE, 6);
+    lineNumber(mv, line + 1);
+    mv.visitVarInsn(ILOAD, 4);
+    mv.visitVarInsn(ALOAD, 6);
+    mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", "hashCode", "()I",
+        false);
+    mv.visitInsn(IADD);
+    mv.visitVarInsn(ISTORE, 4);
+    mv.visitJumpInsn(GOTO, start);
+    mv.visitLabel(end);
+    return line + 2;
+  }
+
+  private static void lineNumber(MethodVisitor mv, int line) {
+    final Label l = new Label();
+    mv.visitLabel(l);
+    mv.visitLineNumber(line, l);
+  }
+
+}
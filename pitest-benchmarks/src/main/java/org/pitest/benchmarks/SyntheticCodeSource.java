@@ -0,0 +1,81 @@
+package org.pitest.benchmarks;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.classpath.CodeSource;
+
+/**
+ * Code source backed by generated classes. Anything else, such as JDK
+ * classes needed when computing frames, is read from the classloader.
+ */
+public class SyntheticCodeSource implements CodeSource {
+
+  private final Map<ClassName, byte[]> classes;
+  private final ClassByteArraySource   fallback = ClassloaderByteArraySource
+      .fromContext();
+
+  public SyntheticCodeSource(Map<ClassName, byte[]> classes) {
+    this.classes = classes;
+  }
+
+  @Override
+  public Stream<ClassTree> codeTrees() {
+    return this.classes.values().stream().map(ClassTree::fromBytes);
+  }
+
+  @Override
+  public Set<ClassName> getCodeUnderTestNames() {
+    return this.classes.keySet();
+  }
+
+  @Override
+  public Stream<ClassTree> testTrees() {
+    return Stream.empty();
+  }
+
+  @Override
+  public ClassPath getClassPath() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Optional<ClassName> findTestee(String className) {
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<byte[]> fetchClassBytes(ClassName clazz) {
+    return Optional.ofNullable(this.classes.get(clazz));
+  }
+
+  @Override
+  public Optional<ClassInfo> fetchClass(ClassName clazz) {
+    return Optional.empty();
+  }
+
+  @Override
+  public Collection<ClassInfo> getClassInfo(Collection<ClassName> classes) {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public Optional<byte[]> getBytes(String clazz) {
+    final byte[] bytes = this.classes.get(ClassName.fromString(clazz));
+    if (bytes != null) {
+      return Optional.of(bytes);
+    }
+    return this.fallback.getBytes(clazz);
+  }
+
+}
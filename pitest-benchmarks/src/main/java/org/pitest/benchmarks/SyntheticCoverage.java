@@ -0,0 +1,51 @@
+package org.pitest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.analysis.LineMapper;
+import org.pitest.testapi.Description;
+
+/**
+ * Coverage of generated classes by a number of generated tests. Each test
+ * covers a fixed share of all blocks chosen at random from a fixed seed, so
+ * runs of the same benchmark see the same data.
+ */
+public final class SyntheticCoverage {
+
+  private SyntheticCoverage() {
+  }
+
+  public static List<BlockLocation> blocks(SyntheticCodeSource code) {
+    final LineMapper lines = new LineMapper(code);
+    final List<BlockLocation> blocks = new ArrayList<>();
+    for (final ClassName each : code.getCodeUnderTestNames()) {
+      blocks.addAll(lines.mapLines(each).keySet());
+    }
+    blocks.sort((a, b) -> a.toString().compareTo(b.toString()));
+    return blocks;
+  }
+
+  public static List<CoverageResult> results(List<BlockLocation> blocks,
+      int tests, double coveredShare) {
+    final Random random = new Random(42);
+    final int perTest = Math.max(1, (int) (blocks.size() * coveredShare));
+    final List<CoverageResult> results = new ArrayList<>(tests);
+    for (int t = 0; t != tests; t++) {
+      final List<BlockLocation> covered = new ArrayList<>(perTest);
+      for (int b = 0; b != perTest; b++) {
+        covered.add(blocks.get(random.nextInt(blocks.size())));
+      }
+      final Description d = new Description("test" + t,
+          "com.example.generated.GeneratedTest" + (t % 50));
+      results.add(new CoverageResult(d, 1 + random.nextInt(100), true,
+          covered));
+    }
+    return results;
+  }
+
+}
@@ -0,0 +1,104 @@
+package org.pitest.coverage.execute;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.testapi.Description;
+import org.pitest.util.Id;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * Reading the coverage stream a coverage minion sends back to the main
+ * process: class and probe registrations followed by one outcome per test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReceiveBenchmark {
+
+  private static final int METHODS_PER_CLASS = 20;
+  private static final int PROBES_PER_METHOD = 15;
+
+  @Param({ "200" })
+  public int classes;
+
+  @Param({ "1000", "5000" })
+  public int tests;
+
+  @Param({ "500" })
+  public int hitsPerTest;
+
+  private byte[] stream;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(bos);
+
+    for (int c = 0; c != this.classes; c++) {
+      dos.writeByte(Id.CLAZZ);
+      dos.writeInt(c);
+      dos.writeString("com/example/generated/Generated" + c);
+      for (int m = 0; m != METHODS_PER_CLASS; m++) {
+        dos.writeByte(Id.PROBES);
+        dos.writeInt(c);
+        dos.writeString("method" + m);
+        dos.writeString("(IILjava/util/List;)I");
+        dos.writeInt(m * PROBES_PER_METHOD);
+        dos.writeInt(((m + 1) * PROBES_PER_METHOD) - 1);
+      }
+    }
+
+    final int probesPerClass = METHODS_PER_CLASS * PROBES_PER_METHOD;
+    for (int t = 0; t != this.tests; t++) {
+      dos.writeByte(Id.OUTCOME);
+      dos.write(new Description("test" + t,
+          "com.example.generated.GeneratedTest" + (t % 50)));
+      dos.writeInt(this.hitsPerTest);
+      for (int h = 0; h != this.hitsPerTest; h++) {
+        dos.writeLong(CodeCoverageStore.encode(random.nextInt(this.classes),
+            random.nextInt(probesPerClass)));
+      }
+      dos.writeBoolean(true);
+      dos.writeInt(random.nextInt(100));
+    }
+
+    dos.writeByte(Id.DONE);
+    dos.flush();
+    this.stream = bos.toByteArray();
+  }
+
+  @Benchmark
+  public void receiveCoverage(Blackhole bh) {
+    final Receive receive = new Receive(bh::consume);
+    final SafeDataInputStream is = new SafeDataInputStream(
+        new ByteArrayInputStream(this.stream));
+    byte control = is.readByte();
+    while (control != Id.DONE) {
+      receive.apply(control, is);
+      control = is.readByte();
+    }
+  }
+
+}
@@ -17,13 +17,20 @@ package org.pitest.mutationtest.commandline;
 import org.pitest.coverage.CoverageSummary;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.WarmCaches;
 import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.tooling.AnalysisResult;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
+import org.pitest.mutationtest.tooling.DaemonClient;
 import org.pitest.mutationtest.tooling.EntryPoint;
 import org.pitest.util.Unchecked;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Entry point for command line interface
@@ -32,25 +39,54 @@ public class MutationCoverageReport {
 
   public static void main(final String[] args) {
 
-    final PluginServices plugins = PluginServices.makeForContextLoader();
-    final OptionsParser parser = new OptionsParser(new PluginFilter(plugins));
+    final List<String> remaining = new ArrayList<>(Arrays.asList(args));
+    final Optional<Integer> daemonPort = DaemonClient.takePort(remaining);
+    if (daemonPort.isPresent()) {
+      new DaemonClient(daemonPort.get()).run(remaining, System.out);
+      return;
+    }
+
+    run(args, PluginServices.makeForContextLoader(), Optional.empty(), Optional.empty());
+  }
+
+  /**
+   * Runs analysis as configured by command line arguments, throwing an
+   * exception if any threshold is not met.
+   *
+   * @param workingDir directory to resolve relative paths against and start
+   *                   minions in, if not that of this process
+   * @return false if the arguments could not be parsed
+   */
+  static boolean run(final String[] args, final PluginServices plugins,
+      final Optional<WarmCaches> caches, final Optional<File> workingDir) {
+
+    final OptionsParser parser = new OptionsParser(new PluginFilter(plugins), workingDir);
     final ParseResult pr = parser.parse(args);
 
     if (!pr.isOk()) {
       parser.printHelp();
       System.out.println(">>>> " + pr.getErrorMessage().get());
+      return false;
     } else {
       final ReportOptions data = pr.getOptions();
+      data.setWarmCaches(caches);
 
-      final CombinedStatistics stats = runReport(data, plugins);
+      final CombinedStatistics stats = runReport(data, plugins, workingDir.orElse(null));
+
+      // thresholds apply to the whole run, so are checked when shards are merged
+      if (data.getShard().isPartial()) {
+        return true;
+      }
 
       throwErrorIfScoreBelowCoverageThreshold(stats.getCoverageSummary(),
           data.getCoverageThreshold());
+      throwErrorIfMutationThresholdsCannotBeChecked(stats.getMutationStatistics(), data);
       throwErrorIfScoreBelowTestStrengthThreshold(stats.getMutationStatistics(),
               data.getTestStrengthThreshold());
       throwErrorIfScoreBelowMutationThreshold(stats.getMutationStatistics(),
           data.getMutationThreshold());
       throwErrorIfMoreThanMaxSurvivingMutants(stats.getMutationStatistics(), data.getMaximumAllowedSurvivors());
+      return true;
     }
 
   }
@@ -63,6 +99,18 @@ public class MutationCoverageReport {
     }
   }
 
+  private static void throwErrorIfMutationThresholdsCannotBeChecked(
+      final MutationStatistics stats, final ReportOptions data) {
+    final boolean hasThreshold = (data.getMutationThreshold() != 0)
+        || (data.getTestStrengthThreshold() != 0)
+        || (data.getMaximumAllowedSurvivors() >= 0);
+    if (hasThreshold && stats.isPartial()) {
+      throw new RuntimeException("Mutation thresholds cannot be checked as "
+          + stats.getTotalNotRun()
+          + " mutations were not run before the time budget was spent");
+    }
+  }
+
   private static void throwErrorIfScoreBelowMutationThreshold(
       final MutationStatistics stats, final int threshold) {
     if ((threshold != 0) && (stats.getPercentageDetected() < threshold)) {
@@ -92,10 +140,10 @@ public class MutationCoverageReport {
   }
 
   private static CombinedStatistics runReport(ReportOptions data,
-      PluginServices plugins) {
+      PluginServices plugins, File baseDir) {
 
     final EntryPoint e = new EntryPoint();
-    final AnalysisResult result = e.execute(null, data, plugins,
+    final AnalysisResult result = e.execute(baseDir, data, plugins,
         new HashMap<>());
     if (result.getError().isPresent()) {
       throw Unchecked.translateCheckedException(result.getError().get());
@@ -25,6 +25,7 @@ import org.pitest.classpath.ClassPath;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.shard.Shard;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Glob;
 import org.pitest.util.Log;
@@ -41,6 +42,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -80,6 +82,8 @@ import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
 import static org.pitest.mutationtest.config.ConfigOption.PROJECT_BASE;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.SHARD;
+import static org.pitest.mutationtest.config.ConfigOption.SHARD_RESULTS;
 import static org.pitest.mutationtest.config.ConfigOption.SKIP_FAILING_TESTS;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
@@ -98,6 +102,7 @@ import static org.pitest.mutationtest.config.ConfigOption.VERBOSITY;
 public class OptionsParser {
 
   private final Predicate<String>                    dependencyFilter;
+  private final Optional<File>                       baseDir;
 
   private static final Logger LOG = Log.getLogger();
 
@@ -149,12 +154,23 @@ public class OptionsParser {
   private final ArgumentAcceptingOptionSpec<Boolean> includeLaunchClasspathSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> useClasspathJarSpec;
   private final OptionSpec<File>                     projectBaseSpec;
+  private final OptionSpec<Shard>                    shardSpec;
+  private final OptionSpec<File>                     shardResultsSpec;
   private final OptionSpec<String>                   inputEncoding;
   private final OptionSpec<String>                   outputEncoding;
   
   public OptionsParser(Predicate<String> dependencyFilter) {
+    this(dependencyFilter, Optional.empty());
+  }
+
+  /**
+   * @param baseDir directory to resolve relative paths against, rather than
+   *                the working directory of this process
+   */
+  public OptionsParser(Predicate<String> dependencyFilter, Optional<File> baseDir) {
 
     this.dependencyFilter = dependencyFilter;
+    this.baseDir = baseDir;
 
     this.parser = new OptionParser();
     this.parser.acceptsAll(Arrays.asList("h", "?"), "show help");
@@ -394,6 +410,14 @@ public class OptionsParser {
     this.projectBaseSpec = parserAccepts(PROJECT_BASE)
             .withRequiredArg().ofType(File.class);
 
+    this.shardSpec = parserAccepts(SHARD)
+        .withRequiredArg().ofType(Shard.class)
+        .describedAs("run only one of a number of shards, given as index/count e.g. 2/4");
+
+    this.shardResultsSpec = parserAccepts(SHARD_RESULTS)
+        .withRequiredArg().ofType(File.class).withValuesSeparatedBy(',')
+        .describedAs("comma separated list of results written by each shard, to merge into a single report");
+
   }
 
   private OptionSpecBuilder parserAccepts(final ConfigOption option) {
@@ -423,11 +447,11 @@ public class OptionsParser {
    */
   private ParseResult parseCommandLine(final ReportOptions data,
       final OptionSet userArgs) {
-    data.setReportDir(userArgs.valueOf(this.reportDirSpec));
+    data.setReportDir(resolve(userArgs.valueOf(this.reportDirSpec)));
     data.setTargetClasses(this.targetClassesSpec.values(userArgs));
     data.setTargetTests(FCollection.map(this.targetTestsSpec.values(userArgs),
         Glob.toGlobPredicate()));
-    data.setSourceDirs(asPaths(this.sourceDirSpec.values(userArgs)));
+    data.setSourceDirs(asPaths(resolveFiles(this.sourceDirSpec.values(userArgs))));
     data.setMutators(this.mutators.values(userArgs));
     data.setFeatures(this.features.values(userArgs));
 
@@ -461,11 +485,11 @@ public class OptionsParser {
     data.addOutputFormats(this.outputFormatSpec.values(userArgs));
     data.setFailWhenNoMutations(this.failWhenNoMutations.value(userArgs));
     data.setSkipFailingTests(this.skipFailingTests.value(userArgs));
-    data.setCodePaths(this.codePaths.values(userArgs));
+    data.setCodePaths(resolvePaths(this.codePaths.values(userArgs)));
     data.setMutationUnitSize(this.mutationUnitSizeSpec.value(userArgs));
 
-    data.setHistoryInputLocation(this.historyInputSpec.value(userArgs));
-    data.setHistoryOutputLocation(this.historyOutputSpec.value(userArgs));
+    data.setHistoryInputLocation(resolve(this.historyInputSpec.value(userArgs)));
+    data.setHistoryOutputLocation(resolve(this.historyOutputSpec.value(userArgs)));
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setTestStrengthThreshold(this.testStrengthThreshHoldSpec.value(userArgs));
     data.setMaximumAllowedSurvivors(this.maxSurvivingSpec.value(userArgs));
@@ -489,8 +513,13 @@ public class OptionsParser {
     setEncoding(data, userArgs);
 
     if (userArgs.has(projectBaseSpec)) {
-      data.setProjectBase(this.projectBaseSpec.value(userArgs).toPath());
+      data.setProjectBase(resolve(this.projectBaseSpec.value(userArgs)).toPath());
+    }
+
+    if (userArgs.has(this.shardSpec)) {
+      data.setShard(this.shardSpec.value(userArgs));
     }
+    data.setShardResults(resolveFiles(this.shardResultsSpec.values(userArgs)));
 
     if (userArgs.has("?")) {
       return new ParseResult(data, "See above for supported parameters.");
@@ -525,10 +554,10 @@ public class OptionsParser {
           ClassPath.getClassPathElementsAsPaths(), this.dependencyFilter));
     }
     if (userArgs.has(this.classPathFile)) {
-      try (BufferedReader classPathFileBR = new BufferedReader(new FileReader(userArgs.valueOf(this.classPathFile).getAbsoluteFile()))) {
+      try (BufferedReader classPathFileBR = new BufferedReader(new FileReader(resolve(userArgs.valueOf(this.classPathFile)).getAbsoluteFile()))) {
         String element;
         while ((element = classPathFileBR.readLine()) != null) {
-          elements.add(element);
+          elements.add(resolve(element));
         }
       } catch (final IOException ioe) {
         LOG.warning("Unable to read class path file:" + userArgs.valueOf(this.classPathFile).getAbsolutePath() + " - "
@@ -536,7 +565,7 @@ public class OptionsParser {
       }
       data.setUseClasspathJar(true);
     }
-    elements.addAll(userArgs.valuesOf(this.additionalClassPathSpec));
+    elements.addAll(resolvePaths(userArgs.valuesOf(this.additionalClassPathSpec)));
     data.setClassPathElements(elements);
   }
 
@@ -556,6 +585,32 @@ public class OptionsParser {
     return p;
   }
 
+  private File resolve(File file) {
+    if (file == null || file.isAbsolute() || !this.baseDir.isPresent()) {
+      return file;
+    }
+    return new File(this.baseDir.get(), file.getPath());
+  }
+
+  private String resolve(String path) {
+    if (path == null || !this.baseDir.isPresent()) {
+      return path;
+    }
+    return resolve(new File(path)).getPath();
+  }
+
+  private List<File> resolveFiles(List<File> files) {
+    return files.stream()
+        .map(this::resolve)
+        .collect(Collectors.toList());
+  }
+
+  private List<String> resolvePaths(List<String> paths) {
+    return paths.stream()
+        .map(this::resolve)
+        .collect(Collectors.toList());
+  }
+
   private Collection<Path> asPaths(List<File> values) {
     return values.stream()
             .map(File::toPath)
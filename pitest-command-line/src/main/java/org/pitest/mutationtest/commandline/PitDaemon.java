@@ -0,0 +1,170 @@
+package org.pitest.mutationtest.commandline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.WarmCaches;
+import org.pitest.mutationtest.tooling.DaemonProtocol;
+import org.pitest.util.Log;
+
+/**
+ * Long lived process that runs analyses requested by a DaemonClient, so that
+ * repeated runs on the same project start warm.
+ *
+ * Plugins are discovered once and the JVM keeps the classes and compiled
+ * code of earlier runs. Archives on the class path, what is read from the
+ * bytecode of each class, and the tests found with the coverage they gave
+ * are kept while unchanged (see WarmCaches). Requests are run one at a time,
+ * in the order they arrive.
+ *
+ * Only connections from the local machine are accepted, and each request must
+ * present the random token that the daemon writes, when it starts, to a file
+ * that only the user running it can read. Any user able to read the file can
+ * run code as that user through the daemon.
+ *
+ * Relative paths in requests are resolved against the working directory of
+ * the client, where minions are also started.
+ */
+public class PitDaemon implements Closeable {
+
+  public static final int DEFAULT_PORT = 7137;
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final ServerSocket    server;
+  private final PluginServices  plugins;
+  private final WarmCaches      caches = new WarmCaches();
+  private final Path            tokenFile;
+  private final String          token;
+
+  public PitDaemon(int port, PluginServices plugins) throws IOException {
+    this(port, plugins, DaemonProtocol.defaultTokenDirectory());
+  }
+
+  /**
+   * @param tokenDirectory directory to write the token file to
+   */
+  public PitDaemon(int port, PluginServices plugins, Path tokenDirectory) throws IOException {
+    this.server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    this.plugins = plugins;
+    try {
+      this.tokenFile = DaemonProtocol.tokenFile(tokenDirectory, port());
+      this.token = DaemonProtocol.writeToken(this.tokenFile);
+    } catch (final IOException e) {
+      this.server.close();
+      throw e;
+    }
+    RoutedOutput.install();
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final int port = args.length == 0 ? DEFAULT_PORT : Integer.parseInt(args[0]);
+    try (PitDaemon daemon = new PitDaemon(port, PluginServices.makeForContextLoader())) {
+      LOG.info("Pitest daemon listening on port " + daemon.port() + ". Token written to "
+          + daemon.tokenFile);
+      daemon.serve();
+    }
+  }
+
+  public int port() {
+    return this.server.getLocalPort();
+  }
+
+  /**
+   * Handles requests until the daemon is closed.
+   */
+  public void serve() {
+    while (!this.server.isClosed()) {
+      try (Socket socket = this.server.accept()) {
+        handle(socket);
+      } catch (final IOException e) {
+        if (!this.server.isClosed()) {
+          LOG.log(Level.WARNING, "Could not handle request", e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      this.server.close();
+    } finally {
+      Files.deleteIfExists(this.tokenFile);
+    }
+  }
+
+  private void handle(Socket socket) throws IOException {
+    final DataInputStream in = new DataInputStream(
+        new BufferedInputStream(socket.getInputStream()));
+    final DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(socket.getOutputStream()));
+    if (!DaemonProtocol.readToken(in, this.token)) {
+      LOG.warning("Rejected request from " + socket.getRemoteSocketAddress()
+          + " without the daemon token");
+      DaemonProtocol.writeExit(out, DaemonProtocol.FAILURE,
+          "Request did not present the token in " + this.tokenFile);
+      return;
+    }
+    final File workingDir = new File(DaemonProtocol.readWorkingDir(in));
+    final List<String> args = DaemonProtocol.readArgs(in);
+
+    final PrintStream console = new PrintStream(DaemonProtocol.outputTo(out), true, "UTF-8");
+    final Handler handler = logTo(console);
+    RoutedOutput.begin(console);
+    LOG.addHandler(handler);
+    try {
+      final boolean parsed = MutationCoverageReport.run(args.toArray(new String[0]),
+          this.plugins, Optional.of(this.caches), Optional.of(workingDir));
+      console.flush();
+      if (parsed) {
+        DaemonProtocol.writeExit(out, DaemonProtocol.SUCCESS, "");
+      } else {
+        DaemonProtocol.writeExit(out, DaemonProtocol.FAILURE, "Invalid arguments");
+      }
+    } catch (final RuntimeException | Error e) {
+      e.printStackTrace(console);
+      console.flush();
+      DaemonProtocol.writeExit(out, DaemonProtocol.FAILURE, String.valueOf(e.getMessage()));
+    } finally {
+      LOG.removeHandler(handler);
+      RoutedOutput.end();
+    }
+  }
+
+  // logs only what is logged by the threads of the request
+  private static Handler logTo(PrintStream console) {
+    final Handler handler = new StreamHandler(console, LOG.getHandlers().length == 0
+        ? new SimpleFormatter() : LOG.getHandlers()[0].getFormatter()) {
+      @Override
+      public synchronized void publish(LogRecord record) {
+        super.publish(record);
+        flush();
+      }
+    };
+    handler.setLevel(Level.ALL);
+    handler.setFilter(r -> RoutedOutput.isRoutedTo(console));
+    return handler;
+  }
+
+}
@@ -0,0 +1,72 @@
+package org.pitest.mutationtest.commandline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Standard output and error that write to a stream chosen for the current
+ * thread, so that the output of a request to a PitDaemon reaches only the
+ * client that made it. Threads started while a stream is chosen inherit it.
+ * Output from any other thread goes to the original streams.
+ *
+ * The streams are replaced once, for the life of the JVM.
+ */
+final class RoutedOutput {
+
+  private static final InheritableThreadLocal<PrintStream> ROUTE = new InheritableThreadLocal<>();
+
+  private static boolean installed;
+
+  private RoutedOutput() {
+  }
+
+  static synchronized void install() {
+    if (!installed) {
+      System.setOut(routed(System.out));
+      System.setErr(routed(System.err));
+      installed = true;
+    }
+  }
+
+  /**
+   * Sends output of the current thread, and threads it starts, to the stream
+   * until {@link #end} is called.
+   */
+  static void begin(PrintStream stream) {
+    ROUTE.set(stream);
+  }
+
+  static void end() {
+    ROUTE.remove();
+  }
+
+  static boolean isRoutedTo(PrintStream stream) {
+    return ROUTE.get() == stream;
+  }
+
+  private static PrintStream routed(PrintStream original) {
+    return new PrintStream(new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        target().write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        target().write(b, off, len);
+      }
+
+      @Override
+      public void flush() throws IOException {
+        target().flush();
+      }
+
+      private PrintStream target() {
+        final PrintStream route = ROUTE.get();
+        return route != null ? route : original;
+      }
+    }, true);
+  }
+
+}
@@ -33,6 +33,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.Before;
@@ -45,6 +46,7 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.engine.gregor.GregorMutationEngine;
 import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.mutationtest.shard.Shard;
 import org.pitest.util.Verbosity;
 
 public class OptionsParserTest {
@@ -427,6 +429,19 @@ public class OptionsParserTest {
     assertEquals(new File("foo"), actual.getHistoryInputLocation());
   }
 
+  @Test
+  public void shouldResolveRelativePathsAgainstBaseDirWhenGiven() {
+    final File base = new File("client").getAbsoluteFile();
+    this.testee = new OptionsParser(this.filter, Optional.of(base));
+    final File absolute = new File("elsewhere").getAbsoluteFile();
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--historyInputLocation", "foo", "--historyOutputLocation",
+        absolute.getPath(), "--reportDir", "report");
+    assertEquals(new File(base, "foo"), actual.getHistoryInputLocation());
+    assertEquals(absolute, actual.getHistoryOutputLocation());
+    assertEquals(new File(base, "report").getPath(), actual.getReportDir());
+  }
+
   @Test
   public void shouldParseHistoryOutputLocation() {
     final ReportOptions actual = parseAddingRequiredArgs(
@@ -434,6 +449,27 @@ public class OptionsParserTest {
     assertEquals(new File("foo"), actual.getHistoryOutputLocation());
   }
 
+  @Test
+  public void shouldDefaultToRunningAllShards() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(Shard.all(), actual.getShard());
+    assertThat(actual.getShardResults()).isEmpty();
+  }
+
+  @Test
+  public void shouldParseShard() {
+    final ReportOptions actual = parseAddingRequiredArgs("--shard", "2/4");
+    assertEquals(new Shard(2, 4), actual.getShard());
+  }
+
+  @Test
+  public void shouldParseShardResults() {
+    final ReportOptions actual = parseAddingRequiredArgs("--shardResults",
+        "a.results,b.results");
+    assertThat(actual.getShardResults()).containsExactly(new File("a.results"),
+        new File("b.results"));
+  }
+
   @Test
   public void shouldParseMutationThreshold() {
     final ReportOptions actual = parseAddingRequiredArgs("--mutationThreshold",
@@ -0,0 +1,134 @@
+package org.pitest.mutationtest.commandline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.tooling.DaemonClient;
+import org.pitest.mutationtest.tooling.DaemonProtocol;
+import org.pitest.util.PitError;
+
+public class PitDaemonTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path      tokens;
+  private PitDaemon daemon;
+  private Thread    serving;
+
+  @Before
+  public void setUp() throws Exception {
+    this.tokens = this.folder.getRoot().toPath().resolve("tokens");
+    this.daemon = new PitDaemon(0, PluginServices.makeForContextLoader(), this.tokens);
+    this.serving = new Thread(this.daemon::serve);
+    this.serving.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    this.daemon.close();
+    this.serving.join(5000);
+  }
+
+  @Test
+  public void sendsOutputAndFailureOfInvalidRequestsToClient() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    assertThatThrownBy(() -> new DaemonClient(this.daemon.port(), this.tokens)
+        .run(Collections.singletonList("--notAnOption"), new PrintStream(out)))
+        .hasMessageContaining("Invalid arguments");
+
+    assertThat(out.toString()).contains(">>>>");
+  }
+
+  @Test
+  public void handlesRequestsOneAfterAnother() {
+    for (int i = 0; i != 3; i++) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertThatThrownBy(() -> new DaemonClient(this.daemon.port(), this.tokens)
+          .run(Collections.singletonList("--notAnOption"), new PrintStream(out)))
+          .isInstanceOf(RuntimeException.class);
+    }
+    assertThat(this.serving.isAlive()).isTrue();
+  }
+
+  @Test
+  public void rejectsRequestsWithoutToken() throws Exception {
+    final Path other = this.folder.newFolder().toPath();
+    Files.write(DaemonProtocol.tokenFile(other, this.daemon.port()),
+        "not the token".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> new DaemonClient(this.daemon.port(), other)
+        .run(Collections.singletonList("--notAnOption"), new PrintStream(new ByteArrayOutputStream())))
+        .hasMessageContaining("did not present the token");
+    assertThat(this.serving.isAlive()).isTrue();
+  }
+
+  @Test
+  public void writesTokenReadableOnlyByOwner() throws Exception {
+    final Path token = DaemonProtocol.tokenFile(this.tokens, this.daemon.port());
+    assertThat(token).exists();
+    if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+      assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(token)))
+          .isEqualTo("rw-------");
+      assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(this.tokens)))
+          .isEqualTo("rwx------");
+    }
+  }
+
+  @Test
+  public void deletesTokenWhenClosed() throws Exception {
+    final Path token = DaemonProtocol.tokenFile(this.tokens, this.daemon.port());
+    this.daemon.close();
+    assertThat(token).doesNotExist();
+  }
+
+  @Test
+  public void stopsServingWhenClosed() throws Exception {
+    this.daemon.close();
+    this.serving.join(5000);
+    assertThat(this.serving.isAlive()).isFalse();
+  }
+
+  @Test
+  public void takesPortFromArguments() {
+    final List<String> args = new ArrayList<>(Arrays.asList("--targetClasses", "foo",
+        "--daemonPort", "1234", "--verbose"));
+
+    assertThat(DaemonClient.takePort(args)).contains(1234);
+    assertThat(args).containsExactly("--targetClasses", "foo", "--verbose");
+  }
+
+  @Test
+  public void takesNoPortWhenNoneGiven() {
+    final List<String> args = new ArrayList<>(Arrays.asList("--targetClasses", "foo"));
+
+    assertThat(DaemonClient.takePort(args)).isEmpty();
+    assertThat(args).containsExactly("--targetClasses", "foo");
+  }
+
+  @Test
+  public void rejectsInvalidPort() {
+    assertThatThrownBy(() -> DaemonClient.takePort(new ArrayList<>(Arrays.asList("--daemonPort", "foo"))))
+        .isInstanceOf(PitError.class);
+  }
+
+}
@@ -0,0 +1,125 @@
+package org.pitest.mutationtest.commandline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.ReportOptionsArguments;
+import org.pitest.mutationtest.shard.Shard;
+import org.pitest.testapi.TestGroupConfig;
+import org.pitest.util.Glob;
+import org.pitest.util.PitError;
+import org.pitest.util.Verbosity;
+
+public class ReportOptionsArgumentsTest {
+
+  @Test
+  public void givesArgumentsThatParseToSameOptions() {
+    final ReportOptions data = new ReportOptions();
+    data.setReportDir("/reports");
+    data.setTargetClasses(Arrays.asList("com.example.*", "org.example.Foo"));
+    data.setTargetTests(Glob.toGlobPredicates(Arrays.asList("com.example.*Test")));
+    data.setExcludedTestClasses(Glob.toGlobPredicates(Arrays.asList("*IT")));
+    data.setSourceDirs(Arrays.asList(Paths.get("/src/main/java")));
+    data.setMutators(Arrays.asList("DEFAULTS", "REMOVE_CONDITIONALS"));
+    data.setFeatures(Arrays.asList("+CLASSLIMIT(limit[42])"));
+    data.setArgLine("-Dfoo=bar -Xss1m");
+    data.addChildJVMArgs(Arrays.asList("-Xmx512m", "-Dlist=a,b"));
+    data.setDetectInlinedCode(false);
+    data.setNumberOfThreads(4);
+    data.setTimeoutFactor(2.5f);
+    data.setTimeoutConstant(1000);
+    data.setExcludedMethods(Arrays.asList("toString"));
+    data.setExcludedClasses(Arrays.asList("com.example.Generated*"));
+    data.setVerbosity(Verbosity.VERBOSE);
+    data.addOutputFormats(Arrays.asList("XML", "HTML"));
+    data.setFailWhenNoMutations(false);
+    data.setSkipFailingTests(true);
+    data.setCodePaths(Arrays.asList("/target/classes"));
+    data.setHistoryInputLocation(new File("/history"));
+    data.setMutationThreshold(60);
+    data.setMaximumAllowedSurvivors(3);
+    final Properties properties = new Properties();
+    properties.put("key", "value");
+    data.setFreeFormProperties(properties);
+    data.setClassPathElements(Arrays.asList("/target/classes", "/lib/foo.jar"));
+    data.setGroupConfig(new TestGroupConfig(Arrays.asList("slow"), Arrays.asList("fast")));
+    data.setExcludedRunners(Arrays.asList("com.example.Runner"));
+    data.setInputEncoding(StandardCharsets.ISO_8859_1);
+    data.setProjectBase(Paths.get("/project"));
+    data.setShard(new Shard(2, 4));
+
+    final ReportOptions actual = parse(data);
+
+    assertThat(actual.getReportDir()).isEqualTo("/reports");
+    assertThat(actual.getTargetClasses()).containsExactly("com.example.*", "org.example.Foo");
+    assertThat(actual.getTargetTestsFilter().test("com.example.FooTest")).isTrue();
+    assertThat(actual.getTargetTestsFilter().test("com.example.Foo")).isFalse();
+    assertThat(actual.getExcludedTestClasses()).hasSize(1);
+    assertThat(actual.getExcludedTestClasses().iterator().next().test("com.example.FooIT")).isTrue();
+    assertThat(actual.getSourcePaths()).containsExactly(Paths.get("/src/main/java"));
+    assertThat(actual.getMutators()).containsExactly("DEFAULTS", "REMOVE_CONDITIONALS");
+    assertThat(actual.getFeatures()).containsExactly("+CLASSLIMIT(limit[42])");
+    assertThat(actual.getArgLine()).isEqualTo("-Dfoo=bar -Xss1m");
+    assertThat(actual.getJvmArgs()).containsExactly("-Xmx512m", "-Dlist=a,b");
+    assertThat(actual.isDetectInlinedCode()).isFalse();
+    assertThat(actual.getNumberOfThreads()).isEqualTo(4);
+    assertThat(actual.getTimeoutFactor()).isEqualTo(2.5f);
+    assertThat(actual.getTimeoutConstant()).isEqualTo(1000);
+    assertThat(actual.getExcludedMethods()).containsExactly("toString");
+    assertThat(actual.getExcludedClasses()).containsExactly("com.example.Generated*");
+    assertThat(actual.getVerbosity()).isEqualTo(Verbosity.VERBOSE);
+    assertThat(actual.getOutputFormats()).containsExactly("XML", "HTML");
+    assertThat(actual.shouldFailWhenNoMutations()).isFalse();
+    assertThat(actual.skipFailingTests()).isTrue();
+    assertThat(actual.getCodePaths()).containsExactly("/target/classes");
+    assertThat(actual.getHistoryInputLocation()).isEqualTo(new File("/history"));
+    assertThat(actual.getMutationThreshold()).isEqualTo(60);
+    assertThat(actual.getMaximumAllowedSurvivors()).isEqualTo(3);
+    assertThat(actual.getFreeFormProperties()).containsEntry("key", "value");
+    assertThat(actual.getClassPathElements()).contains("/target/classes", "/lib/foo.jar");
+    assertThat(actual.isIncludeLaunchClasspath()).isFalse();
+    assertThat(actual.getGroupConfig().getExcludedGroups()).containsExactly("slow");
+    assertThat(actual.getGroupConfig().getIncludedGroups()).containsExactly("fast");
+    assertThat(actual.getExcludedRunners()).containsExactly("com.example.Runner");
+    assertThat(actual.getInputEncoding()).isEqualTo(StandardCharsets.ISO_8859_1);
+    assertThat(actual.getProjectBase()).isEqualTo(Paths.get("/project"));
+    assertThat(actual.getShard().index()).isEqualTo(2);
+    assertThat(actual.getShard().count()).isEqualTo(4);
+  }
+
+  @Test
+  public void rejectsTestFiltersThatAreNotGlobs() {
+    final ReportOptions data = new ReportOptions();
+    data.setTargetTests(Collections.singletonList(s -> true));
+
+    assertThatThrownBy(() -> ReportOptionsArguments.toArguments(data))
+        .isInstanceOf(PitError.class);
+  }
+
+  @Test
+  public void rejectsValuesContainingCommas() {
+    final ReportOptions data = new ReportOptions();
+    data.setClassPathElements(Collections.singletonList("/odd,name.jar"));
+
+    assertThatThrownBy(() -> ReportOptionsArguments.toArguments(data))
+        .isInstanceOf(PitError.class)
+        .hasMessageContaining("/odd,name.jar");
+  }
+
+  private static ReportOptions parse(ReportOptions data) {
+    final ParseResult result = new OptionsParser(s -> false)
+        .parse(ReportOptionsArguments.toArguments(data).toArray(new String[0]));
+    assertThat(result.getErrorMessage()).isEmpty();
+    return result.getOptions();
+  }
+
+}
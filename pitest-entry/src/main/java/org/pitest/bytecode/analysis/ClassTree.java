@@ -4,7 +4,9 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -28,6 +30,7 @@ public class ClassTree {
 
   private final ClassNode rawNode;
   private List<MethodTree> lazyMethods;
+  private Map<Location, MethodTree> lazyMethodIndex;
 
   public ClassTree(ClassNode rawNode) {
     this.rawNode = rawNode;
@@ -49,7 +52,7 @@ public class ClassTree {
   }
 
   public Optional<MethodTree> method(Location loc) {
-   return methods().stream().filter(MethodMatchers.forLocation(loc)).findFirst();
+    return Optional.ofNullable(methodIndex().get(loc));
   }
 
   public List<AnnotationNode> annotations() {
@@ -71,6 +74,20 @@ public class ClassTree {
     return rawNode.recordComponents;
   }
 
+  private Map<Location, MethodTree> methodIndex() {
+    if (this.lazyMethodIndex != null) {
+      return this.lazyMethodIndex;
+    }
+    final List<MethodTree> methods = methods();
+    final Map<Location, MethodTree> index = new HashMap<>(methods.size() * 2);
+    for (MethodTree each : methods) {
+      // first declaration wins, matching a linear search
+      index.putIfAbsent(each.asLocation(), each);
+    }
+    this.lazyMethodIndex = index;
+    return this.lazyMethodIndex;
+  }
+
   private static Function<MethodNode, MethodTree> toTree(final ClassName name) {
     return a -> new MethodTree(name,a);
   }
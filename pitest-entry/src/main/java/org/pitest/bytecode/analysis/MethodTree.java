@@ -1,7 +1,9 @@
 package org.pitest.bytecode.analysis;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
@@ -15,6 +17,7 @@ public class MethodTree {
   private final ClassName owner;
   private final MethodNode rawNode;
   private List<AbstractInsnNode> lazyInstructions;
+  private Map<AbstractInsnNode, Integer> lazyInstructionIndexes;
 
   public MethodTree(ClassName owner, MethodNode rawNode) {
     this.owner = owner;
@@ -46,6 +49,20 @@ public class MethodTree {
       return instructions().get(index);
   }
   
+  /**
+   * Returns the index of the supplied node within this method's instructions, or -1
+   * if it is not present. Unlike instructions().indexOf this is constant time.
+   * @param node node to find
+   * @return index of the node
+   */
+  public int indexOf(AbstractInsnNode node) {
+    final Integer index = instructionIndexes().get(node);
+    if (index == null) {
+      return -1;
+    }
+    return index;
+  }
+
   public List<AbstractInsnNode> instructions() {
     if (this.lazyInstructions != null) {
       return this.lazyInstructions;
@@ -85,6 +102,19 @@ public class MethodTree {
     return annotaions;
   }
 
+  private Map<AbstractInsnNode, Integer> instructionIndexes() {
+    if (this.lazyInstructionIndexes != null) {
+      return this.lazyInstructionIndexes;
+    }
+    final List<AbstractInsnNode> instructions = instructions();
+    final Map<AbstractInsnNode, Integer> indexes = new IdentityHashMap<>(instructions.size());
+    for (int i = 0; i != instructions.size(); i++) {
+      indexes.put(instructions.get(i), i);
+    }
+    this.lazyInstructionIndexes = indexes;
+    return this.lazyInstructionIndexes;
+  }
+
   private List<AbstractInsnNode> createInstructionList() {
     final List<AbstractInsnNode> list = new ArrayList<>();
     for (AbstractInsnNode abstractInsnNode : this.rawNode.instructions) {
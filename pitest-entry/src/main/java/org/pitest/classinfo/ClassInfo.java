@@ -14,7 +14,6 @@
  */
 package org.pitest.classinfo;
 
-import java.math.BigInteger;
 import java.util.Optional;
 
 /**
@@ -24,6 +23,8 @@ import java.util.Optional;
  */
 public final class ClassInfo {
 
+  private static final long DEEP_HASH_PRIME = 0x9E3779B97F4A7C15L;
+
   private final ClassIdentifier        id;
   private final ClassPointer           outerClass;
   private final ClassPointer           superClass;
@@ -57,21 +58,20 @@ public final class ClassInfo {
     return new HierarchicalClassId(this.id, getDeepHash());
   }
 
-  public BigInteger getDeepHash() {
-    BigInteger hash = getHash();
-    final Optional<ClassInfo> parent = getParent();
-    if (parent.isPresent()) {
-      hash = hash.add(parent.get().getHash());
-    }
-    final Optional<ClassInfo> outer = getOuterClass();
-    if (outer.isPresent()) {
-      hash = hash.add(outer.get().getHash());
-    }
+  /**
+   * Hash of this class combined with the hashes of its super and outer
+   * classes. The position of each hash is significant, so swapping the super
+   * and outer classes gives a different result.
+   */
+  public long getDeepHash() {
+    long hash = getHash();
+    hash = hash * DEEP_HASH_PRIME + getParent().map(ClassInfo::getHash).orElse(0L);
+    hash = hash * DEEP_HASH_PRIME + getOuterClass().map(ClassInfo::getHash).orElse(0L);
     return hash;
   }
 
-  public BigInteger getHash() {
-    return BigInteger.valueOf(this.id.getHash());
+  public long getHash() {
+    return this.id.getHash();
   }
 
   private Optional<ClassInfo> getParent() {
@@ -0,0 +1,50 @@
+package org.pitest.classinfo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps what is read from the bytecode of classes between analyses run by one
+ * long lived process, so that an unchanged class is not parsed again.
+ *
+ * Classes are identified by name and the hash of their bytecode. The least
+ * recently used classes are dropped once the maximum number is held.
+ */
+public class ClassInfoCache {
+
+  public static final int DEFAULT_MAX_CLASSES = 100_000;
+
+  private final Map<ClassIdentifier, ClassInfoBuilder> classes;
+
+  public ClassInfoCache() {
+    this(DEFAULT_MAX_CLASSES);
+  }
+
+  public ClassInfoCache(final int maxClasses) {
+    this.classes = new LinkedHashMap<ClassIdentifier, ClassInfoBuilder>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ClassIdentifier, ClassInfoBuilder> eldest) {
+        return size() > maxClasses;
+      }
+    };
+  }
+
+  synchronized ClassInfoBuilder getClassInfo(final ClassName name,
+      final byte[] bytes, final long hash) {
+    final ClassIdentifier id = new ClassIdentifier(hash, name);
+    // builders are not changed once read, so are shared between analyses
+    ClassInfoBuilder info = this.classes.get(id);
+    if (info == null) {
+      info = ClassInfoVisitor.getClassInfo(name, bytes, hash);
+      this.classes.put(id, info);
+    }
+    return info;
+  }
+
+  public synchronized int size() {
+    return this.classes.size();
+  }
+
+}
@@ -1,7 +1,6 @@
 package org.pitest.classinfo;
 
 import java.io.Serializable;
-import java.math.BigInteger;
 import java.util.Objects;
 
 public final class HierarchicalClassId implements Serializable {
@@ -17,8 +16,8 @@ public final class HierarchicalClassId implements Serializable {
     this.hierarchicalHash = hierarchicalHash;
   }
 
-  public HierarchicalClassId(final ClassIdentifier id, final BigInteger deepHash) {
-    this(id, deepHash.toString(16));
+  public HierarchicalClassId(final ClassIdentifier id, final long deepHash) {
+    this(id, Long.toHexString(deepHash));
   }
 
   public HierarchicalClassId(final long hash, final ClassName name,
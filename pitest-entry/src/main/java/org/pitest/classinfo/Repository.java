@@ -27,14 +27,28 @@ public class Repository implements ClassInfoSource {
   private final Map<ClassName, ClassInfo> knownClasses   = new HashMap<>();
   private final Set<ClassName>            unknownClasses = new HashSet<>();
   private final ClassByteArraySource      source;
+  private final Optional<ClassInfoCache>  cache;
 
   public Repository(final ClassByteArraySource source) {
-    this(source, new AddlerHash());
+    this(source, new XxHash64());
+  }
+
+  /**
+   * @param cache classes read by earlier analyses
+   */
+  public Repository(final ClassByteArraySource source, final ClassInfoCache cache) {
+    this(source, new XxHash64(), Optional.of(cache));
   }
 
   Repository(final ClassByteArraySource source, final HashFunction hashFunction) {
+    this(source, hashFunction, Optional.empty());
+  }
+
+  private Repository(final ClassByteArraySource source, final HashFunction hashFunction,
+      final Optional<ClassInfoCache> cache) {
     this.source = source;
     this.hashFunction = hashFunction;
+    this.cache = cache;
   }
 
   public boolean hasClass(final ClassName name) {
@@ -67,8 +81,10 @@ public class Repository implements ClassInfoSource {
   private Optional<ClassInfo> nameToClassInfo(final ClassName name) {
     final Optional<byte[]> bytes = querySource(name);
     if (bytes.isPresent()) {
-      final ClassInfoBuilder classData = ClassInfoVisitor.getClassInfo(name,
-          bytes.get(), this.hashFunction.hash(bytes.get()));
+      final long hash = this.hashFunction.hash(bytes.get());
+      final ClassInfoBuilder classData = this.cache
+          .map(c -> c.getClassInfo(name, bytes.get(), hash))
+          .orElseGet(() -> ClassInfoVisitor.getClassInfo(name, bytes.get(), hash));
       return constructClassInfo(classData);
     } else {
       return Optional.empty();
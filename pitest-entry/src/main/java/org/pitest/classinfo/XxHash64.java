@@ -0,0 +1,116 @@
+package org.pitest.classinfo;
+
+/**
+ * 64 bit xxHash of class bytes. Much less likely than a 32 bit checksum to
+ * give two versions of a class the same hash, while being faster to compute.
+ */
+public class XxHash64 implements HashFunction {
+
+  private static final long PRIME1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME3 = 0x165667B19E3779F9L;
+  private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+  private final long seed;
+
+  public XxHash64() {
+    this(0);
+  }
+
+  public XxHash64(long seed) {
+    this.seed = seed;
+  }
+
+  @Override
+  public long hash(final byte[] value) {
+    final int length = value.length;
+    int i = 0;
+    long hash;
+
+    if (length >= 32) {
+      long v1 = this.seed + PRIME1 + PRIME2;
+      long v2 = this.seed + PRIME2;
+      long v3 = this.seed;
+      long v4 = this.seed - PRIME1;
+      final int limit = length - 32;
+      do {
+        v1 = round(v1, readLong(value, i));
+        v2 = round(v2, readLong(value, i + 8));
+        v3 = round(v3, readLong(value, i + 16));
+        v4 = round(v4, readLong(value, i + 24));
+        i += 32;
+      } while (i <= limit);
+
+      hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+          + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      hash = mergeRound(hash, v1);
+      hash = mergeRound(hash, v2);
+      hash = mergeRound(hash, v3);
+      hash = mergeRound(hash, v4);
+    } else {
+      hash = this.seed + PRIME5;
+    }
+
+    hash += length;
+
+    while (i + 8 <= length) {
+      hash ^= round(0, readLong(value, i));
+      hash = Long.rotateLeft(hash, 27) * PRIME1 + PRIME4;
+      i += 8;
+    }
+
+    if (i + 4 <= length) {
+      hash ^= (readInt(value, i) & 0xFFFFFFFFL) * PRIME1;
+      hash = Long.rotateLeft(hash, 23) * PRIME2 + PRIME3;
+      i += 4;
+    }
+
+    while (i < length) {
+      hash ^= (value[i] & 0xFF) * PRIME5;
+      hash = Long.rotateLeft(hash, 11) * PRIME1;
+      i++;
+    }
+
+    return avalanche(hash);
+  }
+
+  private static long round(long acc, long input) {
+    acc += input * PRIME2;
+    acc = Long.rotateLeft(acc, 31);
+    return acc * PRIME1;
+  }
+
+  private static long mergeRound(long acc, long val) {
+    acc ^= round(0, val);
+    return acc * PRIME1 + PRIME4;
+  }
+
+  private static long avalanche(long hash) {
+    hash ^= hash >>> 33;
+    hash *= PRIME2;
+    hash ^= hash >>> 29;
+    hash *= PRIME3;
+    hash ^= hash >>> 32;
+    return hash;
+  }
+
+  private static long readLong(byte[] bytes, int i) {
+    return (bytes[i] & 0xFFL)
+        | (bytes[i + 1] & 0xFFL) << 8
+        | (bytes[i + 2] & 0xFFL) << 16
+        | (bytes[i + 3] & 0xFFL) << 24
+        | (bytes[i + 4] & 0xFFL) << 32
+        | (bytes[i + 5] & 0xFFL) << 40
+        | (bytes[i + 6] & 0xFFL) << 48
+        | (bytes[i + 7] & 0xFFL) << 56;
+  }
+
+  private static int readInt(byte[] bytes, int i) {
+    return (bytes[i] & 0xFF)
+        | (bytes[i + 1] & 0xFF) << 8
+        | (bytes[i + 2] & 0xFF) << 16
+        | (bytes[i + 3] & 0xFF) << 24;
+  }
+
+}
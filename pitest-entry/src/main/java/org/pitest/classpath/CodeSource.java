@@ -22,6 +22,13 @@ public interface CodeSource extends ClassInfoSource, ClassByteArraySource {
 
   Stream<ClassTree> testTrees();
 
+  /**
+   * Test classes including abstract ones, such as base classes of tests
+   */
+  default Stream<ClassTree> allTestTrees() {
+    return testTrees();
+  }
+
   ClassPath getClassPath();
 
   Optional<ClassName> findTestee(String className);
@@ -42,11 +42,16 @@ public class DefaultCodeSource implements CodeSource {
     }
 
     public Stream<ClassTree> testTrees() {
+        return allTestTrees()
+                .filter(t -> !t.isAbstract());
+    }
+
+    @Override
+    public Stream<ClassTree> allTestTrees() {
         return this.classPath.test().stream()
                 .map(c -> this.getBytes(c.asJavaName()))
                 .filter(Optional::isPresent)
-                .map(maybe -> ClassTree.fromBytes(maybe.get()))
-                .filter(t -> !t.isAbstract());
+                .map(maybe -> ClassTree.fromBytes(maybe.get()));
     }
 
     public ClassPath getClassPath() {
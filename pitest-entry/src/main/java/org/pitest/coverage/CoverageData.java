@@ -20,18 +20,21 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.functional.FCollection;
 import org.pitest.testapi.Description;
+import org.pitest.testapi.TestUnitDescriptor;
+import org.pitest.testapi.execute.TestUnitIndex;
 import org.pitest.util.Log;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -46,20 +49,48 @@ public class CoverageData implements CoverageDatabase {
 
   private final CodeSource code;
 
+  // deep hash of each test class, fetched once however many classes it covers
+  private final Map<ClassName, Long> testClassHashes = new ConcurrentHashMap<>();
+
+  private final Map<ClassName, Integer> testClassTimes = new HashMap<>();
+
   private final List<Description> failingTestDescriptions = new ArrayList<>();
+  private final List<TestUnitDescriptor> testDescriptors = new ArrayList<>();
 
   public CoverageData(final CodeSource code, final LineMap lm) {
     this.code = code;
     this.legacyClassCoverage = new LegacyClassCoverage(code, lm);
   }
 
+  public void recordTestDescriptor(final TestUnitDescriptor descriptor) {
+    this.testDescriptors.add(descriptor);
+  }
+
+  @Override
+  public TestUnitIndex testUnitIndex() {
+    return new TestUnitIndex(this.testDescriptors);
+  }
+
   public void calculateClassCoverage(final CoverageResult cr) {
+    calculateClassCoverage(cr, true);
+  }
+
+  /**
+   * @param timeMeasured false if the execution time of the test was assumed
+   *                     rather than measured, so must not be recorded as the
+   *                     time of its class
+   */
+  public void calculateClassCoverage(final CoverageResult cr, boolean timeMeasured) {
 
     checkForFailedTest(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
             cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
 
     legacyClassCoverage.addTestToClasses(ti,cr.getCoverage());
+    if (timeMeasured && ti.getDefiningClass() != null) {
+      this.testClassTimes.merge(ClassName.fromString(ti.getDefiningClass()),
+          cr.getExecutionTime(), Integer::sum);
+    }
 
     for (final BlockLocation each : cr.getCoverage()) {
         addTestsToBlockMap(ti, each);
@@ -77,6 +108,11 @@ public class CoverageData implements CoverageDatabase {
     return this.blockCoverage.getOrDefault(location, Collections.emptySet());
   }
 
+  @Override
+  public Optional<Integer> getTestClassTime(ClassName testClass) {
+    return Optional.ofNullable(this.testClassTimes.get(testClass));
+  }
+
   public boolean allTestsGreen() {
     return this.failingTestDescriptions.isEmpty();
   }
@@ -104,6 +140,12 @@ public class CoverageData implements CoverageDatabase {
     return legacyClassCoverage.getTestsForClass(clazz);
   }
 
+  public void reportLineCoverageSize() {
+    LOG.fine("Line coverage of " + legacyClassCoverage.numberOfTests() + " tests over "
+        + legacyClassCoverage.numberOfCoveredLines() + " lines uses about "
+        + (legacyClassCoverage.estimatedBytes() / 1024) + " KB");
+  }
+
   private void addTestsToBlockMap(final TestInfo ti, BlockLocation each) {
     Set<TestInfo> tests = this.blockCoverage.get(each);
     if (tests == null) {
@@ -114,10 +156,10 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public BigInteger getCoverageIdForClass(final ClassName clazz) {
+  public long getCoverageIdForClass(final ClassName clazz) {
     final Collection<TestInfo> coverage = getTestsForClass(clazz);
     if (coverage.isEmpty()) {
-      return BigInteger.ZERO;
+      return 0;
     }
 
     return generateCoverageNumber(coverage);
@@ -138,19 +180,41 @@ public class CoverageData implements CoverageDatabase {
     return legacyClassCoverage.getClassesForFile(sourceFile, packageName);
   }
 
-  private BigInteger generateCoverageNumber(Collection<TestInfo> coverage) {
-    BigInteger coverageNumber = BigInteger.ZERO;
-    Set<ClassName> testClasses = coverage.stream()
+  /**
+   * Sums the deep hashes of the covering test classes. Addition is order
+   * independent, so the id does not depend on the order tests were run in.
+   */
+  private long generateCoverageNumber(Collection<TestInfo> coverage) {
+    final Set<ClassName> testClasses = coverage.stream()
             .map(TestInfo.toDefiningClassName())
             .collect(Collectors.toSet());
 
-    for (final ClassInfo each : this.code.getClassInfo(testClasses)) {
-      coverageNumber = coverageNumber.add(each.getDeepHash());
-    }
+    fetchTestClassHashes(testClasses);
 
+    long coverageNumber = 0;
+    for (final ClassName each : testClasses) {
+      coverageNumber += this.testClassHashes.get(each);
+    }
     return coverageNumber;
   }
 
+  private void fetchTestClassHashes(Set<ClassName> testClasses) {
+    final Set<ClassName> unknown = testClasses.stream()
+            .filter(c -> !this.testClassHashes.containsKey(c))
+            .collect(Collectors.toSet());
+    if (unknown.isEmpty()) {
+      return;
+    }
+
+    for (final ClassInfo each : this.code.getClassInfo(unknown)) {
+      this.testClassHashes.put(each.getName(), each.getDeepHash());
+    }
+    // classes that cannot be found contribute nothing
+    for (final ClassName each : unknown) {
+      this.testClassHashes.putIfAbsent(each, 0L);
+    }
+  }
+
   private void checkForFailedTest(final CoverageResult cr) {
     if (!cr.isGreenTest()) {
       recordTestFailure(cr.getTestUnitDescription());
@@ -1,9 +1,10 @@
 package org.pitest.coverage;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.testapi.execute.TestUnitIndex;
 
-import java.math.BigInteger;
 import java.util.Collection;
+import java.util.Optional;
 
 public interface CoverageDatabase extends ReportCoverage {
 
@@ -11,6 +12,20 @@ public interface CoverageDatabase extends ReportCoverage {
 
   Collection<TestInfo> getTestsForBlockLocation(BlockLocation location);
 
-  BigInteger getCoverageIdForClass(ClassName clazz);
+  long getCoverageIdForClass(ClassName clazz);
+
+  /**
+   * Total time in milliseconds taken by the tests defined in a class
+   */
+  default Optional<Integer> getTestClassTime(ClassName testClass) {
+    return Optional.empty();
+  }
+
+  /**
+   * Descriptors for the tests discovered while gathering coverage
+   */
+  default TestUnitIndex testUnitIndex() {
+    return TestUnitIndex.empty();
+  }
 
 }
@@ -4,36 +4,50 @@ import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Line based coverage data, used by html report and the history system
  * separated here to prevent methods being re-implemented with data
  * not available when loaded from disk for the report aggregate
+ *
+ * Each test is given an id when first seen, and the tests covering each line
+ * are held as a bitset of those ids. The tests and covered lines of each class,
+ * and the code lines of each class, are calculated once and reused.
  */
 public class LegacyClassCoverage implements ReportCoverage {
 
+    // rough sizes of the objects held for each line, for reporting memory use
+    private static final int LINE_ENTRY_BYTES = 48;
+    private static final int BITSET_BYTES = 40;
+
     private final CodeSource code;
     private final Map<String, List<ClassLines>> classesForFile;
-    private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
+    private final Map<ClassName, ClassCoverage> lineCoverage  = new LinkedHashMap<>();
     private final Map<BlockLocation, Set<Integer>> blocksToLines = new LinkedHashMap<>();
+    private final Map<ClassName, ClassLines> codeLines = new ConcurrentHashMap<>();
+    private final Map<String, Integer> testIds = new HashMap<>();
+    private final List<TestInfo> tests = new ArrayList<>();
     private final LineMap lm;
 
     public LegacyClassCoverage(CodeSource code, LineMap lm) {
         this.code = code;
         this.lm = lm;
         this.classesForFile = code.codeTrees()
-                .collect(Collectors.groupingBy(keyFromClassInfo(), Collectors.mapping(tree -> new ClassLines(tree.name(), tree.codeLineNumbers()), Collectors.toList())));
+                .collect(Collectors.groupingBy(keyFromClassInfo(), Collectors.mapping(this::codeLines, Collectors.toList())));
     }
 
     public void loadBlockDataOnly(Collection<BlockLocation> coverageData) {
@@ -43,19 +57,19 @@ public class LegacyClassCoverage implements ReportCoverage {
 
     @Override
     public ClassLines getCodeLinesForClass(final ClassName clazz) {
-        return code.fetchClassBytes(clazz)
+        return this.codeLines.computeIfAbsent(clazz, c -> code.fetchClassBytes(c)
                 .map(ClassTree::fromBytes)
                 .map(ClassLines::fromTree)
-                .orElse(new ClassLines(clazz, Collections.emptySet()));
+                .orElse(new ClassLines(c, Collections.emptySet())));
     }
 
     @Override
     public Set<ClassLine> getCoveredLines(ClassName mutatedClass) {
-        return  Stream.of(mutatedClass)
-                .flatMap(m -> getLineCoverageForClassName(m).entrySet().stream())
-                .filter(e -> !e.getValue().isEmpty())
-                .map( e -> e.getKey())
-                .collect(Collectors.toSet());
+        final ClassCoverage coverage = lineCoverage.get(mutatedClass);
+        if (coverage == null) {
+            return Collections.emptySet();
+        }
+        return coverage.coveredLines(mutatedClass);
     }
 
     @Override
@@ -65,35 +79,65 @@ public class LegacyClassCoverage implements ReportCoverage {
     }
 
     public Collection<TestInfo> getTestsForClass(ClassName clazz) {
-        return this.lineCoverage.getOrDefault(clazz, Collections.emptyMap()).values().stream()
-                .flatMap(s -> s.stream())
-                .collect(Collectors.toSet());
+        final ClassCoverage coverage = lineCoverage.get(clazz);
+        if (coverage == null) {
+            return Collections.emptySet();
+        }
+        return coverage.tests(this.tests);
+    }
+
+    /**
+     * Approximate number of bytes used to hold line coverage
+     */
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (final ClassCoverage each : lineCoverage.values()) {
+            bytes += BITSET_BYTES + each.classTests.size() / 8;
+            for (final BitSet tests : each.lines.values()) {
+                bytes += LINE_ENTRY_BYTES + BITSET_BYTES + tests.size() / 8;
+            }
+        }
+        return bytes;
+    }
+
+    public int numberOfTests() {
+        return this.tests.size();
+    }
+
+    public int numberOfCoveredLines() {
+        return lineCoverage.values().stream()
+                .mapToInt(c -> c.lines.size())
+                .sum();
     }
 
     void addTestToClasses(TestInfo ti, Collection<BlockLocation> coverage) {
+        final int id = idFor(ti);
         for (BlockLocation each : coverage) {
             ClassName clazz = each.getLocation().getClassName();
-            Map<ClassLine, Set<TestInfo>> linesToTests = lineCoverage.getOrDefault(clazz, new LinkedHashMap<>(0));
+            ClassCoverage classCoverage = lineCoverage.computeIfAbsent(clazz, c -> new ClassCoverage());
             for (int line : getLinesForBlock(each)) {
-                addTestToClassLine(each.getLocation().getClassName(), linesToTests, ti, line);
+                classCoverage.add(line, id);
             }
-            // can we get blocks from different classes?
-            this.lineCoverage.put(each.getLocation().getClassName(), linesToTests);
         }
     }
-    private void addTestToClassLine(ClassName clazz,
-                                    Map<ClassLine, Set<TestInfo>> linesToTests,
-                                    TestInfo test,
-                                    int line) {
-        ClassLine cl = new ClassLine(clazz, line);
-        Set<TestInfo> tis = linesToTests.getOrDefault(cl, new TreeSet<>(new TestInfoNameComparator()));
-        tis.add(test);
-        linesToTests.put(cl, tis);
-    }
 
+    // tests on a line were once held in a set ordered by name, so a test is
+    // identified by its name
+    private int idFor(TestInfo test) {
+        final Integer existing = this.testIds.get(test.getName());
+        if (existing != null) {
+            return existing;
+        }
+        final int id = this.tests.size();
+        this.tests.add(test);
+        this.testIds.put(test.getName(), id);
+        return id;
+    }
 
-    private Map<ClassLine, Set<TestInfo>> getLineCoverageForClassName(final ClassName clazz) {
-        return this.lineCoverage.getOrDefault(clazz, Collections.emptyMap());
+    private ClassLines codeLines(ClassTree tree) {
+        final ClassLines lines = new ClassLines(tree.name(), tree.codeLineNumbers());
+        this.codeLines.put(tree.name(), lines);
+        return lines;
     }
 
     private static Function<ClassTree, String> keyFromClassInfo() {
@@ -124,4 +168,43 @@ public class LegacyClassCoverage implements ReportCoverage {
         this.blocksToLines.putAll(lines);
     }
 
+    private static final class ClassCoverage {
+        private final Map<Integer, BitSet> lines = new LinkedHashMap<>();
+        private final BitSet classTests = new BitSet();
+
+        private volatile Set<TestInfo> tests;
+        private volatile Set<ClassLine> coveredLines;
+
+        void add(int line, int test) {
+            lines.computeIfAbsent(line, l -> new BitSet()).set(test);
+            classTests.set(test);
+            this.tests = null;
+            this.coveredLines = null;
+        }
+
+        Set<TestInfo> tests(List<TestInfo> allTests) {
+            Set<TestInfo> result = this.tests;
+            if (result == null) {
+                final Set<TestInfo> built = new LinkedHashSet<>();
+                classTests.stream().forEach(id -> built.add(allTests.get(id)));
+                result = Collections.unmodifiableSet(built);
+                this.tests = result;
+            }
+            return result;
+        }
+
+        Set<ClassLine> coveredLines(ClassName clazz) {
+            Set<ClassLine> result = this.coveredLines;
+            if (result == null) {
+                final Set<ClassLine> built = new LinkedHashSet<>();
+                for (final Integer each : lines.keySet()) {
+                    built.add(new ClassLine(clazz, each));
+                }
+                result = Collections.unmodifiableSet(built);
+                this.coveredLines = result;
+            }
+            return result;
+        }
+    }
+
 }
@@ -2,7 +2,6 @@ package org.pitest.coverage;
 
 import org.pitest.classinfo.ClassName;
 
-import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
@@ -29,8 +28,8 @@ public class NoCoverage implements CoverageDatabase {
     }
 
     @Override
-    public BigInteger getCoverageIdForClass(ClassName clazz) {
-        return BigInteger.ZERO;
+    public long getCoverageIdForClass(ClassName clazz) {
+        return 0;
     }
 
     @Override
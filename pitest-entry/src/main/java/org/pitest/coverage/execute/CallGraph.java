@@ -0,0 +1,324 @@
+package org.pitest.coverage.execute;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
+
+/**
+ * Static call graph over the classes of a project, built from their bytecode.
+ *
+ * Virtual calls are resolved by class hierarchy analysis, so a call may reach
+ * any override of its target in the project whether or not it could be
+ * dispatched to at runtime. As the code of libraries is not analysed, a method
+ * overriding a library method is assumed to be called back once its class is
+ * used, as are static initialisers. Calls made by reflection are not seen.
+ */
+final class CallGraph {
+
+  private static final String CLASS_INIT = "<clinit>";
+  private static final String INIT = "<init>";
+
+  private final ClassByteArraySource            libraries;
+  private final Map<ClassName, ClassTree>       classes = new HashMap<>();
+  private final Map<ClassName, List<ClassName>> subtypes = new HashMap<>();
+  private final Map<ClassName, Optional<ClassTree>> libraryClasses = new HashMap<>();
+
+  private final Map<Location, List<Location>>  calls = new HashMap<>();
+  private final Map<ClassName, List<Location>> uses = new HashMap<>();
+
+  /**
+   * @param classes the classes of the project, whose calls are followed
+   * @param libraries source of other classes, consulted only to find which
+   *                  methods they declare
+   */
+  CallGraph(Collection<ClassTree> classes, ClassByteArraySource libraries) {
+    this.libraries = libraries;
+    for (final ClassTree each : classes) {
+      this.classes.putIfAbsent(each.name(), each);
+    }
+    for (final ClassTree each : this.classes.values()) {
+      for (final ClassName parent : supertypes(each)) {
+        this.subtypes.computeIfAbsent(parent, k -> new ArrayList<>()).add(each.name());
+      }
+    }
+  }
+
+  /**
+   * The methods declared by a class and by its superclasses in the project
+   */
+  List<Location> methodsOf(ClassName clazz) {
+    final List<Location> methods = new ArrayList<>();
+    for (final ClassTree each : superclassesOf(clazz)) {
+      for (final MethodTree method : each.methods()) {
+        methods.add(method.asLocation());
+      }
+    }
+    return methods;
+  }
+
+  Set<Location> reachableFrom(Collection<Location> roots) {
+    final Set<Location> reached = new HashSet<>();
+    final Deque<Location> pending = new ArrayDeque<>();
+    for (final Location each : roots) {
+      if (reached.add(each)) {
+        pending.push(each);
+      }
+    }
+    while (!pending.isEmpty()) {
+      for (final Location each : callsFrom(pending.pop())) {
+        if (reached.add(each)) {
+          pending.push(each);
+        }
+      }
+    }
+    return reached;
+  }
+
+  private List<Location> callsFrom(Location method) {
+    final List<Location> known = this.calls.get(method);
+    if (known != null) {
+      return known;
+    }
+
+    final Set<Location> targets = new LinkedHashSet<>(usesOf(method.getClassName()));
+    final Optional<MethodTree> tree = find(method.getClassName())
+        .flatMap(c -> c.method(method));
+    if (tree.isPresent()) {
+      for (final AbstractInsnNode each : tree.get().instructions()) {
+        addTargets(each, targets);
+      }
+    }
+    final List<Location> found = new ArrayList<>(targets);
+    this.calls.put(method, found);
+    return found;
+  }
+
+  private void addTargets(AbstractInsnNode insn, Set<Location> targets) {
+    if (insn instanceof MethodInsnNode) {
+      final MethodInsnNode call = (MethodInsnNode) insn;
+      final boolean virtual = call.getOpcode() == Opcodes.INVOKEVIRTUAL
+          || call.getOpcode() == Opcodes.INVOKEINTERFACE;
+      addCall(call.owner, call.name, call.desc, virtual, targets);
+    } else if (insn instanceof FieldInsnNode) {
+      if (insn.getOpcode() == Opcodes.GETSTATIC || insn.getOpcode() == Opcodes.PUTSTATIC) {
+        addUse(((FieldInsnNode) insn).owner, targets);
+      }
+    } else if (insn instanceof TypeInsnNode) {
+      if (insn.getOpcode() == Opcodes.NEW) {
+        addUse(((TypeInsnNode) insn).desc, targets);
+      }
+    } else if (insn instanceof InvokeDynamicInsnNode) {
+      // lambdas and method references
+      for (final Object each : ((InvokeDynamicInsnNode) insn).bsmArgs) {
+        if (each instanceof Handle) {
+          addHandle((Handle) each, targets);
+        }
+      }
+    } else if (insn instanceof LdcInsnNode) {
+      final Object constant = ((LdcInsnNode) insn).cst;
+      if (constant instanceof Handle) {
+        addHandle((Handle) constant, targets);
+      }
+    }
+  }
+
+  private void addHandle(Handle handle, Set<Location> targets) {
+    final boolean virtual = handle.getTag() == Opcodes.H_INVOKEVIRTUAL
+        || handle.getTag() == Opcodes.H_INVOKEINTERFACE;
+    addCall(handle.getOwner(), handle.getName(), handle.getDesc(), virtual, targets);
+  }
+
+  private void addCall(String owner, String name, String desc, boolean virtual,
+      Set<Location> targets) {
+    // methods of arrays are those of Object
+    if (owner.startsWith("[")) {
+      return;
+    }
+    final ClassName clazz = ClassName.fromString(owner);
+    targets.addAll(usesOf(clazz));
+    targets.addAll(declarationsFrom(clazz, name, desc));
+    if (virtual) {
+      targets.addAll(overridesBelow(clazz, name, desc));
+    }
+  }
+
+  private void addUse(String type, Set<Location> targets) {
+    if (!type.startsWith("[")) {
+      targets.addAll(usesOf(ClassName.fromString(type)));
+    }
+  }
+
+  /**
+   * Methods that run when a class is used without being called directly by
+   * project code: static initialisers of the class and its superclasses, and
+   * methods overriding those of libraries.
+   */
+  private List<Location> usesOf(ClassName clazz) {
+    final List<Location> known = this.uses.get(clazz);
+    if (known != null) {
+      return known;
+    }
+    final List<Location> found = new ArrayList<>();
+    for (final ClassTree each : superclassesOf(clazz)) {
+      for (final MethodTree method : each.methods()) {
+        if (method.rawNode().name.equals(CLASS_INIT)
+            || overridesLibraryMethod(each, method)) {
+          found.add(method.asLocation());
+        }
+      }
+    }
+    this.uses.put(clazz, found);
+    return found;
+  }
+
+  private boolean overridesLibraryMethod(ClassTree clazz, MethodTree method) {
+    final String name = method.rawNode().name;
+    if (name.equals(INIT) || name.equals(CLASS_INIT) || method.isPrivate()
+        || isStatic(method.rawNode().access)) {
+      return false;
+    }
+    final String desc = method.rawNode().desc;
+    final Deque<ClassName> pending = new ArrayDeque<>(supertypes(clazz));
+    final Set<ClassName> seen = new HashSet<>();
+    while (!pending.isEmpty()) {
+      final ClassName each = pending.pop();
+      if (!seen.add(each)) {
+        continue;
+      }
+      final Optional<ClassTree> project = find(each);
+      if (project.isPresent()) {
+        pending.addAll(supertypes(project.get()));
+        continue;
+      }
+      final Optional<ClassTree> library = library(each);
+      if (!library.isPresent()) {
+        // nothing is known of what it declares
+        return true;
+      }
+      final Optional<MethodTree> declared = library.get()
+          .method(Location.location(each, name, desc));
+      if (declared.isPresent() && !declared.get().isPrivate()
+          && !isStatic(declared.get().rawNode().access)) {
+        return true;
+      }
+      pending.addAll(supertypes(library.get()));
+    }
+    return false;
+  }
+
+  private Optional<ClassTree> library(ClassName clazz) {
+    return this.libraryClasses.computeIfAbsent(clazz, c -> this.libraries.getBytes(c.asJavaName())
+        .map(ClassTree::fromBytes));
+  }
+
+  /**
+   * The declaration a call resolves to, searching superclasses and then any
+   * default methods of interfaces.
+   */
+  private List<Location> declarationsFrom(ClassName owner, String name, String desc) {
+    final List<ClassTree> superclasses = superclassesOf(owner);
+    for (final ClassTree each : superclasses) {
+      if (declares(each, name, desc)) {
+        return Collections.singletonList(Location.location(each.name(), name, desc));
+      }
+    }
+
+    final List<Location> defaults = new ArrayList<>();
+    final Deque<ClassName> pending = new ArrayDeque<>();
+    final Set<ClassName> seen = new HashSet<>();
+    for (final ClassTree each : superclasses) {
+      pending.addAll(interfaces(each));
+    }
+    while (!pending.isEmpty()) {
+      final Optional<ClassTree> each = find(pending.pop());
+      if (each.isPresent() && seen.add(each.get().name())) {
+        if (declares(each.get(), name, desc)) {
+          defaults.add(Location.location(each.get().name(), name, desc));
+        }
+        pending.addAll(interfaces(each.get()));
+      }
+    }
+    return defaults;
+  }
+
+  private List<Location> overridesBelow(ClassName owner, String name, String desc) {
+    final List<Location> overrides = new ArrayList<>();
+    final Deque<ClassName> pending = new ArrayDeque<>(
+        this.subtypes.getOrDefault(owner, Collections.emptyList()));
+    final Set<ClassName> seen = new HashSet<>();
+    while (!pending.isEmpty()) {
+      final ClassName each = pending.pop();
+      if (seen.add(each)) {
+        if (declares(this.classes.get(each), name, desc)) {
+          overrides.add(Location.location(each, name, desc));
+        }
+        pending.addAll(this.subtypes.getOrDefault(each, Collections.emptyList()));
+      }
+    }
+    return overrides;
+  }
+
+  private List<ClassTree> superclassesOf(ClassName clazz) {
+    final List<ClassTree> superclasses = new ArrayList<>();
+    Optional<ClassTree> current = find(clazz);
+    while (current.isPresent()) {
+      superclasses.add(current.get());
+      final String parent = current.get().rawNode().superName;
+      current = parent == null ? Optional.empty() : find(ClassName.fromString(parent));
+    }
+    return superclasses;
+  }
+
+  private Optional<ClassTree> find(ClassName clazz) {
+    return Optional.ofNullable(this.classes.get(clazz));
+  }
+
+  private static boolean isStatic(int access) {
+    return (access & Opcodes.ACC_STATIC) != 0;
+  }
+
+  private static boolean declares(ClassTree clazz, String name, String desc) {
+    return clazz.method(Location.location(clazz.name(), name, desc)).isPresent();
+  }
+
+  private static List<ClassName> supertypes(ClassTree clazz) {
+    final List<ClassName> supertypes = new ArrayList<>();
+    if (clazz.rawNode().superName != null) {
+      supertypes.add(ClassName.fromString(clazz.rawNode().superName));
+    }
+    supertypes.addAll(interfaces(clazz));
+    return supertypes;
+  }
+
+  private static List<ClassName> interfaces(ClassTree clazz) {
+    final List<ClassName> interfaces = new ArrayList<>();
+    for (final String each : clazz.rawNode().interfaces) {
+      interfaces.add(ClassName.fromString(each));
+    }
+    return interfaces;
+  }
+
+}
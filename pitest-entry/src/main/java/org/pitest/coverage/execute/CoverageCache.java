@@ -0,0 +1,165 @@
+package org.pitest.coverage.execute;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pitest.coverage.CoverageResult;
+import org.pitest.testapi.TestUnitDescriptor;
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Keeps the tests found and the coverage they gave between analyses run by
+ * one long lived process, so that tests are not run again to gather coverage
+ * while nothing that could change the result has changed.
+ *
+ * Coverage is looked up by a key made from the configuration of the run and
+ * the size and modification time of every file on the class path, including
+ * those within directories. The least recently used coverage is dropped
+ * once the maximum number of configurations is held.
+ */
+public class CoverageCache {
+
+  public static final int DEFAULT_MAX_RUNS = 4;
+
+  private final int                    maxRuns;
+  private final Map<String, Recording> runs;
+  private int                          hits;
+
+  public CoverageCache() {
+    this(DEFAULT_MAX_RUNS);
+  }
+
+  public CoverageCache(final int maxRuns) {
+    this.maxRuns = maxRuns;
+    this.runs = new LinkedHashMap<String, Recording>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Recording> eldest) {
+        return size() > maxRuns;
+      }
+    };
+  }
+
+  /**
+   * Cache that never holds coverage.
+   */
+  public static CoverageCache disabled() {
+    return new CoverageCache(0);
+  }
+
+  public boolean isEnabled() {
+    return this.maxRuns > 0;
+  }
+
+  public synchronized Optional<Recording> get(final String key) {
+    final Recording recording = this.runs.get(key);
+    if (recording != null) {
+      this.hits++;
+    }
+    return Optional.ofNullable(recording);
+  }
+
+  public synchronized void put(final String key, final Recording recording) {
+    this.runs.put(key, recording);
+  }
+
+  public synchronized int size() {
+    return this.runs.size();
+  }
+
+  /**
+   * Number of times coverage was reused.
+   */
+  public synchronized int hits() {
+    return this.hits;
+  }
+
+  /**
+   * Key for coverage gathered with the given configuration, from classes on
+   * the given class path.
+   *
+   * @param configuration values of every setting that changes the coverage
+   *                      gathered
+   */
+  public static String key(final Collection<?> configuration,
+      final Collection<File> classPath) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (final Object each : configuration) {
+        update(digest, String.valueOf(each));
+      }
+      for (final File each : classPath) {
+        fingerprint(digest, each);
+      }
+      final StringBuilder sb = new StringBuilder();
+      for (final byte b : digest.digest()) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    } catch (final NoSuchAlgorithmException e) {
+      throw new PitError("SHA-256 not available", e);
+    }
+  }
+
+  private static void fingerprint(final MessageDigest digest, final File file) {
+    update(digest, file.getAbsolutePath());
+    if (!file.isDirectory()) {
+      update(digest, file.length() + ":" + file.lastModified());
+      return;
+    }
+    try (Stream<Path> files = Files.walk(file.toPath())) {
+      final List<Path> sorted = files.sorted().collect(Collectors.toList());
+      for (final Path each : sorted) {
+        final File f = each.toFile();
+        update(digest, f.getPath() + ":" + f.length() + ":" + f.lastModified());
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static void update(final MessageDigest digest, final String value) {
+    digest.update(value.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+
+  /**
+   * What a coverage minion reported during one run.
+   */
+  public static final class Recording {
+
+    private final List<TestUnitDescriptor> descriptors = new ArrayList<>();
+    private final List<CoverageResult>     results     = new ArrayList<>();
+
+    synchronized void record(final TestUnitDescriptor descriptor) {
+      this.descriptors.add(descriptor);
+    }
+
+    synchronized void record(final CoverageResult result) {
+      this.results.add(result);
+    }
+
+    synchronized void replay(final Consumer<TestUnitDescriptor> descriptorHandler,
+        final Consumer<CoverageResult> resultHandler) {
+      this.descriptors.forEach(descriptorHandler);
+      this.results.forEach(resultHandler);
+    }
+  }
+
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import org.pitest.coverage.CoverageResult;
+import org.pitest.testapi.TestUnitDescriptor;
 import org.pitest.util.CommunicationThread;
 
 public class CoverageCommunicationThread extends CommunicationThread {
@@ -12,8 +13,14 @@ public class CoverageCommunicationThread extends CommunicationThread {
   public CoverageCommunicationThread(final ServerSocket socket,
       final CoverageOptions arguments, final List<String> tus,
       final Consumer<CoverageResult> handler) {
-    super(socket, new SendData(arguments, tus), new Receive(handler));
+    this(socket, arguments, tus, handler, t -> { });
+  }
 
+  public CoverageCommunicationThread(final ServerSocket socket,
+      final CoverageOptions arguments, final List<String> tus,
+      final Consumer<CoverageResult> handler,
+      final Consumer<TestUnitDescriptor> testHandler) {
+    super(socket, new SendData(arguments, tus), new Receive(handler, testHandler));
   }
 
 }
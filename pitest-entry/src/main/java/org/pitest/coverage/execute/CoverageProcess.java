@@ -9,6 +9,7 @@ import java.util.function.Consumer;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.process.ProcessArgs;
 import org.pitest.process.WrappingProcess;
+import org.pitest.testapi.TestUnitDescriptor;
 import org.pitest.util.ExitCode;
 
 public class CoverageProcess {
@@ -19,10 +20,17 @@ public class CoverageProcess {
   public CoverageProcess(final ProcessArgs processArgs,
       final CoverageOptions arguments, final ServerSocket socket,
       final List<String> testClasses, final Consumer<CoverageResult> handler) {
+    this(processArgs, arguments, socket, testClasses, handler, t -> { });
+  }
+
+  public CoverageProcess(final ProcessArgs processArgs,
+      final CoverageOptions arguments, final ServerSocket socket,
+      final List<String> testClasses, final Consumer<CoverageResult> handler,
+      final Consumer<TestUnitDescriptor> testHandler) {
     this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
         CoverageMinion.class);
     this.crt = new CoverageCommunicationThread(socket, arguments, testClasses,
-        handler);
+        handler, testHandler);
   }
 
   public void start() throws IOException, InterruptedException {
@@ -38,6 +46,7 @@ public class CoverageProcess {
       }
       return maybeExit.orElse(ExitCode.MINION_DIED);
     } finally {
+      this.crt.connectedAt().ifPresent(this.process::minionConnected);
       this.process.destroy();
     }
 
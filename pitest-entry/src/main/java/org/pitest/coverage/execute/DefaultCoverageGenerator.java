@@ -43,7 +43,10 @@ import org.pitest.util.Verbosity;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -60,11 +63,23 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final Verbosity        verbosity;
+  private final CoverageCache    cache;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, Verbosity verbosity) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        verbosity, CoverageCache.disabled());
+  }
+
+  /**
+   * @param cache coverage gathered by earlier analyses
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, Verbosity verbosity, CoverageCache cache) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -72,6 +87,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.verbosity = verbosity;
+    this.cache = cache;
   }
 
   @Override
@@ -97,6 +113,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
       final long time = (System.currentTimeMillis() - t0) / 1000;
 
       LOG.info("Calculated coverage in " + time + " seconds.");
+      coverage.reportLineCoverageSize();
 
       verifyBuildSuitableForMutationTesting(coverage);
 
@@ -125,6 +142,17 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
     final Consumer<CoverageResult> handler = resultProcessor(coverage);
 
+    // the class path is only walked when coverage may be reused
+    final Optional<String> key = this.cache.isEnabled()
+        ? Optional.of(cacheKey(tests)) : Optional.empty();
+    final Optional<CoverageCache.Recording> cached = key.flatMap(this.cache::get);
+    if (cached.isPresent()) {
+      LOG.info("Reusing coverage gathered by an earlier analysis of unchanged code");
+      cached.get().replay(coverage::recordTestDescriptor, handler);
+      return;
+    }
+    final CoverageCache.Recording recording = new CoverageCache.Recording();
+
     final SocketFinder sf = new SocketFinder();
     final ServerSocket socket = sf.getNextAvailableServerSocket();
 
@@ -132,7 +160,11 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
         .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
         .andLaunchOptions(this.launchOptions).andStderr(logInfo())
         .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, tests, handler);
+        socket, tests, handler.andThen(recording::record),
+        d -> {
+          coverage.recordTestDescriptor(d);
+          recording.record(d);
+        });
 
     process.start();
 
@@ -149,9 +181,27 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
       throw new PitError("Coverage generation minion exited abnormally! (" + exitCode + ")");
     } else {
       LOG.fine("Coverage generator Minion exited ok");
+      key.ifPresent(k -> this.cache.put(k, recording));
     }
   }
 
+  private String cacheKey(List<String> tests) {
+    final TestPluginArguments config = this.coverageOptions.getPitConfig();
+    final List<Object> configuration = Arrays.asList(tests,
+        this.coverageOptions.getInclude(), this.coverageOptions.getExclude(),
+        config.getGroupConfig(), config.getIncludedTestMethods(),
+        config.getExcludedRunners(), config.skipFailingTests(),
+        this.coverageOptions.threads(), this.launchOptions.getChildJVMArgs(),
+        this.launchOptions.getJavaExecutable(),
+        new TreeMap<>(this.launchOptions.getEnvironmentVariables()), this.workingDir);
+    final List<File> classPath = Arrays.stream(this.code.getClassPath().getLocalClassPath()
+        .split(File.pathSeparator))
+        .filter(p -> !p.isEmpty())
+        .map(File::new)
+        .collect(Collectors.toList());
+    return CoverageCache.key(configuration, classPath);
+  }
+
   private static Function<ClassInfo, String> classInfoToName() {
     return a -> a.getName().asInternalName();
   }
@@ -5,6 +5,7 @@ import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
+import org.pitest.testapi.TestUnitDescriptor;
 import org.pitest.util.Id;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
@@ -23,9 +24,16 @@ final class Receive implements ReceiveStrategy {
   private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
 
   private final Consumer<CoverageResult> handler;
+  private final Consumer<TestUnitDescriptor> testHandler;
 
   Receive(final Consumer<CoverageResult> handler) {
+    this(handler, t -> { });
+  }
+
+  Receive(final Consumer<CoverageResult> handler,
+      final Consumer<TestUnitDescriptor> testHandler) {
     this.handler = handler;
+    this.testHandler = testHandler;
   }
 
   @Override
@@ -42,6 +50,9 @@ final class Receive implements ReceiveStrategy {
     case Id.OUTCOME:
       handleTestEnd(is);
       break;
+    case Id.TESTS:
+      handleTests(is);
+      break;
     case Id.DONE:
       // nothing to do ?
     }
@@ -63,6 +74,13 @@ final class Receive implements ReceiveStrategy {
     }
   }
 
+  private void handleTests(final SafeDataInputStream is) {
+    final int count = is.readInt();
+    for (int i = 0; i != count; i++) {
+      this.testHandler.accept(is.read(TestUnitDescriptor.class));
+    }
+  }
+
   private void handleTestEnd(final SafeDataInputStream is) {
     final Description d = is.read(Description.class);
     final int numberOfResults = is.readInt();
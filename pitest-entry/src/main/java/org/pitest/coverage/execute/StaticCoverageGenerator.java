@@ -0,0 +1,220 @@
+package org.pitest.coverage.execute;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.tree.AnnotationNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageExporter;
+import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.analysis.LineMapper;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.process.LaunchOptions;
+import org.pitest.testapi.Description;
+import org.pitest.util.Log;
+import org.pitest.util.Timings;
+
+/**
+ * Approximates coverage from a static call graph rather than by running the
+ * tests, so no coverage minion is started.
+ *
+ * Each test class is treated as a single test covering every block of the
+ * methods reachable from it. As the minions run every test of a class named in
+ * this way, mutants are run against whole test classes rather than against
+ * the individual tests that reach them.
+ *
+ * The time of each test class comes from the history when recorded there, and
+ * is otherwise assumed. Only times taken from the history, which were
+ * measured by an earlier coverage minion, are recorded again, so an assumed
+ * time is never mistaken for a measured one.
+ */
+public class StaticCoverageGenerator implements CoverageGenerator {
+
+  private static final Logger    LOG = Log.getLogger();
+
+  private static final String    TEST_CASE = "junit/framework/TestCase";
+
+  private final CoverageOptions  coverageOptions;
+  private final LaunchOptions    launchOptions;
+  private final CodeSource       code;
+  private final CoverageExporter exporter;
+  private final Timings          timings;
+  private final HistoryStore     history;
+  private final int              defaultTestTime;
+
+  /**
+   * @param history must be initialised before coverage is calculated
+   * @param defaultTestTime milliseconds assumed for test classes without a
+   *                        recorded time
+   */
+  public StaticCoverageGenerator(final CoverageOptions coverageOptions,
+      final LaunchOptions launchOptions, final CodeSource code,
+      final CoverageExporter exporter, final Timings timings,
+      final HistoryStore history, final int defaultTestTime) {
+    this.coverageOptions = coverageOptions;
+    this.launchOptions = launchOptions;
+    this.code = code;
+    this.exporter = exporter;
+    this.timings = timings;
+    this.history = history;
+    this.defaultTestTime = defaultTestTime;
+  }
+
+  @Override
+  public CoverageData calculateCoverage() {
+    final long t0 = System.currentTimeMillis();
+
+    this.timings.registerStart(Timings.Stage.SCAN_CLASS_PATH);
+    final List<ClassTree> tests = this.code.allTestTrees().collect(Collectors.toList());
+    final List<ClassTree> classes = Stream.concat(this.code.codeTrees(), tests.stream())
+        .collect(Collectors.toList());
+    this.timings.registerEnd(Timings.Stage.SCAN_CLASS_PATH);
+
+    final CoverageData coverage = new CoverageData(this.code, new LineMapper(
+        this.code));
+
+    this.timings.registerStart(Timings.Stage.COVERAGE);
+    final CallGraph graph = new CallGraph(classes, libraries());
+    final Set<ClassName> codeClasses = this.code.getCodeUnderTestNames();
+    final Map<ClassName, ClassHistory> historic = this.history.getHistoricClassPath();
+    final BlockIndex blocks = new BlockIndex(this.code);
+    final Map<ClassName, ClassTree> byName = new HashMap<>();
+    for (final ClassTree each : classes) {
+      byName.putIfAbsent(each.name(), each);
+    }
+
+    int testClasses = 0;
+    int timed = 0;
+    for (final ClassTree each : tests) {
+      if (!isTestClass(each, byName)) {
+        continue;
+      }
+      final Optional<Integer> time = Optional.ofNullable(historic.get(each.name()))
+          .flatMap(ClassHistory::getTestTime);
+      final List<BlockLocation> covered = graph.reachableFrom(graph.methodsOf(each.name()))
+          .stream()
+          .filter(l -> codeClasses.contains(l.getClassName()))
+          .flatMap(l -> blocks.blocksOf(l).stream())
+          .collect(Collectors.toList());
+      final String name = each.name().asJavaName();
+      coverage.calculateClassCoverage(new CoverageResult(new Description(name, name),
+          time.orElse(this.defaultTestTime), true, covered), time.isPresent());
+      testClasses++;
+      if (time.isPresent()) {
+        timed++;
+      }
+    }
+    this.timings.registerEnd(Timings.Stage.COVERAGE);
+
+    final long time = (System.currentTimeMillis() - t0) / 1000;
+    LOG.info("Approximated coverage of " + testClasses + " test classes from a static call graph in "
+        + time + " seconds. Times of " + timed + " were recorded in history, "
+        + (testClasses - timed) + " were assumed to take " + this.defaultTestTime + "ms");
+    coverage.reportLineCoverageSize();
+
+    this.exporter.recordCoverage(coverage.createCoverage());
+
+    return coverage;
+  }
+
+  /**
+   * Test plugins are not consulted, so classes that declare or inherit test
+   * annotations, or extend the junit 3 TestCase, are taken to be tests.
+   */
+  private static boolean isTestClass(ClassTree clazz, Map<ClassName, ClassTree> byName) {
+    if (clazz.isAbstract() || clazz.isInterface()) {
+      return false;
+    }
+    Optional<ClassTree> current = Optional.of(clazz);
+    while (current.isPresent()) {
+      final ClassTree each = current.get();
+      if (hasTestAnnotation(each.annotations())
+          || each.methods().stream()
+              .map(MethodTree::annotations)
+              .anyMatch(StaticCoverageGenerator::hasTestAnnotation)
+          || TEST_CASE.equals(each.rawNode().superName)) {
+        return true;
+      }
+      final String parent = each.rawNode().superName;
+      current = parent == null ? Optional.empty()
+          : Optional.ofNullable(byName.get(ClassName.fromString(parent)));
+    }
+    return false;
+  }
+
+  private static boolean hasTestAnnotation(List<AnnotationNode> annotations) {
+    for (final AnnotationNode each : annotations) {
+      final String simpleName = each.desc.substring(each.desc.lastIndexOf('/') + 1,
+          each.desc.length() - 1);
+      if (simpleName.startsWith("Test") || simpleName.endsWith("Test")
+          || simpleName.equals("RunWith")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // jdk classes are not on the project classpath
+  private ClassByteArraySource libraries() {
+    final ClassByteArraySource jdk = ClassloaderByteArraySource.fromContext();
+    return name -> {
+      final Optional<byte[]> bytes = this.code.getBytes(name);
+      return bytes.isPresent() ? bytes : jdk.getBytes(name);
+    };
+  }
+
+  @Override
+  public TestPluginArguments getConfiguration() {
+    return this.coverageOptions.getPitConfig();
+  }
+
+  @Override
+  public LaunchOptions getLaunchOptions() {
+    return this.launchOptions;
+  }
+
+  /**
+   * The blocks of each method, mapped once for each class
+   */
+  private static final class BlockIndex {
+    private final LineMapper lines;
+    private final Map<ClassName, Map<Location, List<BlockLocation>>> classes = new HashMap<>();
+
+    BlockIndex(CodeSource code) {
+      this.lines = new LineMapper(code);
+    }
+
+    List<BlockLocation> blocksOf(Location method) {
+      return this.classes.computeIfAbsent(method.getClassName(), this::mapBlocks)
+          .getOrDefault(method, Collections.emptyList());
+    }
+
+    private Map<Location, List<BlockLocation>> mapBlocks(ClassName clazz) {
+      final Map<Location, List<BlockLocation>> blocks = new HashMap<>();
+      for (final BlockLocation each : this.lines.mapLines(clazz).keySet()) {
+        blocks.computeIfAbsent(each.getLocation(), k -> new ArrayList<>()).add(each);
+      }
+      return blocks;
+    }
+  }
+
+}
@@ -2,6 +2,7 @@ package org.pitest.mutationtest;
 
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
@@ -12,10 +13,22 @@ public class ClassHistory implements Serializable {
 
   private final HierarchicalClassId id;
   private final String              coverageId;
+  // absent from histories written before test times were recorded
+  private final Integer             testTime;
 
   public ClassHistory(final HierarchicalClassId id, final String coverageId) {
+    this(id, coverageId, Optional.empty());
+  }
+
+  /**
+   * @param testTime total time in milliseconds of the tests defined in the
+   *                 class, if it is a test class that was run
+   */
+  public ClassHistory(final HierarchicalClassId id, final String coverageId,
+      final Optional<Integer> testTime) {
     this.id = id;
     this.coverageId = coverageId;
+    this.testTime = testTime.orElse(null);
   }
 
   public HierarchicalClassId getId() {
@@ -30,9 +43,13 @@ public class ClassHistory implements Serializable {
     return this.id.getName();
   }
 
+  public Optional<Integer> getTestTime() {
+    return Optional.ofNullable(this.testTime);
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(id, coverageId);
+    return Objects.hash(id, coverageId, testTime);
   }
 
   @Override
@@ -45,6 +62,7 @@ public class ClassHistory implements Serializable {
     }
     final ClassHistory other = (ClassHistory) obj;
     return Objects.equals(id, other.id)
-            && Objects.equals(coverageId, other.coverageId);
+            && Objects.equals(coverageId, other.coverageId)
+            && Objects.equals(testTime, other.testTime);
   }
 }
\ No newline at end of file
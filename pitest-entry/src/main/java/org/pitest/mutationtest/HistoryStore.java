@@ -6,6 +6,7 @@ import java.util.Map;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.build.TestDurations;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public interface HistoryStore {
@@ -20,4 +21,16 @@ public interface HistoryStore {
 
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
+  /**
+   * Records the test durations learned during the run, so timeouts can be
+   * learned from them in later runs.
+   */
+  default void recordTestDurations(TestDurations durations) {
+
+  }
+
+  default TestDurations getHistoricTestDurations() {
+    return new TestDurations();
+  }
+
 }
@@ -0,0 +1,257 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.statistics.ScoreEstimate;
+import org.pitest.util.Log;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * Estimates the mutation score from a stratified random sample of the mutants,
+ * analysed in rounds that grow until the estimate is precise enough.
+ *
+ * Mutants are stratified by class and mutator, so every package and class is
+ * represented in proportion to its number of mutants. Within each stratum
+ * mutants are shuffled with a seed derived from the plan and the stratum, and
+ * assigned evenly spaced ranks from a random offset. Each round takes the
+ * mutants whose rank falls below its fraction, so the sample drawn for a seed
+ * is reproducible and each round extends the last.
+ *
+ * Mutants whose status is already known are reported in the first round and
+ * counted exactly rather than sampled.
+ */
+public class AdaptiveSample {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final SamplingPlan plan;
+  private final LongSupplier clock;
+
+  private final List<List<MutationAnalysisUnit>> rounds = new ArrayList<>();
+  private final List<MutationAnalysisUnit> knownUnits = new ArrayList<>();
+  private final AtomicLong sampled  = new AtomicLong();
+  private final AtomicLong detected = new AtomicLong();
+  private long population;
+  private long known;
+  private long knownDetected;
+
+  public AdaptiveSample(SamplingPlan plan) {
+    this(plan, System::currentTimeMillis);
+  }
+
+  AdaptiveSample(SamplingPlan plan, LongSupplier clock) {
+    this.plan = plan;
+    this.clock = clock;
+  }
+
+  /**
+   * Divides mutants into the rounds in which they should be analysed. There is
+   * always at least one round, though it may be empty.
+   */
+  public List<List<MutationDetails>> divide(Collection<MutationDetails> mutations) {
+    final List<Double> fractions = fractions();
+    final List<List<MutationDetails>> divided = new ArrayList<>();
+    for (int i = 0; i != fractions.size(); i++) {
+      divided.add(new ArrayList<>());
+    }
+
+    for (final Map.Entry<String, List<MutationDetails>> stratum : stratify(mutations).entrySet()) {
+      final List<MutationDetails> members = stratum.getValue();
+      members.sort(comparing(MutationDetails::getId));
+      final Random random = new Random(this.plan.seed() * 31 + stratum.getKey().hashCode());
+      Collections.shuffle(members, random);
+      final double offset = random.nextDouble();
+      for (int i = 0; i != members.size(); i++) {
+        divided.get(roundFor((i + offset) / members.size(), fractions)).add(members.get(i));
+      }
+    }
+
+    for (final List<MutationDetails> each : divided) {
+      each.sort(comparing(MutationDetails::getId));
+    }
+    return divided;
+  }
+
+  /**
+   * Sets the number of mutants whose status is not known, from which the
+   * sample is drawn.
+   */
+  public void setPopulation(long population) {
+    this.population = population;
+  }
+
+  /**
+   * Adds mutants whose status is already known, to be reported at the start
+   * of the first round. They are counted exactly towards the estimate.
+   */
+  public void addKnown(List<MutationResult> results) {
+    for (final MutationResult each : results) {
+      this.known++;
+      if (each.getStatus().isDetected()) {
+        this.knownDetected++;
+      }
+    }
+    this.knownUnits.add(new KnownStatusMutationTestUnit(results));
+  }
+
+  /**
+   * Adds the units for the next round, returning them wrapped so that their
+   * results are recorded towards the estimate.
+   */
+  public List<MutationAnalysisUnit> addRound(List<MutationAnalysisUnit> units) {
+    final List<MutationAnalysisUnit> recording = units.stream()
+        .map(this::record)
+        .collect(Collectors.toList());
+    this.rounds.add(recording);
+    return recording;
+  }
+
+  /**
+   * Supplies each round in turn, stopping once the estimate is precise enough
+   * or the time budget is spent. A round is requested only after the results
+   * of the previous round have been recorded.
+   */
+  public Iterator<List<MutationAnalysisUnit>> rounds() {
+    return new Iterator<List<MutationAnalysisUnit>>() {
+      private long start;
+      private int next = 0;
+      private boolean stopped = false;
+
+      @Override
+      public boolean hasNext() {
+        skipEmptyRounds();
+        if (this.stopped || this.next >= AdaptiveSample.this.rounds.size()) {
+          return false;
+        }
+        // the first round is always run, as it also reports any known results
+        if (this.next != 0 && !shouldContinue(this.start)) {
+          this.stopped = true;
+        }
+        return !this.stopped;
+      }
+
+      @Override
+      public List<MutationAnalysisUnit> next() {
+        if (this.stopped || this.next >= AdaptiveSample.this.rounds.size()) {
+          throw new NoSuchElementException();
+        }
+        if (this.next == 0) {
+          this.start = AdaptiveSample.this.clock.getAsLong();
+          this.next++;
+          final List<MutationAnalysisUnit> first = new ArrayList<>(
+              AdaptiveSample.this.knownUnits);
+          first.addAll(AdaptiveSample.this.rounds.get(0));
+          return first;
+        } else {
+          LOG.info("Estimated score " + describe(estimate()) + ". Starting sampling round "
+              + (this.next + 1));
+        }
+        return AdaptiveSample.this.rounds.get(this.next++);
+      }
+
+      private void skipEmptyRounds() {
+        while (this.next != 0 && this.next < AdaptiveSample.this.rounds.size()
+            && AdaptiveSample.this.rounds.get(this.next).isEmpty()) {
+          this.next++;
+        }
+      }
+    };
+  }
+
+  public ScoreEstimate estimate() {
+    return ScoreEstimate.estimate(Math.max(this.population, this.sampled.get()),
+        this.sampled.get(), this.detected.get())
+        .withKnown(this.known, this.knownDetected);
+  }
+
+  private boolean shouldContinue(long start) {
+    final ScoreEstimate estimate = estimate();
+    if (estimate.width() * 100 <= this.plan.targetWidthPercent()) {
+      LOG.info("Estimated score " + describe(estimate) + " is within target interval width of "
+          + this.plan.targetWidthPercent() + "%");
+      return false;
+    }
+    if (this.plan.hasBudget()
+        && this.clock.getAsLong() - start >= this.plan.budgetMillis()) {
+      LOG.info("Sampling time budget spent. Estimated score " + describe(estimate));
+      return false;
+    }
+    return true;
+  }
+
+  private MutationAnalysisUnit record(MutationAnalysisUnit unit) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public int priority() {
+        return unit.priority();
+      }
+
+      @Override
+      public MutationMetaData call() throws Exception {
+        final MutationMetaData metaData = unit.call();
+        for (final MutationResult each : metaData.getMutations()) {
+          if (each.getStatus().isDetected()) {
+            AdaptiveSample.this.detected.incrementAndGet();
+          }
+          AdaptiveSample.this.sampled.incrementAndGet();
+        }
+        return metaData;
+      }
+
+      @Override
+      public MutationMetaData notRun() {
+        // mutants that were not run tell us nothing about the score
+        return unit.notRun();
+      }
+    };
+  }
+
+  private List<Double> fractions() {
+    final List<Double> fractions = new ArrayList<>();
+    double fraction = this.plan.initialPercent() / 100d;
+    while (fraction < 1) {
+      fractions.add(fraction);
+      fraction = fraction * 2;
+    }
+    fractions.add(1d);
+    return fractions;
+  }
+
+  private static int roundFor(double rank, List<Double> fractions) {
+    int round = 0;
+    while (rank >= fractions.get(round)) {
+      round++;
+    }
+    return round;
+  }
+
+  private static Map<String, List<MutationDetails>> stratify(Collection<MutationDetails> mutations) {
+    return mutations.stream()
+        .collect(Collectors.groupingBy(m -> m.getClassName().asJavaName() + " " + m.getMutator(),
+            TreeMap::new, Collectors.toList()));
+  }
+
+  private static String describe(ScoreEstimate estimate) {
+    return Math.round(estimate.score() * 100) + "% (" + Math.round(estimate.lower() * 100)
+        + "% to " + Math.round(estimate.upper() * 100) + "%) from " + estimate.sampled()
+        + " of " + (estimate.population() - estimate.known()) + " mutations and "
+        + estimate.known() + " known";
+  }
+
+}
@@ -26,8 +26,18 @@ public class CompoundInterceptorFactory {
       ClassByteArraySource source,
       TestPrioritiser testPrioritiser
       ) {
+    return createInterceptor(data, coverage, source, testPrioritiser, new SubsumedMutants());
+  }
+
+  public CompoundMutationInterceptor createInterceptor(
+      ReportOptions data,
+      CoverageDatabase coverage,
+      ClassByteArraySource source,
+      TestPrioritiser testPrioritiser,
+      SubsumedMutants subsumed
+      ) {
     final List<MutationInterceptor> interceptors = this.features.getActiveFeatures().stream()
-            .map(toInterceptor(this.features, data, coverage, source, testPrioritiser))
+            .map(toInterceptor(this.features, data, coverage, source, testPrioritiser, subsumed))
             .collect(Collectors.toList());
     return new CompoundMutationInterceptor(interceptors);
   }
@@ -38,10 +48,11 @@ public class CompoundInterceptorFactory {
           ReportOptions data,
           CoverageDatabase coverage,
           ClassByteArraySource source,
-          TestPrioritiser testPrioritiser
+          TestPrioritiser testPrioritiser,
+          SubsumedMutants subsumed
           ) {
 
-    return a -> a.createInterceptor(new InterceptorParameters(features.getSettingForFeature(a.provides().name()), data, coverage, source, testPrioritiser));
+    return a -> a.createInterceptor(new InterceptorParameters(features.getSettingForFeature(a.provides().name()), data, coverage, source, testPrioritiser, subsumed));
 
   }
  }
\ No newline at end of file
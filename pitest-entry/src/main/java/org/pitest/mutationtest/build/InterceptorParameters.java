@@ -19,14 +19,23 @@ public final class InterceptorParameters {
 
   private final TestPrioritiser testPrioritiser;
 
+  private final SubsumedMutants subsumedMutants;
+
 
   public InterceptorParameters(FeatureSetting conf, ReportOptions data, CoverageDatabase coverage,
       ClassByteArraySource source, TestPrioritiser testPrioritiser) {
+    this(conf, data, coverage, source, testPrioritiser, new SubsumedMutants());
+  }
+
+  public InterceptorParameters(FeatureSetting conf, ReportOptions data, CoverageDatabase coverage,
+      ClassByteArraySource source, TestPrioritiser testPrioritiser,
+      SubsumedMutants subsumedMutants) {
     this.conf = conf;
     this.data = data;
     this.coverage = coverage;
     this.source = source;
     this.testPrioritiser = testPrioritiser;
+    this.subsumedMutants = subsumedMutants;
   }
 
   public ReportOptions data() {
@@ -50,6 +59,13 @@ public final class InterceptorParameters {
     return this.testPrioritiser;
   }
 
+  /**
+   * Receives mutants held back until others have been analysed
+   */
+  public SubsumedMutants subsumedMutants() {
+    return this.subsumedMutants;
+  }
+
   public Optional<String> getString(FeatureParameter limit) {
     if (this.conf == null) {
       return Optional.empty();
@@ -12,6 +12,7 @@ package org.pitest.mutationtest.build;
  * FILTER - Remove mutants from processing
  * MODIFY_COSMETIC - Modify mutants in way that will not affect processing (e.g update descriptions)
  * REPORT - Output mutant in their final state
+ * DEFER - Hold back mutants to be analysed after others, depending on their results
  *
  */
 public enum InterceptorType {
@@ -20,7 +21,8 @@ public enum InterceptorType {
   PRE_SCAN_FILTER(true),
   FILTER(false),
   MODIFY_COSMETIC(false),
-  REPORT(false);
+  REPORT(false),
+  DEFER(false);
 
   private final boolean includeInPrescan;
 
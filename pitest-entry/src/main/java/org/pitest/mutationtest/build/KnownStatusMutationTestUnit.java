@@ -25,6 +25,12 @@ public class KnownStatusMutationTestUnit implements MutationAnalysisUnit {
 
   }
 
+  @Override
+  public MutationMetaData notRun() {
+    // known results cost nothing to report
+    return new MutationMetaData(this.mutations);
+  }
+
   @Override
   public int priority() {
     return Integer.MAX_VALUE;
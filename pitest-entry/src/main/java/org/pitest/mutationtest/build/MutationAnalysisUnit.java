@@ -11,4 +11,11 @@ public interface MutationAnalysisUnit extends Callable<MutationMetaData> {
 
   int priority();
 
+  /**
+   * Results to report in place of running the unit, when there is no time
+   * left in which to run it. Mutants that would have been analysed are given
+   * a status of NOT_RUN.
+   */
+  MutationMetaData notRun();
+
 }
@@ -18,6 +18,7 @@ import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -31,15 +32,29 @@ public class MutationSource {
   private final TestPrioritiser      testPrioritiser;
   private final ClassByteArraySource source;
   private final MutationInterceptor interceptor;
+  private final SubsumedMutants      subsumed;
 
   public MutationSource(final MutationConfig mutationConfig,
       final TestPrioritiser testPrioritiser,
       final ClassByteArraySource source,
       final MutationInterceptor interceptor) {
+    this(mutationConfig, testPrioritiser, source, interceptor, new SubsumedMutants());
+  }
+
+  /**
+   * @param subsumed mutants held back by the interceptor, which are assigned
+   *                 tests for when they are later analysed
+   */
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final MutationInterceptor interceptor,
+      final SubsumedMutants subsumed) {
     this.mutationConfig = mutationConfig;
     this.testPrioritiser = testPrioritiser;
     this.source = source;
     this.interceptor = interceptor;
+    this.subsumed = subsumed;
   }
 
   public Collection<MutationDetails> createMutations(final ClassName clazz) {
@@ -61,6 +76,8 @@ public class MutationSource {
       this.interceptor.end();
 
       assignTestsToMutations(updatedMutations);
+      assignTestsToMutations(FCollection.filter(availableMutations,
+          each -> this.subsumed.isDeferred(each.getId())));
 
       return updatedMutations;
     }
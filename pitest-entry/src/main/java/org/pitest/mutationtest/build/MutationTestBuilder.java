@@ -22,11 +22,13 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.shard.Shard;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -40,16 +42,71 @@ public class MutationTestBuilder {
   private final MutationAnalyser analyser;
   private final WorkerFactory    workerFactory;
   private final MutationGrouper  grouper;
+  private final Shard            shard;
+  private final Optional<AdaptiveSample> sample;
+  private final Optional<ValuePerCost> priority;
+  private final SubsumedMutants subsumed;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
                              final MutationAnalyser analyser,
                              final MutationSource mutationSource,
                              final MutationGrouper grouper) {
+    this(workerFactory, analyser, mutationSource, grouper, Shard.all());
+  }
+
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+                             final MutationAnalyser analyser,
+                             final MutationSource mutationSource,
+                             final MutationGrouper grouper,
+                             final Shard shard) {
+    this(workerFactory, analyser, mutationSource, grouper, shard, Optional.empty());
+  }
+
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+                             final MutationAnalyser analyser,
+                             final MutationSource mutationSource,
+                             final MutationGrouper grouper,
+                             final Shard shard,
+                             final Optional<AdaptiveSample> sample) {
+    this(workerFactory, analyser, mutationSource, grouper, shard, sample, Optional.empty());
+  }
+
+  /**
+   * @param priority when present, orders units by their value per cost rather
+   *                 than by size
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+                             final MutationAnalyser analyser,
+                             final MutationSource mutationSource,
+                             final MutationGrouper grouper,
+                             final Shard shard,
+                             final Optional<AdaptiveSample> sample,
+                             final Optional<ValuePerCost> priority) {
+    this(workerFactory, analyser, mutationSource, grouper, shard, sample, priority,
+        new SubsumedMutants());
+  }
+
+  /**
+   * @param subsumed mutants held back by the mutation source, to be analysed
+   *                 once the mutants subsuming them have been
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+                             final MutationAnalyser analyser,
+                             final MutationSource mutationSource,
+                             final MutationGrouper grouper,
+                             final Shard shard,
+                             final Optional<AdaptiveSample> sample,
+                             final Optional<ValuePerCost> priority,
+                             final SubsumedMutants subsumed) {
 
     this.mutationSource = mutationSource;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.shard = shard;
+    this.sample = sample;
+    this.priority = priority;
+    this.subsumed = subsumed;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
@@ -58,6 +115,12 @@ public class MutationTestBuilder {
 
     final List<MutationDetails> mutations = FCollection.flatMap(codeClasses, mutationSource::createMutations);
 
+    if (this.sample.isPresent()) {
+      // a sample says nothing about the mutants outside it, so subsumed
+      // mutants are sampled like any other
+      mutations.addAll(this.subsumed.release());
+    }
+
     mutations.sort(comparing(MutationDetails::getId));
 
     final Collection<MutationResult> analysedMutations = this.analyser
@@ -71,18 +134,84 @@ public class MutationTestBuilder {
     final List<MutationResult> analysed = FCollection.filter(analysedMutations,
         Prelude.not(statusNotKnown()));
 
-    if (!analysed.isEmpty()) {
+    if (this.sample.isPresent()) {
+      return createSampledUnits(codeClasses, analysed, needAnalysis, this.sample.get());
+    }
+
+    if (!analysed.isEmpty() && this.shard.includesKnownResults()) {
+      tus.add(makePreAnalysedUnit(analysed));
+    }
+
+    tus.addAll(makeUnanalysedUnits(codeClasses, needAnalysis));
+
+    if (this.subsumed.isEmpty()) {
+      return order(tus);
+    }
+    return this.subsumed.firstRound(order(tus), deferred -> createDeferredUnits(codeClasses, deferred));
+  }
+
+  private List<MutationAnalysisUnit> createDeferredUnits(
+      final Collection<ClassName> codeClasses, final Collection<MutationDetails> deferred) {
+    final List<MutationDetails> mutations = new ArrayList<>(deferred);
+    mutations.sort(comparing(MutationDetails::getId));
+
+    final Collection<MutationResult> analysedMutations = this.analyser.analyse(mutations);
+    final List<MutationResult> analysed = FCollection.filter(analysedMutations,
+        Prelude.not(statusNotKnown()));
+    final Collection<MutationDetails> needAnalysis = analysedMutations.stream()
+        .filter(statusNotKnown())
+        .map(MutationResult::getDetails)
+        .collect(Collectors.toList());
+
+    final List<MutationAnalysisUnit> tus = new ArrayList<>();
+    if (!analysed.isEmpty() && this.shard.includesKnownResults()) {
+      tus.add(makePreAnalysedUnit(analysed));
+    }
+    tus.addAll(makeUnanalysedUnits(codeClasses, needAnalysis));
+    return order(tus);
+  }
+
+  private List<MutationAnalysisUnit> createSampledUnits(
+      final Collection<ClassName> codeClasses,
+      final List<MutationResult> analysed,
+      final Collection<MutationDetails> needAnalysis, final AdaptiveSample sample) {
+    // known results are counted exactly, so only the others are sampled
+    sample.setPopulation(needAnalysis.size());
+
+    final List<MutationAnalysisUnit> tus = new ArrayList<>();
+    if (!analysed.isEmpty() && this.shard.includesKnownResults()) {
+      sample.addKnown(analysed);
       tus.add(makePreAnalysedUnit(analysed));
     }
+    for (final List<MutationDetails> round : sample.divide(needAnalysis)) {
+      tus.addAll(sample.addRound(order(makeUnanalysedUnits(codeClasses, round))));
+    }
+    return tus;
+  }
 
+  private List<MutationAnalysisUnit> makeUnanalysedUnits(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> needAnalysis) {
+    final List<MutationAnalysisUnit> tus = new ArrayList<>();
     if (!needAnalysis.isEmpty()) {
-      for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
-          codeClasses, needAnalysis)) {
+      List<List<MutationDetails>> groups = this.shard.select(this.grouper.groupMutations(
+          codeClasses, needAnalysis));
+      if (this.priority.isPresent()) {
+        groups = this.priority.get().prioritise(groups);
+      }
+      for (final Collection<MutationDetails> ms : groups) {
         tus.add(makeUnanalysedUnit(ms));
       }
     }
+    return tus;
+  }
 
-    tus.sort(new AnalysisPriorityComparator());
+  // when prioritised, units are already in order of value, with any known
+  // results first
+  private List<MutationAnalysisUnit> order(List<MutationAnalysisUnit> tus) {
+    if (!this.priority.isPresent()) {
+      tus.sort(new AnalysisPriorityComparator());
+    }
     return tus;
   }
 
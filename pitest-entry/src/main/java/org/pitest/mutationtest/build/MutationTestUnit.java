@@ -16,6 +16,7 @@ package org.pitest.mutationtest.build;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
@@ -57,6 +58,18 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     return reportResults(mutations);
   }
 
+  @Override
+  public MutationMetaData notRun() {
+    final MutationStatusMap mutations = new MutationStatusMap();
+
+    mutations.setStatusForMutations(this.availableMutations,
+        DetectionStatus.NOT_RUN);
+
+    mutations.markUncoveredMutations();
+
+    return reportResults(mutations);
+  }
+
   @Override
   public int priority() {
     return this.availableMutations.size();
@@ -72,9 +85,13 @@ public class MutationTestUnit implements MutationAnalysisUnit {
   private void runTestInSeperateProcessForMutationRange(
       final MutationStatusMap mutations) throws IOException,
       InterruptedException {
+    runTestsInSeperateProcess(mutations, mutations.getUnrunMutations());
+  }
+
+  private void runTestsInSeperateProcess(final MutationStatusMap mutations,
+      final Collection<MutationDetails> remainingMutations) throws IOException,
+      InterruptedException {
 
-    final Collection<MutationDetails> remainingMutations = mutations
-        .getUnrunMutations();
     final MutationTestProcess worker = this.workerFactory.createWorker(
         remainingMutations, this.testClasses);
     worker.start();
@@ -85,7 +102,28 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     final ExitCode exitCode = waitForMinionToDie(worker);
     worker.results(mutations);
 
-    correctResultForProcessExitCode(mutations, exitCode);
+    final Collection<MutationDetails> unfinishedRuns = mutations.getUnfinishedRuns();
+    if (!exitCode.isOk() && unfinishedRuns.size() > 1) {
+      rerunConcurrentMutationsAlone(mutations, unfinishedRuns);
+    } else {
+      correctResultForProcessExitCode(mutations, exitCode);
+    }
+  }
+
+  /**
+   * Mutants run concurrently within a minion are all unfinished when it
+   * dies, although only one of them need have caused it. Each is run again
+   * in a minion of its own so that the failure is attributed correctly.
+   */
+  private void rerunConcurrentMutationsAlone(final MutationStatusMap mutations,
+      final Collection<MutationDetails> unfinishedRuns) throws IOException,
+      InterruptedException {
+    LOG.warning("Minion exited abnormally while running " + unfinishedRuns.size()
+        + " mutations concurrently. Running each alone");
+    mutations.setStatusForMutations(unfinishedRuns, DetectionStatus.NOT_STARTED);
+    for (final MutationDetails each : unfinishedRuns) {
+      runTestsInSeperateProcess(mutations, Collections.singletonList(each));
+    }
   }
 
   private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
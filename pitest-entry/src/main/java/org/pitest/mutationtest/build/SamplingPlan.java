@@ -0,0 +1,94 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Objects;
+
+/**
+ * How mutants should be sampled when estimating the mutation score instead of
+ * analysing every mutant.
+ *
+ * The first round analyses the initial percentage of mutants. Each further
+ * round doubles the sample, until the confidence interval of the estimated
+ * score is no wider than the target width, the time budget is spent, or every
+ * mutant has been analysed.
+ */
+public final class SamplingPlan {
+
+  private final long seed;
+  private final int  initialPercent;
+  private final int  targetWidthPercent;
+  private final long budgetMillis;
+
+  /**
+   * @param seed seed from which the sample is drawn
+   * @param initialPercent percentage of mutants analysed in the first round
+   * @param targetWidthPercent width of the confidence interval, in percentage
+   *                           points, at which sampling stops
+   * @param budgetMillis time after which no further rounds are started, or 0
+   *                     for no limit
+   */
+  public SamplingPlan(long seed, int initialPercent, int targetWidthPercent, long budgetMillis) {
+    if (initialPercent < 1 || initialPercent > 100) {
+      throw new IllegalArgumentException("Initial sample must be between 1 and 100 percent but was "
+          + initialPercent);
+    }
+    if (targetWidthPercent < 0 || targetWidthPercent > 100) {
+      throw new IllegalArgumentException("Target interval width must be between 0 and 100 percent but was "
+          + targetWidthPercent);
+    }
+    if (budgetMillis < 0) {
+      throw new IllegalArgumentException("Time budget must not be negative");
+    }
+    this.seed = seed;
+    this.initialPercent = initialPercent;
+    this.targetWidthPercent = targetWidthPercent;
+    this.budgetMillis = budgetMillis;
+  }
+
+  public long seed() {
+    return this.seed;
+  }
+
+  public int initialPercent() {
+    return this.initialPercent;
+  }
+
+  public int targetWidthPercent() {
+    return this.targetWidthPercent;
+  }
+
+  public long budgetMillis() {
+    return this.budgetMillis;
+  }
+
+  public boolean hasBudget() {
+    return this.budgetMillis != 0;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final SamplingPlan that = (SamplingPlan) o;
+    return this.seed == that.seed
+        && this.initialPercent == that.initialPercent
+        && this.targetWidthPercent == that.targetWidthPercent
+        && this.budgetMillis == that.budgetMillis;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.seed, this.initialPercent, this.targetWidthPercent,
+        this.budgetMillis);
+  }
+
+  @Override
+  public String toString() {
+    return "SamplingPlan [seed=" + this.seed + ", initialPercent=" + this.initialPercent
+        + ", targetWidthPercent=" + this.targetWidthPercent + ", budgetMillis="
+        + this.budgetMillis + "]";
+  }
+}
@@ -0,0 +1,191 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * Mutants held back from analysis because other mutants subsume them, so that
+ * any test killing one of the others is expected to kill them too.
+ *
+ * Subsumed mutants are analysed in a second round, once the results of the
+ * first are known. A mutant is run only if no mutant subsuming it was
+ * killed. Otherwise it is reported as {@link DetectionStatus#INFERRED_KILLED}
+ * by the same tests without being run. This assumes the tests kill it too,
+ * which they need not, so the status is distinct from a kill and inference
+ * can be disabled for a mutant, which is then always run.
+ */
+public class SubsumedMutants {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final Map<MutationIdentifier, Deferred> deferred = new LinkedHashMap<>();
+  private final Map<MutationIdentifier, MutationStatusTestPair> results = new ConcurrentHashMap<>();
+  private Function<Collection<MutationDetails>, List<MutationAnalysisUnit>> unitsFor;
+
+  /**
+   * Holds back a mutant until the mutants subsuming it have been analysed.
+   *
+   * @param infer whether the mutant may be reported as killed, rather than
+   *              run, if a mutant subsuming it is killed
+   */
+  public synchronized void defer(MutationDetails mutant,
+      Collection<MutationIdentifier> subsumedBy, boolean infer) {
+    this.deferred.put(mutant.getId(), new Deferred(mutant, new ArrayList<>(subsumedBy),
+        infer));
+  }
+
+  public synchronized boolean isDeferred(MutationIdentifier id) {
+    return this.deferred.containsKey(id);
+  }
+
+  public synchronized boolean isEmpty() {
+    return this.deferred.isEmpty();
+  }
+
+  /**
+   * Removes and returns every held back mutant, for analysis without regard to
+   * the mutants subsuming them.
+   */
+  public synchronized List<MutationDetails> release() {
+    final List<MutationDetails> released = this.deferred.values().stream()
+        .map(d -> d.mutant)
+        .collect(Collectors.toList());
+    this.deferred.clear();
+    return released;
+  }
+
+  /**
+   * Wraps the units of the first round so that their results are recorded,
+   * and sets how units are made for the subsumed mutants that must be run.
+   */
+  public List<MutationAnalysisUnit> firstRound(List<MutationAnalysisUnit> units,
+      Function<Collection<MutationDetails>, List<MutationAnalysisUnit>> unitsFor) {
+    this.unitsFor = unitsFor;
+    return units.stream()
+        .map(this::record)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Supplies the first round, then the units for the subsumed mutants. The
+   * second round is made only once every result of the first is recorded.
+   *
+   * @param wrap applied to the units of each round
+   */
+  public Iterator<List<MutationAnalysisUnit>> rounds(List<MutationAnalysisUnit> first,
+      UnaryOperator<List<MutationAnalysisUnit>> wrap) {
+    return new Iterator<List<MutationAnalysisUnit>>() {
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return this.next == 0 || (this.next == 1 && !isEmpty());
+      }
+
+      @Override
+      public List<MutationAnalysisUnit> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        this.next++;
+        return this.next == 1 ? wrap.apply(first) : wrap.apply(secondRound());
+      }
+    };
+  }
+
+  synchronized List<MutationAnalysisUnit> secondRound() {
+    final List<MutationResult> inferred = new ArrayList<>();
+    final List<MutationDetails> toRun = new ArrayList<>();
+    for (final Deferred each : this.deferred.values()) {
+      final Optional<MutationStatusTestPair> killed = each.infer
+          ? killedSubsumer(each) : Optional.empty();
+      if (killed.isPresent()) {
+        inferred.add(new MutationResult(each.mutant, new MutationStatusTestPair(0,
+            DetectionStatus.INFERRED_KILLED, killed.get().getKillingTests(),
+            Collections.emptyList())));
+      } else {
+        toRun.add(each.mutant);
+      }
+    }
+    this.deferred.clear();
+
+    LOG.info("Inferred " + inferred.size() + " subsumed mutations as killed. Running "
+        + toRun.size() + " subsumed mutations");
+
+    final List<MutationAnalysisUnit> units = new ArrayList<>();
+    if (!inferred.isEmpty()) {
+      inferred.sort(comparing(r -> r.getDetails().getId()));
+      units.add(new KnownStatusMutationTestUnit(inferred));
+    }
+    if (!toRun.isEmpty()) {
+      units.addAll(this.unitsFor.apply(toRun));
+    }
+    return units;
+  }
+
+  private Optional<MutationStatusTestPair> killedSubsumer(Deferred mutant) {
+    return mutant.subsumedBy.stream()
+        .map(this.results::get)
+        .filter(r -> r != null && r.getStatus() == DetectionStatus.KILLED)
+        .findFirst();
+  }
+
+  private MutationAnalysisUnit record(MutationAnalysisUnit unit) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public int priority() {
+        return unit.priority();
+      }
+
+      @Override
+      public MutationMetaData call() throws Exception {
+        final MutationMetaData metaData = unit.call();
+        for (final MutationResult each : metaData.getMutations()) {
+          SubsumedMutants.this.results.put(each.getDetails().getId(), each.getStatusTestPair());
+        }
+        return metaData;
+      }
+
+      @Override
+      public MutationMetaData notRun() {
+        // nothing can be inferred from a mutant that was not run
+        return unit.notRun();
+      }
+    };
+  }
+
+  private static final class Deferred {
+    private final MutationDetails          mutant;
+    private final List<MutationIdentifier> subsumedBy;
+    private final boolean                  infer;
+
+    Deferred(MutationDetails mutant, List<MutationIdentifier> subsumedBy, boolean infer) {
+      this.mutant = mutant;
+      this.subsumedBy = subsumedBy;
+      this.infer = infer;
+    }
+  }
+
+}
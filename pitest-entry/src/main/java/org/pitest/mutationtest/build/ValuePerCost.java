@@ -0,0 +1,88 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.incremental.CodeHistory;
+import org.pitest.mutationtest.shard.Shard;
+
+/**
+ * Orders groups of mutants so that those likely to tell us most, for the time
+ * they will take, are analysed first. Used when a run has a time budget, so
+ * that the results available when the budget is spent are the most useful.
+ *
+ * Mutants in classes that have changed since the last analysis are worth
+ * twice those in unchanged classes. Each is worth more again the more poorly
+ * its class scored previously, as surviving mutants are the ones that need
+ * attention. Cost is estimated from the number of covering tests.
+ */
+public class ValuePerCost {
+
+  static final double CHANGED_WEIGHT = 2;
+
+  private final CodeHistory history;
+
+  public ValuePerCost(CodeHistory history) {
+    this.history = history;
+  }
+
+  public <T extends Collection<MutationDetails>> List<T> prioritise(List<T> groups) {
+    final Map<ClassName, Double> classValues = classValues(groups);
+    final Map<T, Double> values = new IdentityHashMap<>();
+    for (final T each : groups) {
+      double value = 0;
+      for (final MutationDetails mutant : each) {
+        value += classValues.get(mutant.getClassName());
+      }
+      values.put(each, value / Shard.estimatedCost(each));
+    }
+
+    // stable sort, so groups of equal value retain the order they were supplied in
+    final List<T> ordered = new ArrayList<>(groups);
+    ordered.sort(Comparator.comparing((T g) -> values.get(g)).reversed());
+    return ordered;
+  }
+
+  private Map<ClassName, Double> classValues(List<? extends Collection<MutationDetails>> groups) {
+    final Map<ClassName, long[]> previousAndSurvived = new HashMap<>();
+    for (final Collection<MutationDetails> group : groups) {
+      for (final MutationDetails each : group) {
+        final long[] counts = previousAndSurvived.computeIfAbsent(each.getClassName(),
+            c -> new long[2]);
+        final Optional<MutationStatusTestPair> result = this.history
+            .getPreviousResult(each.getId());
+        if (result.isPresent()) {
+          counts[0]++;
+          if (!result.get().getStatus().isDetected()) {
+            counts[1]++;
+          }
+        }
+      }
+    }
+
+    final Map<ClassName, Double> values = new HashMap<>();
+    for (final Map.Entry<ClassName, long[]> each : previousAndSurvived.entrySet()) {
+      final double changed = this.history.hasClassChanged(each.getKey()) ? CHANGED_WEIGHT : 1;
+      values.put(each.getKey(), changed * (1 + survivalRate(each.getValue())));
+    }
+    return values;
+  }
+
+  // classes without history are assumed to be entirely undetected
+  private static double survivalRate(long[] previousAndSurvived) {
+    if (previousAndSurvived[0] == 0) {
+      return 1;
+    }
+    return previousAndSurvived[1] / (double) previousAndSurvived[0];
+  }
+
+}
@@ -1,22 +1,33 @@
 package org.pitest.mutationtest.build;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.AdaptiveTimeouts;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionSlots;
+import org.pitest.mutationtest.execute.MutantIsolation;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.execute.ResultBatching;
+import org.pitest.mutationtest.execute.RunTelemetry;
 import org.pitest.process.ProcessArgs;
+import org.pitest.testapi.execute.TestUnitIndex;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
+import org.pitest.util.Unchecked;
 import org.pitest.util.Verbosity;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.pitest.functional.prelude.Prelude.printlnWith;
 
@@ -30,6 +41,13 @@ public class WorkerFactory {
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final ResultBatching        batching;
+  private final TestUnitIndex         testIndex;
+  private final AdaptiveTimeouts      adaptiveTimeouts;
+  private final RunTelemetry          telemetry;
+  private final MutantIsolation       mutantIsolation;
+  private final MinionSlots           slots;
+  private final TestDurations         durations;
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -39,6 +57,49 @@ public class WorkerFactory {
       final Verbosity verbosity,
       final boolean fullMutationMatrix,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbosity, fullMutationMatrix,
+        classPath, ResultBatching.none(), TestUnitIndex.empty(), AdaptiveTimeouts.none(),
+        RunTelemetry.disabled(), MutantIsolation.none(), MinionSlots.unlimited());
+  }
+
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final Verbosity verbosity,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final ResultBatching batching,
+      final TestUnitIndex testIndex,
+      final AdaptiveTimeouts adaptiveTimeouts,
+      final RunTelemetry telemetry,
+      final MutantIsolation mutantIsolation,
+      final MinionSlots slots) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbosity, fullMutationMatrix,
+        classPath, batching, testIndex, adaptiveTimeouts, telemetry, mutantIsolation, slots,
+        new TestDurations());
+  }
+
+  /**
+   * @param durations test durations learned so far, which are passed to each
+   *                  minion and updated with the durations it learns
+   */
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final Verbosity verbosity,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final ResultBatching batching,
+      final TestUnitIndex testIndex,
+      final AdaptiveTimeouts adaptiveTimeouts,
+      final RunTelemetry telemetry,
+      final MutantIsolation mutantIsolation,
+      final MinionSlots slots,
+      final TestDurations durations) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbosity = verbosity;
@@ -47,14 +108,24 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.batching = batching;
+    this.testIndex = testIndex;
+    this.adaptiveTimeouts = adaptiveTimeouts;
+    this.telemetry = telemetry;
+    this.mutantIsolation = mutantIsolation;
+    this.slots = slots;
+    this.durations = durations;
   }
 
   public MutationTestProcess createWorker(
       final Collection<MutationDetails> remainingMutations,
       final Collection<ClassName> testClasses) {
+    final Set<String> required = testNamesRequiredBy(remainingMutations);
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
-        Log.verbosity(), this.fullMutationMatrix, this.pitConfig);
+        Log.verbosity(), this.fullMutationMatrix, this.pitConfig, this.batching,
+        createProgressFile(), this.testIndex.select(required), this.adaptiveTimeouts,
+        this.telemetry.isEnabled(), this.mutantIsolation, durationsOf(required));
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
@@ -63,7 +134,35 @@ public class WorkerFactory {
 
     final SocketFinder sf = new SocketFinder();
     return new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+        sf.getNextAvailableServerSocket(), args, fileArgs, this.telemetry.minion(),
+        this.slots, this.durations);
+  }
+
+  private static Set<String> testNamesRequiredBy(Collection<MutationDetails> mutations) {
+    return mutations.stream()
+        .flatMap(m -> m.getTestsInOrder().stream())
+        .map(TestInfo::getName)
+        .collect(Collectors.toSet());
+  }
+
+  private TestDurations durationsOf(Set<String> tests) {
+    if (!this.adaptiveTimeouts.isEnabled()) {
+      return new TestDurations();
+    }
+    return this.durations.select(tests);
+  }
+
+  private String createProgressFile() {
+    if (!this.batching.isEnabled()) {
+      return null;
+    }
+    try {
+      final File progress = File.createTempFile("pit-progress", ".bin");
+      progress.deleteOnExit();
+      return progress.getAbsolutePath();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
   }
 
   private Consumer<String> captureStdOutIfVerbose() {
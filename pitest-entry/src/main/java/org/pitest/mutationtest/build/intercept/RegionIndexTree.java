@@ -0,0 +1,68 @@
+package org.pitest.mutationtest.build.intercept;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Static index of instruction regions that answers "is this instruction within any
+ * region" in O(log n). Regions are sorted by start, and the maximum end of all regions
+ * up to each position is recorded, so only a single binary search is required per query.
+ */
+public final class RegionIndexTree {
+
+    private static final RegionIndexTree EMPTY = new RegionIndexTree(new int[0], new int[0]);
+
+    private final int[] starts;
+    private final int[] maxEnds;
+
+    private RegionIndexTree(int[] starts, int[] maxEnds) {
+        this.starts = starts;
+        this.maxEnds = maxEnds;
+    }
+
+    public static RegionIndexTree of(Collection<RegionIndex> regions) {
+        if (regions.isEmpty()) {
+            return EMPTY;
+        }
+
+        final RegionIndex[] sorted = regions.toArray(new RegionIndex[0]);
+        Arrays.sort(sorted, Comparator.comparingInt(RegionIndex::start));
+
+        final int[] starts = new int[sorted.length];
+        final int[] maxEnds = new int[sorted.length];
+        int maxEnd = Integer.MIN_VALUE;
+        for (int i = 0; i != sorted.length; i++) {
+            starts[i] = sorted[i].start();
+            maxEnd = Math.max(maxEnd, sorted[i].end());
+            maxEnds[i] = maxEnd;
+        }
+        return new RegionIndexTree(starts, maxEnds);
+    }
+
+    public boolean contains(int instruction) {
+        final int last = lastStartingAtOrBefore(instruction);
+        return last >= 0 && this.maxEnds[last] >= instruction;
+    }
+
+    public boolean isEmpty() {
+        return this.starts.length == 0;
+    }
+
+    private int lastStartingAtOrBefore(int instruction) {
+        int low = 0;
+        int high = this.starts.length - 1;
+        int found = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (this.starts[mid] <= instruction) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+}
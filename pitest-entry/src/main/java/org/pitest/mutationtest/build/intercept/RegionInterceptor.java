@@ -20,7 +20,7 @@ import java.util.stream.Collectors;
  */
 public abstract class RegionInterceptor implements MutationInterceptor {
     private ClassTree currentClass;
-    private Map<MethodTree, List<RegionIndex>> cache;
+    private Map<MethodTree, RegionIndexTree> cache;
 
     @Override
     public InterceptorType type() {
@@ -36,8 +36,9 @@ public abstract class RegionInterceptor implements MutationInterceptor {
     @Override
     public Collection<MutationDetails> intercept(
             Collection<MutationDetails> mutations, Mutater m) {
+        final Predicate<MutationDetails> inRegion = buildPredicate();
         return mutations.stream()
-                .filter(buildPredicate().negate())
+                .filter(inRegion.negate())
                 .collect(Collectors.toList());
     }
 
@@ -51,16 +52,15 @@ public abstract class RegionInterceptor implements MutationInterceptor {
                 return false;
             }
 
-            List<RegionIndex> regions = cache.computeIfAbsent(method.get(), this::computeRegionIndex);
-            return regions.stream()
-                    .anyMatch(r -> r.start() <= instruction && r.end() >= instruction);
+            RegionIndexTree regions = cache.computeIfAbsent(method.get(), this::computeRegionIndex);
+            return regions.contains(instruction);
         };
     }
 
-    private List<RegionIndex> computeRegionIndex(MethodTree method) {
-        return computeRegions(method).stream()
-                .map(r -> new RegionIndex(method.instructions().indexOf(r.start), method.instructions().indexOf(r.end)))
-                .collect(Collectors.toList());
+    private RegionIndexTree computeRegionIndex(MethodTree method) {
+        return RegionIndexTree.of(computeRegions(method).stream()
+                .map(r -> new RegionIndex(method.indexOf(r.start), method.indexOf(r.end)))
+                .collect(Collectors.toList()));
     }
 
     protected abstract List<Region> computeRegions(MethodTree method);
@@ -0,0 +1,75 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import org.objectweb.asm.Opcodes;
+import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator;
+
+/**
+ * Known subsumption relationships between mutants of the same jump.
+ *
+ * A mutant subsumes another if every input on which it changes the outcome
+ * of the jump also changes the outcome, in the same way, for the other. A
+ * test that kills the first by reaching the jump once must then also kill
+ * the second. Where a test reaches the jump more than once this is not
+ * guaranteed, as the second mutant may change the outcome of other visits to
+ * the jump as well and so take the test down another path. Inferring that a
+ * subsumed mutant is killed whenever a mutant subsuming it is killed is
+ * therefore unsound, which is why the inferred kills are reported with a
+ * status of their own and inference can be disabled.
+ *
+ * <ul>
+ * <li>A boundary mutant changes the outcome only when the operands are equal,
+ * where negating the jump, or replacing it with the opposite of its outcome
+ * for equal operands, changes it too.</li>
+ * <li>Replacing a jump with always or never jumping changes the outcome on a
+ * subset of the inputs on which negating it does.</li>
+ * </ul>
+ */
+final class MutatorSubsumption {
+
+  private static final String BOUNDARY = ConditionalsBoundaryMutator.class.getName();
+  private static final String NEGATE = NegateConditionalsMutator.class.getName();
+  private static final String REMOVE = RemoveConditionalMutator.class.getName();
+
+  // the jump is removed, so never taken
+  private static final String NEVER_JUMP = "_IF";
+  // the jump is replaced with a goto, so always taken
+  private static final String ALWAYS_JUMP = "_ELSE";
+
+  private MutatorSubsumption() {
+  }
+
+  /**
+   * @param subsumer mutator id of a mutant
+   * @param subsumed mutator id of another mutant of the same instruction
+   * @param opcode opcode of the instruction before mutation
+   * @return true if the first mutant subsumes the second
+   */
+  static boolean subsumes(String subsumer, String subsumed, int opcode) {
+    if (subsumed.equals(NEGATE)) {
+      return subsumer.equals(BOUNDARY) || isRemoval(subsumer);
+    }
+    if (subsumer.equals(BOUNDARY)) {
+      return subsumed.equals(REMOVE + "_ORDER" + (isInclusive(opcode) ? NEVER_JUMP : ALWAYS_JUMP));
+    }
+    return false;
+  }
+
+  private static boolean isRemoval(String mutator) {
+    return mutator.startsWith(REMOVE + "_");
+  }
+
+  private static boolean isInclusive(int opcode) {
+    switch (opcode) {
+    case Opcodes.IFGE:
+    case Opcodes.IFLE:
+    case Opcodes.IF_ICMPGE:
+    case Opcodes.IF_ICMPLE:
+      return true;
+    default:
+      return false;
+    }
+  }
+
+}
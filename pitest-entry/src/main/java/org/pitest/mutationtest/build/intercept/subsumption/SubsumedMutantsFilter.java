@@ -0,0 +1,164 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.SubsumedMutants;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Holds back mutants that are subsumed by other mutants of the same
+ * instruction, so that only the subsuming mutants are analysed at first.
+ *
+ * The mutants of an instruction form a graph, with an edge from each mutant
+ * to those it subsumes. Mutants with no incoming edge are analysed as normal.
+ * Every other mutant is deferred until the mutants that reach it have been
+ * analysed, and is then run only if none of them was killed, unless
+ * inference has been disabled.
+ */
+public class SubsumedMutantsFilter implements MutationInterceptor {
+
+  private final SubsumedMutants subsumed;
+  private final boolean         infer;
+  private ClassTree currentClass;
+
+  /**
+   * @param infer whether deferred mutants are reported as killed, rather than
+   *              run, when a mutant subsuming them is killed
+   */
+  public SubsumedMutantsFilter(SubsumedMutants subsumed, boolean infer) {
+    this.subsumed = subsumed;
+    this.infer = infer;
+  }
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.DEFER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    this.currentClass = clazz;
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final Map<Location, Map<Integer, List<MutationDetails>>> byInstruction = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      // mutants spanning several instructions have no known relationships
+      if (each.getId().getIndexes().size() == 1) {
+        byInstruction.computeIfAbsent(each.getId().getLocation(), k -> new LinkedHashMap<>())
+            .computeIfAbsent(each.getInstructionIndex(), k -> new ArrayList<>())
+            .add(each);
+      }
+    }
+
+    final Set<MutationIdentifier> deferred = new HashSet<>();
+    for (final Map.Entry<Location, Map<Integer, List<MutationDetails>>> method : byInstruction.entrySet()) {
+      final Optional<MethodTree> tree = this.currentClass.method(method.getKey());
+      for (final Map.Entry<Integer, List<MutationDetails>> instruction : method.getValue().entrySet()) {
+        final List<MutationDetails> siblings = instruction.getValue();
+        final Optional<Integer> opcode = tree.flatMap(t -> opcodeAt(t, instruction.getKey()));
+        if (siblings.size() > 1 && opcode.isPresent()) {
+          deferred.addAll(deferSubsumed(siblings, opcode.get()));
+        }
+      }
+    }
+
+    if (deferred.isEmpty()) {
+      return mutations;
+    }
+    return mutations.stream()
+        .filter(each -> !deferred.contains(each.getId()))
+        .collect(Collectors.toList());
+  }
+
+  private List<MutationIdentifier> deferSubsumed(List<MutationDetails> siblings, int opcode) {
+    final int size = siblings.size();
+    final boolean[][] subsumes = new boolean[size][size];
+    final boolean[] isSubsumed = new boolean[size];
+    for (int i = 0; i != size; i++) {
+      for (int j = 0; j != size; j++) {
+        if (i != j && MutatorSubsumption.subsumes(siblings.get(i).getMutator(),
+            siblings.get(j).getMutator(), opcode)) {
+          subsumes[i][j] = true;
+          isSubsumed[j] = true;
+        }
+      }
+    }
+
+    // a subsumed mutant waits for the unsubsumed mutants that reach it
+    final List<List<MutationIdentifier>> dominators = new ArrayList<>();
+    for (int i = 0; i != size; i++) {
+      dominators.add(new ArrayList<>());
+    }
+    for (int root = 0; root != size; root++) {
+      if (!isSubsumed[root]) {
+        for (final int reached : reachableFrom(root, subsumes)) {
+          dominators.get(reached).add(siblings.get(root).getId());
+        }
+      }
+    }
+
+    final List<MutationIdentifier> deferred = new ArrayList<>();
+    for (int i = 0; i != size; i++) {
+      // mutants subsuming each other in a cycle are all analysed
+      if (isSubsumed[i] && !dominators.get(i).isEmpty()) {
+        this.subsumed.defer(siblings.get(i), dominators.get(i), this.infer);
+        deferred.add(siblings.get(i).getId());
+      }
+    }
+    return deferred;
+  }
+
+  private static List<Integer> reachableFrom(int root, boolean[][] edges) {
+    final boolean[] visited = new boolean[edges.length];
+    final List<Integer> reached = new ArrayList<>();
+    final Deque<Integer> pending = new ArrayDeque<>();
+    visited[root] = true;
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      final int from = pending.pop();
+      for (int to = 0; to != edges.length; to++) {
+        if (edges[from][to] && !visited[to]) {
+          visited[to] = true;
+          reached.add(to);
+          pending.push(to);
+        }
+      }
+    }
+    return reached;
+  }
+
+  private static Optional<Integer> opcodeAt(MethodTree method, int index) {
+    if (index < 0 || index >= method.instructions().size()) {
+      return Optional.empty();
+    }
+    final AbstractInsnNode instruction = method.instruction(index);
+    return Optional.of(instruction.getOpcode());
+  }
+
+  @Override
+  public void end() {
+    this.currentClass = null;
+  }
+
+}
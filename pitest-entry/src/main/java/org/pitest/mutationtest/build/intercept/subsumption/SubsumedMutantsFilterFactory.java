@@ -0,0 +1,36 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+
+public class SubsumedMutantsFilterFactory implements MutationInterceptorFactory {
+
+  private static final FeatureParameter INFER = FeatureParameter.named("infer")
+      .withDescription("Report subsumed mutants as INFERRED_KILLED, without running them, when"
+          + " a mutant subsuming them is killed. This is unsound, as the tests need not kill"
+          + " them. Set to false to run them regardless. Defaults to true");
+
+  @Override
+  public String description() {
+    return "Subsumed mutants filter";
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    return new SubsumedMutantsFilter(params.subsumedMutants(),
+        params.getString(INFER).map(Boolean::parseBoolean).orElse(true));
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("SUBSUMPTION")
+        .withOnByDefault(false)
+        .withDescription("Runs mutants subsumed by others of the same instruction only when"
+            + " those mutants survive")
+        .withParameter(INFER);
+  }
+
+}
@@ -254,7 +254,17 @@ public enum ConfigOption {
   /**
    * Source file encoding
    */
-  OUTPUT_ENCODING("outputEncoding", Charset.defaultCharset().name());
+  OUTPUT_ENCODING("outputEncoding", Charset.defaultCharset().name()),
+
+  /**
+   * Run only one of a number of shards, given as index/count
+   */
+  SHARD("shard"),
+
+  /**
+   * Results written by each shard of a run, to be merged into a single report
+   */
+  SHARD_RESULTS("shardResults");
 
   private final String       text;
   private final Serializable defaultValue;
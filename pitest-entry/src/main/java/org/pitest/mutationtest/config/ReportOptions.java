@@ -24,11 +24,20 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.build.SamplingPlan;
+import org.pitest.mutationtest.execute.AdaptiveTimeouts;
+import org.pitest.mutationtest.execute.MutantIsolation;
+import org.pitest.mutationtest.execute.ResultBatching;
+import org.pitest.mutationtest.execute.SlotLimit;
+import org.pitest.mutationtest.execute.TelemetryFormat;
+import org.pitest.mutationtest.execute.ThreadLimits;
 import org.pitest.mutationtest.incremental.FileWriterFactory;
 import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.mutationtest.shard.Shard;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.util.Glob;
+import org.pitest.util.GlobMatcher;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Unchecked;
 import org.pitest.util.Verbosity;
@@ -41,6 +50,7 @@ import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -146,6 +156,22 @@ public class ReportOptions {
   private Path                           projectBase;
   private Charset inputEncoding;
   private Charset outputEncoding;
+  private ResultBatching                 resultBatching = ResultBatching.none();
+  private Optional<ThreadLimits>         adaptiveThreads = Optional.empty();
+  private AdaptiveTimeouts               adaptiveTimeouts = AdaptiveTimeouts.none();
+  private Optional<File>                 classDataArchiveDir = Optional.empty();
+  private Optional<TelemetryFormat>      telemetryFormat = Optional.empty();
+  private Shard                          shard = Shard.all();
+  private Collection<File>               shardResults = Collections.emptyList();
+  private boolean                        useSchemata = false;
+  private Optional<SamplingPlan>         sampling = Optional.empty();
+  private Optional<Duration>             timeBudget = Optional.empty();
+  private Optional<Integer>              listenerQueue = Optional.empty();
+  private Optional<WarmCaches>           warmCaches = Optional.empty();
+  private int                            coverageThreads = 1;
+  private MutantIsolation                mutantIsolation = MutantIsolation.none();
+  private Optional<SlotLimit>            minionSlots = Optional.empty();
+  private Optional<Integer>              staticCoverage = Optional.empty();
 
 
   public Verbosity getVerbosity() {
@@ -246,8 +272,10 @@ public class ReportOptions {
   }
 
   private ClassPath createClassPathFromElements() {
-    return new ClassPath(
-        FCollection.map(this.classPathElements, File::new));
+    final List<File> files = FCollection.map(this.classPathElements, File::new);
+    return this.warmCaches
+        .map(caches -> caches.classPath().classPath(files))
+        .orElseGet(() -> new ClassPath(files));
   }
 
   public Collection<String> getTargetClasses() {
@@ -256,8 +284,8 @@ public class ReportOptions {
 
 
   public Predicate<String> getTargetClassesFilter() {
-    final Predicate<String> filter = Prelude.and(or(Glob.toGlobPredicates(this.targetClasses)),
-        not(isBlackListed(Glob.toGlobPredicates(ReportOptions.this.excludedClasses))));
+    final Predicate<String> filter = Prelude.and(GlobMatcher.of(this.targetClasses),
+        not(GlobMatcher.of(this.excludedClasses)));
     checkNotTryingToMutateSelf(filter);
     return filter;
   }
@@ -309,7 +337,7 @@ public class ReportOptions {
     if ((this.targetTests == null) || this.targetTests.isEmpty()) {
       // If target tests is not explicitly set we assume that the
       // target classes predicate covers both classes and tests
-      return Prelude.and(or(Glob.toGlobPredicates(this.targetClasses)),
+      return Prelude.and(GlobMatcher.of(this.targetClasses),
           not(isBlackListed(ReportOptions.this.excludedTestClasses)));
     } else {
       return Prelude.and(or(this.targetTests),
@@ -646,6 +674,134 @@ public class ReportOptions {
     this.outputEncoding = outputEncoding;
   }
 
+  public ResultBatching getResultBatching() {
+    return this.resultBatching;
+  }
+
+  public void setResultBatching(ResultBatching resultBatching) {
+    this.resultBatching = resultBatching;
+  }
+
+  public Optional<ThreadLimits> getAdaptiveThreads() {
+    return this.adaptiveThreads;
+  }
+
+  public void setAdaptiveThreads(Optional<ThreadLimits> adaptiveThreads) {
+    this.adaptiveThreads = adaptiveThreads;
+  }
+
+  public AdaptiveTimeouts getAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
+  public void setAdaptiveTimeouts(AdaptiveTimeouts adaptiveTimeouts) {
+    this.adaptiveTimeouts = adaptiveTimeouts;
+  }
+
+  public Optional<File> getClassDataArchiveDir() {
+    return this.classDataArchiveDir;
+  }
+
+  public void setClassDataArchiveDir(Optional<File> classDataArchiveDir) {
+    this.classDataArchiveDir = classDataArchiveDir;
+  }
+
+  public Optional<TelemetryFormat> getTelemetryFormat() {
+    return this.telemetryFormat;
+  }
+
+  public void setTelemetryFormat(Optional<TelemetryFormat> telemetryFormat) {
+    this.telemetryFormat = telemetryFormat;
+  }
+
+  public Shard getShard() {
+    return this.shard;
+  }
+
+  public void setShard(Shard shard) {
+    this.shard = shard;
+  }
+
+  public Collection<File> getShardResults() {
+    return this.shardResults;
+  }
+
+  public void setShardResults(Collection<File> shardResults) {
+    this.shardResults = shardResults;
+  }
+
+  public boolean useSchemata() {
+    return this.useSchemata;
+  }
+
+  public void setUseSchemata(boolean useSchemata) {
+    this.useSchemata = useSchemata;
+  }
+
+  public Optional<SamplingPlan> getSampling() {
+    return this.sampling;
+  }
+
+  public void setSampling(Optional<SamplingPlan> sampling) {
+    this.sampling = sampling;
+  }
+
+  public Optional<Duration> getTimeBudget() {
+    return this.timeBudget;
+  }
+
+  public void setTimeBudget(Optional<Duration> timeBudget) {
+    this.timeBudget = timeBudget;
+  }
+
+  public Optional<Integer> getListenerQueue() {
+    return this.listenerQueue;
+  }
+
+  public void setListenerQueue(Optional<Integer> listenerQueue) {
+    this.listenerQueue = listenerQueue;
+  }
+
+  public Optional<WarmCaches> getWarmCaches() {
+    return this.warmCaches;
+  }
+
+  public void setWarmCaches(Optional<WarmCaches> warmCaches) {
+    this.warmCaches = warmCaches;
+  }
+
+  public int getCoverageThreads() {
+    return this.coverageThreads;
+  }
+
+  public void setCoverageThreads(int coverageThreads) {
+    this.coverageThreads = coverageThreads;
+  }
+
+  public MutantIsolation getMutantIsolation() {
+    return this.mutantIsolation;
+  }
+
+  public void setMutantIsolation(MutantIsolation mutantIsolation) {
+    this.mutantIsolation = mutantIsolation;
+  }
+
+  public Optional<SlotLimit> getMinionSlots() {
+    return this.minionSlots;
+  }
+
+  public void setMinionSlots(Optional<SlotLimit> minionSlots) {
+    this.minionSlots = minionSlots;
+  }
+
+  public Optional<Integer> getStaticCoverage() {
+    return this.staticCoverage;
+  }
+
+  public void setStaticCoverage(Optional<Integer> staticCoverage) {
+    this.staticCoverage = staticCoverage;
+  }
+
 
   @Override
   public String toString() {
@@ -694,6 +850,21 @@ public class ReportOptions {
             .add("projectBase=" + projectBase)
             .add("inputEncoding=" + inputEncoding)
             .add("outputEncoding=" + outputEncoding)
+            .add("resultBatching=" + resultBatching)
+            .add("adaptiveThreads=" + adaptiveThreads)
+            .add("adaptiveTimeouts=" + adaptiveTimeouts)
+            .add("classDataArchiveDir=" + classDataArchiveDir)
+            .add("telemetryFormat=" + telemetryFormat)
+            .add("shard=" + shard)
+            .add("shardResults=" + shardResults)
+            .add("useSchemata=" + useSchemata)
+            .add("sampling=" + sampling)
+            .add("timeBudget=" + timeBudget)
+            .add("listenerQueue=" + listenerQueue)
+            .add("coverageThreads=" + coverageThreads)
+            .add("mutantIsolation=" + mutantIsolation)
+            .add("minionSlots=" + minionSlots)
+            .add("staticCoverage=" + staticCoverage)
             .toString();
   }
 
@@ -0,0 +1,202 @@
+package org.pitest.mutationtest.config;
+
+import static org.pitest.mutationtest.config.ConfigOption.ARG_LINE;
+import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
+import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
+import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
+import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
+import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
+import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
+import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_METHOD;
+import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_RUNNERS;
+import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_TEST_CLASSES;
+import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
+import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
+import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
+import static org.pitest.mutationtest.config.ConfigOption.FULL_MUTATION_MATRIX;
+import static org.pitest.mutationtest.config.ConfigOption.HISTORY_INPUT_LOCATION;
+import static org.pitest.mutationtest.config.ConfigOption.HISTORY_OUTPUT_LOCATION;
+import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
+import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_TEST_METHODS;
+import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPATH;
+import static org.pitest.mutationtest.config.ConfigOption.INPUT_ENCODING;
+import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
+import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
+import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
+import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
+import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
+import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_ENCODING;
+import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
+import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
+import static org.pitest.mutationtest.config.ConfigOption.PROJECT_BASE;
+import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.SHARD;
+import static org.pitest.mutationtest.config.ConfigOption.SHARD_RESULTS;
+import static org.pitest.mutationtest.config.ConfigOption.SKIP_FAILING_TESTS;
+import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
+import static org.pitest.mutationtest.config.ConfigOption.TEST_FILTER;
+import static org.pitest.mutationtest.config.ConfigOption.TEST_STRENGTH_THRESHOLD;
+import static org.pitest.mutationtest.config.ConfigOption.THREADS;
+import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_CONST;
+import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_FACTOR;
+import static org.pitest.mutationtest.config.ConfigOption.TIME_STAMPED_REPORTS;
+import static org.pitest.mutationtest.config.ConfigOption.USE_CLASSPATH_JAR;
+import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
+import static org.pitest.mutationtest.config.ConfigOption.VERBOSITY;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.pitest.util.Glob;
+import org.pitest.util.PitError;
+
+/**
+ * Gives the command line arguments that configure a run as the given options
+ * do, so that a run configured by other means can be handed to a PitDaemon.
+ *
+ * The class path is passed in full, in place of that of the process parsing
+ * the arguments. Options that cannot be expressed as arguments, such as test
+ * filters that are not globs or values containing the separators used by the
+ * command line, cause a PitError.
+ */
+public final class ReportOptionsArguments {
+
+  private ReportOptionsArguments() {
+  }
+
+  public static List<String> toArguments(ReportOptions data) {
+    final List<String> args = new ArrayList<>();
+    value(args, REPORT_DIR, data.getReportDir());
+    values(args, TARGET_CLASSES, data.getTargetClasses());
+    values(args, TEST_FILTER, globs(TEST_FILTER, data.getTargetTests()));
+    values(args, SOURCE_DIR, paths(data.getSourcePaths()));
+    values(args, MUTATIONS, data.getMutators());
+    values(args, FEATURES, data.getFeatures());
+    value(args, ARG_LINE, data.getArgLine());
+    if (!data.getJvmArgs().isEmpty()) {
+      value(args, CHILD_JVM, jvmArgs(data.getJvmArgs()));
+    }
+    value(args, FULL_MUTATION_MATRIX, data.isFullMutationMatrix());
+    value(args, USE_INLINED_CODE_DETECTION, data.isDetectInlinedCode());
+    value(args, INCLUDE_LAUNCH_CLASSPATH, false);
+    value(args, USE_CLASSPATH_JAR, data.useClasspathJar());
+    value(args, TIME_STAMPED_REPORTS, data.shouldCreateTimeStampedReports());
+    value(args, THREADS, data.getNumberOfThreads());
+    value(args, TIMEOUT_FACTOR, data.getTimeoutFactor());
+    value(args, TIMEOUT_CONST, data.getTimeoutConstant());
+    values(args, AVOID_CALLS, data.getLoggingClasses());
+    values(args, EXCLUDED_METHOD, data.getExcludedMethods());
+    values(args, EXCLUDED_CLASSES, data.getExcludedClasses());
+    values(args, EXCLUDED_TEST_CLASSES, globs(EXCLUDED_TEST_CLASSES, data.getExcludedTestClasses()));
+    value(args, VERBOSITY, data.getVerbosity().name());
+    values(args, OUTPUT_FORMATS, data.getOutputFormats());
+    value(args, FAIL_WHEN_NOT_MUTATIONS, data.shouldFailWhenNoMutations());
+    value(args, SKIP_FAILING_TESTS, data.skipFailingTests());
+    values(args, CODE_PATHS, data.getCodePaths());
+    value(args, MUTATION_UNIT_SIZE, data.getMutationUnitSize());
+    value(args, HISTORY_INPUT_LOCATION, data.getHistoryInputLocation());
+    value(args, HISTORY_OUTPUT_LOCATION, data.getHistoryOutputLocation());
+    value(args, MUTATION_THRESHOLD, data.getMutationThreshold());
+    value(args, TEST_STRENGTH_THRESHOLD, data.getTestStrengthThreshold());
+    value(args, MAX_SURVIVING, data.getMaximumAllowedSurvivors());
+    value(args, COVERAGE_THRESHOLD, data.getCoverageThreshold());
+    value(args, MUTATION_ENGINE, data.getMutationEngine());
+    if (data.getFreeFormProperties() != null) {
+      for (final Map.Entry<Object, Object> each : data.getFreeFormProperties().entrySet()) {
+        value(args, PLUGIN_CONFIGURATION, each.getKey() + "=" + each.getValue());
+      }
+    }
+    value(args, EXPORT_LINE_COVERAGE, data.shouldExportLineCoverage());
+    values(args, CLASSPATH, data.getClassPathElements());
+    if (data.getGroupConfig() != null) {
+      values(args, EXCLUDED_GROUPS, data.getGroupConfig().getExcludedGroups());
+      values(args, INCLUDED_GROUPS, data.getGroupConfig().getIncludedGroups());
+    }
+    values(args, EXCLUDED_RUNNERS, data.getExcludedRunners());
+    values(args, INCLUDED_TEST_METHODS, data.getIncludedTestMethods());
+    value(args, JVM_PATH, data.getJavaExecutable());
+    value(args, INPUT_ENCODING, name(data.getInputEncoding()));
+    value(args, OUTPUT_ENCODING, name(data.getOutputEncoding()));
+    value(args, PROJECT_BASE, data.getProjectBase());
+    if (data.getShard().isPartial()) {
+      value(args, SHARD, data.getShard().index() + "/" + data.getShard().count());
+    }
+    values(args, SHARD_RESULTS, data.getShardResults().stream()
+        .map(File::getPath)
+        .collect(Collectors.toList()));
+    return args;
+  }
+
+  private static void value(List<String> args, ConfigOption option, Object value) {
+    if (value != null) {
+      args.add("--" + option.getParamName() + "=" + value);
+    }
+  }
+
+  private static void values(List<String> args, ConfigOption option,
+      Collection<String> values) {
+    if (values == null || values.isEmpty()) {
+      return;
+    }
+    for (final String each : values) {
+      if (each.contains(",")) {
+        throw new PitError("Cannot pass " + option.getParamName() + " value " + each
+            + " as an argument, as it contains a comma");
+      }
+    }
+    value(args, option, String.join(",", values));
+  }
+
+  // globs are passed as the regular expressions they were turned into
+  private static List<String> globs(ConfigOption option,
+      Collection<Predicate<String>> predicates) {
+    final List<String> regexes = new ArrayList<>();
+    if (predicates == null) {
+      return regexes;
+    }
+    for (final Predicate<String> each : predicates) {
+      if (!(each instanceof Glob) || each.toString().contains("+")) {
+        throw new PitError("Cannot pass " + option.getParamName() + " filter " + each
+            + " as an argument");
+      }
+      regexes.add("~" + each);
+    }
+    return regexes;
+  }
+
+  private static List<String> paths(Collection<Path> paths) {
+    if (paths == null) {
+      return Collections.emptyList();
+    }
+    return paths.stream()
+        .map(Path::toString)
+        .collect(Collectors.toList());
+  }
+
+  private static String name(Charset charset) {
+    return charset == null ? null : charset.name();
+  }
+
+  private static String jvmArgs(List<String> jvmArgs) {
+    final List<String> escaped = new ArrayList<>();
+    for (final String each : jvmArgs) {
+      if (each.indexOf('{') != -1 || each.indexOf('}') != -1) {
+        throw new PitError("Cannot pass JVM argument " + each + " as an argument");
+      }
+      escaped.add(each.contains(",") ? "{" + each + "}" : each);
+    }
+    return String.join(",", escaped);
+  }
+
+}
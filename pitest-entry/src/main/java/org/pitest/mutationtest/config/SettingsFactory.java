@@ -1,5 +1,7 @@
 package org.pitest.mutationtest.config;
 
+import org.pitest.classinfo.Repository;
+import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.CodeSourceFactory;
 import org.pitest.classpath.DefaultCodeSource;
@@ -107,7 +109,10 @@ public class SettingsFactory {
   public CodeSource createCodeSource(ProjectClassPaths classPath) {
     List<CodeSourceFactory> sources = this.plugins.findCodeSources();
     if (sources.isEmpty()) {
-      return new DefaultCodeSource(classPath);
+      return this.options.getWarmCaches()
+          .map(caches -> new DefaultCodeSource(classPath, new Repository(
+              new ClassPathByteArraySource(classPath.getClassPath()), caches.classInfo())))
+          .orElseGet(() -> new DefaultCodeSource(classPath));
     }
     if (sources.size() > 1) {
        throw new RuntimeException("More than CodeSource found on classpath.");
@@ -163,7 +168,8 @@ public class SettingsFactory {
   public CoverageOptions createCoverageOptions() {
     return new CoverageOptions(
         this.options.getTargetClasses(), this.options.getExcludedClasses(),
-        this.options.createMinionSettings(), this.options.getVerbosity());
+        this.options.createMinionSettings(), this.options.getVerbosity(),
+        this.options.getCoverageThreads());
   }
 
   public CompoundInterceptorFactory getInterceptor() {
@@ -0,0 +1,46 @@
+package org.pitest.mutationtest.config;
+
+import org.pitest.classinfo.ClassInfoCache;
+import org.pitest.classpath.ClassPathCache;
+import org.pitest.coverage.execute.CoverageCache;
+
+/**
+ * What one long lived process keeps between the analyses it runs, so that
+ * later analyses of the same project start warm.
+ *
+ * The archives on the class path, what is read from the bytecode of each
+ * class, and the tests found along with the coverage they gave are kept
+ * while unchanged. Interceptors are created afresh for each analysis, as
+ * their configuration may differ, but the plugins providing them are only
+ * discovered once by the process.
+ */
+public class WarmCaches {
+
+  private final ClassPathCache classPath;
+  private final ClassInfoCache classInfo;
+  private final CoverageCache  coverage;
+
+  public WarmCaches() {
+    this(new ClassPathCache(), new ClassInfoCache(), new CoverageCache());
+  }
+
+  public WarmCaches(ClassPathCache classPath, ClassInfoCache classInfo,
+      CoverageCache coverage) {
+    this.classPath = classPath;
+    this.classInfo = classInfo;
+    this.coverage = coverage;
+  }
+
+  public ClassPathCache classPath() {
+    return this.classPath;
+  }
+
+  public ClassInfoCache classInfo() {
+    return this.classInfo;
+  }
+
+  public CoverageCache coverage() {
+    return this.coverage;
+  }
+
+}
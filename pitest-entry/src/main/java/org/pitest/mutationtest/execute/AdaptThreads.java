@@ -0,0 +1,58 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Optional;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Varies the number of concurrently running minions according to the free
+ * memory of the machine and time spent waiting for minion slots, instead of
+ * using a fixed thread count.
+ *
+ * Analysis starts at the upper limit, which unless set defaults to the
+ * configured number of threads or of cores if greater.
+ */
+public class AdaptThreads implements ConfigurationUpdater {
+
+  static final int DEFAULT_MIN = 1;
+  static final int DEFAULT_INTERVAL = 2000;
+
+  private static final FeatureParameter MIN = FeatureParameter.named("min")
+      .withDescription("Fewest minions to run at once. Defaults to " + DEFAULT_MIN);
+
+  private static final FeatureParameter MAX = FeatureParameter.named("max")
+      .withDescription("Most minions to run at once. Defaults to the number of threads, or of cores if greater");
+
+  private static final FeatureParameter INTERVAL = FeatureParameter.named("interval")
+      .withDescription("Milliseconds between load samples. Defaults to " + DEFAULT_INTERVAL);
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final int min = conf.getInteger(MIN.name()).orElse(DEFAULT_MIN);
+    final int max = conf.getInteger(MAX.name())
+        .orElse(Math.max(min, Math.max(toModify.getNumberOfThreads(),
+            Runtime.getRuntime().availableProcessors())));
+    final int interval = conf.getInteger(INTERVAL.name()).orElse(DEFAULT_INTERVAL);
+    toModify.setAdaptiveThreads(Optional.of(new ThreadLimits(min, max, interval)));
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("adaptive_threads")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(MIN)
+        .withParameter(MAX)
+        .withParameter(INTERVAL);
+  }
+
+  @Override
+  public String description() {
+    return "Adapt number of concurrent minions to system load";
+  }
+
+}
@@ -0,0 +1,80 @@
+package org.pitest.mutationtest.execute;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Bases timeouts on a percentile of the durations observed for each test, and
+ * optionally tries to recover from timeouts without restarting the minion.
+ *
+ * The configured timeout factor and constant are applied to the percentile.
+ *
+ * Recovery is off unless requested. A test thread that ignores interruption
+ * is abandoned while still running, and keeps executing the mutated code and
+ * changing static state seen by the tests of later mutants, which may then be
+ * reported with the wrong status.
+ */
+public class AdaptTimeouts implements ConfigurationUpdater {
+
+  static final int DEFAULT_PERCENTILE = 99;
+  static final int DEFAULT_SAMPLES = 3;
+  static final int DEFAULT_ABANDON = 1;
+  static final int DEFAULT_GRACE = 200;
+
+  private static final FeatureParameter PERCENTILE = FeatureParameter.named("percentile")
+      .withDescription("Percentile of observed test durations to base timeouts on. Defaults to "
+          + DEFAULT_PERCENTILE);
+
+  private static final FeatureParameter SAMPLES = FeatureParameter.named("samples")
+      .withDescription("Durations to observe for a test before using them. Defaults to "
+          + DEFAULT_SAMPLES);
+
+  private static final FeatureParameter RECOVER = FeatureParameter.named("recover")
+      .withDescription("Interrupt timed out tests and continue in the same minion. Abandoned tests keep "
+          + "running mutated code and may change static state seen by later tests. Defaults to false");
+
+  private static final FeatureParameter ABANDON = FeatureParameter.named("abandon")
+      .withDescription("Maximum running test threads to abandon before restarting the minion. Defaults to "
+          + DEFAULT_ABANDON);
+
+  private static final FeatureParameter GRACE = FeatureParameter.named("grace")
+      .withDescription("Milliseconds to wait for an interrupted test to stop. Defaults to "
+          + DEFAULT_GRACE);
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final AdaptiveTimeouts learning = AdaptiveTimeouts.learning(
+        conf.getInteger(PERCENTILE.name()).orElse(DEFAULT_PERCENTILE),
+        conf.getInteger(SAMPLES.name()).orElse(DEFAULT_SAMPLES));
+
+    final boolean recover = conf.getString(RECOVER.name()).map(Boolean::parseBoolean).orElse(false);
+    if (recover) {
+      toModify.setAdaptiveTimeouts(learning.withRecovery(
+          conf.getInteger(ABANDON.name()).orElse(DEFAULT_ABANDON),
+          conf.getInteger(GRACE.name()).orElse(DEFAULT_GRACE)));
+    } else {
+      toModify.setAdaptiveTimeouts(learning);
+    }
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("adaptive_timeouts")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(PERCENTILE)
+        .withParameter(SAMPLES)
+        .withParameter(RECOVER)
+        .withParameter(ABANDON)
+        .withParameter(GRACE);
+  }
+
+  @Override
+  public String description() {
+    return "Learn timeouts from observed test durations";
+  }
+
+}
@@ -0,0 +1,144 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+
+/**
+ * Raises and lowers the number of minions allowed to run at once, based on
+ * the free memory of the machine and time spent waiting for minion slots.
+ *
+ * Analysis starts at the ceiling. A busy cpu is the aim of running minions
+ * concurrently, so cpu load is only logged. The limit is lowered when memory
+ * runs short, or when minions waited for a machine wide slot since the last
+ * sample, as further minions would only queue behind the slots held by other
+ * processes. It is raised again once units are waiting to be admitted and
+ * neither holds.
+ *
+ * The memory used by each minion is estimated from the drop in free memory
+ * since analysis started divided by the number of running minions, as the
+ * resident size of individual child processes cannot be read portably.
+ * At least one minion's worth, or 5% of physical memory, is kept free.
+ */
+class AdaptiveConcurrency {
+
+  private static final Logger LOG = Log.getLogger();
+
+  static final long   MIN_MINION_ESTIMATE = 256L * 1024 * 1024;
+
+  private final ThreadLimits     limits;
+  private final SystemLoad       load;
+  private final LongSupplier     slotWaitNanos;
+  private final ConcurrencyLimit limit;
+  private final AtomicInteger    waiting = new AtomicInteger();
+
+  private long baselineFree = -1;
+  private long perMinion    = MIN_MINION_ESTIMATE;
+  private long lastSlotWait;
+
+  AdaptiveConcurrency(ThreadLimits limits, SystemLoad load) {
+    this(limits, load, () -> 0);
+  }
+
+  AdaptiveConcurrency(ThreadLimits limits, SystemLoad load, LongSupplier slotWaitNanos) {
+    this.limits = limits;
+    this.load = load;
+    this.slotWaitNanos = slotWaitNanos;
+    this.limit = new ConcurrencyLimit(limits.ceiling());
+  }
+
+  void start() {
+    this.baselineFree = this.load.freeMemory();
+    this.lastSlotWait = this.slotWaitNanos.getAsLong();
+    LOG.info("Adapting minion count between " + this.limits.floor() + " and "
+        + this.limits.ceiling() + ", starting at " + this.limit.limit());
+  }
+
+  void acquire() throws InterruptedException {
+    this.waiting.incrementAndGet();
+    try {
+      this.limit.acquire();
+    } finally {
+      this.waiting.decrementAndGet();
+    }
+  }
+
+  void release() {
+    this.limit.release();
+  }
+
+  int limit() {
+    return this.limit.limit();
+  }
+
+  int peak() {
+    return this.limit.peak();
+  }
+
+  /**
+   * Samples system load and moves the limit by at most one minion.
+   */
+  synchronized void adjust() {
+    final int current = this.limit.limit();
+    final int running = this.limit.inUse();
+    final long free = this.load.freeMemory();
+    final double cpu = this.load.cpuLoad();
+    final long slotWait = this.slotWaitNanos.getAsLong();
+    final long waitedForSlots = slotWait - this.lastSlotWait;
+    this.lastSlotWait = slotWait;
+
+    updateEstimate(free, running);
+
+    final boolean memoryKnown = free >= 0;
+    final long reserve = Math.max(this.perMinion, this.load.totalMemory() / 20);
+
+    final int next;
+    final String reason;
+    if (memoryKnown && free < reserve) {
+      next = this.limits.clamp(current - 1);
+      reason = "free memory " + mb(free) + "mb below reserve of " + mb(reserve) + "mb";
+    } else if (waitedForSlots > 0) {
+      next = this.limits.clamp(current - 1);
+      reason = "waited " + TimeUnit.NANOSECONDS.toMillis(waitedForSlots)
+          + "ms for minion slots";
+    } else if (this.waiting.get() > 0 && running >= current
+        && (!memoryKnown || free > reserve + this.perMinion)) {
+      next = this.limits.clamp(current + 1);
+      reason = "free memory " + (memoryKnown ? mb(free) + "mb" : "unknown");
+    } else {
+      return;
+    }
+
+    if (next != current) {
+      LOG.info("Adjusting concurrent minions from " + current + " to " + next
+          + " (" + reason + ", cpu load " + (cpu >= 0 ? percent(cpu) + "%" : "unknown")
+          + ", estimated " + mb(this.perMinion) + "mb per minion)");
+      this.limit.setLimit(next);
+    }
+  }
+
+  void finish() {
+    LOG.info("Peak concurrent minions " + this.limit.peak() + " (limit "
+        + this.limits.floor() + " to " + this.limits.ceiling() + ")");
+  }
+
+  private void updateEstimate(long free, int running) {
+    if (running == 0 || free < 0 || this.baselineFree < 0) {
+      return;
+    }
+    final long used = (this.baselineFree - free) / running;
+    this.perMinion = Math.max(MIN_MINION_ESTIMATE, used);
+  }
+
+  private static long mb(long bytes) {
+    return bytes / (1024 * 1024);
+  }
+
+  private static long percent(double load) {
+    return Math.round(load * 100);
+  }
+
+}
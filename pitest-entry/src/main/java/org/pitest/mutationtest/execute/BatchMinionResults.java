@@ -0,0 +1,49 @@
+package org.pitest.mutationtest.execute;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Configures minions to send results in batches rather than flushing
+ * the socket after every mutant.
+ *
+ * Disabled by default, as results for a batch will be lost (and the
+ * mutants rerun) if a minion dies without warning.
+ */
+public class BatchMinionResults implements ConfigurationUpdater {
+
+  static final int DEFAULT_SIZE = 50;
+  static final int DEFAULT_INTERVAL = 500;
+
+  private static final FeatureParameter SIZE = FeatureParameter.named("size")
+      .withDescription("Number of results to send in each batch. Defaults to " + DEFAULT_SIZE);
+
+  private static final FeatureParameter INTERVAL = FeatureParameter.named("interval")
+      .withDescription("Maximum milliseconds to hold results before sending. Defaults to "
+          + DEFAULT_INTERVAL);
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final int size = conf.getInteger(SIZE.name()).orElse(DEFAULT_SIZE);
+    final int interval = conf.getInteger(INTERVAL.name()).orElse(DEFAULT_INTERVAL);
+    toModify.setResultBatching(ResultBatching.batchesOf(size, interval));
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("batch_results")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(SIZE)
+        .withParameter(INTERVAL);
+  }
+
+  @Override
+  public String description() {
+    return "Send results from minions in batches";
+  }
+
+}
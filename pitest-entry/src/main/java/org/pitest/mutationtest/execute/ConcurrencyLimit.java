@@ -0,0 +1,47 @@
+package org.pitest.mutationtest.execute;
+
+/**
+ * Semaphore whose number of permits can be changed while in use. Lowering the
+ * limit does not interrupt work already admitted, it only delays further admissions.
+ */
+class ConcurrencyLimit {
+
+  private int limit;
+  private int inUse;
+  private int peak;
+
+  ConcurrencyLimit(int limit) {
+    this.limit = limit;
+  }
+
+  synchronized void acquire() throws InterruptedException {
+    while (this.inUse >= this.limit) {
+      wait();
+    }
+    this.inUse++;
+    this.peak = Math.max(this.peak, this.inUse);
+  }
+
+  synchronized void release() {
+    this.inUse--;
+    notifyAll();
+  }
+
+  synchronized void setLimit(int limit) {
+    this.limit = limit;
+    notifyAll();
+  }
+
+  synchronized int limit() {
+    return this.limit;
+  }
+
+  synchronized int inUse() {
+    return this.inUse;
+  }
+
+  synchronized int peak() {
+    return this.peak;
+  }
+
+}
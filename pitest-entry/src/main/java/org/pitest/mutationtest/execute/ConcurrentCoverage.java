@@ -0,0 +1,45 @@
+package org.pitest.mutationtest.execute;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Runs test classes concurrently within each coverage minion. Hits are
+ * recorded separately for each thread running a test, so only suites whose
+ * tests can safely run in parallel, and whose covered code runs on the test's
+ * own thread, should enable this. Code a test runs on other threads is not
+ * included in its coverage.
+ */
+public class ConcurrentCoverage implements ConfigurationUpdater {
+
+  private static final FeatureParameter THREADS = FeatureParameter.named("threads")
+      .withDescription("Number of test classes run at once. Defaults to the number of processors");
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final int threads = conf.getInteger(THREADS.name())
+        .orElse(Runtime.getRuntime().availableProcessors());
+    if (threads < 1) {
+      throw new IllegalArgumentException("Coverage must use at least one thread but was "
+          + threads);
+    }
+    toModify.setCoverageThreads(threads);
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("concurrent_coverage")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(THREADS);
+  }
+
+  @Override
+  public String description() {
+    return "Run test classes concurrently when gathering coverage";
+  }
+
+}
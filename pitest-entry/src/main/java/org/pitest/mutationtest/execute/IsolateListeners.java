@@ -0,0 +1,47 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Optional;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Passes results to each listener on a thread of its own, so that slow report
+ * formats do not delay the handling of results from further units. The time
+ * spent by each listener is reported at the end of the run.
+ */
+public class IsolateListeners implements ConfigurationUpdater {
+
+  static final int DEFAULT_QUEUE = 100;
+
+  private static final FeatureParameter QUEUE = FeatureParameter.named("queue")
+      .withDescription("Number of results held for each listener before the run waits for it. Defaults to "
+          + DEFAULT_QUEUE);
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final int queue = conf.getInteger(QUEUE.name()).orElse(DEFAULT_QUEUE);
+    if (queue < 1) {
+      throw new IllegalArgumentException("Listener queue must hold at least one result but was "
+          + queue);
+    }
+    toModify.setListenerQueue(Optional.of(queue));
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("async_listeners")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(QUEUE);
+  }
+
+  @Override
+  public String description() {
+    return "Run each result listener on its own thread";
+  }
+
+}
@@ -0,0 +1,59 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Runs the mutants of each unit concurrently within its minion. Each mutant
+ * is defined in a classloader of its own, together with the classes that
+ * depend on the mutated class, instead of being hotswapped into the
+ * application loader.
+ *
+ * Before the mutants of a class are run, their tests are run once against the
+ * unmutated class loaded in the same way. If any fail, the mutants are
+ * hotswapped one at a time as before. Test classes that pass in isolation but
+ * still share state, such as static fields of shared classes or system
+ * properties, can be listed so that their mutants are always hotswapped.
+ */
+public class IsolateMutants implements ConfigurationUpdater {
+
+  private static final FeatureParameter THREADS = FeatureParameter.named("threads")
+      .withDescription("Number of mutants run at once in each minion. Defaults to the number of processors");
+
+  private static final FeatureParameter SERIAL = FeatureParameter.named("serial")
+      .withDescription("Globs matching test classes whose mutants must be hotswapped and run one at a time");
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final int threads = conf.getInteger(THREADS.name())
+        .orElse(Runtime.getRuntime().availableProcessors());
+    if (threads < 1) {
+      throw new IllegalArgumentException("Isolated mutants must use at least one thread but was "
+          + threads);
+    }
+    final List<String> serial = conf.getList(SERIAL.name());
+    toModify.setMutantIsolation(MutantIsolation.concurrent(threads,
+        serial != null ? serial : Collections.emptyList()));
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("isolate_mutants")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(THREADS)
+        .withParameter(SERIAL);
+  }
+
+  @Override
+  public String description() {
+    return "Run mutants concurrently in separate classloaders";
+  }
+
+}
@@ -0,0 +1,149 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Passes results to a listener on a thread of its own, so that a slow listener
+ * does not hold up the handling of results by others.
+ *
+ * Results are queued and handled in the order they were received. When the
+ * queue is full, callers wait for space, so a listener that cannot keep up
+ * slows the run rather than exhausting memory. Any failure of the listener is
+ * rethrown to the caller on its next call.
+ */
+public class IsolatedListener implements MutationResultListener {
+
+  private static final ClassMutationResults END = new ClassMutationResults(
+      Collections.emptyList());
+
+  private final MutationResultListener             child;
+  private final String                             name;
+  private final BlockingQueue<ClassMutationResults> queue;
+  private final RunTelemetry                       telemetry;
+
+  private volatile Throwable failure;
+  private volatile long      busyNanos;
+  private long               blockedNanos;
+  private long               handled;
+  private Thread             worker;
+
+  public IsolatedListener(MutationResultListener child, int queueSize,
+      RunTelemetry telemetry) {
+    this.child = child;
+    this.name = child.getClass().getName();
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.telemetry = telemetry;
+  }
+
+  @Override
+  public void runStart() {
+    this.child.runStart();
+    this.worker = new Thread(this::drain, "pit-listener-" + this.child.getClass().getSimpleName());
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  @Override
+  public void handleMutationResult(ClassMutationResults results) {
+    rethrowFailure();
+    final long t0 = System.nanoTime();
+    put(results);
+    this.blockedNanos += System.nanoTime() - t0;
+    this.handled++;
+  }
+
+  /**
+   * Waits for every queued result to be handled, then ends the run for the
+   * listener on the calling thread.
+   */
+  @Override
+  public void runEnd() {
+    put(END);
+    try {
+      this.worker.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw Unchecked.translateCheckedException(e);
+    }
+    rethrowFailure();
+    this.telemetry.time(RunTelemetry.Phase.LISTENER, this.name + ".runEnd", () -> {
+      final long t0 = System.nanoTime();
+      this.child.runEnd();
+      this.busyNanos += System.nanoTime() - t0;
+    });
+  }
+
+  public String name() {
+    return this.name;
+  }
+
+  /**
+   * Time spent by the listener handling results and ending the run.
+   */
+  public long busyNanos() {
+    return this.busyNanos;
+  }
+
+  /**
+   * Time callers spent waiting for space in the queue.
+   */
+  public long blockedNanos() {
+    return this.blockedNanos;
+  }
+
+  public long handled() {
+    return this.handled;
+  }
+
+  private void put(ClassMutationResults results) {
+    try {
+      while (!this.queue.offer(results, 100, TimeUnit.MILLISECONDS)) {
+        // a failed listener will no longer take results
+        rethrowFailure();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void drain() {
+    try {
+      ClassMutationResults next = this.queue.take();
+      while (next != END) {
+        final ClassMutationResults results = next;
+        final long t0 = System.nanoTime();
+        this.telemetry.time(RunTelemetry.Phase.LISTENER, this.name,
+            () -> this.child.handleMutationResult(results));
+        this.busyNanos += System.nanoTime() - t0;
+        next = this.queue.take();
+      }
+    } catch (final InterruptedException e) {
+      this.failure = e;
+    } catch (final RuntimeException | Error e) {
+      this.failure = e;
+    }
+  }
+
+  private void rethrowFailure() {
+    final Throwable t = this.failure;
+    if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    }
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+    if (t != null) {
+      throw new PitError("Listener " + this.name + " failed", t);
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.config.CompoundTestListener;
+
+public final class IsolatedListeners {
+
+  private IsolatedListeners() {
+  }
+
+  /**
+   * Wraps each listener so that it runs on its own thread. Compound listeners
+   * are split into their children, so that each report format is isolated
+   * from the others.
+   */
+  public static List<MutationResultListener> isolate(
+      Collection<MutationResultListener> listeners, int queueSize, RunTelemetry telemetry) {
+    final List<MutationResultListener> isolated = new ArrayList<>();
+    for (final MutationResultListener each : expand(listeners)) {
+      isolated.add(new IsolatedListener(each, queueSize, telemetry));
+    }
+    return isolated;
+  }
+
+  /**
+   * Reports the time spent by each isolated listener, and the time the run
+   * spent waiting for it.
+   */
+  public static void report(Collection<MutationResultListener> listeners, PrintStream ps) {
+    for (final MutationResultListener each : listeners) {
+      if (each instanceof IsolatedListener) {
+        final IsolatedListener listener = (IsolatedListener) each;
+        ps.println("> " + listener.name() + " : " + millis(listener.busyNanos())
+            + " ms busy, " + millis(listener.blockedNanos()) + " ms blocking the run, "
+            + listener.handled() + " results");
+      }
+    }
+  }
+
+  private static List<MutationResultListener> expand(Iterable<MutationResultListener> listeners) {
+    final List<MutationResultListener> expanded = new ArrayList<>();
+    for (final MutationResultListener each : listeners) {
+      if (each instanceof CompoundTestListener) {
+        expanded.addAll(expand(((CompoundTestListener) each).children()));
+      } else {
+        expanded.add(each);
+      }
+    }
+    return expanded;
+  }
+
+  private static long millis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+}
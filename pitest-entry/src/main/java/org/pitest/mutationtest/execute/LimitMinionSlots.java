@@ -0,0 +1,62 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.File;
+import java.util.Optional;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.util.PitError;
+
+/**
+ * Caps the number of minions running at once across every pitest process on
+ * the machine, so that the modules of a parallel build do not each start as
+ * many minions as they have threads.
+ *
+ * Processes share the cap by locking files in a common directory, which
+ * defaults to one under the user's home.
+ */
+public class LimitMinionSlots implements ConfigurationUpdater {
+
+  private static final FeatureParameter SLOTS = FeatureParameter.named("slots")
+      .withDescription("Most minions to run at once on the machine. Defaults to the number of cores");
+
+  private static final FeatureParameter DIR = FeatureParameter.named("dir")
+      .withDescription("Directory shared by the processes limited together. Defaults to "
+          + defaultDirectory());
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final int slots = conf.getInteger(SLOTS.name())
+        .orElse(Runtime.getRuntime().availableProcessors());
+    if (slots < 1) {
+      throw new PitError("The slots parameter of minion_slots must be at least 1 but was "
+          + slots);
+    }
+    final File dir = conf.getString(DIR.name())
+        .map(File::new)
+        .orElseGet(LimitMinionSlots::defaultDirectory);
+    toModify.setMinionSlots(Optional.of(new SlotLimit(dir, slots)));
+  }
+
+  static File defaultDirectory() {
+    return new File(new File(System.getProperty("user.home"), ".pitest"), "minion-slots");
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("minion_slots")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(SLOTS)
+        .withParameter(DIR);
+  }
+
+  @Override
+  public String description() {
+    return "Limit minions across every pitest process on the machine";
+  }
+
+}
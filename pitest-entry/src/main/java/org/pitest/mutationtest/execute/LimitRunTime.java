@@ -0,0 +1,51 @@
+package org.pitest.mutationtest.execute;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Stops starting new units once the run has taken longer than the budget, so
+ * that reports, history and statistics are still written for the mutants
+ * analysed so far. Mutants that were not analysed are reported as NOT_RUN.
+ *
+ * Units are run in order of their estimated value per cost, so that changed
+ * and poorly tested code is analysed first.
+ */
+public class LimitRunTime implements ConfigurationUpdater {
+
+  static final int DEFAULT_MINUTES = 60;
+
+  private static final FeatureParameter MINUTES = FeatureParameter.named("minutes")
+      .withDescription("Minutes after the start of the run at which no further units are started. Defaults to "
+          + DEFAULT_MINUTES);
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final int minutes = conf.getInteger(MINUTES.name()).orElse(DEFAULT_MINUTES);
+    if (minutes < 1) {
+      throw new IllegalArgumentException("Time budget must be at least a minute but was "
+          + minutes);
+    }
+    toModify.setTimeBudget(Optional.of(Duration.ofMinutes(minutes)));
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("time_budget")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(MINUTES);
+  }
+
+  @Override
+  public String description() {
+    return "Stop analysing mutants once the run exceeds a time budget";
+  }
+
+}
@@ -0,0 +1,212 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+import org.pitest.util.StringUtil;
+import org.pitest.util.Unchecked;
+
+/**
+ * Limits the number of minions running at once across every pitest process
+ * on the machine, such as the modules of a parallel maven build.
+ *
+ * Each slot is a file in a shared directory, and a minion may only be started
+ * while its process holds an exclusive lock on one of them. Locks are
+ * released by the operating system if a process dies, so slots cannot leak.
+ * Processes that find every slot taken poll with a backoff until one is freed.
+ *
+ * Maven runs the modules of a parallel build in one jvm, and the locks of a
+ * process are lost when any channel it has open on the file is closed, so the
+ * slots held within this jvm are also tracked in memory.
+ */
+public final class MinionSlots {
+
+  private static final Logger      LOG = Log.getLogger();
+
+  private static final long        FIRST_POLL_MILLIS = 10;
+  private static final long        MAX_POLL_MILLIS = 500;
+
+  private static final MinionSlots UNLIMITED = new MinionSlots(null, 0);
+
+  // canonical paths of the slot files held by this jvm
+  private static final Set<String> HELD = ConcurrentHashMap.newKeySet();
+
+  private final File          directory;
+  private final int           slots;
+  private final AtomicInteger next = new AtomicInteger();
+
+  private long                acquired;
+  private long                waits;
+  private long                totalWaitNanos;
+  private long                maxWaitNanos;
+
+  MinionSlots(File directory, int slots) {
+    this.directory = directory;
+    this.slots = slots;
+  }
+
+  public static MinionSlots unlimited() {
+    return UNLIMITED;
+  }
+
+  public static MinionSlots acrossMachine(SlotLimit limit) {
+    return new MinionSlots(limit.directory(), limit.slots());
+  }
+
+  public boolean isLimited() {
+    return this.directory != null;
+  }
+
+  /**
+   * Blocks until a slot is free. The slot must be closed once its minion has
+   * exited.
+   */
+  public Slot acquire() throws InterruptedException {
+    if (!isLimited()) {
+      return Slot.NONE;
+    }
+    this.directory.mkdirs();
+
+    final long start = System.nanoTime();
+    long pause = FIRST_POLL_MILLIS;
+    while (true) {
+      // start each search at a different slot so that minions spread across
+      // the files rather than all contending for the first
+      final int first = this.next.getAndIncrement();
+      for (int i = 0; i != this.slots; i++) {
+        final Optional<FileChannel> held = tryLock(Math.floorMod(first + i, this.slots));
+        if (held.isPresent()) {
+          final long waited = System.nanoTime() - start;
+          recordWait(waited);
+          return new Slot(held.get(), slotFile(Math.floorMod(first + i, this.slots)), waited);
+        }
+      }
+      Thread.sleep(pause);
+      pause = Math.min(pause * 2, MAX_POLL_MILLIS);
+    }
+  }
+
+  private Optional<FileChannel> tryLock(int slot) {
+    final String path = slotFile(slot);
+    if (!HELD.add(path)) {
+      return Optional.empty();
+    }
+
+    FileChannel channel = null;
+    try {
+      channel = FileChannel.open(new File(path).toPath(), StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE);
+      final FileLock lock = channel.tryLock();
+      if (lock != null) {
+        return Optional.of(channel);
+      }
+    } catch (final OverlappingFileLockException e) {
+      // held by another loader of this class within the jvm
+    } catch (final IOException e) {
+      HELD.remove(path);
+      closeQuietly(channel);
+      throw Unchecked.translateCheckedException(e);
+    }
+    closeQuietly(channel);
+    HELD.remove(path);
+    return Optional.empty();
+  }
+
+  private String slotFile(int slot) {
+    final Path path = new File(this.directory, "slot-" + slot + ".lock").toPath();
+    return path.toAbsolutePath().normalize().toString();
+  }
+
+  private synchronized void recordWait(long nanos) {
+    this.acquired++;
+    // a slot free on the first attempt is not counted as a wait
+    if (nanos >= TimeUnit.MILLISECONDS.toNanos(FIRST_POLL_MILLIS)) {
+      this.waits++;
+      this.totalWaitNanos += nanos;
+      this.maxWaitNanos = Math.max(this.maxWaitNanos, nanos);
+    }
+  }
+
+  public synchronized long waits() {
+    return this.waits;
+  }
+
+  public synchronized long totalWaitNanos() {
+    return this.totalWaitNanos;
+  }
+
+  public synchronized void report(PrintStream ps) {
+    ps.println("> " + this.slots + " slots in " + this.directory);
+    ps.println("> " + this.acquired + " minions started, " + this.waits
+        + " waited for a slot");
+    if (this.waits != 0) {
+      ps.println("> waited total " + millis(this.totalWaitNanos) + ", mean "
+          + millis(this.totalWaitNanos / this.waits) + ", max "
+          + millis(this.maxWaitNanos));
+    }
+    ps.println(StringUtil.separatorLine());
+  }
+
+  private static String millis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos) + "ms";
+  }
+
+  private static void closeQuietly(FileChannel channel) {
+    if (channel == null) {
+      return;
+    }
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      LOG.warning("Could not close minion slot " + e.getMessage());
+    }
+  }
+
+  /**
+   * A held slot. Closing it frees the slot for other minions.
+   */
+  public static final class Slot implements AutoCloseable {
+
+    static final Slot NONE = new Slot(null, null, 0);
+
+    private final FileChannel channel;
+    private final String      path;
+    private final long        waitNanos;
+    private boolean           closed;
+
+    private Slot(FileChannel channel, String path, long waitNanos) {
+      this.channel = channel;
+      this.path = path;
+      this.waitNanos = waitNanos;
+    }
+
+    public long waitNanos() {
+      return this.waitNanos;
+    }
+
+    @Override
+    public synchronized void close() {
+      if (this.channel == null || this.closed) {
+        return;
+      }
+      this.closed = true;
+      // closing the channel releases its lock
+      closeQuietly(this.channel);
+      HELD.remove(this.path);
+    }
+  }
+
+}
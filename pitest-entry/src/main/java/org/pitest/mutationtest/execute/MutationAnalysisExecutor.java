@@ -1,13 +1,20 @@
 package org.pitest.mutationtest.execute;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 import java.util.logging.Logger;
 
 import org.pitest.mutationtest.ClassMutationResults;
@@ -27,10 +34,72 @@ public class MutationAnalysisExecutor {
 
   private final MutationResultInterceptor resultInterceptor;
 
+  private final Optional<AdaptiveConcurrency> adaptive;
+  private final long sampleInterval;
+  private final RunTelemetry telemetry;
+  private final TimeBudget budget;
+  private final AtomicInteger notRun = new AtomicInteger();
+
   public MutationAnalysisExecutor(int numberOfThreads, MutationResultInterceptor interceptor,
       List<MutationResultListener> listeners) {
+    this(numberOfThreads, interceptor, listeners, RunTelemetry.disabled());
+  }
+
+  public MutationAnalysisExecutor(int numberOfThreads, MutationResultInterceptor interceptor,
+      List<MutationResultListener> listeners, RunTelemetry telemetry) {
+    this(numberOfThreads, interceptor, listeners, telemetry, TimeBudget.unlimited());
+  }
+
+  /**
+   * Creates an executor that stops starting units once the time budget is
+   * spent. Mutants in units that were not started are reported as NOT_RUN.
+   */
+  public MutationAnalysisExecutor(int numberOfThreads, MutationResultInterceptor interceptor,
+      List<MutationResultListener> listeners, RunTelemetry telemetry, TimeBudget budget) {
+    this(numberOfThreads, Optional.empty(), 0, interceptor, listeners, telemetry, budget);
+  }
+
+  /**
+   * Creates an executor that varies the number of concurrently running units
+   * within the supplied limits according to system load.
+   */
+  public MutationAnalysisExecutor(ThreadLimits limits, SystemLoad load,
+      MutationResultInterceptor interceptor, List<MutationResultListener> listeners) {
+    this(limits, load, interceptor, listeners, RunTelemetry.disabled());
+  }
+
+  public MutationAnalysisExecutor(ThreadLimits limits, SystemLoad load,
+      MutationResultInterceptor interceptor, List<MutationResultListener> listeners,
+      RunTelemetry telemetry) {
+    this(limits, load, interceptor, listeners, telemetry, TimeBudget.unlimited());
+  }
+
+  public MutationAnalysisExecutor(ThreadLimits limits, SystemLoad load,
+      MutationResultInterceptor interceptor, List<MutationResultListener> listeners,
+      RunTelemetry telemetry, TimeBudget budget) {
+    this(limits, load, () -> 0, interceptor, listeners, telemetry, budget);
+  }
+
+  /**
+   * Creates an adaptive executor that also lowers the number of concurrent
+   * units while minions wait for machine wide slots.
+   */
+  public MutationAnalysisExecutor(ThreadLimits limits, SystemLoad load,
+      LongSupplier slotWaitNanos, MutationResultInterceptor interceptor,
+      List<MutationResultListener> listeners, RunTelemetry telemetry, TimeBudget budget) {
+    this(limits.ceiling(), Optional.of(new AdaptiveConcurrency(limits, load, slotWaitNanos)),
+        limits.sampleIntervalMillis(), interceptor, listeners, telemetry, budget);
+  }
+
+  private MutationAnalysisExecutor(int numberOfThreads, Optional<AdaptiveConcurrency> adaptive,
+      long sampleInterval, MutationResultInterceptor interceptor,
+      List<MutationResultListener> listeners, RunTelemetry telemetry, TimeBudget budget) {
     this.resultInterceptor = interceptor;
+    this.telemetry = telemetry;
+    this.budget = budget;
     this.listeners = listeners;
+    this.adaptive = adaptive;
+    this.sampleInterval = sampleInterval;
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
         Executors.defaultThreadFactory());
@@ -38,57 +107,143 @@ public class MutationAnalysisExecutor {
 
   // entry point for mutation testing
   public void run(final List<MutationAnalysisUnit> testUnits) {
+    run(Collections.singletonList(testUnits).iterator());
+  }
 
-    LOG.fine("Running " + testUnits.size() + " units");
+  /**
+   * Runs units in successive rounds. Each round is requested only once every
+   * result of the previous round has been processed, so the units of later
+   * rounds may depend on earlier results. Listeners see a single run.
+   */
+  public void run(final Iterator<List<MutationAnalysisUnit>> rounds) {
 
     signalRunStartToAllListeners();
 
-    final List<Future<MutationMetaData>> results = new ArrayList<>(
-        testUnits.size());
-
-    for (final MutationAnalysisUnit unit : testUnits) {
-      results.add(this.executor.submit(unit));
-    }
-
-    this.executor.shutdown();
+    final Optional<ScheduledExecutorService> sampler = this.adaptive.map(this::startSampling);
 
+    int submitted = 0;
     try {
-      processResult(results);
+      while (rounds.hasNext()) {
+        final List<MutationAnalysisUnit> testUnits = rounds.next();
+        LOG.fine("Running " + testUnits.size() + " units");
+
+        final List<Future<MutationMetaData>> results = new ArrayList<>(
+            testUnits.size());
+        for (final MutationAnalysisUnit each : testUnits) {
+          results.add(this.executor.submit(this.telemetry.unit(submitted,
+              admit(withinBudget(each)))));
+          submitted++;
+        }
+        processResult(results);
+      }
+      processRemaining();
     } catch (final InterruptedException | ExecutionException e) {
       throw Unchecked.translateCheckedException(e);
+    } finally {
+      this.executor.shutdown();
+      sampler.ifPresent(ScheduledExecutorService::shutdownNow);
+    }
+
+    this.adaptive.ifPresent(AdaptiveConcurrency::finish);
+
+    if (this.notRun.get() != 0) {
+      LOG.warning("Time budget spent. " + this.notRun.get() + " units were not run");
     }
 
     signalRunEndToAllListeners();
 
   }
 
+  // units are started in the order they were submitted, so checking the
+  // budget as each starts stops dispatch of all later units
+  private Callable<MutationMetaData> withinBudget(MutationAnalysisUnit unit) {
+    if (!this.budget.isLimited()) {
+      return unit;
+    }
+    return () -> {
+      if (this.budget.isSpent()) {
+        this.notRun.incrementAndGet();
+        return unit.notRun();
+      }
+      return unit.call();
+    };
+  }
+
+  private Callable<MutationMetaData> admit(Callable<MutationMetaData> unit) {
+    if (!this.adaptive.isPresent()) {
+      return unit;
+    }
+    final AdaptiveConcurrency concurrency = this.adaptive.get();
+    return () -> {
+      concurrency.acquire();
+      try {
+        return unit.call();
+      } finally {
+        concurrency.release();
+      }
+    };
+  }
+
+  private ScheduledExecutorService startSampling(AdaptiveConcurrency concurrency) {
+    concurrency.start();
+    final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread t = new Thread(r, "pit-concurrency-sampler");
+      t.setDaemon(true);
+      return t;
+    });
+    sampler.scheduleWithFixedDelay(concurrency::adjust, this.sampleInterval,
+        this.sampleInterval, TimeUnit.MILLISECONDS);
+    return sampler;
+  }
+
   private void processResult(List<Future<MutationMetaData>> results)
           throws InterruptedException, ExecutionException {
     for (Future<MutationMetaData> f : results) {
       MutationMetaData metaData = f.get();
       for (ClassMutationResults cr : resultInterceptor.modify(metaData.toClassResults())) {
-        for (MutationResultListener listener : this.listeners) {
-          listener.handleMutationResult(cr);
-        }
+        signalResultToAllListeners(cr);
       }
     }
+  }
 
+  private void processRemaining() {
     // handle any results held back from processing. Only known
     // use case here is inlined code consolidation.
     for (ClassMutationResults each : resultInterceptor.remaining()) {
-      for (MutationResultListener listener : this.listeners) {
-        listener.handleMutationResult(each);
-      }
+      signalResultToAllListeners(each);
     }
 
   }
 
+  private void signalResultToAllListeners(ClassMutationResults results) {
+    for (MutationResultListener listener : this.listeners) {
+      if (listener instanceof IsolatedListener) {
+        // times its listener on its own thread
+        listener.handleMutationResult(results);
+        continue;
+      }
+      this.telemetry.time(RunTelemetry.Phase.LISTENER, listenerName(listener),
+          () -> listener.handleMutationResult(results));
+    }
+  }
+
   private void signalRunStartToAllListeners() {
     this.listeners.forEach(MutationResultListener::runStart);
   }
 
   private void signalRunEndToAllListeners() {
-    this.listeners.forEach(MutationResultListener::runEnd);
+    for (MutationResultListener listener : this.listeners) {
+      if (listener instanceof IsolatedListener) {
+        listener.runEnd();
+        continue;
+      }
+      this.telemetry.time(RunTelemetry.Phase.LISTENER, listenerName(listener) + ".runEnd",
+          listener::runEnd);
+    }
+  }
+
+  private static String listenerName(MutationResultListener listener) {
+    return listener.getClass().getName();
   }
 
 }
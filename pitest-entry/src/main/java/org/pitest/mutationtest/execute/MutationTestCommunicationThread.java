@@ -21,6 +21,7 @@ import java.util.logging.Logger;
 
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.CommunicationThread;
 import org.pitest.util.Id;
@@ -42,7 +43,7 @@ public class MutationTestCommunicationThread extends CommunicationThread {
 
     @Override
     public void accept(final SafeDataOutputStream dos) {
-      dos.write(this.arguments);
+      this.arguments.writeTo(dos);
       dos.flush();
     }
   }
@@ -50,9 +51,15 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   private static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final RunTelemetry.Minion telemetry;
+    private final TestDurations durations;
+    private final MutationWireDecoder decoder = new MutationWireDecoder();
 
-    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final RunTelemetry.Minion telemetry, final TestDurations durations) {
       this.idMap = idMap;
+      this.telemetry = telemetry;
+      this.durations = durations;
     }
 
     @Override
@@ -64,19 +71,34 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       case Id.REPORT:
         handleReport(is);
         break;
+      case Id.TIMINGS:
+        handleTimings(is);
+        break;
+      case Id.DURATIONS:
+        this.durations.recordAll(this.decoder.readDurations(is));
+        break;
+      }
+    }
+
+    private void handleTimings(final SafeDataInputStream is) {
+      if (is.readBoolean()) {
+        final MutationIdentifier mutation = this.decoder.readIdentifier(is);
+        this.telemetry.mutant(mutation, this.decoder.readTimings(is));
+        this.telemetry.transfer(mutation, is.readLong());
+      } else {
+        this.telemetry.record(RunTelemetry.Phase.DISCOVER, is.readLong());
       }
     }
 
     private void handleReport(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
-      final MutationStatusTestPair value = is
-          .read(MutationStatusTestPair.class);
+      final MutationIdentifier mutation = this.decoder.readIdentifier(is);
+      final MutationStatusTestPair value = this.decoder.readStatus(is);
       this.idMap.put(mutation, value);
       LOG.fine(mutation + " " + value);
     }
 
     private void handleDescribe(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
+      final MutationIdentifier mutation = this.decoder.readIdentifier(is);
       this.idMap.put(mutation, MutationStatusTestPair.notAnalysed(1,
           DetectionStatus.STARTED));
     }
@@ -88,7 +110,24 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   public MutationTestCommunicationThread(final ServerSocket socket,
       final MinionArguments arguments,
       final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
-    super(socket, new SendData(arguments), new Receive(idMap));
+    this(socket, arguments, idMap, RunTelemetry.disabled().minion());
+  }
+
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final RunTelemetry.Minion telemetry) {
+    this(socket, arguments, idMap, telemetry, new TestDurations());
+  }
+
+  /**
+   * @param durations receives the test durations learned by the minion
+   */
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final RunTelemetry.Minion telemetry, final TestDurations durations) {
+    super(socket, new SendData(arguments), new Receive(idMap, telemetry, durations));
     this.idMap = idMap;
   }
 
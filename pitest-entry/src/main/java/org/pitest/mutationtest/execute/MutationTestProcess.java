@@ -1,13 +1,17 @@
 package org.pitest.mutationtest.execute;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.HashMap;
 import java.util.Optional;
 
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.process.ProcessArgs;
 import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
@@ -16,19 +20,52 @@ public class MutationTestProcess {
 
   private final WrappingProcess                 process;
   private final MutationTestCommunicationThread thread;
+  private final Optional<File>                  progressFile;
+  private final RunTelemetry.Minion             telemetry;
+  private final MinionSlots                     slots;
+  private MinionSlots.Slot                      slot = MinionSlots.Slot.NONE;
+  private long                                  launchedAt;
 
   public MutationTestProcess(final ServerSocket socket,
       final ProcessArgs processArgs, final MinionArguments arguments) {
+    this(socket, processArgs, arguments, RunTelemetry.disabled().minion(),
+        MinionSlots.unlimited());
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final RunTelemetry.Minion telemetry, final MinionSlots slots) {
+    this(socket, processArgs, arguments, telemetry, slots, new TestDurations());
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final RunTelemetry.Minion telemetry, final MinionSlots slots,
+      final TestDurations durations) {
     this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
         MutationTestMinion.class);
     this.thread = new MutationTestCommunicationThread(socket, arguments,
-            new HashMap<>());
-
+            new HashMap<>(), telemetry, durations);
+    this.progressFile = arguments.progressFile();
+    this.telemetry = telemetry;
+    this.slots = slots;
   }
 
   public void start() throws IOException, InterruptedException {
-    this.thread.start();
-    this.process.start();
+    if (this.slots.isLimited()) {
+      this.slot = this.slots.acquire();
+      this.telemetry.record(RunTelemetry.Phase.SLOT_WAIT, this.slot.waitNanos());
+    }
+    try {
+      this.thread.start();
+      this.launchedAt = System.nanoTime();
+      this.process.start();
+    } catch (IOException | RuntimeException e) {
+      this.slot.close();
+      throw e;
+    }
+    this.telemetry.record(RunTelemetry.Phase.SPAWN,
+        System.nanoTime() - this.launchedAt);
   }
 
   public void results(final MutationStatusMap allmutations) throws IOException {
@@ -40,6 +77,31 @@ public class MutationTestProcess {
       }
     }
 
+    markMutantInProgress(allmutations);
+  }
+
+  private void markMutantInProgress(final MutationStatusMap allmutations) {
+    // when results are batched the minion records the mutant it is working on
+    // in a file rather than telling us directly. We only need it if no result
+    // was received for that mutant.
+    if (!this.progressFile.isPresent()) {
+      return;
+    }
+
+    final File file = this.progressFile.get();
+    try {
+      final Optional<MutationIdentifier> inProgress = ProgressFile.readLast(file)
+          .filter(id -> this.thread.getStatus(id) == null);
+      if (inProgress.isPresent()) {
+        for (final MutationDetails each : allmutations.allMutations()) {
+          if (each.getId().equals(inProgress.get())) {
+            allmutations.setStatusForMutation(each, DetectionStatus.STARTED);
+          }
+        }
+      }
+    } finally {
+      file.delete();
+    }
   }
 
   public ExitCode waitToDie() {
@@ -50,9 +112,16 @@ public class MutationTestProcess {
       }
       return maybeExit.orElse(ExitCode.MINION_DIED);
     } finally {
+      this.thread.connectedAt().ifPresent(this::minionConnected);
       this.process.destroy();
+      this.slot.close();
     }
 
   }
 
+  private void minionConnected(long nanoTime) {
+    this.process.minionConnected(nanoTime);
+    this.telemetry.record(RunTelemetry.Phase.CONNECT, nanoTime - this.launchedAt);
+  }
+
 }
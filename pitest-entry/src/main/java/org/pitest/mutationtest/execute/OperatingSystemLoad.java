@@ -0,0 +1,49 @@
+package org.pitest.mutationtest.execute;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * Reads system load from the platform MXBean. Memory and precise cpu figures
+ * are only available on JVMs providing the com.sun.management extensions, elsewhere
+ * cpu load is estimated from the load average and memory is reported as unknown.
+ */
+public class OperatingSystemLoad implements SystemLoad {
+
+  private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public long freeMemory() {
+    if (this.os instanceof com.sun.management.OperatingSystemMXBean) {
+      return ((com.sun.management.OperatingSystemMXBean) this.os).getFreePhysicalMemorySize();
+    }
+    return -1;
+  }
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public long totalMemory() {
+    if (this.os instanceof com.sun.management.OperatingSystemMXBean) {
+      return ((com.sun.management.OperatingSystemMXBean) this.os).getTotalPhysicalMemorySize();
+    }
+    return -1;
+  }
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public double cpuLoad() {
+    if (this.os instanceof com.sun.management.OperatingSystemMXBean) {
+      final double load = ((com.sun.management.OperatingSystemMXBean) this.os).getSystemCpuLoad();
+      if (load >= 0) {
+        return load;
+      }
+    }
+    final double average = this.os.getSystemLoadAverage();
+    if (average < 0) {
+      return -1;
+    }
+    return Math.min(1.0, average / this.os.getAvailableProcessors());
+  }
+
+}
@@ -0,0 +1,48 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Optional;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Records how long each unit, minion and mutant spends in each phase of
+ * analysis. The timeline is written to the report directory, and a summary of
+ * each phase is printed at the end of the run.
+ */
+public class RecordTelemetry implements ConfigurationUpdater {
+
+  private static final FeatureParameter FORMAT = FeatureParameter.named("format")
+      .withDescription("Format of the exported timeline, json or csv. Defaults to json");
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final TelemetryFormat format = conf.getString(FORMAT.name())
+        .map(RecordTelemetry::parse)
+        .orElse(TelemetryFormat.JSON);
+    toModify.setTelemetryFormat(Optional.of(format));
+  }
+
+  private static TelemetryFormat parse(String name) {
+    return TelemetryFormat.named(name)
+        .orElseThrow(() -> new IllegalArgumentException("Unknown telemetry format " + name
+            + ". Expected json or csv"));
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("telemetry")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(FORMAT);
+  }
+
+  @Override
+  public String description() {
+    return "Export timings for each phase of minion and mutant analysis";
+  }
+
+}
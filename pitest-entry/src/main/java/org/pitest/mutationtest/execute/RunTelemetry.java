@@ -0,0 +1,449 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.StringUtil;
+import org.pitest.util.Unchecked;
+
+/**
+ * Records how long each phase of mutation analysis takes, for each unit, each
+ * minion and each mutant.
+ *
+ * Only durations are sent from minions, so the cost to them is a few calls to
+ * System.nanoTime and a small record per mutant. Each event is stamped with
+ * the time it was received, relative to the start of the run, and written to
+ * the timeline file as it arrives. Only a histogram of the durations of each
+ * phase is held in memory, so the memory used does not grow with the length
+ * of the run.
+ */
+public class RunTelemetry {
+
+  public enum Phase {
+    QUEUE_WAIT("queue wait"),
+    SLOT_WAIT("slot wait"),
+    UNIT("unit"),
+    SPAWN("spawn"),
+    CONNECT("connect"),
+    DISCOVER("discover"),
+    GENERATE("generate"),
+    HOTSWAP("hotswap"),
+    TESTS("tests"),
+    TRANSFER("transfer"),
+    LISTENER("listener");
+
+    private final String description;
+
+    Phase(String description) {
+      this.description = description;
+    }
+
+    @Override
+    public String toString() {
+      return this.description;
+    }
+  }
+
+  static final int NONE = -1;
+
+  private static final long[]   BUCKET_LIMITS = { 100_000L, 1_000_000L,
+      10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L };
+  private static final String[] BUCKET_NAMES  = { "<0.1ms", "<1ms", "<10ms",
+      "<100ms", "<1s", "<10s", ">=10s" };
+
+  private static final RunTelemetry DISABLED = new RunTelemetry(false, () -> 0);
+
+  private final boolean              enabled;
+  private final LongSupplier         clock;
+  private final long                 start;
+  private final Timeline             timeline;
+  private final Map<Phase, Histogram> histograms = new EnumMap<>(Phase.class);
+  private final AtomicInteger        minions     = new AtomicInteger();
+  private final ThreadLocal<Integer> currentUnit = new ThreadLocal<>();
+
+  RunTelemetry(boolean enabled, LongSupplier clock) {
+    this(enabled, clock, null);
+  }
+
+  RunTelemetry(boolean enabled, LongSupplier clock, Timeline timeline) {
+    this.enabled = enabled;
+    this.clock = clock;
+    this.start = clock.getAsLong();
+    this.timeline = timeline;
+  }
+
+  public static RunTelemetry disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Telemetry that is summarised, but not written out as a timeline
+   */
+  public static RunTelemetry recording() {
+    return new RunTelemetry(true, System::nanoTime);
+  }
+
+  /**
+   * Telemetry written as a timeline in the given format as it is recorded.
+   * {@link #finish} must be called once the run is complete.
+   */
+  public static RunTelemetry recording(ResultOutputStrategy output, TelemetryFormat format) {
+    return new RunTelemetry(true, System::nanoTime,
+        new Timeline(output.createWriterForFile(format.fileName()), format));
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  long now() {
+    return this.clock.getAsLong();
+  }
+
+  /**
+   * Wraps a unit so that the time it waits to be executed, and the time it
+   * takes to run, are recorded. Minions created while the unit runs are
+   * attributed to it.
+   */
+  public <T> Callable<T> unit(int index, Callable<T> unit) {
+    if (!this.enabled) {
+      return unit;
+    }
+    final long queued = now();
+    return () -> {
+      final long started = now();
+      record(index, NONE, Phase.QUEUE_WAIT, null, started - queued);
+      this.currentUnit.set(index);
+      try {
+        return unit.call();
+      } finally {
+        this.currentUnit.remove();
+        record(index, NONE, Phase.UNIT, null, now() - started);
+      }
+    };
+  }
+
+  /**
+   * Runs the action, recording the time it takes against the subject.
+   */
+  public void time(Phase phase, String subject, Runnable action) {
+    if (!this.enabled) {
+      action.run();
+      return;
+    }
+    final long t0 = now();
+    try {
+      action.run();
+    } finally {
+      record(NONE, NONE, phase, subject, now() - t0);
+    }
+  }
+
+  /**
+   * Telemetry for a newly created minion.
+   */
+  public Minion minion() {
+    if (!this.enabled) {
+      return new Minion(this, NONE, NONE);
+    }
+    final Integer unit = this.currentUnit.get();
+    return new Minion(this, unit != null ? unit : NONE,
+        this.minions.incrementAndGet());
+  }
+
+  synchronized void record(int unit, int minion, Phase phase, String subject, long nanos) {
+    this.histograms.computeIfAbsent(phase, p -> new Histogram()).add(nanos);
+    if (this.timeline != null) {
+      this.timeline.write(unit, minion, phase, subject, now() - this.start, nanos);
+    }
+  }
+
+  boolean writesTimeline() {
+    return this.timeline != null;
+  }
+
+  /**
+   * Completes and closes the timeline, if one is being written.
+   */
+  public synchronized void finish() {
+    if (this.timeline != null) {
+      this.timeline.finish(this.histograms);
+    }
+  }
+
+  /**
+   * Prints a summary of the time spent in each phase, with a histogram of
+   * durations.
+   */
+  public synchronized void report(PrintStream ps) {
+    for (Map.Entry<Phase, Histogram> each : this.histograms.entrySet()) {
+      final Histogram s = each.getValue();
+      ps.println("> " + each.getKey() + " : " + s.count + " times, total "
+          + format(s.total) + ", mean " + format(s.total / s.count) + ", p50 "
+          + format(s.percentile(50)) + ", p90 " + format(s.percentile(90))
+          + ", p99 " + format(s.percentile(99)) + ", max " + format(s.max));
+      final StringBuilder histogram = new StringBuilder(">  ");
+      for (int i = 0; i != BUCKET_NAMES.length; i++) {
+        if (s.decades[i] != 0) {
+          histogram.append(' ').append(BUCKET_NAMES[i]).append(' ')
+              .append(s.decades[i]);
+        }
+      }
+      ps.println(histogram);
+    }
+    ps.println(StringUtil.separatorLine());
+  }
+
+  synchronized Histogram summary(Phase phase) {
+    return this.histograms.get(phase);
+  }
+
+  static String describe(MutationIdentifier id) {
+    return id.getClassName().asJavaName() + "." + id.getLocation().getMethodName()
+        + ":" + id.getFirstIndex() + ":" + id.getMutator();
+  }
+
+  private static String format(long nanos) {
+    if (nanos >= 1_000_000_000L) {
+      return String.format(Locale.ROOT, "%.2fs", nanos / 1e9);
+    }
+    return String.format(Locale.ROOT, "%.2fms", nanos / 1e6);
+  }
+
+  private static String csvNumber(int i) {
+    return i == NONE ? "" : Integer.toString(i);
+  }
+
+  private static String jsonNumber(int i) {
+    return i == NONE ? "null" : Integer.toString(i);
+  }
+
+  private static String jsonString(String s) {
+    return s == null ? "null" : "\"" + StringEscapeUtils.escapeJson(s) + "\"";
+  }
+
+  /**
+   * Telemetry for a single minion. Timings sent by the minion are recorded
+   * against the unit it was created for.
+   */
+  public static final class Minion {
+    private final RunTelemetry telemetry;
+    private final int          unit;
+    private final int          id;
+
+    private Minion(RunTelemetry telemetry, int unit, int id) {
+      this.telemetry = telemetry;
+      this.unit = unit;
+      this.id = id;
+    }
+
+    void record(Phase phase, long nanos) {
+      if (this.telemetry.enabled) {
+        this.telemetry.record(this.unit, this.id, phase, null, nanos);
+      }
+    }
+
+    void mutant(MutationIdentifier mutant, MutantTimings timings) {
+      if (this.telemetry.enabled) {
+        final String subject = subject(mutant);
+        this.telemetry.record(this.unit, this.id, Phase.GENERATE, subject,
+            timings.generateNanos());
+        this.telemetry.record(this.unit, this.id, Phase.HOTSWAP, subject,
+            timings.hotswapNanos());
+        this.telemetry.record(this.unit, this.id, Phase.TESTS, subject,
+            timings.testNanos());
+      }
+    }
+
+    /**
+     * Records the time between the minion producing the result of a mutant
+     * and the result being received, which includes any time it was held in
+     * a batch.
+     *
+     * @param producedAt System.nanoTime in the minion when the result was
+     *                   produced. Minions run on the same machine, where the
+     *                   clock is shared by every process, but a negative time
+     *                   is recorded as zero should it not be.
+     */
+    void transfer(MutationIdentifier mutant, long producedAt) {
+      if (this.telemetry.enabled) {
+        this.telemetry.record(this.unit, this.id, Phase.TRANSFER, subject(mutant),
+            Math.max(0, this.telemetry.now() - producedAt));
+      }
+    }
+
+    // only needed for the timeline
+    private String subject(MutationIdentifier mutant) {
+      return this.telemetry.writesTimeline() ? describe(mutant) : null;
+    }
+  }
+
+  /**
+   * Events written as they are recorded, in the order they were received
+   */
+  static final class Timeline {
+    private final Writer          w;
+    private final TelemetryFormat format;
+    private String                separator = "\n";
+
+    Timeline(Writer w, TelemetryFormat format) {
+      this.w = new BufferedWriter(w);
+      this.format = format;
+      if (format == TelemetryFormat.CSV) {
+        write("unit,minion,phase,subject,end_ns,duration_ns\n");
+      } else {
+        write("{\n  \"events\" : [");
+      }
+    }
+
+    void write(int unit, int minion, Phase phase, String subject, long end, long nanos) {
+      if (this.format == TelemetryFormat.CSV) {
+        write(csvNumber(unit) + "," + csvNumber(minion) + ","
+            + phase.name().toLowerCase(Locale.ROOT) + ","
+            + (subject != null ? StringEscapeUtils.escapeCsv(subject) : "")
+            + "," + end + "," + nanos + "\n");
+      } else {
+        write(this.separator + "    { \"unit\" : " + jsonNumber(unit) + ", \"minion\" : "
+            + jsonNumber(minion) + ", \"phase\" : \""
+            + phase.name().toLowerCase(Locale.ROOT) + "\", \"subject\" : "
+            + jsonString(subject) + ", \"end_ns\" : " + end
+            + ", \"duration_ns\" : " + nanos + " }");
+        this.separator = ",\n";
+      }
+    }
+
+    void finish(Map<Phase, Histogram> histograms) {
+      if (this.format == TelemetryFormat.JSON) {
+        write("\n  ],\n  \"summary\" : {");
+        String separator = "\n";
+        for (Map.Entry<Phase, Histogram> each : histograms.entrySet()) {
+          final Histogram s = each.getValue();
+          final StringBuilder sb = new StringBuilder(separator);
+          sb.append("    \"").append(each.getKey().name().toLowerCase(Locale.ROOT))
+              .append("\" : { \"count\" : ").append(s.count)
+              .append(", \"total_ns\" : ").append(s.total)
+              .append(", \"p50_ns\" : ").append(s.percentile(50))
+              .append(", \"p90_ns\" : ").append(s.percentile(90))
+              .append(", \"p99_ns\" : ").append(s.percentile(99))
+              .append(", \"max_ns\" : ").append(s.max)
+              .append(", \"histogram\" : {");
+          for (int i = 0; i != BUCKET_NAMES.length; i++) {
+            sb.append(i == 0 ? " " : ", ").append('"').append(BUCKET_NAMES[i])
+                .append("\" : ").append(s.decades[i]);
+          }
+          sb.append(" } }");
+          write(sb.toString());
+          separator = ",\n";
+        }
+        write("\n  }\n}\n");
+      }
+      try {
+        this.w.close();
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+    }
+
+    private void write(String s) {
+      try {
+        this.w.write(s);
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+    }
+  }
+
+  /**
+   * Durations held in a fixed number of buckets. Below 8ns each duration has a
+   * bucket of its own, above that each power of two is split into 8, so
+   * percentiles are within an eighth of the true value. The count, total and
+   * maximum are exact.
+   */
+  static final class Histogram {
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BITS    = 3;
+
+    private final long[] buckets = new long[SUB_BUCKETS * (64 - SUB_BITS)];
+    private final long[] decades = new long[BUCKET_NAMES.length];
+    private long         count;
+    private long         total;
+    private long         min = Long.MAX_VALUE;
+    private long         max;
+
+    void add(long nanos) {
+      final long value = Math.max(0, nanos);
+      this.buckets[index(value)]++;
+      this.decades[decade(value)]++;
+      this.count++;
+      this.total += value;
+      this.min = Math.min(this.min, value);
+      this.max = Math.max(this.max, value);
+    }
+
+    long count() {
+      return this.count;
+    }
+
+    long total() {
+      return this.total;
+    }
+
+    long max() {
+      return this.max;
+    }
+
+    /**
+     * The upper bound of the bucket holding the percentile, limited to the
+     * range of recorded values
+     */
+    long percentile(int p) {
+      final long rank = Math.max(1, (long) Math.ceil(p / 100.0 * this.count));
+      long seen = 0;
+      for (int i = 0; i != this.buckets.length; i++) {
+        seen += this.buckets[i];
+        if (seen >= rank) {
+          return Math.max(this.min, Math.min(this.max, upperBound(i)));
+        }
+      }
+      return this.max;
+    }
+
+    private static int index(long value) {
+      if (value < SUB_BUCKETS) {
+        return (int) value;
+      }
+      final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+      return SUB_BUCKETS * (shift + 1) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long upperBound(int index) {
+      if (index < SUB_BUCKETS) {
+        return index;
+      }
+      final int shift = index / SUB_BUCKETS - 1;
+      final long mantissa = SUB_BUCKETS + index % SUB_BUCKETS;
+      return ((mantissa + 1) << shift) - 1;
+    }
+
+    private static int decade(long nanos) {
+      for (int i = 0; i != BUCKET_LIMITS.length; i++) {
+        if (nanos < BUCKET_LIMITS[i]) {
+          return i;
+        }
+      }
+      return BUCKET_LIMITS.length;
+    }
+  }
+
+}
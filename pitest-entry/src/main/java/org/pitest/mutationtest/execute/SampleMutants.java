@@ -0,0 +1,64 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Optional;
+
+import org.pitest.mutationtest.build.SamplingPlan;
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Analyses a random sample of the mutants and reports the mutation score
+ * estimated from it, with a confidence interval. The sample grows in rounds
+ * until the interval is narrow enough or the time budget is spent.
+ *
+ * The same seed selects the same sample for unchanged code.
+ */
+public class SampleMutants implements ConfigurationUpdater {
+
+  static final int DEFAULT_SEED = 0;
+  static final int DEFAULT_PERCENT = 10;
+  static final int DEFAULT_WIDTH = 10;
+
+  private static final FeatureParameter SEED = FeatureParameter.named("seed")
+      .withDescription("Seed from which the sample is drawn. Defaults to " + DEFAULT_SEED);
+
+  private static final FeatureParameter PERCENT = FeatureParameter.named("percent")
+      .withDescription("Percentage of mutants analysed in the first round. Defaults to "
+          + DEFAULT_PERCENT);
+
+  private static final FeatureParameter WIDTH = FeatureParameter.named("width")
+      .withDescription("Width in percentage points of the 95% confidence interval at which sampling stops. Defaults to "
+          + DEFAULT_WIDTH);
+
+  private static final FeatureParameter BUDGET = FeatureParameter.named("budget")
+      .withDescription("Seconds after which no further rounds are started. Unlimited by default");
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final int seed = conf.getInteger(SEED.name()).orElse(DEFAULT_SEED);
+    final int percent = conf.getInteger(PERCENT.name()).orElse(DEFAULT_PERCENT);
+    final int width = conf.getInteger(WIDTH.name()).orElse(DEFAULT_WIDTH);
+    final long budget = conf.getInteger(BUDGET.name()).orElse(0) * 1000L;
+    toModify.setSampling(Optional.of(new SamplingPlan(seed, percent, width, budget)));
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("sampling")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(SEED)
+        .withParameter(PERCENT)
+        .withParameter(WIDTH)
+        .withParameter(BUDGET);
+  }
+
+  @Override
+  public String description() {
+    return "Estimate mutation score from a random sample of mutants";
+  }
+
+}
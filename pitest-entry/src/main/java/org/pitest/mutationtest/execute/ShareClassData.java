@@ -0,0 +1,49 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.File;
+import java.util.Optional;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Launches minions with a class data sharing archive written by the first
+ * minion to run, so later minions spend less time loading classes.
+ *
+ * Archives are keyed on the classpath and jvm arguments and are kept between
+ * runs. Requires java 13 or above, and has no effect when the classpath is
+ * passed in a jar.
+ */
+public class ShareClassData implements ConfigurationUpdater {
+
+  private static final FeatureParameter DIR = FeatureParameter.named("dir")
+      .withDescription("Directory in which to keep archives. Defaults to pitest-cds in the temp directory");
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final File dir = conf.getString(DIR.name()).map(File::new)
+        .orElse(defaultDir());
+    toModify.setClassDataArchiveDir(Optional.of(dir));
+  }
+
+  static File defaultDir() {
+    return new File(System.getProperty("java.io.tmpdir"), "pitest-cds");
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("class_data_sharing")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(DIR);
+  }
+
+  @Override
+  public String description() {
+    return "Share loaded classes between minions using an AppCDS archive";
+  }
+
+}
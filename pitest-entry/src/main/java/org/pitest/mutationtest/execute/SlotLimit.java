@@ -0,0 +1,54 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * The number of minions that may run at once across every pitest process on
+ * the machine, and the directory in which those processes hold their slots.
+ */
+public final class SlotLimit {
+
+  private final File directory;
+  private final int  slots;
+
+  public SlotLimit(File directory, int slots) {
+    if (slots < 1) {
+      throw new IllegalArgumentException("At least one minion slot is required but "
+          + slots + " were given");
+    }
+    this.directory = directory;
+    this.slots = slots;
+  }
+
+  public File directory() {
+    return this.directory;
+  }
+
+  public int slots() {
+    return this.slots;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final SlotLimit that = (SlotLimit) o;
+    return this.slots == that.slots
+        && Objects.equals(this.directory, that.directory);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.directory, this.slots);
+  }
+
+  @Override
+  public String toString() {
+    return "SlotLimit [directory=" + this.directory + ", slots=" + this.slots + "]";
+  }
+}
@@ -0,0 +1,23 @@
+package org.pitest.mutationtest.execute;
+
+/**
+ * Snapshot source for machine wide resource usage.
+ */
+public interface SystemLoad {
+
+  /**
+   * @return free physical memory in bytes, or a negative value if unknown
+   */
+  long freeMemory();
+
+  /**
+   * @return total physical memory in bytes, or a negative value if unknown
+   */
+  long totalMemory();
+
+  /**
+   * @return recent system wide cpu load between 0 and 1, or a negative value if unknown
+   */
+  double cpuLoad();
+
+}
@@ -0,0 +1,32 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * File formats in which run telemetry can be exported.
+ */
+public enum TelemetryFormat {
+  JSON("telemetry.json"),
+  CSV("telemetry.csv");
+
+  private final String fileName;
+
+  TelemetryFormat(String fileName) {
+    this.fileName = fileName;
+  }
+
+  public String fileName() {
+    return this.fileName;
+  }
+
+  public static Optional<TelemetryFormat> named(String name) {
+    for (TelemetryFormat each : values()) {
+      if (each.name().equals(name.toUpperCase(Locale.ROOT))) {
+        return Optional.of(each);
+      }
+    }
+    return Optional.empty();
+  }
+
+}
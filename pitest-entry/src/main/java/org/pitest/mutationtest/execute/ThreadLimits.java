@@ -0,0 +1,67 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Objects;
+
+/**
+ * Bounds within which the number of concurrently running minions may be
+ * adjusted, and how often load should be sampled to decide on adjustments.
+ */
+public final class ThreadLimits {
+
+  private final int  floor;
+  private final int  ceiling;
+  private final long sampleIntervalMillis;
+
+  public ThreadLimits(int floor, int ceiling, long sampleIntervalMillis) {
+    if (floor < 1 || ceiling < floor) {
+      throw new IllegalArgumentException("Invalid thread limits " + floor + " to " + ceiling);
+    }
+    if (sampleIntervalMillis <= 0) {
+      throw new IllegalArgumentException("Sample interval must be positive");
+    }
+    this.floor = floor;
+    this.ceiling = ceiling;
+    this.sampleIntervalMillis = sampleIntervalMillis;
+  }
+
+  public int floor() {
+    return this.floor;
+  }
+
+  public int ceiling() {
+    return this.ceiling;
+  }
+
+  public long sampleIntervalMillis() {
+    return this.sampleIntervalMillis;
+  }
+
+  int clamp(int threads) {
+    return Math.max(this.floor, Math.min(this.ceiling, threads));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ThreadLimits that = (ThreadLimits) o;
+    return this.floor == that.floor
+        && this.ceiling == that.ceiling
+        && this.sampleIntervalMillis == that.sampleIntervalMillis;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.floor, this.ceiling, this.sampleIntervalMillis);
+  }
+
+  @Override
+  public String toString() {
+    return "ThreadLimits [floor=" + this.floor + ", ceiling=" + this.ceiling
+        + ", sampleIntervalMillis=" + this.sampleIntervalMillis + "]";
+  }
+}
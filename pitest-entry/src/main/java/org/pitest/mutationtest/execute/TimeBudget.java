@@ -0,0 +1,42 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the wall time of a run. Once the budget is spent no further units
+ * are started, though units already running are allowed to complete.
+ */
+public final class TimeBudget {
+
+  private static final TimeBudget UNLIMITED = new TimeBudget(System::currentTimeMillis,
+      Long.MAX_VALUE);
+
+  private final LongSupplier clock;
+  private final long         deadline;
+
+  TimeBudget(LongSupplier clock, long deadline) {
+    this.clock = clock;
+    this.deadline = deadline;
+  }
+
+  public static TimeBudget unlimited() {
+    return UNLIMITED;
+  }
+
+  /**
+   * A budget of the given number of milliseconds from the given start time,
+   * as returned by System.currentTimeMillis.
+   */
+  public static TimeBudget of(long millis, long start) {
+    return new TimeBudget(System::currentTimeMillis, start + millis);
+  }
+
+  public boolean isLimited() {
+    return this.deadline != Long.MAX_VALUE;
+  }
+
+  public boolean isSpent() {
+    return this.clock.getAsLong() >= this.deadline;
+  }
+
+}
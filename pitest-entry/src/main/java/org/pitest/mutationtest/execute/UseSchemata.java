@@ -0,0 +1,35 @@
+package org.pitest.mutationtest.execute;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Combines the mutants of each class into a single schema class, in which each
+ * mutant is guarded by a check of the active mutant. Minions redefine each
+ * class once, then switch between its mutants without further redefinition.
+ *
+ * Only mutators that replace a single instruction or jump take part. Other
+ * mutants are still created and inserted individually.
+ */
+public class UseSchemata implements ConfigurationUpdater {
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    toModify.setUseSchemata(true);
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("schemata")
+        .withOnByDefault(false)
+        .withDescription(description());
+  }
+
+  @Override
+  public String description() {
+    return "Switch between mutants of a class without redefining it for each mutant";
+  }
+
+}
@@ -0,0 +1,47 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Optional;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Assigns tests to mutants from a static call graph instead of from coverage
+ * gathered by running the tests. Much faster for large suites, but each mutant
+ * is run against every test class that could reach it, and code reached only
+ * by reflection is reported as not covered.
+ */
+public class UseStaticCoverage implements ConfigurationUpdater {
+
+  static final int DEFAULT_TIME = 1000;
+
+  private static final FeatureParameter TIME = FeatureParameter.named("time")
+      .withDescription("Milliseconds assumed for a test class whose time is not in the history. Defaults to "
+          + DEFAULT_TIME);
+
+  @Override
+  public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+    final int time = conf.getInteger(TIME.name()).orElse(DEFAULT_TIME);
+    if (time < 0) {
+      throw new IllegalArgumentException("Test time must not be negative but was " + time);
+    }
+    toModify.setStaticCoverage(Optional.of(time));
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("static_coverage")
+        .withOnByDefault(false)
+        .withDescription(description())
+        .withParameter(TIME);
+  }
+
+  @Override
+  public String description() {
+    return "Approximate coverage with a static call graph instead of running tests";
+  }
+
+}
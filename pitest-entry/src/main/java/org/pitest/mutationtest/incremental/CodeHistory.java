@@ -1,6 +1,5 @@
 package org.pitest.mutationtest.incremental;
 
-import java.math.BigInteger;
 
 import org.pitest.classinfo.ClassName;
 import java.util.Optional;
@@ -13,6 +12,6 @@ public interface CodeHistory {
 
   boolean hasClassChanged(ClassName className);
 
-  boolean hasCoverageChanged(ClassName className, BigInteger currentCoverage);
+  boolean hasCoverageChanged(ClassName className, long currentCoverage);
 
 }
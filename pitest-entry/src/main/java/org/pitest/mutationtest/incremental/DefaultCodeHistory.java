@@ -1,6 +1,5 @@
 package org.pitest.mutationtest.incremental;
 
-import java.math.BigInteger;
 import java.util.Map;
 
 import org.pitest.classinfo.ClassInfo;
@@ -53,9 +52,9 @@ public class DefaultCodeHistory implements CodeHistory {
 
   @Override
   public boolean hasCoverageChanged(final ClassName className,
-      final BigInteger currentCoverage) {
+      final long currentCoverage) {
     return !this.previousClassPath.get(className).getCoverageId()
-        .equals(currentCoverage.toString(16));
+        .equals(Long.toHexString(currentCoverage));
   }
 
 }
@@ -23,6 +23,7 @@ import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.Log;
 import org.pitest.util.Unchecked;
@@ -35,6 +36,7 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
   private final BufferedReader                                  input;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<>();
   private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
+  private final TestDurations                                   previousDurations = new TestDurations();
 
   public ObjectOutputStreamHistoryStore(final WriterFactory output,
       final Optional<Reader> input) {
@@ -54,7 +56,8 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     output.println(ids.size());
     for (final HierarchicalClassId each : ids) {
       final ClassHistory coverage = new ClassHistory(each,
-          coverageInfo.getCoverageIdForClass(each.getName()).toString(16));
+          Long.toHexString(coverageInfo.getCoverageIdForClass(each.getName())),
+          coverageInfo.getTestClassTime(each.getName()));
       output.println(serialize(coverage));
     }
     output.flush();
@@ -68,6 +71,13 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     output.flush();
   }
 
+  @Override
+  public void recordTestDurations(final TestDurations durations) {
+    final PrintWriter output = this.outputFactory.create();
+    output.println(serialize(durations));
+    output.flush();
+  }
+
   @Override
   public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
     return this.previousResults;
@@ -78,6 +88,11 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     return this.previousClassPath;
   }
 
+  @Override
+  public TestDurations getHistoricTestDurations() {
+    return this.previousDurations;
+  }
+
   @Override
   public void initialize() {
     if (this.input != null) {
@@ -96,8 +111,14 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     try {
       line = this.input.readLine();
       while (line != null) {
-        final IdResult result = deserialize(line, IdResult.class);
-        this.previousResults.put(result.id, result.status);
+        // test durations are recorded among the results
+        final Object record = deserialize(line, Object.class);
+        if (record instanceof TestDurations) {
+          this.previousDurations.recordAll((TestDurations) record);
+        } else {
+          final IdResult result = (IdResult) record;
+          this.previousResults.put(result.id, result.status);
+        }
         line = this.input.readLine();
       }
     } catch (final IOException e) {
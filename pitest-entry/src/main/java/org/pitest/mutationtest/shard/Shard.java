@@ -0,0 +1,166 @@
+package org.pitest.mutationtest.shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * One of a number of shards between which mutation analysis is divided, so
+ * that it can be spread across machines. Shards are numbered from 1.
+ *
+ * Each shard computes the same partition independently, so the partition
+ * must depend only on the mutants and the tests that cover them. Units are
+ * balanced by an estimated cost based on the number of covering tests, as
+ * measured test timings vary between machines and runs.
+ */
+public final class Shard {
+
+  // cost of launching a minion, in test executions
+  static final int UNIT_COST = 20;
+
+  private static final Shard ALL = new Shard(1, 1);
+
+  private final int index;
+  private final int count;
+
+  public Shard(int index, int count) {
+    if (count < 1 || index < 1 || index > count) {
+      throw new IllegalArgumentException("Invalid shard " + index + "/" + count
+          + ". Shards are numbered from 1 to the number of shards");
+    }
+    this.index = index;
+    this.count = count;
+  }
+
+  public static Shard all() {
+    return ALL;
+  }
+
+  /**
+   * Parses a shard in the form index/count, e.g. 2/4
+   */
+  public static Shard valueOf(String s) {
+    final String[] parts = s.trim().split("/");
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Expected shard in the form index/count but got " + s);
+    }
+    try {
+      return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    } catch (final NumberFormatException e) {
+      throw new IllegalArgumentException("Expected shard in the form index/count but got " + s);
+    }
+  }
+
+  public int index() {
+    return this.index;
+  }
+
+  public int count() {
+    return this.count;
+  }
+
+  public boolean isPartial() {
+    return this.count > 1;
+  }
+
+  /**
+   * Mutants whose status is already known are cheap to report, so all are
+   * reported by the first shard.
+   */
+  public boolean includesKnownResults() {
+    return this.index == 1;
+  }
+
+  /**
+   * Name of the file to which the results of this shard are written.
+   */
+  public String resultsFileName() {
+    return "shard-" + this.index + "-of-" + this.count + ".results";
+  }
+
+  /**
+   * Selects the groups of mutants that belong to this shard. Groups are
+   * assigned, most expensive first, to whichever shard has the lowest total
+   * cost so far.
+   */
+  public <T extends Collection<MutationDetails>> List<T> select(List<T> groups) {
+    if (!isPartial()) {
+      return groups;
+    }
+
+    final List<T> byCost = new ArrayList<>(groups);
+    byCost.sort(Comparator.comparingLong(Shard::estimatedCost).reversed()
+        .thenComparing(Shard::firstMutant));
+
+    final long[] load = new long[this.count];
+    final Set<T> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (final T each : byCost) {
+      final int shard = leastLoaded(load);
+      load[shard] += estimatedCost(each);
+      if (shard == this.index - 1) {
+        selected.add(each);
+      }
+    }
+
+    // retain the order in which the groups were supplied
+    return groups.stream()
+        .filter(selected::contains)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Estimated cost of analysing a group of mutants, in test executions.
+   */
+  public static long estimatedCost(Collection<MutationDetails> group) {
+    long cost = UNIT_COST;
+    for (final MutationDetails each : group) {
+      cost += each.getTestsInOrder().size();
+    }
+    return cost;
+  }
+
+  private static MutationIdentifier firstMutant(Collection<MutationDetails> group) {
+    return Collections.min(group, Comparator.comparing(MutationDetails::getId)).getId();
+  }
+
+  private static int leastLoaded(long[] load) {
+    int least = 0;
+    for (int i = 1; i != load.length; i++) {
+      if (load[i] < load[least]) {
+        least = i;
+      }
+    }
+    return least;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final Shard shard = (Shard) o;
+    return this.index == shard.index && this.count == shard.count;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.index, this.count);
+  }
+
+  @Override
+  public String toString() {
+    return this.index + "/" + this.count;
+  }
+}
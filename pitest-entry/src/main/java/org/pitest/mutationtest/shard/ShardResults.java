@@ -0,0 +1,162 @@
+package org.pitest.mutationtest.shard;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * The combined results of every shard of a run. Supplies the recorded status
+ * of each mutant in place of analysing it, so that reports, statistics and
+ * history can be rebuilt as if the run had not been sharded.
+ *
+ * Results are stored one per line as base64 encoded serialized objects, in the
+ * same form as the history file, following a header line naming the shard.
+ */
+public class ShardResults implements MutationAnalyser {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> results;
+
+  ShardResults(Map<MutationIdentifier, MutationStatusTestPair> results) {
+    this.results = results;
+  }
+
+  /**
+   * Reads and combines the results written by each shard of a run. Fails
+   * unless exactly one file is supplied for each shard.
+   */
+  public static ShardResults merge(Collection<File> files) {
+    final Map<MutationIdentifier, MutationStatusTestPair> results = new HashMap<>();
+    final Set<Integer> seen = new TreeSet<>();
+    int count = 0;
+    for (final File each : files) {
+      try (Reader r = Files.newBufferedReader(each.toPath(), StandardCharsets.UTF_8)) {
+        final Shard shard = read(r, results);
+        if (count != 0 && shard.count() != count) {
+          throw new PitError("Shard results " + each + " are from a run split into "
+              + shard.count() + " shards, but other results are from a run split into " + count);
+        }
+        if (!seen.add(shard.index())) {
+          throw new PitError("Results for shard " + shard + " were supplied more than once");
+        }
+        count = shard.count();
+      } catch (final IOException e) {
+        throw new PitError("Could not read shard results from " + each, e);
+      }
+    }
+
+    if (seen.size() != count) {
+      throw new PitError("Results were supplied for shards " + seen + " of " + count
+          + ". Results are required from every shard");
+    }
+    LOG.info("Merged results for " + results.size() + " mutations from " + count + " shards");
+    return new ShardResults(results);
+  }
+
+  @Override
+  public Collection<MutationResult> analyse(Collection<MutationDetails> mutations) {
+    final List<MutationResult> analysed = new ArrayList<>(mutations.size());
+    final List<MutationDetails> missing = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      final MutationStatusTestPair status = this.results.get(each.getId());
+      if (status == null) {
+        missing.add(each);
+      } else {
+        analysed.add(new MutationResult(each, status));
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      throw new PitError("No shard recorded a result for " + missing.size()
+          + " mutations, including " + missing.get(0).getId()
+          + ". All shards must be run against the same code and configuration as the merge.");
+    }
+    return analysed;
+  }
+
+  static Shard read(Reader in,
+      Map<MutationIdentifier, MutationStatusTestPair> results) throws IOException {
+    final BufferedReader r = new BufferedReader(in);
+    final String header = r.readLine();
+    if (header == null) {
+      throw new IOException("Empty shard results");
+    }
+    final Shard shard = Shard.valueOf(header);
+    String line = r.readLine();
+    while (line != null) {
+      final IdResult result = deserialize(line);
+      results.put(result.id, result.status);
+      line = r.readLine();
+    }
+    return shard;
+  }
+
+  static void write(Writer out, Shard shard, Collection<MutationResult> results)
+      throws IOException {
+    out.write(shard.toString());
+    out.write('\n');
+    for (final MutationResult each : results) {
+      out.write(serialize(new IdResult(each.getDetails().getId(),
+          each.getStatusTestPair())));
+      out.write('\n');
+    }
+  }
+
+  private static IdResult deserialize(String string) throws IOException {
+    try {
+      final ObjectInputStream ois = new ObjectInputStream(
+          new ByteArrayInputStream(Base64.getDecoder().decode(string)));
+      return (IdResult) ois.readObject();
+    } catch (final ClassNotFoundException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static String serialize(IdResult result) throws IOException {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final ObjectOutputStream oos = new ObjectOutputStream(bos);
+    oos.writeObject(result);
+    oos.flush();
+    return Base64.getEncoder().encodeToString(bos.toByteArray());
+  }
+
+  private static class IdResult implements Serializable {
+    private static final long    serialVersionUID = 1L;
+    final MutationIdentifier     id;
+    final MutationStatusTestPair status;
+
+    IdResult(final MutationIdentifier id, final MutationStatusTestPair status) {
+      this.id = id;
+      this.status = status;
+    }
+  }
+
+}
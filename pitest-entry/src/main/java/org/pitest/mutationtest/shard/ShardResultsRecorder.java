@@ -0,0 +1,75 @@
+package org.pitest.mutationtest.shard;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Unchecked;
+
+/**
+ * Records the results of the units run by a shard so they can later be
+ * merged with those of the other shards.
+ *
+ * Results are captured as each unit completes, before any result interceptors
+ * have modified them, as the interceptors will be applied again when the
+ * results are merged.
+ */
+public class ShardResultsRecorder {
+
+  private final Shard                 shard;
+  private final Queue<MutationResult> results = new ConcurrentLinkedQueue<>();
+
+  public ShardResultsRecorder(Shard shard) {
+    this.shard = shard;
+  }
+
+  public List<MutationAnalysisUnit> record(List<MutationAnalysisUnit> units) {
+    return units.stream()
+        .map(this::record)
+        .collect(Collectors.toList());
+  }
+
+  private MutationAnalysisUnit record(MutationAnalysisUnit unit) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public int priority() {
+        return unit.priority();
+      }
+
+      @Override
+      public MutationMetaData call() throws Exception {
+        return record(unit.call());
+      }
+
+      @Override
+      public MutationMetaData notRun() {
+        return record(unit.notRun());
+      }
+    };
+  }
+
+  private MutationMetaData record(MutationMetaData metaData) {
+    this.results.addAll(metaData.getMutations());
+    return metaData;
+  }
+
+  public void writeTo(ResultOutputStrategy output) {
+    final List<MutationResult> sorted = new ArrayList<>(this.results);
+    sorted.sort(Comparator.comparing(r -> r.getDetails().getId()));
+    try (Writer w = output.createWriterForFile(this.shard.resultsFileName())) {
+      ShardResults.write(w, this.shard, sorted);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -15,11 +15,13 @@
 package org.pitest.mutationtest.statistics;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
 
 import java.io.PrintStream;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 
 public final class MutationStatistics {
@@ -30,6 +32,7 @@ public final class MutationStatistics {
   private final long totalWithCoverage;
 
   private final Set<ClassName> mutatedClasses;
+  private final Optional<ScoreEstimate> estimate;
 
   public MutationStatistics(Iterable<Score> scores,
                             long totalMutations,
@@ -37,12 +40,38 @@ public final class MutationStatistics {
                             long totalWithCoverage,
                             long numberOfTestsRun,
                             Set<ClassName> mutatedClasses) {
+    this(scores, totalMutations, totalDetected, totalWithCoverage, numberOfTestsRun,
+        mutatedClasses, Optional.empty());
+  }
+
+  private MutationStatistics(Iterable<Score> scores,
+                             long totalMutations,
+                             long totalDetected,
+                             long totalWithCoverage,
+                             long numberOfTestsRun,
+                             Set<ClassName> mutatedClasses,
+                             Optional<ScoreEstimate> estimate) {
     this.scores = scores;
     this.totalMutations = totalMutations;
     this.totalDetected = totalDetected;
     this.numberOfTestsRun = numberOfTestsRun;
     this.totalWithCoverage = totalWithCoverage;
     this.mutatedClasses = mutatedClasses;
+    this.estimate = estimate;
+  }
+
+  /**
+   * Statistics for a run that analysed only a sample of the mutants, with the
+   * score estimated for all of them.
+   */
+  public MutationStatistics withEstimate(ScoreEstimate estimate) {
+    return new MutationStatistics(this.scores, this.totalMutations, this.totalDetected,
+        this.totalWithCoverage, this.numberOfTestsRun, this.mutatedClasses,
+        Optional.of(estimate));
+  }
+
+  public Optional<ScoreEstimate> getEstimate() {
+    return this.estimate;
   }
 
   public Iterable<Score> getScores() {
@@ -69,6 +98,30 @@ public final class MutationStatistics {
     return getTotalMutations() - getTotalDetectedMutations();
   }
 
+  /**
+   * Mutations that were not analysed because the time budget was spent. These
+   * are excluded from all other totals.
+   */
+  public long getTotalNotRun() {
+    long notRun = 0;
+    for (final Score score : this.scores) {
+      for (final StatusCount each : score.getCounts()) {
+        if (each.getStatus() == DetectionStatus.NOT_RUN) {
+          notRun = notRun + each.getCount();
+        }
+      }
+    }
+    return notRun;
+  }
+
+  /**
+   * True when some mutations were not run, so that the scores describe only
+   * the mutations that were.
+   */
+  public boolean isPartial() {
+    return getTotalNotRun() != 0;
+  }
+
   public Set<ClassName> mutatedClasses() {
     return mutatedClasses;
   }
@@ -94,6 +147,12 @@ public final class MutationStatistics {
             + ". Test strength " + this.getTestStrength() + "%");
     out.println(">> Ran " + this.numberOfTestsRun + " tests ("
         + getTestsPerMutation() + " tests per mutation)");
+    this.estimate.ifPresent(e -> e.report(out));
+    if (isPartial()) {
+      out.println(">> WARNING " + getTotalNotRun()
+          + " mutations were not run before the time budget was spent. Scores are partial"
+          + " and exclude them");
+    }
     
     out.println("Enhanced functionality available at https://www.arcmutate.com/");
   }
@@ -54,6 +54,10 @@ public final class Score {
     return this.mutatorName;
   }
 
+  public Iterable<StatusCount> getCounts() {
+    return this.counts;
+  }
+
   public long getTotalMutations() {
     return this.totalMutations;
   }
@@ -0,0 +1,189 @@
+package org.pitest.mutationtest.statistics;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * Mutation score estimated from a sample of the mutants, with a 95%
+ * confidence interval.
+ *
+ * The interval is the Wilson score interval, with the sample size adjusted
+ * by the finite population correction so that it narrows to the observed score
+ * as the sample approaches every mutant. Treating a proportionally stratified
+ * sample as a simple random one overstates its variance, so the interval is
+ * conservative.
+ *
+ * Mutants whose status was already known are not sampled, but counted
+ * exactly, so the estimate and interval extend only over the others.
+ */
+public final class ScoreEstimate {
+
+  private static final double Z = 1.96;
+
+  private final long   population;
+  private final long   known;
+  private final long   knownDetected;
+  private final long   sampled;
+  private final long   detected;
+  // bounds of the score of the mutants whose status was not known
+  private final double lower;
+  private final double upper;
+
+  ScoreEstimate(long population, long sampled, long detected, double lower, double upper) {
+    this(population, 0, 0, sampled, detected, lower, upper);
+  }
+
+  private ScoreEstimate(long population, long known, long knownDetected, long sampled,
+      long detected, double lower, double upper) {
+    this.population = population;
+    this.known = known;
+    this.knownDetected = knownDetected;
+    this.sampled = sampled;
+    this.detected = detected;
+    this.lower = lower;
+    this.upper = upper;
+  }
+
+  /**
+   * @param population number of mutants from which the sample was drawn
+   * @param sampled number of mutants analysed
+   * @param detected number of analysed mutants that were detected
+   */
+  public static ScoreEstimate estimate(long population, long sampled, long detected) {
+    if (sampled > population || detected > sampled || detected < 0) {
+      throw new IllegalArgumentException("Cannot estimate score from " + detected
+          + " detected of " + sampled + " sampled from " + population);
+    }
+    if (sampled == 0) {
+      return new ScoreEstimate(population, 0, 0, 0, 1);
+    }
+
+    final double p = detected / (double) sampled;
+    if (sampled == population) {
+      return new ScoreEstimate(population, sampled, detected, p, p);
+    }
+
+    final double n = sampled * (double) (population - 1) / (population - sampled);
+    final double z2 = Z * Z;
+    final double denominator = 1 + z2 / n;
+    final double centre = (p + z2 / (2 * n)) / denominator;
+    final double half = Z * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n)) / denominator;
+    return new ScoreEstimate(population, sampled, detected,
+        Math.max(0, centre - half), Math.min(1, centre + half));
+  }
+
+  /**
+   * Adds mutants whose status was already known to the population, counting
+   * them exactly.
+   *
+   * @param known number of mutants with a known status
+   * @param knownDetected number of those that were detected
+   */
+  public ScoreEstimate withKnown(long known, long knownDetected) {
+    if (knownDetected > known || knownDetected < 0) {
+      throw new IllegalArgumentException("Cannot count " + knownDetected
+          + " detected of " + known + " known");
+    }
+    return new ScoreEstimate(this.population + known, this.known + known,
+        this.knownDetected + knownDetected, this.sampled, this.detected, this.lower,
+        this.upper);
+  }
+
+  /**
+   * Total number of mutants, including those whose status was known
+   */
+  public long population() {
+    return this.population;
+  }
+
+  public long known() {
+    return this.known;
+  }
+
+  public long knownDetected() {
+    return this.knownDetected;
+  }
+
+  /**
+   * Number of mutants analysed, excluding those whose status was known
+   */
+  public long sampled() {
+    return this.sampled;
+  }
+
+  public long detected() {
+    return this.detected;
+  }
+
+  public double score() {
+    return combine(this.sampled == 0 ? 0 : this.detected / (double) this.sampled);
+  }
+
+  public double lower() {
+    return combine(this.lower);
+  }
+
+  public double upper() {
+    return combine(this.upper);
+  }
+
+  public double width() {
+    return upper() - lower();
+  }
+
+  public boolean isComplete() {
+    return this.known + this.sampled == this.population;
+  }
+
+  public void report(final PrintStream out) {
+    final String known = this.known == 0 ? ""
+        : " whose status was not known (" + this.known + " known)";
+    out.println(">> Sampled " + this.sampled + " of " + (this.population - this.known)
+        + " mutations" + known + ". Estimated score " + percent(score()) + "% (95% confidence "
+        + percent(lower()) + "% to " + percent(upper()) + "%)");
+  }
+
+  // weights a fraction of the mutants whose status was not known by their share
+  private double combine(double fraction) {
+    if (this.known == 0) {
+      return fraction;
+    }
+    return (this.knownDetected + fraction * (this.population - this.known)) / this.population;
+  }
+
+  private static long percent(double fraction) {
+    return Math.round(fraction * 100);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ScoreEstimate that = (ScoreEstimate) o;
+    return this.population == that.population
+        && this.known == that.known
+        && this.knownDetected == that.knownDetected
+        && this.sampled == that.sampled
+        && this.detected == that.detected
+        && Double.compare(this.lower, that.lower) == 0
+        && Double.compare(this.upper, that.upper) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.population, this.known, this.knownDetected, this.sampled,
+        this.detected, this.lower, this.upper);
+  }
+
+  @Override
+  public String toString() {
+    return "ScoreEstimate [population=" + this.population + ", known=" + this.known
+        + ", knownDetected=" + this.knownDetected + ", sampled=" + this.sampled
+        + ", detected=" + this.detected + ", lower=" + this.lower + ", upper="
+        + this.upper + "]";
+  }
+}
@@ -27,8 +27,10 @@ class ScorePrecursor {
     return this.counts.values();
   }
 
+  // mutations not run within the time budget are excluded from the score
   private long getTotalMutations() {
-    return FCollection.fold(addTotals(), 0L, this.counts.values());
+    return FCollection.fold(addTotals(), 0L,
+        FCollection.filter(this.counts.values(), wasRun()));
   }
 
   private long getTotalDetectedMutations() {
@@ -38,7 +40,11 @@ class ScorePrecursor {
 
   private long getTotalMutationsWithCoverage() {
     return FCollection.fold(addTotals(), 0L,
-            FCollection.filter(this.counts.values(), hasCoverage()));
+            FCollection.filter(this.counts.values(), wasRun().and(hasCoverage())));
+  }
+
+  private static Predicate<StatusCount> wasRun() {
+    return a -> a.getStatus() != DetectionStatus.NOT_RUN;
   }
 
   private static Predicate<StatusCount> isDetected() {
@@ -0,0 +1,98 @@
+package org.pitest.mutationtest.tooling;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Hands a run to a PitDaemon listening on the local machine, printing its
+ * output as if the run had taken place in this process. The token presented
+ * to the daemon is read from the file it wrote, and relative paths are
+ * resolved against the working directory of this process.
+ */
+public class DaemonClient {
+
+  private static final String PORT_OPTION = "--daemonPort";
+
+  private final int  port;
+  private final Path tokenDirectory;
+
+  public DaemonClient(int port) {
+    this(port, DaemonProtocol.defaultTokenDirectory());
+  }
+
+  public DaemonClient(int port, Path tokenDirectory) {
+    this.port = port;
+    this.tokenDirectory = tokenDirectory;
+  }
+
+  /**
+   * Removes the daemon port option, if present, from the arguments.
+   */
+  public static Optional<Integer> takePort(List<String> args) {
+    final int index = args.indexOf(PORT_OPTION);
+    if (index == -1) {
+      return Optional.empty();
+    }
+    if (index == args.size() - 1) {
+      throw new PitError("No port given for " + PORT_OPTION);
+    }
+    final String port = args.get(index + 1);
+    args.subList(index, index + 2).clear();
+    try {
+      return Optional.of(Integer.parseInt(port));
+    } catch (final NumberFormatException e) {
+      throw new PitError("Invalid port " + port + " given for " + PORT_OPTION);
+    }
+  }
+
+  /**
+   * Runs analysis in the daemon, throwing an exception if it fails, including
+   * if any threshold is not met.
+   */
+  public void run(List<String> args, PrintStream console) {
+    run(args, new File(System.getProperty("user.dir")), console);
+  }
+
+  /**
+   * Runs analysis in the daemon as if started in the given directory,
+   * throwing an exception if it fails, including if any threshold is not met.
+   */
+  public void run(List<String> args, File workingDir, PrintStream console) {
+    final String token;
+    final Path tokenFile = DaemonProtocol.tokenFile(this.tokenDirectory, this.port);
+    try {
+      token = DaemonProtocol.readToken(tokenFile);
+    } catch (final IOException e) {
+      throw new PitError("Could not read token of pitest daemon on port " + this.port
+          + " from " + tokenFile, e);
+    }
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), this.port)) {
+      final DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(socket.getOutputStream()));
+      final DataInputStream in = new DataInputStream(
+          new BufferedInputStream(socket.getInputStream()));
+      DaemonProtocol.writeRequest(out, token, workingDir.getAbsolutePath(), args);
+      final String failure = DaemonProtocol.readUntilExit(in, console);
+      if (failure != null) {
+        throw new RuntimeException(failure);
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException("Could not run analysis in pitest daemon on port "
+          + this.port, e);
+    }
+  }
+
+}
@@ -0,0 +1,201 @@
+package org.pitest.mutationtest.tooling;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Messages exchanged between a DaemonClient and a PitDaemon.
+ *
+ * The client sends the token the daemon wrote to its token file, its working
+ * directory and the command line arguments for a run. The daemon replies with
+ * the console output of the run, in chunks, followed by its exit status.
+ */
+public final class DaemonProtocol {
+
+  public static final byte OUTPUT = 1;
+  public static final byte EXIT   = 2;
+
+  public static final int SUCCESS = 0;
+  public static final int FAILURE = 1;
+
+  private static final int TOKEN_BYTES = 32;
+
+  private DaemonProtocol() {
+  }
+
+  /**
+   * Directory in the home of the user holding the token of each daemon
+   */
+  public static Path defaultTokenDirectory() {
+    return Paths.get(System.getProperty("user.home"), ".pitest");
+  }
+
+  public static Path tokenFile(Path directory, int port) {
+    return directory.resolve("daemon-" + port + ".token");
+  }
+
+  /**
+   * Writes a new random token to a file that only its owner can read, in a
+   * directory that only its owner can list.
+   */
+  public static String writeToken(Path file) throws IOException {
+    final byte[] bytes = new byte[TOKEN_BYTES];
+    new SecureRandom().nextBytes(bytes);
+    final StringBuilder token = new StringBuilder();
+    for (final byte each : bytes) {
+      token.append(String.format("%02x", each));
+    }
+
+    final boolean posix = FileSystems.getDefault().supportedFileAttributeViews()
+        .contains("posix");
+    final Path directory = file.toAbsolutePath().getParent();
+    if (posix) {
+      Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(
+          PosixFilePermissions.fromString("rwx------")));
+      Files.deleteIfExists(file);
+      Files.createFile(file, PosixFilePermissions.asFileAttribute(
+          PosixFilePermissions.fromString("rw-------")));
+    } else {
+      Files.createDirectories(directory);
+      Files.deleteIfExists(file);
+      Files.createFile(file);
+      final File asFile = file.toFile();
+      asFile.setReadable(false, false);
+      asFile.setWritable(false, false);
+      asFile.setReadable(true, true);
+      asFile.setWritable(true, true);
+    }
+    Files.write(file, token.toString().getBytes(StandardCharsets.UTF_8));
+    return token.toString();
+  }
+
+  public static String readToken(Path file) throws IOException {
+    return new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+  }
+
+  public static void writeRequest(DataOutputStream out, String token, String workingDir,
+      List<String> args) throws IOException {
+    writeString(out, token);
+    writeString(out, workingDir);
+    out.writeInt(args.size());
+    for (final String each : args) {
+      writeString(out, each);
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads the token at the start of a request, without reading more than a
+   * token could be, and compares it with the expected one.
+   */
+  public static boolean readToken(DataInputStream in, String expected) throws IOException {
+    final byte[] expectedBytes = expected.getBytes(StandardCharsets.UTF_8);
+    final int length = in.readInt();
+    if (length != expectedBytes.length) {
+      return false;
+    }
+    final byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return MessageDigest.isEqual(bytes, expectedBytes);
+  }
+
+  public static String readWorkingDir(DataInputStream in) throws IOException {
+    return readString(in);
+  }
+
+  public static List<String> readArgs(DataInputStream in) throws IOException {
+    final int count = in.readInt();
+    final List<String> args = new ArrayList<>(count);
+    for (int i = 0; i != count; i++) {
+      args.add(readString(in));
+    }
+    return args;
+  }
+
+  public static void writeExit(DataOutputStream out, int status, String message) throws IOException {
+    synchronized (out) {
+      out.writeByte(EXIT);
+      out.writeInt(status);
+      writeString(out, message);
+      out.flush();
+    }
+  }
+
+  /**
+   * Copies output to the stream until the exit message is read.
+   *
+   * @return the exit message, or null if the run succeeded
+   */
+  public static String readUntilExit(DataInputStream in, PrintStream console) throws IOException {
+    while (true) {
+      final byte type = in.readByte();
+      if (type == OUTPUT) {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        console.write(bytes, 0, bytes.length);
+      } else if (type == EXIT) {
+        final int status = in.readInt();
+        final String message = readString(in);
+        console.flush();
+        return status == SUCCESS ? null : message;
+      } else {
+        throw new IOException("Unexpected message type " + type + " from pitest daemon");
+      }
+    }
+  }
+
+  /**
+   * Stream that sends everything written to it as output messages.
+   */
+  public static OutputStream outputTo(DataOutputStream out) {
+    return new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        synchronized (out) {
+          out.writeByte(OUTPUT);
+          out.writeInt(len);
+          out.write(b, off, len);
+        }
+      }
+
+      @Override
+      public void flush() throws IOException {
+        synchronized (out) {
+          out.flush();
+        }
+      }
+    };
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    final byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+}
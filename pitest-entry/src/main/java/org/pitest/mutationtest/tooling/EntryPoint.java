@@ -5,13 +5,16 @@ import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.execute.CoverageCache;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
+import org.pitest.coverage.execute.StaticCoverageGenerator;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.config.WarmCaches;
 import org.pitest.mutationtest.incremental.NullHistoryStore;
 import org.pitest.mutationtest.incremental.NullWriterFactory;
 import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
@@ -19,6 +22,7 @@ import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
 import org.pitest.process.ArgLineParser;
+import org.pitest.process.ClassDataSharing;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.util.Log;
@@ -103,20 +107,28 @@ public class EntryPoint {
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
     final LaunchOptions launchOptions = new LaunchOptions(ja,
         settings.getJavaExecutable(), createJvmArgs(data), environmentVariables)
-        .usingClassPathJar(data.useClasspathJar());
+        .usingClassPathJar(data.useClasspathJar())
+        .withClassDataSharing(data.getClassDataArchiveDir()
+            .map(ClassDataSharing::inDirectory)
+            .orElse(ClassDataSharing.disabled()));
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
     final CodeSource code = settings.createCodeSource(cps);
 
-    final Timings timings = new Timings();
-    final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
-        baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, data.getVerbosity());
-
     final Optional<WriterFactory> maybeWriter = data.createHistoryWriter();
     WriterFactory historyWriter = maybeWriter.orElse(new NullWriterFactory());
     final HistoryStore history = makeHistoryStore(data, maybeWriter);
 
+    final Timings timings = new Timings();
+    final CoverageGenerator coverageDatabase = data.getStaticCoverage()
+        .<CoverageGenerator>map(time -> new StaticCoverageGenerator(coverageOptions,
+            launchOptions, code, settings.createCoverageExporter(), timings, history, time))
+        .orElseGet(() -> new DefaultCoverageGenerator(baseDir, coverageOptions,
+            launchOptions, code, settings.createCoverageExporter(), timings,
+            data.getVerbosity(), data.getWarmCaches()
+                .map(WarmCaches::coverage)
+                .orElse(CoverageCache.disabled())));
+
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory, settings.getResultInterceptor(),
         settings.createCoverageTransformer(code),
@@ -38,26 +38,39 @@ import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultInterceptor;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.build.AdaptiveSample;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationSource;
 import org.pitest.mutationtest.build.MutationTestBuilder;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.build.SubsumedMutants;
+import org.pitest.mutationtest.build.TestDurations;
 import org.pitest.mutationtest.build.TestPrioritiser;
+import org.pitest.mutationtest.build.ValuePerCost;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.execute.OperatingSystemLoad;
+import org.pitest.mutationtest.execute.IsolatedListeners;
+import org.pitest.mutationtest.execute.MinionSlots;
+import org.pitest.mutationtest.execute.RunTelemetry;
+import org.pitest.mutationtest.execute.TimeBudget;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
 import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
 import org.pitest.mutationtest.incremental.NullHistoryStore;
+import org.pitest.mutationtest.shard.Shard;
+import org.pitest.mutationtest.shard.ShardResults;
+import org.pitest.mutationtest.shard.ShardResultsRecorder;
 import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
 import org.pitest.mutationtest.statistics.Score;
 import org.pitest.util.Log;
+import org.pitest.util.PitError;
 import org.pitest.util.StringUtil;
 import org.pitest.util.Timings;
 
@@ -65,6 +78,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -91,6 +105,9 @@ public class MutationCoverage {
   private final CodeSource         code;
   private final File               baseDir;
   private final SettingsFactory    settings;
+  private final RunTelemetry       telemetry;
+  private final MinionSlots        slots;
+  private final TestDurations      testDurations = new TestDurations();
 
   public MutationCoverage(final MutationStrategies strategies,
       final File baseDir, final CodeSource code, final ReportOptions data,
@@ -101,6 +118,11 @@ public class MutationCoverage {
     this.timings = timings;
     this.code = code;
     this.baseDir = baseDir;
+    this.telemetry = data.getTelemetryFormat()
+        .map(format -> RunTelemetry.recording(strategies.output(), format))
+        .orElse(RunTelemetry.disabled());
+    this.slots = data.getMinionSlots().map(MinionSlots::acrossMachine)
+        .orElse(MinionSlots.unlimited());
   }
 
   public CombinedStatistics runReport() throws IOException {
@@ -126,7 +148,8 @@ public class MutationCoverage {
 
     final EngineArguments args = EngineArguments.arguments()
             .withExcludedMethods(this.data.getExcludedMethods())
-            .withMutators(this.data.getMutators());
+            .withMutators(this.data.getMutators())
+            .withSchemata(this.data.useSchemata());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
     List<MutationAnalysisUnit> preScanMutations = findMutations(engine, args);
@@ -150,8 +173,16 @@ public class MutationCoverage {
   }
 
   private CombinedStatistics runAnalysis(Runtime runtime, long t0, EngineArguments args, MutationEngine engine, List<String> issues) {
-    CoverageDatabase coverageData = coverage().calculateCoverage();
+    final Optional<ShardResults> merged = mergeShardResults();
+    final Optional<AdaptiveSample> sample = adaptiveSample();
+    final SubsumedMutants subsumed = new SubsumedMutants();
     HistoryStore history =  this.strategies.history();
+    // read first, as coverage may be approximated from recorded test times
+    history.initialize();
+    if (this.data.getAdaptiveTimeouts().isEnabled()) {
+      this.testDurations.recordAll(history.getHistoricTestDurations());
+    }
+    CoverageDatabase coverageData = coverage().calculateCoverage();
 
     LOG.fine("Used memory after coverage calculation "
         + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
@@ -160,14 +191,15 @@ public class MutationCoverage {
 
     final MutationStatisticsListener stats = new MutationStatisticsListener();
 
-    history.initialize();
-
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData, history,
-            engine, args, allInterceptors());
+            engine, args, allInterceptors(), this.data.getShard(), merged, sample, subsumed);
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created " + tus.size() + " mutation test units" );
+    if (this.data.getShard().isPartial()) {
+      LOG.info("Running units for shard " + this.data.getShard());
+    }
 
     recordClassPath(history, coverageData);
 
@@ -179,19 +211,31 @@ public class MutationCoverage {
     ReportCoverage modifiedCoverage = transformCoverage(coverageData);
     final List<MutationResultListener> config = createConfig(t0, modifiedCoverage, history,
                 stats, engine);
-    final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
-        numberOfThreads(), resultInterceptor(), config);
+    final MutationAnalysisExecutor mae = createExecutor(config, t0);
+    final Optional<ShardResultsRecorder> recorder = shardResultsRecorder();
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
+    if (sample.isPresent()) {
+      mae.run(sample.get().rounds());
+    } else {
+      mae.run(subsumed.rounds(tus, units -> recorder.map(r -> r.record(units)).orElse(units)));
+    }
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+    if (this.data.getAdaptiveTimeouts().isEnabled()) {
+      history.recordTestDurations(this.testDurations);
+    }
+    recorder.ifPresent(r -> r.writeTo(this.strategies.output()));
 
     LOG.info("Completed in " + timeSpan(t0));
+    coverage().getLaunchOptions().getClassDataSharing().reportStartupTimes();
+    this.telemetry.finish();
 
-    MutationStatistics mutationStats = stats.getStatistics();
+    MutationStatistics mutationStats = sample
+        .map(s -> stats.getStatistics().withEstimate(s.estimate()))
+        .orElseGet(stats::getStatistics);
     CombinedStatistics combined = new CombinedStatistics(mutationStats,
             createSummary(modifiedCoverage, mutationStats.mutatedClasses()), issues);
 
-    printStats(combined);
+    printStats(combined, config);
 
     return combined;
   }
@@ -231,7 +275,8 @@ public class MutationCoverage {
     // an initial run here we are able to skip coverage generation when no mutants
     // are found, e.g if pitest is being run against diffs.
     this.timings.registerStart(Timings.Stage.MUTATION_PRE_SCAN);
-    List<MutationAnalysisUnit> mutants = buildMutationTests(new NoCoverage(), new NullHistoryStore(), engine, args, noReportsOrFilters());
+    List<MutationAnalysisUnit> mutants = buildMutationTests(new NoCoverage(), new NullHistoryStore(), engine, args, noReportsOrFilters(),
+        Shard.all(), Optional.empty(), Optional.empty(), new SubsumedMutants());
     this.timings.registerEnd(Timings.Stage.MUTATION_PRE_SCAN);
     return mutants;
   }
@@ -254,6 +299,17 @@ public class MutationCoverage {
     }
   }
 
+  private MutationAnalysisExecutor createExecutor(List<MutationResultListener> config, long t0) {
+    final TimeBudget budget = this.data.getTimeBudget()
+        .map(b -> TimeBudget.of(b.toMillis(), t0))
+        .orElse(TimeBudget.unlimited());
+    return this.data.getAdaptiveThreads()
+        .map(limits -> new MutationAnalysisExecutor(limits, new OperatingSystemLoad(),
+            this.slots::totalWaitNanos, resultInterceptor(), config, this.telemetry, budget))
+        .orElseGet(() -> new MutationAnalysisExecutor(numberOfThreads(), resultInterceptor(),
+            config, this.telemetry, budget));
+  }
+
   private int numberOfThreads() {
     return Math.max(1, this.data.getNumberOfThreads());
   }
@@ -274,8 +330,11 @@ public class MutationCoverage {
     final MutationResultListener mutationReportListener = this.strategies
         .listenerFactory().getListener(this.data.getFreeFormProperties(), args);
 
-    ls.add(mutationReportListener);
-    ls.add(new HistoryListener(history));
+    final List<MutationResultListener> slow = Arrays.asList(mutationReportListener,
+        new HistoryListener(history));
+    ls.addAll(this.data.getListenerQueue()
+        .map(queue -> IsolatedListeners.isolate(slow, queue, this.telemetry))
+        .orElse(slow));
 
     if (this.data.getVerbosity().showSpinner()) {
       ls.add(new SpinnerListener(System.out));
@@ -309,7 +368,8 @@ public class MutationCoverage {
     return this.strategies.buildVerifier().verify();
   }
 
-  private void printStats(CombinedStatistics combinedStatistics) {
+  private void printStats(CombinedStatistics combinedStatistics,
+      List<MutationResultListener> listeners) {
     MutationStatistics stats = combinedStatistics.getMutationStatistics();
     final PrintStream ps = System.out;
 
@@ -326,6 +386,27 @@ public class MutationCoverage {
     ps.println(StringUtil.separatorLine('='));
     this.timings.report(ps);
 
+    if (this.telemetry.isEnabled()) {
+      ps.println(StringUtil.separatorLine('='));
+      ps.println("- Telemetry");
+      ps.println(StringUtil.separatorLine('='));
+      this.telemetry.report(ps);
+    }
+
+    if (this.slots.isLimited()) {
+      ps.println(StringUtil.separatorLine('='));
+      ps.println("- Minion slots");
+      ps.println(StringUtil.separatorLine('='));
+      this.slots.report(ps);
+    }
+
+    if (this.data.getListenerQueue().isPresent()) {
+      ps.println(StringUtil.separatorLine('='));
+      ps.println("- Listeners");
+      ps.println(StringUtil.separatorLine('='));
+      IsolatedListeners.report(listeners, ps);
+    }
+
     ps.println(StringUtil.separatorLine('='));
     ps.println("- Statistics");
     ps.println(StringUtil.separatorLine('='));
@@ -349,7 +430,11 @@ public class MutationCoverage {
                                                         HistoryStore history,
                                                         MutationEngine engine,
                                                         EngineArguments args,
-                                                        Predicate<MutationInterceptor> interceptorFilter) {
+                                                        Predicate<MutationInterceptor> interceptorFilter,
+                                                        Shard shard,
+                                                        Optional<ShardResults> merged,
+                                                        Optional<AdaptiveSample> sample,
+                                                        SubsumedMutants subsumed) {
 
     final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
         .getLaunchOptions());
@@ -362,31 +447,66 @@ public class MutationCoverage {
             coverageData);
 
     final MutationInterceptor interceptor = this.settings.getInterceptor()
-            .createInterceptor(this.data, coverageData, bas, testPrioritiser)
+            .createInterceptor(this.data, coverageData, bas, testPrioritiser, subsumed)
             .filter(interceptorFilter);
 
     interceptor.initialise(this.code);
 
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
+    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor,
+        subsumed);
 
-    final MutationAnalyser analyser = new IncrementalAnalyser(
-        new DefaultCodeHistory(this.code, history), coverageData);
+    // when merging shards, results come from the shards rather than history
+    final MutationAnalyser analyser = merged.<MutationAnalyser>map(m -> m)
+        .orElseGet(() -> new IncrementalAnalyser(new DefaultCodeHistory(this.code, history),
+            coverageData));
 
     final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
         .getConfiguration(), mutationConfig, args,
         new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
             this.data.getTimeoutConstant()), this.data.getVerbosity(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
+            this.data.getClassPath().getLocalClassPath(), this.data.getResultBatching(),
+            coverageData.testUnitIndex(), this.data.getAdaptiveTimeouts(), this.telemetry,
+            this.data.getMutantIsolation(), this.slots, this.testDurations);
 
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
+    // with a time budget, the most valuable units are run first
+    final Optional<ValuePerCost> priority = this.data.getTimeBudget()
+        .map(b -> new ValuePerCost(new DefaultCodeHistory(this.code, history)));
+
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
+        source, grouper, shard, sample, priority, subsumed);
 
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
 
+  private Optional<ShardResults> mergeShardResults() {
+    if (this.data.getShardResults().isEmpty()) {
+      return Optional.empty();
+    }
+    if (this.data.getShard().isPartial()) {
+      throw new PitError("Cannot merge shard results while running shard "
+          + this.data.getShard());
+    }
+    return Optional.of(ShardResults.merge(this.data.getShardResults()));
+  }
+
+  private Optional<AdaptiveSample> adaptiveSample() {
+    if (this.data.getSampling().isPresent()
+        && (this.data.getShard().isPartial() || !this.data.getShardResults().isEmpty())) {
+      throw new PitError("Sampling cannot be combined with shards");
+    }
+    return this.data.getSampling().map(AdaptiveSample::new);
+  }
+
+  private Optional<ShardResultsRecorder> shardResultsRecorder() {
+    if (!this.data.getShard().isPartial()) {
+      return Optional.empty();
+    }
+    return Optional.of(new ShardResultsRecorder(this.data.getShard()));
+  }
+
   private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
     if (tus.isEmpty()) {
       if (this.data.shouldFailWhenNoMutations()) {
@@ -14,74 +14,174 @@
  */
 package org.pitest.mutationtest.tooling;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.function.Function;
-
-import org.pitest.functional.FCollection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.SourceLocator;
 import org.pitest.util.Unchecked;
 
+/**
+ * Locates source files within a set of roots and the directories beneath
+ * them.
+ *
+ * The roots are walked once, building an index of files by name, so that
+ * locating a file does not touch the file system. A file is taken from the
+ * first directory, in search order, that contains a file of that name. Within
+ * that directory a file whose path matches the package of one of the classes
+ * is preferred, otherwise the first found is used.
+ */
 public class SmartSourceLocator implements SourceLocator {
 
   private static final int                MAX_DEPTH = 4;
 
-  private final List<SourceLocator> children;
-  private final Charset inputCharset;
+  // files are found up to this depth beneath each directory searched
+  private static final int                SEARCH_DEPTH = 100;
+
+  private final List<Path>                directories;
+  private final Map<String, List<Path>>   filesByName;
+  private final Charset                   inputCharset;
+
+  private volatile Map<Path, Integer>     searchOrder;
 
   public SmartSourceLocator(final Collection<Path> roots, Charset inputCharset) {
     this.inputCharset = inputCharset;
-    final Collection<Path> childDirs = FCollection.flatMap(roots, collectChildren(MAX_DEPTH));
+    final List<Path> childDirs = new ArrayList<>();
+    final Map<String, List<Path>> files = new HashMap<>();
+    for (final Path each : roots) {
+      walk(each, childDirs, files);
+    }
     childDirs.addAll(roots);
 
-    this.children = FCollection.map(childDirs, f -> new DirectorySourceLocator(f, this.inputCharset));
-  }
-
-  private Function<Path, Collection<Path>> collectChildren(final int depth) {
-    return a -> collectDirectories(a, depth);
+    this.directories = childDirs;
+    this.filesByName = files;
+    this.searchOrder = order(childDirs);
   }
 
-  private Collection<Path> collectDirectories(Path root, int depth) {
+  private static void walk(Path root, List<Path> dirs, Map<String, List<Path>> files) {
+    if (!Files.exists(root)) {
+      return;
+    }
     try {
-      if (!Files.exists(root)) {
-        return Collections.emptyList();
-      }
-
-      try (Stream<Path> matches = Files.find(root, depth, (unused, attributes) -> attributes.isDirectory())) {
-        return matches.collect(Collectors.toList());
-      }
+      Files.walkFileTree(root, Collections.emptySet(), MAX_DEPTH + SEARCH_DEPTH,
+          new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+              if (root.relativize(dir).getNameCount() <= MAX_DEPTH) {
+                dirs.add(dir);
+              }
+              return FileVisitResult.CONTINUE;
+            }
 
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+              if (attrs.isRegularFile()) {
+                files.computeIfAbsent(file.getFileName().toString(), n -> new ArrayList<>(1))
+                    .add(file);
+              }
+              return FileVisitResult.CONTINUE;
+            }
+          });
     } catch (IOException ex) {
       throw Unchecked.translateCheckedException(ex);
     }
-
   }
 
   @Override
   public Optional<Reader> locate(Collection<String> classes, String fileName) {
-    for (final SourceLocator each : this.children) {
-      final Optional<Reader> reader = each.locate(classes, fileName);
-      if (reader.isPresent()) {
-        return reader;
+    final List<Path> candidates = this.filesByName.getOrDefault(fileName, Collections.emptyList());
+    final Map<Path, Integer> order = this.searchOrder;
+
+    Path directory = null;
+    int best = Integer.MAX_VALUE;
+    for (final Path each : candidates) {
+      for (Path parent = each.getParent(); parent != null; parent = parent.getParent()) {
+        final Integer position = order.get(parent);
+        if (position != null && position < best && within(each, parent)) {
+          best = position;
+          directory = parent;
+        }
       }
     }
-    return Optional.empty();
+
+    if (directory == null) {
+      return Optional.empty();
+    }
+    return Optional.of(toReader(choose(directory, candidates, classes, fileName)));
   }
 
   /** Provide hint as to where to look when dealing with multiple modules. NOT thread safe.
    */
   public void sourceRootHint(Path file) {
-    children.sort(new PathComparator(file, File.separator));
+    this.directories.sort(new PathComparator(file, File.separator));
+    this.searchOrder = order(this.directories);
   }
+
+  private static Path choose(Path directory, List<Path> candidates, Collection<String> classes,
+      String fileName) {
+    final Set<Path> expected = classes.stream()
+        .map(ClassName::fromString)
+        .map(ClassName::getPackage)
+        .map(p -> directory.resolve(toFileName(p, fileName)))
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    for (final Path each : expected) {
+      if (candidates.contains(each)) {
+        return each;
+      }
+    }
+    for (final Path each : candidates) {
+      if (each.startsWith(directory) && within(each, directory)) {
+        return each;
+      }
+    }
+    throw new IllegalStateException("No file " + fileName + " in " + directory);
+  }
+
+  private static boolean within(Path file, Path directory) {
+    return directory.relativize(file).getNameCount() <= SEARCH_DEPTH;
+  }
+
+  private static String toFileName(ClassName packge, String fileName) {
+    if (packge.asJavaName().equals("")) {
+      return fileName;
+    }
+    return packge.asJavaName().replace(".", File.separator) + File.separator + fileName;
+  }
+
+  private static Map<Path, Integer> order(List<Path> directories) {
+    final Map<Path, Integer> order = new HashMap<>();
+    for (int i = 0; i != directories.size(); i++) {
+      order.putIfAbsent(directories.get(i), i);
+    }
+    return order;
+  }
+
+  private Reader toReader(Path path) {
+    try {
+      return new InputStreamReader(new BufferedInputStream(Files.newInputStream(path)),
+          this.inputCharset);
+    } catch (IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
 }
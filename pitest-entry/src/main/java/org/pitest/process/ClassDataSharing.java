@@ -0,0 +1,408 @@
+package org.pitest.process;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.pitest.util.Log;
+
+/**
+ * Shares a class data archive (AppCDS) between minion JVMs that are launched
+ * with the same java executable, classpath, main class and jvm arguments.
+ *
+ * The first minion launched for a given configuration records the classes it
+ * loads. Once it exits, those classes are dumped to an archive that later
+ * minions map rather than loading and verifying the classes again. Minions
+ * launched before the archive is ready start normally.
+ *
+ * The JVM only archives classes from jars at the start of the classpath, so
+ * minions sharing an archive are launched with the jars of their classpath
+ * moved ahead of any directories. This changes which class is loaded only
+ * where a directory and a jar hold classes of the same name. Archives require
+ * java 11 or above. On earlier JVMs, or if an archive
+ * cannot be written, minions are launched without any additional arguments.
+ */
+public class ClassDataSharing {
+
+  private static final Logger  LOG              = Log.getLogger();
+
+  private static final Pattern VERSION          = Pattern
+      .compile("version \"(\\d+)(?:\\.(\\d+))?");
+  private static final int     FIRST_SUPPORTED  = 11;
+  private static final long    EXIT_WAIT_MILLIS = 30000;
+
+  private static final ClassDataSharing DISABLED = new ClassDataSharing(null,
+      j -> false, c -> false);
+
+  private final File                    archiveDir;
+  private final Predicate<String>       supportsArchives;
+  private final Predicate<List<String>> runDump;
+  private final Map<String, Boolean>    supportedExecutables = new HashMap<>();
+  private final Map<String, State>      states               = new HashMap<>();
+  private final StartupTimes            shared               = new StartupTimes();
+  private final StartupTimes            unshared             = new StartupTimes();
+
+  ClassDataSharing(File archiveDir, Predicate<String> supportsArchives,
+      Predicate<List<String>> runDump) {
+    this.archiveDir = archiveDir;
+    this.supportsArchives = supportsArchives;
+    this.runDump = runDump;
+  }
+
+  public static ClassDataSharing disabled() {
+    return DISABLED;
+  }
+
+  public static ClassDataSharing inDirectory(File archiveDir) {
+    return new ClassDataSharing(archiveDir,
+        ClassDataSharing::probeArchiveSupport, ClassDataSharing::dump);
+  }
+
+  public boolean isEnabled() {
+    return this.archiveDir != null;
+  }
+
+  /**
+   * Decides how a minion should be launched. The returned launch must be
+   * passed back to {@link #launchEnded(Launch)} once the minion has exited.
+   */
+  public synchronized Launch prepare(String javaExecutable, String classPath,
+      Class<?> mainClass, List<String> jvmArgs) {
+    if (!isEnabled() || !supports(javaExecutable)) {
+      return Launch.unshared();
+    }
+
+    final String ordered = jarsFirst(classPath);
+    final String key = key(javaExecutable, ordered, mainClass, jvmArgs);
+    final File archive = new File(this.archiveDir,
+        mainClass.getSimpleName() + "-" + key + ".jsa");
+    State state = this.states.get(key);
+    if (state == null) {
+      state = archive.exists() ? State.READY : State.MISSING;
+    }
+
+    switch (state) {
+    case READY:
+      this.states.put(key, State.READY);
+      return new Launch(Mode.SHARED, key, archive, archive, javaExecutable,
+          ordered);
+    case MISSING:
+      this.archiveDir.mkdirs();
+      this.states.put(key, State.RECORDING);
+      return new Launch(Mode.RECORD, key, archive,
+          new File(this.archiveDir, archive.getName() + "."
+              + System.nanoTime() + ".classlist"), javaExecutable, ordered);
+    default:
+      return Launch.unshared();
+    }
+  }
+
+  /**
+   * Called once a minion has exited. If it was recording the classes it
+   * loaded, an archive is dumped from them and published for later launches.
+   */
+  public void launchEnded(Launch launch) {
+    if (launch.mode != Mode.RECORD) {
+      return;
+    }
+
+    final File tmp = new File(launch.file.getPath() + ".jsa");
+    try {
+      final boolean dumped = launch.file.length() != 0
+          && this.runDump.test(launch.dumpCommand(tmp)) && tmp.length() != 0;
+      if (dumped) {
+        Files.move(tmp.toPath(), launch.archive.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+        stateIs(launch.key, State.READY);
+      } else {
+        LOG.fine("Could not write class data archive " + launch.archive
+            + ". Launching minions without class data sharing.");
+        stateIs(launch.key, State.FAILED);
+      }
+    } catch (final IOException e) {
+      LOG.fine("Could not publish class data archive " + launch.archive + " "
+          + e.getMessage());
+      stateIs(launch.key, State.FAILED);
+    } finally {
+      launch.file.delete();
+      tmp.delete();
+    }
+  }
+
+  /**
+   * Records the time between launching a minion and it connecting back to
+   * the main process.
+   */
+  public void recordStartup(Launch launch, long nanos) {
+    if (launch.mode == Mode.SHARED) {
+      this.shared.add(nanos);
+    } else {
+      this.unshared.add(nanos);
+    }
+  }
+
+  public void reportStartupTimes() {
+    if (!isEnabled()) {
+      return;
+    }
+    LOG.info("Minion startup " + this.shared.describe() + " with class data "
+        + "sharing, " + this.unshared.describe() + " without");
+  }
+
+  /**
+   * Jars are keyed on their size and modification time as well as their path,
+   * so an archive is not reused once a jar it was dumped from is rebuilt.
+   */
+  static String key(String javaExecutable, String classPath,
+      Class<?> mainClass, List<String> jvmArgs) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(javaExecutable.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(classPath.getBytes(StandardCharsets.UTF_8));
+      for (final String each : classPath.split(File.pathSeparator)) {
+        final File entry = new File(each);
+        if (entry.isFile()) {
+          digest.update((byte) 0);
+          digest.update((entry.length() + ":" + entry.lastModified())
+              .getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      digest.update((byte) 0);
+      digest.update(mainClass.getName().getBytes(StandardCharsets.UTF_8));
+      for (final String each : jvmArgs) {
+        digest.update((byte) 0);
+        digest.update(each.getBytes(StandardCharsets.UTF_8));
+      }
+      final StringBuilder sb = new StringBuilder();
+      final byte[] bytes = digest.digest();
+      for (int i = 0; i != 8; i++) {
+        sb.append(String.format("%02x", bytes[i]));
+      }
+      return sb.toString();
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * The jars of the classpath, in order. Launches sharing an archive put these
+   * ahead of every other entry, so they match the start of the launch classpath.
+   */
+  static String archivableClassPath(String classPath) {
+    final List<String> jars = new ArrayList<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      if (isJar(each)) {
+        jars.add(each);
+      }
+    }
+    return String.join(File.pathSeparator, jars);
+  }
+
+  /**
+   * The classpath with its jars moved ahead of its other entries, otherwise
+   * keeping their order.
+   */
+  static String jarsFirst(String classPath) {
+    final List<String> jars = new ArrayList<>();
+    final List<String> others = new ArrayList<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      if (isJar(each)) {
+        jars.add(each);
+      } else {
+        others.add(each);
+      }
+    }
+    jars.addAll(others);
+    return String.join(File.pathSeparator, jars);
+  }
+
+  private static boolean isJar(String entry) {
+    return entry.endsWith(".jar") && new File(entry).isFile();
+  }
+
+  static boolean supportsArchives(String versionOutput) {
+    final Matcher m = VERSION.matcher(versionOutput);
+    if (!m.find()) {
+      return false;
+    }
+    int major = Integer.parseInt(m.group(1));
+    if (major == 1 && m.group(2) != null) {
+      major = Integer.parseInt(m.group(2));
+    }
+    return major >= FIRST_SUPPORTED;
+  }
+
+  private synchronized void stateIs(String key, State state) {
+    this.states.put(key, state);
+  }
+
+  private synchronized boolean supports(String javaExecutable) {
+    return this.supportedExecutables.computeIfAbsent(javaExecutable,
+        j -> this.supportsArchives.test(j));
+  }
+
+  private static boolean probeArchiveSupport(String javaExecutable) {
+    final StringBuilder out = new StringBuilder();
+    final boolean supported = run(Arrays.asList(javaExecutable, "-version"), out)
+        && supportsArchives(out.toString());
+    if (!supported) {
+      LOG.info(javaExecutable + " does not support class data archives. "
+          + "Minions will be launched without class data sharing.");
+    }
+    return supported;
+  }
+
+  private static boolean dump(List<String> cmd) {
+    return run(cmd, new StringBuilder());
+  }
+
+  private static boolean run(List<String> cmd, StringBuilder out) {
+    try {
+      final ProcessBuilder pb = new ProcessBuilder(cmd).redirectErrorStream(true);
+      // the archived classpath must be exactly the one given on the command line
+      pb.environment().remove("CLASSPATH");
+      final Process p = pb.start();
+      try (BufferedReader r = new BufferedReader(
+          new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = r.readLine()) != null) {
+          out.append(line).append('\n');
+        }
+      }
+      return p.waitFor() == 0;
+    } catch (final IOException e) {
+      return false;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  enum Mode {
+    UNSHARED, RECORD, SHARED
+  }
+
+  private enum State {
+    MISSING, RECORDING, READY, FAILED
+  }
+
+  public static final class Launch {
+
+    private static final Launch UNSHARED = new Launch(Mode.UNSHARED, null, null,
+        null, null, null);
+
+    private final Mode   mode;
+    private final String key;
+    private final File   archive;
+    private final File   file;
+    private final String javaExecutable;
+    private final String classPath;
+
+    private Launch(Mode mode, String key, File archive, File file,
+        String javaExecutable, String classPath) {
+      this.mode = mode;
+      this.key = key;
+      this.archive = archive;
+      this.file = file;
+      this.javaExecutable = javaExecutable;
+      this.classPath = classPath;
+    }
+
+    static Launch unshared() {
+      return UNSHARED;
+    }
+
+    Mode mode() {
+      return this.mode;
+    }
+
+    /**
+     * The classpath to launch with, if it differs from the one given.
+     */
+    public Optional<String> classPath() {
+      return Optional.ofNullable(this.classPath);
+    }
+
+    /**
+     * JVM arguments to add to the launch.
+     */
+    public List<String> jvmArgs() {
+      switch (this.mode) {
+      case RECORD:
+        return Collections.singletonList("-XX:DumpLoadedClassList="
+            + this.file.getAbsolutePath());
+      case SHARED:
+        return Collections.singletonList("-XX:SharedArchiveFile="
+            + this.file.getAbsolutePath());
+      default:
+        return Collections.emptyList();
+      }
+    }
+
+    /**
+     * A recording minion writes out its class list as it exits, so should be
+     * given the chance to exit naturally before being destroyed.
+     */
+    public boolean awaitsExit() {
+      return this.mode == Mode.RECORD;
+    }
+
+    public long exitWaitMillis() {
+      return EXIT_WAIT_MILLIS;
+    }
+
+    List<String> dumpCommand(File to) {
+      final List<String> cmd = new ArrayList<>();
+      cmd.add(this.javaExecutable);
+      cmd.add("-Xshare:dump");
+      cmd.add("-XX:SharedClassListFile=" + this.file.getAbsolutePath());
+      cmd.add("-XX:SharedArchiveFile=" + to.getAbsolutePath());
+      final String jars = archivableClassPath(this.classPath);
+      if (!jars.isEmpty()) {
+        cmd.add("-cp");
+        cmd.add(jars);
+      }
+      return cmd;
+    }
+
+  }
+
+  private static final class StartupTimes {
+    private long count;
+    private long totalNanos;
+
+    synchronized void add(long nanos) {
+      this.count++;
+      this.totalNanos += nanos;
+    }
+
+    synchronized String describe() {
+      if (this.count == 0) {
+        return "not measured";
+      }
+      return "averaged "
+          + TimeUnit.NANOSECONDS.toMillis(this.totalNanos / this.count)
+          + "ms over " + this.count + " launches";
+    }
+  }
+
+}
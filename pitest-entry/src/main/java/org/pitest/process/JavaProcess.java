@@ -17,6 +17,7 @@ package org.pitest.process;
 import org.pitest.util.Monitor;
 import org.pitest.util.StreamMonitor;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class JavaProcess {
@@ -49,6 +50,10 @@ public class JavaProcess {
     return exitVal;
   }
 
+  public boolean waitToDie(long millis) throws InterruptedException {
+    return this.process.waitFor(millis, TimeUnit.MILLISECONDS);
+  }
+
   public boolean isAlive() {
     try {
       this.process.exitValue();
@@ -26,6 +26,7 @@ public class LaunchOptions {
   private final JavaExecutableLocator javaExecutable;
   private final Map<String, String>   environmentVariables;
   private final boolean               usingClassPathJar;
+  private final ClassDataSharing      classDataSharing;
 
   public LaunchOptions(JavaAgent javaAgentFinder) {
     this(javaAgentFinder, new DefaultJavaExecutableLocator(), Collections
@@ -44,11 +45,22 @@ public class LaunchOptions {
                        List<String> childJVMArgs,
                        Map<String, String> environmentVariables,
                        boolean usingClassPathJar) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables,
+        usingClassPathJar, ClassDataSharing.disabled());
+  }
+
+  public LaunchOptions(JavaAgent javaAgentFinder,
+                       JavaExecutableLocator javaExecutable,
+                       List<String> childJVMArgs,
+                       Map<String, String> environmentVariables,
+                       boolean usingClassPathJar,
+                       ClassDataSharing classDataSharing) {
     this.javaAgentFinder = javaAgentFinder;
     this.childJVMArgs = childJVMArgs;
     this.javaExecutable = javaExecutable;
     this.environmentVariables = environmentVariables;
     this.usingClassPathJar = usingClassPathJar;
+    this.classDataSharing = classDataSharing;
   }
 
   public JavaAgent getJavaAgentFinder() {
@@ -68,10 +80,18 @@ public class LaunchOptions {
   }
 
   public LaunchOptions usingClassPathJar(boolean useJar) {
-    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar);
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar, classDataSharing);
+  }
+
+  public LaunchOptions withClassDataSharing(ClassDataSharing sharing) {
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, usingClassPathJar, sharing);
   }
   
   public boolean useClasspathJar() {
     return usingClassPathJar;
   }
+
+  public ClassDataSharing getClassDataSharing() {
+    return classDataSharing;
+  }
 }
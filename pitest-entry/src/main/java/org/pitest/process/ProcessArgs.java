@@ -36,6 +36,7 @@ public final class ProcessArgs {
   private String              javaExecutable;
   private Map<String, String> environmentVariables;
   private boolean             useClasspathJar = false;
+  private ClassDataSharing    classDataSharing = ClassDataSharing.disabled();
 
   private ProcessArgs(final String launchClassPath) {
     this.launchClassPath = launchClassPath;
@@ -96,12 +97,17 @@ public final class ProcessArgs {
     return useClasspathJar;
   }
   
+  public ClassDataSharing getClassDataSharing() {
+    return this.classDataSharing;
+  }
+
   public ProcessArgs andLaunchOptions(final LaunchOptions launchOptions) {
     this.jvmArgs = launchOptions.getChildJVMArgs();
     this.javaAgentFinder = launchOptions.getJavaAgentFinder();
     this.javaExecutable = launchOptions.getJavaExecutable();
     this.environmentVariables = launchOptions.getEnvironmentVariables();
     this.useClasspathJar = launchOptions.useClasspathJar();
+    this.classDataSharing = launchOptions.getClassDataSharing();
     return this;
   }
 
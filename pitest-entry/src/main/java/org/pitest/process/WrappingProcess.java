@@ -17,11 +17,13 @@ import org.pitest.util.ManifestUtils;
 
 public class WrappingProcess {
 
-  private final int         port;
-  private final ProcessArgs processArgs;
-  private final Class<?>    minionClass;
+  private final int               port;
+  private final ProcessArgs       processArgs;
+  private final Class<?>          minionClass;
 
-  private JavaProcess       process;
+  private JavaProcess             process;
+  private ClassDataSharing.Launch launch = ClassDataSharing.Launch.unshared();
+  private long                    startedAt;
 
   public WrappingProcess(int port, ProcessArgs args, Class<?> minionClass) {
     this.port = port;
@@ -32,20 +34,41 @@ public class WrappingProcess {
   public void start() throws IOException {
     final String[] args = { "" + this.port };
 
+    // the classpath jar is created afresh for each launch, so an archive
+    // could never be reused
+    if (!this.processArgs.useClasspathJar()) {
+      this.launch = this.processArgs.getClassDataSharing().prepare(
+          this.processArgs.getJavaExecutable(),
+          this.processArgs.getLaunchClassPath(), this.minionClass,
+          this.processArgs.getJvmArgs());
+    }
+
+    final List<String> jvmArgs = new ArrayList<>(this.processArgs.getJvmArgs());
+    jvmArgs.addAll(this.launch.jvmArgs());
+    final String classPath = this.launch.classPath()
+        .orElse(this.processArgs.getLaunchClassPath());
+
     final ProcessBuilder processBuilder = createProcessBuilder(
         this.processArgs.getJavaExecutable(),
-            this.processArgs.getJvmArgs(),
+            jvmArgs,
         this.minionClass, Arrays.asList(args),
         this.processArgs.getJavaAgentFinder(),
-        this.processArgs.getLaunchClassPath());
+        classPath);
 
     
-    setClassPathInEnvironment(processBuilder);
+    setClassPathInEnvironment(processBuilder, classPath);
         
     configureProcessBuilder(processBuilder, this.processArgs.getWorkingDir(),
         this.processArgs.getEnvironmentVariables());
 
-    final Process process = processBuilder.start();
+    this.startedAt = System.nanoTime();
+    final Process process;
+    try {
+      process = processBuilder.start();
+    } catch (final IOException e) {
+      this.processArgs.getClassDataSharing().launchEnded(this.launch);
+      throw e;
+    }
     this.process = new JavaProcess(process, this.processArgs.getStdout(),
         this.processArgs.getStdErr());
   }
@@ -57,9 +80,10 @@ public class WrappingProcess {
   
    // Reportedly passing the classpath as an environment variable rather than on the command
    // line increases the allowable size of the classpath, but this has not been confirmed
-  private void setClassPathInEnvironment(final ProcessBuilder processBuilder) {
+  private void setClassPathInEnvironment(final ProcessBuilder processBuilder,
+      String classPath) {
     if (!processArgs.useClasspathJar()) {
-      processBuilder.environment().put("CLASSPATH", this.processArgs.getLaunchClassPath());
+      processBuilder.environment().put("CLASSPATH", classPath);
     }
   }
 
@@ -73,8 +97,25 @@ public class WrappingProcess {
     }
   }
 
+  /**
+   * Records the time at which the minion connected back to the main process.
+   */
+  public void minionConnected(long nanoTime) {
+    this.processArgs.getClassDataSharing().recordStartup(this.launch,
+        nanoTime - this.startedAt);
+  }
+
   public void destroy() {
-    this.process.destroy();
+    try {
+      if (this.launch.awaitsExit()) {
+        this.process.waitToDie(this.launch.exitWaitMillis());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      this.process.destroy();
+      this.processArgs.getClassDataSharing().launchEnded(this.launch);
+    }
   }
 
   private ProcessBuilder createProcessBuilder(String javaProc,
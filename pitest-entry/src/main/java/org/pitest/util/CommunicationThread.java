@@ -17,10 +17,12 @@ package org.pitest.util;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -32,6 +34,7 @@ public class CommunicationThread {
   private final Consumer<SafeDataOutputStream> sendInitialData;
   private final ReceiveStrategy                   receive;
   private final ServerSocket                      socket;
+  private final AtomicLong                        connectedAt = new AtomicLong();
   private FutureTask<ExitCode>                    future;
 
   public CommunicationThread(final ServerSocket socket,
@@ -49,7 +52,7 @@ public class CommunicationThread {
   private FutureTask<ExitCode> createFuture() {
     final FutureTask<ExitCode> newFuture = new FutureTask<>(
         new SocketReadingCallable(this.socket, this.sendInitialData,
-            this.receive));
+            this.receive, this.connectedAt));
     final Thread thread = new Thread(newFuture);
     thread.setDaemon(true);
     thread.setName("pit communication");
@@ -57,6 +60,14 @@ public class CommunicationThread {
     return newFuture;
   }
 
+  /**
+   * The nano time at which the minion connected, if it has done so.
+   */
+  public OptionalLong connectedAt() {
+    final long at = this.connectedAt.get();
+    return at == 0 ? OptionalLong.empty() : OptionalLong.of(at);
+  }
+
   public Optional<ExitCode> waitToFinish(int pollSeconds) {
     try {
       return Optional.of(this.future.get(pollSeconds, TimeUnit.SECONDS));
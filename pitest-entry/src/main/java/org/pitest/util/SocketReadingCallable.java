@@ -1,11 +1,13 @@
 package org.pitest.util;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 class SocketReadingCallable implements Callable<ExitCode> {
@@ -13,11 +15,19 @@ class SocketReadingCallable implements Callable<ExitCode> {
   private final Consumer<SafeDataOutputStream> sendInitialData;
   private final ReceiveStrategy                   receive;
   private final ServerSocket                      socket;
+  private final AtomicLong                        connectedAt;
 
   SocketReadingCallable(final ServerSocket socket,
       final Consumer<SafeDataOutputStream> sendInitialData,
       final ReceiveStrategy receive) {
+    this(socket, sendInitialData, receive, new AtomicLong());
+  }
+
+  SocketReadingCallable(final ServerSocket socket,
+      final Consumer<SafeDataOutputStream> sendInitialData,
+      final ReceiveStrategy receive, final AtomicLong connectedAt) {
     this.socket = socket;
+    this.connectedAt = connectedAt;
     this.sendInitialData = sendInitialData;
     this.receive = receive;
   }
@@ -25,6 +35,7 @@ class SocketReadingCallable implements Callable<ExitCode> {
   @Override
   public ExitCode call() throws Exception {
     try (Socket clientSocket = this.socket.accept()) {
+      this.connectedAt.set(System.nanoTime());
       try (BufferedInputStream bif = new BufferedInputStream(
           clientSocket.getInputStream())) {
 
@@ -45,7 +56,7 @@ class SocketReadingCallable implements Callable<ExitCode> {
   }
 
   private void sendDataToMinion(final Socket clientSocket) throws IOException {
-    final OutputStream os = clientSocket.getOutputStream();
+    final OutputStream os = new BufferedOutputStream(clientSocket.getOutputStream());
     final SafeDataOutputStream dos = new SafeDataOutputStream(os);
     this.sendInitialData.accept(dos);
   }
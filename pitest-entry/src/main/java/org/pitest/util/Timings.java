@@ -18,6 +18,7 @@ import java.io.PrintStream;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 public class Timings {
 
@@ -43,14 +44,19 @@ public class Timings {
   private final Map<Stage, TimeSpan> timings = new LinkedHashMap<>();
 
   public void registerStart(final Stage stage) {
-    this.timings.put(stage, new TimeSpan(System.currentTimeMillis(), 0));
+    this.timings.put(stage, new TimeSpan(now(), 0));
   }
 
   public void registerEnd(final Stage stage) {
-    final long end = System.currentTimeMillis();
+    final long end = now();
     this.timings.get(stage).setEnd(end);
   }
 
+  // monotonic, so unaffected by changes to the wall clock during a run
+  private static long now() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+  }
+
   public void report(final PrintStream ps) {
     long total = 0;
     for (final Entry<Stage, TimeSpan> each : this.timings.entrySet()) {
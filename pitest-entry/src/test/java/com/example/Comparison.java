@@ -0,0 +1,12 @@
+package com.example;
+
+public class Comparison {
+
+  public static String compare(int a, int b) {
+    if (a < b) {
+      return "less";
+    }
+    return "not less";
+  }
+
+}
@@ -0,0 +1,19 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ComparisonTest {
+
+  @Test
+  public void testLess() {
+    assertEquals("less", Comparison.compare(1, 2));
+  }
+
+  @Test
+  public void testEqual() {
+    assertEquals("not less", Comparison.compare(2, 2));
+  }
+
+}
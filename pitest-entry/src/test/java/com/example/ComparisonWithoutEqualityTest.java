@@ -0,0 +1,19 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ComparisonWithoutEqualityTest {
+
+  @Test
+  public void testLess() {
+    assertEquals("less", Comparison.compare(1, 2));
+  }
+
+  @Test
+  public void testGreater() {
+    assertEquals("not less", Comparison.compare(3, 2));
+  }
+
+}
@@ -0,0 +1,18 @@
+package com.example.coverage.execute.samples.simple;
+
+import org.junit.Test;
+
+public class TestsThatStartThreads {
+
+  @Test
+  public void testBarOnAnotherThread() throws InterruptedException {
+    final Thread t = new Thread(() -> new Testee2().bar());
+    t.start();
+    t.join();
+  }
+
+  @Test
+  public void testFoo() {
+    new Testee2().foo();
+  }
+}
@@ -1,14 +1,24 @@
 package org.pitest.bytecode.analysis;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
 
 import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.coverage.codeassist.samples.Bridge;
 import org.pitest.coverage.codeassist.samples.HasDefaultConstructor;
 import org.pitest.coverage.codeassist.samples.NoDefaultConstructor;
+import org.pitest.mutationtest.engine.Location;
 
 public class ClassTreeTest {
 
@@ -93,6 +103,71 @@ public class ClassTreeTest {
     method.rawNode().name = "lambda$something";
     assertThat(underTest.realMethods()).contains(method);
   }
+
+  @Test
+  public void findsMethodsByLocation() {
+    ClassTree underTest = ClassTree.fromBytes(bytesFor(ParseMe.class));
+    Location b = Location.location(ClassName.fromClass(ParseMe.class), "b", "()I");
+    assertThat(underTest.method(b).get().rawNode().name).isEqualTo("b");
+  }
+
+  @Test
+  public void doesNotFindMethodsWithDifferentDescriptor() {
+    ClassTree underTest = ClassTree.fromBytes(bytesFor(ParseMe.class));
+    Location b = Location.location(ClassName.fromClass(ParseMe.class), "b", "()V");
+    assertThat(underTest.method(b)).isEmpty();
+  }
+
+  @Test
+  public void doesNotFindMethodsInOtherClasses() {
+    ClassTree underTest = ClassTree.fromBytes(bytesFor(ParseMe.class));
+    Location b = Location.location(ClassName.fromString("com.example.Other"), "b", "()I");
+    assertThat(underTest.method(b)).isEmpty();
+  }
+
+  @Test
+  public void findsEveryMethodInLargeClasses() {
+    int methods = 5000;
+    ClassTree underTest = ClassTree.fromBytes(classWithMethods("com/example/Big", methods));
+    ClassName owner = ClassName.fromString("com.example.Big");
+    for (int i = 0; i != methods; i++) {
+      Location loc = Location.location(owner, "m" + i, "()I");
+      assertThat(underTest.method(loc).get().asLocation()).isEqualTo(loc);
+    }
+  }
+
+  @Test
+  public void indexOfMatchesPositionInInstructionList() {
+    ClassTree underTest = ClassTree.fromBytes(bytesFor(RepeatedLineNumbersInByteCode.class));
+    for (MethodTree method : underTest.methods()) {
+      for (int i = 0; i != method.instructions().size(); i++) {
+        assertThat(method.indexOf(method.instruction(i))).isEqualTo(i);
+      }
+    }
+  }
+
+  @Test
+  public void indexOfReturnsMinusOneForUnknownInstructions() {
+    ClassTree underTest = ClassTree.fromBytes(bytesFor(ParseMe.class));
+    AbstractInsnNode notInMethod = new InsnNode(ICONST_0);
+    assertThat(underTest.methods().get(0).indexOf(notInMethod)).isEqualTo(-1);
+  }
+
+  private static byte[] classWithMethods(String name, int count) {
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(V1_8, ACC_PUBLIC, name, null, "java/lang/Object", null);
+    for (int i = 0; i != count; i++) {
+      MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "m" + i, "()I", null, null);
+      mv.visitCode();
+      mv.visitInsn(ICONST_0);
+      mv.visitInsn(IRETURN);
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+    }
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
   byte[] bytesFor(Class<?> clazz) {
     return this.source.getBytes(clazz.getName()).get();
   }
@@ -0,0 +1,60 @@
+package org.pitest.classinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.coverage.codeassist.ClassUtils;
+
+public class ClassInfoCacheTest {
+
+  private final ClassInfoCache underTest = new ClassInfoCache(2);
+
+  @Test
+  public void reusesClassesWithSameNameAndHash() throws Exception {
+    final byte[] bytes = ClassUtils.classAsBytes(String.class);
+    final ClassInfoBuilder first = underTest.getClassInfo(ClassName.fromClass(String.class), bytes, 1);
+    final ClassInfoBuilder second = underTest.getClassInfo(ClassName.fromClass(String.class), bytes, 1);
+
+    assertThat(second).isSameAs(first);
+    assertThat(underTest.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void readsClassesAgainWhenHashChanges() throws Exception {
+    final byte[] bytes = ClassUtils.classAsBytes(String.class);
+    final ClassInfoBuilder first = underTest.getClassInfo(ClassName.fromClass(String.class), bytes, 1);
+    final ClassInfoBuilder second = underTest.getClassInfo(ClassName.fromClass(String.class), bytes, 2);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.id.getHash()).isEqualTo(2);
+  }
+
+  @Test
+  public void dropsLeastRecentlyUsedClassesOverMaximum() throws Exception {
+    final byte[] bytes = ClassUtils.classAsBytes(String.class);
+    final ClassInfoBuilder a = underTest.getClassInfo(ClassName.fromString("a"), bytes, 1);
+    underTest.getClassInfo(ClassName.fromString("b"), bytes, 1);
+    underTest.getClassInfo(ClassName.fromString("a"), bytes, 1);
+    underTest.getClassInfo(ClassName.fromString("c"), bytes, 1);
+
+    assertThat(underTest.size()).isEqualTo(2);
+    assertThat(underTest.getClassInfo(ClassName.fromString("a"), bytes, 1)).isSameAs(a);
+  }
+
+  @Test
+  public void repositoriesShareCachedClasses() {
+    final ClassInfoCache cache = new ClassInfoCache();
+    final Repository first = new Repository(
+        new ClassloaderByteArraySource(getClass().getClassLoader()), cache);
+    final Repository second = new Repository(
+        new ClassloaderByteArraySource(getClass().getClassLoader()), cache);
+
+    final ClassInfo a = first.fetchClass(ClassName.fromClass(Integer.class)).get();
+    final ClassInfo b = second.fetchClass(ClassName.fromClass(Integer.class)).get();
+
+    assertThat(b.getId()).isEqualTo(a.getId());
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+}
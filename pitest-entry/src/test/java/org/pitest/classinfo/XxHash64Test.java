@@ -0,0 +1,54 @@
+package org.pitest.classinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.pitest.coverage.codeassist.ClassUtils;
+
+public class XxHash64Test {
+
+  private final XxHash64 testee = new XxHash64();
+
+  @Test
+  public void matchesReferenceHashOfEmptyInput() {
+    assertThat(this.testee.hash(new byte[0])).isEqualTo(0xEF46DB3751D8E999L);
+  }
+
+  @Test
+  public void matchesReferenceHashOfShortInput() {
+    assertThat(this.testee.hash(bytes("abc"))).isEqualTo(0x44BC2CF5AD770999L);
+  }
+
+  @Test
+  public void matchesReferenceHashOfInputLongerThanOneStripe() {
+    assertThat(this.testee.hash(bytes("Nobody inspects the spammish repetition")))
+        .isEqualTo(0xFBCEA83C8A378BF1L);
+  }
+
+  @Test
+  public void generatesSameHashForSameInput() throws ClassNotFoundException {
+    assertThat(this.testee.hash(ClassUtils.classAsBytes(String.class)))
+        .isEqualTo(this.testee.hash(ClassUtils.classAsBytes(String.class)));
+  }
+
+  @Test
+  public void createsDifferentHashesForDifferentClasses() throws ClassNotFoundException {
+    assertThat(this.testee.hash(ClassUtils.classAsBytes(Comparable.class)))
+        .isNotEqualTo(this.testee.hash(ClassUtils.classAsBytes(Serializable.class)));
+  }
+
+  @Test
+  public void createsDifferentHashesWhenOneByteChanges() {
+    byte[] value = new byte[100];
+    long before = this.testee.hash(value);
+    value[57] = 1;
+    assertThat(this.testee.hash(value)).isNotEqualTo(before);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -32,6 +32,7 @@ import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -47,6 +48,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.coverage.CoverageMother.aBlockLocation;
 import static org.pitest.coverage.CoverageMother.aCoverageResult;
@@ -135,18 +138,34 @@ public class CoverageDataTest {
     assertFalse(this.testee.allTestsGreen());
   }
 
+  @Test
+  public void shouldSumTimesOfTestsDefinedInEachTestClass() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("one", "FooTest"), 40, 1, true));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("two", "FooTest"), 2, 1, true));
+    assertEquals(Optional.of(42), this.testee.getTestClassTime(ClassName.fromString("FooTest")));
+    assertEquals(Optional.empty(), this.testee.getTestClassTime(ClassName.fromString("BarTest")));
+  }
+
+  @Test
+  public void shouldNotRecordAssumedTimesOfTestClasses() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("FooTest", "FooTest"), 1000, 1, true), false);
+    assertEquals(Optional.empty(), this.testee.getTestClassTime(ClassName.fromString("FooTest")));
+  }
+
   @Test
   public void shouldReturnCoverageIdOf0WhenNoTestsCoverClass() {
     assertEquals(0,
-        this.testee.getCoverageIdForClass(ClassName.fromString("unknown"))
-        .longValue());
+        this.testee.getCoverageIdForClass(ClassName.fromString("unknown")));
   }
 
   @Test
   public void shouldReturnNonZeroCoverageIdWhenTestsCoverClass() {
 
     final ClassName foo = ClassName.fromString("Foo");
-    final ClassInfo ci = ClassInfoMother.make(foo);
+    final ClassInfo ci = ClassInfoMother.make(ClassName.fromString("FooTest"));
 
     when(this.code.getClassInfo(any(Collection.class))).thenReturn(
         Collections.singletonList(ci));
@@ -159,11 +178,37 @@ public class CoverageDataTest {
     this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
         block.build(1)).build());
 
-    assertThat(this.testee.getCoverageIdForClass(foo).longValue())
+    assertThat(this.testee.getCoverageIdForClass(foo))
         .isNotEqualTo(0);
 
   }
 
+  @Test
+  public void shouldFetchEachTestClassOnceWhenCalculatingCoverageIds() {
+    final ClassName foo = ClassName.fromString("Foo");
+    final ClassName bar = ClassName.fromString("Bar");
+    final ClassInfo ci = ClassInfoMother.make(ClassName.fromString("FooTest"));
+
+    when(this.code.getClassInfo(any(Collection.class))).thenReturn(
+        Collections.singletonList(ci));
+
+    final BlockLocationBuilder fooBlock = aBlockLocation().withLocation(
+        aLocation().withClass(foo));
+    final BlockLocationBuilder barBlock = aBlockLocation().withLocation(
+        aLocation().withClass(bar));
+    final HashMap<BlockLocation, Set<Integer>> map = makeCoverageMapForBlock(fooBlock, 42);
+    map.putAll(makeCoverageMapForBlock(barBlock, 42));
+    when(this.lm.mapLines(any(ClassName.class))).thenReturn(map);
+    final List<BlockLocation> blocks = new ArrayList<>(fooBlock.build(1));
+    blocks.addAll(barBlock.build(1));
+    this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
+        blocks).build());
+
+    assertThat(this.testee.getCoverageIdForClass(foo))
+        .isEqualTo(this.testee.getCoverageIdForClass(bar));
+    verify(this.code, times(1)).getClassInfo(any(Collection.class));
+  }
+
   @Test
   public void shouldProvideEmptyBlockCoverageListWhenNoCoverage() {
     assertEquals(Collections.emptyList(), this.testee.createCoverage());
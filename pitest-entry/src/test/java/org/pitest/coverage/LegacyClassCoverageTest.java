@@ -0,0 +1,136 @@
+package org.pitest.coverage;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageMother.BlockLocationBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.coverage.CoverageMother.aBlockLocation;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+public class LegacyClassCoverageTest {
+
+  @Mock
+  private CodeSource code;
+
+  @Mock
+  private LineMap    lm;
+
+  private final ClassName foo = ClassName.fromString("foo");
+
+  private final BlockLocationBuilder block = aBlockLocation().withLocation(aLocation().withClass(this.foo));
+
+  private LegacyClassCoverage underTest;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(this.code.codeTrees()).thenReturn(Stream.empty());
+    when(this.lm.mapLines(any(ClassName.class))).thenReturn(lines(this.block, 1, 2));
+    this.underTest = new LegacyClassCoverage(this.code, this.lm);
+  }
+
+  @Test
+  public void returnsEachTestCoveringClassOnce() {
+    this.underTest.addTestToClasses(test("a"), Collections.singletonList(this.block.build()));
+    this.underTest.addTestToClasses(test("b"), Collections.singletonList(this.block.build()));
+    this.underTest.addTestToClasses(test("a"), Collections.singletonList(this.block.build()));
+
+    assertThat(this.underTest.getTestsForClass(this.foo))
+        .extracting(TestInfo::getName)
+        .containsExactly("a", "b");
+  }
+
+  @Test
+  public void reusesTestsForClassUntilCoverageChanges() {
+    this.underTest.addTestToClasses(test("a"), Collections.singletonList(this.block.build()));
+    assertThat(this.underTest.getTestsForClass(this.foo))
+        .isSameAs(this.underTest.getTestsForClass(this.foo));
+
+    this.underTest.addTestToClasses(test("b"), Collections.singletonList(this.block.build()));
+    assertThat(this.underTest.getTestsForClass(this.foo)).hasSize(2);
+  }
+
+  @Test
+  public void returnsNoTestsForUncoveredClass() {
+    assertThat(this.underTest.getTestsForClass(this.foo)).isEmpty();
+    assertThat(this.underTest.getCoveredLines(this.foo)).isEmpty();
+  }
+
+  @Test
+  public void returnsCoveredLines() {
+    this.underTest.addTestToClasses(test("a"), Collections.singletonList(this.block.build()));
+
+    assertThat(this.underTest.getCoveredLines(this.foo))
+        .containsExactlyInAnyOrder(new ClassLine(this.foo, 1), new ClassLine(this.foo, 2));
+  }
+
+  @Test
+  public void readsCodeLinesOfClassOnce() {
+    final ClassName clazz = ClassName.fromClass(LegacyClassCoverageTest.class);
+    when(this.code.fetchClassBytes(clazz)).thenReturn(ClassloaderByteArraySource.fromContext()
+        .getBytes(clazz.asJavaName()));
+
+    final ClassLines first = this.underTest.getCodeLinesForClass(clazz);
+    final ClassLines second = this.underTest.getCodeLinesForClass(clazz);
+
+    assertThat(first.getNumberOfCodeLines()).isPositive();
+    assertThat(second).isSameAs(first);
+    verify(this.code, times(1)).fetchClassBytes(clazz);
+  }
+
+  @Test
+  public void reusesCodeLinesOfCodeUnderTest() {
+    final ClassName clazz = ClassName.fromClass(LegacyClassCoverageTest.class);
+    final ClassTree tree = ClassTree.fromBytes(ClassloaderByteArraySource.fromContext()
+        .getBytes(clazz.asJavaName()).get());
+    when(this.code.codeTrees()).thenReturn(Stream.of(tree));
+
+    final LegacyClassCoverage withCode = new LegacyClassCoverage(this.code, this.lm);
+
+    assertThat(withCode.getCodeLinesForClass(clazz).getNumberOfCodeLines()).isPositive();
+    verify(this.code, never()).fetchClassBytes(any(ClassName.class));
+  }
+
+  @Test
+  public void estimatesMemoryUsedByLineCoverage() {
+    assertThat(this.underTest.estimatedBytes()).isZero();
+
+    this.underTest.addTestToClasses(test("a"), Collections.singletonList(this.block.build()));
+
+    assertThat(this.underTest.estimatedBytes()).isPositive();
+    assertThat(this.underTest.numberOfTests()).isEqualTo(1);
+    assertThat(this.underTest.numberOfCoveredLines()).isEqualTo(2);
+  }
+
+  private static TestInfo test(String name) {
+    return new TestInfo("FooTest", name, 0, Optional.empty(), 1);
+  }
+
+  private static Map<BlockLocation, Set<Integer>> lines(BlockLocationBuilder block, Integer... lines) {
+    final Map<BlockLocation, Set<Integer>> map = new HashMap<>();
+    map.put(block.build(), new HashSet<>(Arrays.asList(lines)));
+    return map;
+  }
+
+}
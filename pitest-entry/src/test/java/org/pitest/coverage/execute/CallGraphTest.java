@@ -0,0 +1,156 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Location;
+
+public class CallGraphTest {
+
+  private final ClassByteArraySource source = ClassloaderByteArraySource.fromContext();
+
+  @Test
+  public void reachesStaticallyCalledMethods() {
+    final CallGraph underTest = graphOf(Caller.class, Callee.class);
+    assertThat(reachedFrom(underTest, Caller.class, "callStatic"))
+        .contains(method(Callee.class, "called"))
+        .doesNotContain(method(Callee.class, "notCalled"));
+  }
+
+  @Test
+  public void reachesEveryImplementationOfVirtualCalls() {
+    final CallGraph underTest = graphOf(Caller.class, Shape.class, Square.class, Circle.class);
+    assertThat(reachedFrom(underTest, Caller.class, "callVirtual"))
+        .contains(method(Square.class, "area"), method(Circle.class, "area"));
+  }
+
+  @Test
+  public void reachesBodiesOfLambdas() {
+    final CallGraph underTest = graphOf(Caller.class, Callee.class);
+    assertThat(reachedFrom(underTest, Caller.class, "callInLambda"))
+        .contains(method(Callee.class, "called"));
+  }
+
+  @Test
+  public void reachesLibraryCallbacksOfUsedClasses() {
+    final CallGraph underTest = graphOf(Caller.class, Callee.class);
+    assertThat(reachedFrom(underTest, Caller.class, "create"))
+        .contains(new Location(ClassName.fromClass(Callee.class), "toString",
+            "()Ljava/lang/String;"))
+        .doesNotContain(method(Callee.class, "notCalled"));
+  }
+
+  @Test
+  public void reachesStaticInitialisersOfUsedClasses() {
+    final CallGraph underTest = graphOf(Caller.class, HasInitialiser.class);
+    assertThat(reachedFrom(underTest, Caller.class, "readStatic"))
+        .contains(new Location(ClassName.fromClass(HasInitialiser.class), "<clinit>", "()V"));
+  }
+
+  @Test
+  public void includesMethodsOfSuperclassesInMethodsOfClass() {
+    final CallGraph underTest = graphOf(Square.class, Shape.class, Base.class);
+    assertThat(underTest.methodsOf(ClassName.fromClass(Square.class)))
+        .contains(method(Square.class, "area"), method(Base.class, "describe"));
+  }
+
+  private Set<Location> reachedFrom(CallGraph graph, Class<?> clazz, String name) {
+    final List<Location> roots = graph.methodsOf(ClassName.fromClass(clazz)).stream()
+        .filter(l -> l.getMethodName().equals(name))
+        .collect(Collectors.toList());
+    return graph.reachableFrom(roots);
+  }
+
+  private CallGraph graphOf(Class<?>... classes) {
+    return new CallGraph(Arrays.stream(classes)
+        .map(c -> ClassTree.fromBytes(this.source.getBytes(c.getName()).get()))
+        .collect(Collectors.toList()), this.source);
+  }
+
+  private static Location method(Class<?> clazz, String name) {
+    final ClassTree tree = ClassTree.fromBytes(ClassloaderByteArraySource.fromContext()
+        .getBytes(clazz.getName()).get());
+    return tree.methods().stream()
+        .filter(m -> m.rawNode().name.equals(name))
+        .findFirst()
+        .get()
+        .asLocation();
+  }
+
+  static class Caller {
+    void callStatic() {
+      Callee.called();
+    }
+
+    int callVirtual(Shape shape) {
+      return shape.area();
+    }
+
+    Supplier<Integer> callInLambda() {
+      return () -> Callee.called();
+    }
+
+    Object create() {
+      return new Callee();
+    }
+
+    List<String> readStatic() {
+      return HasInitialiser.VALUES;
+    }
+  }
+
+  static class Callee {
+    static int called() {
+      return 1;
+    }
+
+    int notCalled() {
+      return 2;
+    }
+
+    @Override
+    public String toString() {
+      return "callee";
+    }
+  }
+
+  static class Base {
+    String describe() {
+      return "base";
+    }
+  }
+
+  abstract static class Shape extends Base {
+    abstract int area();
+  }
+
+  static class Square extends Shape {
+    @Override
+    int area() {
+      return 4;
+    }
+  }
+
+  static class Circle extends Shape {
+    @Override
+    int area() {
+      return 3;
+    }
+  }
+
+  static class HasInitialiser {
+    static final List<String> VALUES = Collections.singletonList("a");
+  }
+
+}
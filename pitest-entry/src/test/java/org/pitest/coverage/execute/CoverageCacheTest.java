@@ -0,0 +1,88 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.TestUnitDescriptor;
+
+public class CoverageCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void keyIsStableWhileNothingChanges() throws Exception {
+    final File classes = this.folder.newFolder("classes");
+    new File(classes, "Foo.class").createNewFile();
+
+    assertThat(CoverageCache.key(Arrays.asList("a", 1), Collections.singletonList(classes)))
+        .isEqualTo(CoverageCache.key(Arrays.asList("a", 1), Collections.singletonList(classes)));
+  }
+
+  @Test
+  public void keyChangesWithConfiguration() throws Exception {
+    final List<File> cp = Collections.singletonList(this.folder.newFolder("classes"));
+
+    assertThat(CoverageCache.key(Arrays.asList("a", 1), cp))
+        .isNotEqualTo(CoverageCache.key(Arrays.asList("a", 2), cp));
+  }
+
+  @Test
+  public void keyChangesWhenFileWithinDirectoryChanges() throws Exception {
+    final File classes = this.folder.newFolder("classes");
+    final File foo = new File(classes, "Foo.class");
+    foo.createNewFile();
+    final String before = CoverageCache.key(Collections.emptyList(), Collections.singletonList(classes));
+
+    assertThat(foo.setLastModified(foo.lastModified() + 2000)).isTrue();
+
+    assertThat(CoverageCache.key(Collections.emptyList(), Collections.singletonList(classes)))
+        .isNotEqualTo(before);
+  }
+
+  @Test
+  public void replaysWhatWasRecorded() {
+    final CoverageCache.Recording recording = new CoverageCache.Recording();
+    final TestUnitDescriptor descriptor = new TestUnitDescriptor(0, new Description("foo"), "foo");
+    final CoverageResult result = new CoverageResult(new Description("foo"), 1, true,
+        Collections.emptyList());
+    recording.record(descriptor);
+    recording.record(result);
+
+    final List<Object> replayed = new ArrayList<>();
+    recording.replay(replayed::add, replayed::add);
+
+    assertThat(replayed).containsExactly(descriptor, result);
+  }
+
+  @Test
+  public void dropsLeastRecentlyUsedRunsOverMaximum() {
+    final CoverageCache underTest = new CoverageCache(1);
+    underTest.put("a", new CoverageCache.Recording());
+    underTest.put("b", new CoverageCache.Recording());
+
+    assertThat(underTest.get("a")).isEmpty();
+    assertThat(underTest.get("b")).isPresent();
+    assertThat(underTest.hits()).isEqualTo(1);
+  }
+
+  @Test
+  public void disabledCacheHoldsNothing() {
+    final CoverageCache underTest = CoverageCache.disabled();
+    underTest.put("a", new CoverageCache.Recording());
+
+    assertThat(underTest.isEnabled()).isFalse();
+    assertThat(underTest.get("a")).isEmpty();
+  }
+
+}
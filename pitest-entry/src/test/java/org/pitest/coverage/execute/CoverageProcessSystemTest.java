@@ -15,6 +15,7 @@ import com.example.coverage.execute.samples.simple.TesteeWithComplexConstructors
 import com.example.coverage.execute.samples.simple.TesteeWithMultipleLines;
 import com.example.coverage.execute.samples.simple.Tests;
 import com.example.coverage.execute.samples.simple.TestsForMultiBlockCoverage;
+import com.example.coverage.execute.samples.simple.TestsThatStartThreads;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.pitest.SystemTest;
@@ -28,6 +29,7 @@ import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
+import org.pitest.testapi.Description;
 import org.pitest.util.ExitCode;
 import org.pitest.util.SocketFinder;
 
@@ -38,10 +40,14 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
@@ -261,6 +267,41 @@ public class CoverageProcessSystemTest {
             .anyMatch(coverageFor(ClassName.fromString("com.example.coverage.execute.samples.executionindiscovery.ATesteeClass")));
   }
 
+  @Test
+  public void recordsSameCoveragePerTestWhenTestClassesRunConcurrently() throws Exception {
+    final List<String> tests = Arrays.asList(TestsForMultiBlockCoverage.class.getName(),
+        TesteeWithComplexConstructorsTest.class.getName(), Tests.class.getName());
+
+    final List<CoverageResult> sequential = new ArrayList<>();
+    runCoverageProcess(tests, 1, sequential);
+    final List<CoverageResult> concurrent = new ArrayList<>();
+    runCoverageProcess(tests, 3, concurrent);
+
+    assertThat(blocksByTest(concurrent)).isEqualTo(blocksByTest(sequential));
+  }
+
+  @Test
+  public void creditsHitsOnThreadsStartedByTestsWhenTestClassesRunConcurrently() throws Exception {
+    final List<String> tests = Arrays.asList(TestsThatStartThreads.class.getName(),
+        TestsForMultiBlockCoverage.class.getName(), Tests.class.getName());
+
+    final List<CoverageResult> sequential = new ArrayList<>();
+    runCoverageProcess(tests, 1, sequential);
+    final List<CoverageResult> concurrent = new ArrayList<>();
+    runCoverageProcess(tests, 3, concurrent);
+
+    assertThat(blocksByTest(concurrent)).isEqualTo(blocksByTest(sequential));
+    assertThat(concurrent)
+        .filteredOn(r -> r.getTestUnitDescription().getName().contains("testBarOnAnotherThread"))
+        .anyMatch(coverageFor(Testee2.class));
+  }
+
+  private static Map<Description, Set<BlockLocation>> blocksByTest(List<CoverageResult> results) {
+    return results.stream()
+        .collect(Collectors.toMap(CoverageResult::getTestUnitDescription,
+            r -> new HashSet<>(r.getCoverage())));
+  }
+
   private Predicate<CoverageResult> failingTest() {
     return a -> !a.isGreenTest();
   }
@@ -277,9 +318,16 @@ public class CoverageProcessSystemTest {
   private void runCoverageProcess(final Class<?> test,
       final List<CoverageResult> coveredClasses) throws IOException,
       InterruptedException {
+    runCoverageProcess(Arrays.asList(test.getName()), 1, coveredClasses);
+  }
+
+  private void runCoverageProcess(final List<String> tests, int threads,
+      final List<CoverageResult> coveredClasses) throws IOException,
+      InterruptedException {
     final Consumer<CoverageResult> handler = a -> coveredClasses.add(a);
 
-    final CoverageOptions sa = new CoverageOptions(coverOnlyTestees(), excludeTests(), TestPluginArguments.defaults(), VERBOSE);
+    final CoverageOptions sa = new CoverageOptions(coverOnlyTestees(), excludeTests(),
+        TestPluginArguments.defaults(), VERBOSE, threads);
 
     final JarCreatingJarFinder agent = new JarCreatingJarFinder();
     try {
@@ -287,7 +335,7 @@ public class CoverageProcessSystemTest {
       final SocketFinder sf = new SocketFinder();
       final CoverageProcess process = new CoverageProcess(ProcessArgs
           .withClassPath(new ClassPath()).andLaunchOptions(lo), sa,
-          sf.getNextAvailableServerSocket(), Arrays.asList(test.getName()),
+          sf.getNextAvailableServerSocket(), tests,
           handler);
       process.start();
 
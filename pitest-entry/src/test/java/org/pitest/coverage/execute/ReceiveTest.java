@@ -6,10 +6,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.testapi.Description;
+import org.pitest.testapi.TestUnitDescriptor;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataInputStream;
 import sun.pitest.CodeCoverageStore;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 
 import static org.junit.Assert.assertEquals;
@@ -27,6 +31,8 @@ public class ReceiveTest {
 
   private Description                 description;
 
+  private final List<TestUnitDescriptor> tests = new ArrayList<>();
+
   @Mock
   private SafeDataInputStream         is;
 
@@ -34,7 +40,7 @@ public class ReceiveTest {
   public void setUp() {
     MockitoAnnotations.openMocks(this);
     this.handler = stubHandler();
-    this.testee = new Receive(this.handler);
+    this.testee = new Receive(this.handler, this.tests::add);
     this.description = new Description("foo", "bar");
   }
 
@@ -60,6 +66,16 @@ public class ReceiveTest {
     assertEquals(true, this.result.isGreenTest());
   }
 
+  @Test
+  public void shouldPassOnDescriptorsForDiscoveredTests() {
+    final TestUnitDescriptor one = new TestUnitDescriptor(0, this.description, "key0");
+    final TestUnitDescriptor two = new TestUnitDescriptor(1, this.description, "key1");
+    when(this.is.readInt()).thenReturn(2);
+    when(this.is.read(TestUnitDescriptor.class)).thenReturn(one, two);
+    this.testee.apply(Id.TESTS, this.is);
+    assertEquals(Arrays.asList(one, two), this.tests);
+  }
+
   private void recordTestCoverage(final int executionTime, final int classId,
       final int probeNumber, final boolean testPassed) {
     when(this.is.readInt()).thenReturn(classId, executionTime);
@@ -17,6 +17,8 @@ package org.pitest.mutationtest;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.DetectionStatus.INFERRED_KILLED;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.RUN_ERROR;
@@ -32,21 +34,32 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import com.example.classloaders.MuteeInOtherClassloader;
 import com.example.classloaders.MuteeInOtherClassloaderPooledTest;
 import com.example.classloaders.MuteeInOtherClassloaderTest;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
 import org.pitest.SystemTest;
 import org.pitest.classpath.ClassPath;
 import org.pitest.help.PitHelpError;
+import org.pitest.mutationtest.config.DirectoryResultOutputStrategy;
+import org.pitest.mutationtest.config.UndatedReportDirCreationStrategy;
 import org.pitest.mutationtest.engine.gregor.Generated;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+import org.pitest.mutationtest.execute.MutantIsolation;
+import org.pitest.mutationtest.shard.Shard;
 import org.pitest.util.FileUtil;
 import org.pitest.util.IsolationUtils;
 
 import com.example.BeforeAfterClassTest;
+import com.example.Comparison;
+import com.example.ComparisonTest;
+import com.example.ComparisonWithoutEqualityTest;
 import com.example.CoveredByABeforeAfterClass;
 import com.example.CoveredByEasyMock;
 import com.example.CoveredByJUnitThreeSuite;
@@ -69,6 +82,9 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
 
   private static final int ONE_MINUTE = 60000;
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   @Before
   public void excludeTests() {
     this.data.setExcludedClasses(asList("*Test"));
@@ -97,6 +113,55 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     verifyResults(KILLED, SURVIVED);
   }
 
+  @Test
+  public void shouldReportSameResultsWhenMutantsRunInIsolation() {
+    this.data
+    .setTargetClasses(asList("com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setMutantIsolation(MutantIsolation.concurrent(2, Collections.emptyList()));
+    createAndRun();
+    verifyResults(KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldReportSameResultsWhenMutantsOfSerialTestsAreHotswapped() {
+    this.data
+    .setTargetClasses(asList("com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setMutantIsolation(MutantIsolation.concurrent(2, asList("com.example.*")));
+    createAndRun();
+    verifyResults(KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldWorkWithEasyMockWhenMutantsRunInIsolation() {
+    this.data.setTargetClasses(asGlobs(CoveredByEasyMock.class));
+    this.data.setTargetTests(predicateFor(com.example.EasyMockTest.class));
+    this.data.setMutantIsolation(MutantIsolation.concurrent(2, Collections.emptyList()));
+    createAndRun();
+    verifyResults(KILLED, KILLED);
+  }
+
+
+  @Test
+  public void shouldMergeResultsOfShardsIntoSingleReport() throws IOException {
+    final File dir = this.folder.getRoot();
+    this.output = new DirectoryResultOutputStrategy(dir.getAbsolutePath(),
+        new UndatedReportDirCreationStrategy());
+    this.data.setTargetClasses(asList("com.example.PartiallyCovered*",
+        "com.example.CoveredButOnlyPartiallyTested*"));
+
+    this.data.setShard(new Shard(1, 2));
+    createAndRun();
+    this.data.setShard(new Shard(2, 2));
+    createAndRun();
+
+    this.metaDataExtractor = new MetaDataExtractor();
+    this.data.setShard(Shard.all());
+    this.data.setShardResults(asList(new File(dir, "shard-1-of-2.results"),
+        new File(dir, "shard-2-of-2.results")));
+    createAndRun();
+
+    verifyResults(KILLED, NO_COVERAGE, KILLED, SURVIVED);
+  }
 
   @Test(expected = PitHelpError.class)
   public void shouldFailRunWithHelpfulMessageIfTestsNotGreen() {
@@ -158,6 +223,50 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     verifyResults(NO_COVERAGE);
   }
 
+  @Test
+  public void shouldInferSubsumedMutantsKilledWhenSubsumingMutantKilled() {
+    this.data.setTargetClasses(asGlobs(Comparison.class));
+    this.data.setTargetTests(predicateFor(ComparisonTest.class));
+    this.data.setFeatures(Collections.singletonList("+subsumption"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, KILLED, INFERRED_KILLED);
+    assertEquals(0, resultFor(NegateConditionalsMutator.class).getNumberOfTestsRun());
+    assertEquals(3, mutantsRun());
+  }
+
+  @Test
+  public void shouldRunSubsumedMutantsWhenInferenceDisabled() {
+    this.data.setTargetClasses(asGlobs(Comparison.class));
+    this.data.setTargetTests(predicateFor(ComparisonTest.class));
+    this.data.setFeatures(Collections.singletonList("+subsumption(infer[false])"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, KILLED, KILLED);
+    assertTrue(resultFor(NegateConditionalsMutator.class).getNumberOfTestsRun() > 0);
+    assertEquals(4, mutantsRun());
+  }
+
+  @Test
+  public void shouldRunSubsumedMutantsWhenSubsumingMutantSurvives() {
+    this.data.setTargetClasses(asGlobs(Comparison.class));
+    this.data.setTargetTests(predicateFor(ComparisonWithoutEqualityTest.class));
+    this.data.setFeatures(Collections.singletonList("+subsumption"));
+    createAndRun();
+    verifyResults(SURVIVED, KILLED, KILLED, KILLED);
+    assertTrue(resultFor(NegateConditionalsMutator.class).getNumberOfTestsRun() > 0);
+  }
+
+  @Test
+  public void shouldRunMutantsAgainstTestClassesReachingThemInStaticCallGraph() {
+    this.data.setTargetClasses(asGlobs(Comparison.class));
+    this.data.setTargetTests(predicateFor(ComparisonTest.class));
+    this.data.setStaticCoverage(Optional.of(1000));
+    createAndRun();
+    verifyResults(KILLED, KILLED, KILLED, KILLED);
+    final List<String> killing = resultFor(NegateConditionalsMutator.class).getKillingTests();
+    assertTrue(!killing.isEmpty()
+        && killing.stream().allMatch(t -> t.contains(ComparisonTest.class.getName())));
+  }
+
   @Test
   public void shouldWorkWithEasyMock() {
     this.data.setTargetClasses(asGlobs(CoveredByEasyMock.class));
@@ -481,4 +590,16 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     return Collections.singleton(clazz.getName());
   }
 
+  private long mutantsRun() {
+    return this.metaDataExtractor.getData().stream()
+        .filter(r -> r.getNumberOfTestsRun() > 0)
+        .count();
+  }
+
+  private MutationResult resultFor(Class<?> mutator) {
+    return this.metaDataExtractor.getData().stream()
+        .filter(r -> r.getDetails().getMutator().equals(mutator.getName()))
+        .findFirst().get();
+  }
+
 }
@@ -20,6 +20,7 @@ import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
+import org.pitest.coverage.execute.StaticCoverageGenerator;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
@@ -36,6 +37,7 @@ import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Glob;
+import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Timings;
 import org.pitest.util.Unchecked;
 import org.pitest.util.Verbosity;
@@ -44,6 +46,7 @@ public abstract class ReportTestBase {
 
   protected MetaDataExtractor metaDataExtractor;
   protected ReportOptions     data;
+  protected ResultOutputStrategy output;
 
   private PluginServices      plugins;
 
@@ -117,15 +120,17 @@ public abstract class ReportTestBase {
       final Timings timings = new Timings();
       final CodeSource code = new DefaultCodeSource(cps);
 
-      final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
-          null, coverageOptions, launchOptions, code,
-          new NullCoverageExporter(), timings, Verbosity.DEFAULT);
-
       final HistoryStore history = new NullHistoryStore();
 
+      final CoverageGenerator coverageDatabase = this.data.getStaticCoverage()
+          .<CoverageGenerator>map(time -> new StaticCoverageGenerator(coverageOptions,
+              launchOptions, code, new NullCoverageExporter(), timings, history, time))
+          .orElseGet(() -> new DefaultCoverageGenerator(null, coverageOptions,
+              launchOptions, code, new NullCoverageExporter(), timings, Verbosity.DEFAULT));
+
       final MutationStrategies strategies = new MutationStrategies(
           new GregorEngineFactory(), history, coverageDatabase,
-          listenerFactory(), result -> result, cov -> cov, null, new NoVerification());
+          listenerFactory(), result -> result, cov -> cov, this.output, new NoVerification());
 
       final MutationCoverage testee = new MutationCoverage(strategies, null,
           code, this.data, new SettingsFactory(this.data, this.plugins),
@@ -15,6 +15,7 @@
 package org.pitest.mutationtest;
 
 import static java.util.function.Predicate.isEqual;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 import static org.pitest.mutationtest.DetectionStatus.MEMORY_ERROR;
@@ -23,11 +24,14 @@ import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.SURVIVED;
 import static org.pitest.mutationtest.DetectionStatus.TIMED_OUT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -43,8 +47,10 @@ import com.example.systemtest.ThreeMutations;
 import com.example.systemtest.ThreeMutationsTwoMeaningfullTests;
 import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
 import org.pitest.SystemTest;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
@@ -54,10 +60,12 @@ import org.pitest.classpath.PathFilter;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.execute.CoverageCache;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.prelude.Prelude;
+import org.pitest.mutationtest.build.AdaptiveSample;
 import org.pitest.mutationtest.build.CompoundMutationInterceptor;
 import org.pitest.mutationtest.build.DefaultGrouper;
 import org.pitest.mutationtest.build.DefaultTestPrioritiser;
@@ -66,13 +74,22 @@ import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationSource;
 import org.pitest.mutationtest.build.MutationTestBuilder;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.build.SamplingPlan;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.DefaultDependencyPathPredicate;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.execute.AdaptiveTimeouts;
+import org.pitest.mutationtest.execute.IsolatedListeners;
+import org.pitest.mutationtest.execute.MinionSlots;
+import org.pitest.mutationtest.execute.MutantIsolation;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.execute.ResultBatching;
+import org.pitest.mutationtest.execute.RunTelemetry;
+import org.pitest.mutationtest.execute.SlotLimit;
+import org.pitest.mutationtest.shard.Shard;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaAgent;
@@ -88,14 +105,41 @@ import org.pitest.util.Verbosity;
 @Category(SystemTest.class)
 public class TestMutationTesting {
 
+  @Rule
+  public TemporaryFolder           folder = new TemporaryFolder();
+
   private MutationAnalysisExecutor mae;
   private TestPluginArguments      config;
 
   private MetaDataExtractor        metaDataExtractor;
 
+  private ResultBatching           batching;
+
+  private AdaptiveTimeouts         adaptiveTimeouts;
+
+  private RunTelemetry             telemetry;
+
+  private MutantIsolation          mutantIsolation;
+
+  private MinionSlots              slots;
+
+  private boolean                  schemata;
+
+  private Optional<AdaptiveSample> sample;
+
+  private CoverageCache            coverageCache;
+
   @Before
   public void setUp() {
     this.config = TestPluginArguments.defaults();
+    this.batching = ResultBatching.none();
+    this.adaptiveTimeouts = AdaptiveTimeouts.none();
+    this.telemetry = RunTelemetry.disabled();
+    this.mutantIsolation = MutantIsolation.none();
+    this.slots = MinionSlots.unlimited();
+    this.schemata = false;
+    this.sample = Optional.empty();
+    this.coverageCache = CoverageCache.disabled();
     this.metaDataExtractor = new MetaDataExtractor();
     this.mae = new MutationAnalysisExecutor(1, result -> result,
         Collections
@@ -116,6 +160,50 @@ public class TestMutationTesting {
     verifyResults(SURVIVED, KILLED, KILLED);
   }
 
+  @Test
+  public void shouldDetectMixOfSurvivingAndKilledMutationsWhenUsingSchemata() {
+    this.schemata = true;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldAnalyseEveryMutantInRoundsWhenSamplingUntilIntervalHasNoWidth() {
+    this.sample = Optional.of(new AdaptiveSample(new SamplingPlan(0, 25, 0, 0)));
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+    assertThat(this.sample.get().estimate().isComplete()).isTrue();
+    assertThat(this.sample.get().estimate().detected()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldDetectMixOfSurvivingAndKilledMutationsWhenListenersAreIsolated() {
+    this.mae = new MutationAnalysisExecutor(1, result -> result,
+        IsolatedListeners.isolate(Collections
+            .<MutationResultListener> singletonList(this.metaDataExtractor), 1, this.telemetry));
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldReuseCoverageOfUnchangedCode() {
+    this.coverageCache = new CoverageCache();
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+
+    this.metaDataExtractor = new MetaDataExtractor();
+    this.mae = new MutationAnalysisExecutor(1, result -> result,
+        Collections.<MutationResultListener> singletonList(this.metaDataExtractor));
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+
+    verifyResults(SURVIVED, KILLED, KILLED);
+    assertThat(this.coverageCache.hits()).isEqualTo(1);
+  }
+
   @Test
   public void shouldReportNoResultsIfNoMutationsPossible() {
     run(NoMutations.class, NoMutationsTest.class, "PRIMITIVE_RETURNS");
@@ -142,6 +230,88 @@ public class TestMutationTesting {
     verifyResults(KILLED, TIMED_OUT);
   }
 
+  @Test
+  public void shouldReportAllResultsWhenBatched() {
+    this.batching = ResultBatching.batchesOf(2, 10000);
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldDetectInfiniteLoopsWhenResultsBatched() {
+    this.batching = ResultBatching.batchesOf(10, 10000);
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldRecoverFromInfiniteLoopsWithoutRestartingMinion() {
+    this.adaptiveTimeouts = AdaptiveTimeouts.learning(99, 3).withRecovery(1, 100);
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldRestartMinionWhenTimedOutThreadCannotBeAbandoned() {
+    this.adaptiveTimeouts = AdaptiveTimeouts.learning(99, 3).withRecovery(0, 100);
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test
+  public void shouldReportSameResultsWhenMutantsRunInIsolation() {
+    this.mutantIsolation = MutantIsolation.concurrent(2, Collections.emptyList());
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldRecoverFromInfiniteLoopsWhenMutantsRunInIsolation() {
+    this.mutantIsolation = MutantIsolation.concurrent(2, Collections.emptyList());
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test
+  public void shouldAnalyseMutantsWhenMinionsShareASingleSlot() throws Exception {
+    this.slots = MinionSlots.acrossMachine(new SlotLimit(this.folder.newFolder(), 1));
+    this.mae = new MutationAnalysisExecutor(2, result -> result,
+        Collections.<MutationResultListener> singletonList(this.metaDataExtractor));
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldRecordTimingsForEachPhaseOfAnalysis() {
+    this.telemetry = RunTelemetry.recording();
+    this.mae = new MutationAnalysisExecutor(1, result -> result,
+        Collections.<MutationResultListener> singletonList(this.metaDataExtractor),
+        this.telemetry);
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    this.telemetry.report(new PrintStream(out));
+    assertThat(out.toString())
+        .contains("> queue wait : 1 times")
+        .contains("> spawn : 1 times")
+        .contains("> connect : 1 times")
+        .contains("> discover : 1 times")
+        .contains("> generate : 3 times")
+        .contains("> hotswap : 3 times")
+        .contains("> tests : 3 times")
+        .contains("> transfer : 3 times")
+        .contains("> listener : ");
+  }
+
   @Test
   public void shouldExportSystemPropertiesToMinionProcess() {
     // System.setProperty("foo", "foo");
@@ -245,14 +415,15 @@ public class TestMutationTesting {
 
     final CoverageGenerator coverageGenerator = new DefaultCoverageGenerator(
         null, coverageOptions, launchOptions, code, new NullCoverageExporter(),
-        timings, Verbosity.DEFAULT);
+        timings, Verbosity.DEFAULT, this.coverageCache);
 
     final CoverageDatabase coverageData = coverageGenerator.calculateCoverage();
 
     final Collection<ClassName> codeClasses = code.getCodeUnderTestNames();
 
     final EngineArguments arguments = EngineArguments.arguments()
-        .withMutators(mutators);
+        .withMutators(mutators)
+        .withSchemata(this.schemata);
 
     final MutationEngine engine = new GregorEngineFactory().createEngine(arguments);
 
@@ -272,18 +443,23 @@ public class TestMutationTesting {
         coverageOptions.getPitConfig(), mutationConfig, arguments,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
             data.getTimeoutConstant()), data.getVerbosity(), false, data.getClassPath()
-            .getLocalClassPath());
+            .getLocalClassPath(), this.batching, coverageData.testUnitIndex(), this.adaptiveTimeouts,
+            this.telemetry, this.mutantIsolation, this.slots);
 
 
 
 
     final MutationTestBuilder builder = new MutationTestBuilder(wf,
-        new NullAnalyser(), source, new DefaultGrouper(0));
+        new NullAnalyser(), source, new DefaultGrouper(0), Shard.all(), this.sample);
 
     final List<MutationAnalysisUnit> tus = builder
         .createMutationTestUnits(codeClasses);
 
-    this.mae.run(tus);
+    if (this.sample.isPresent()) {
+      this.mae.run(this.sample.get().rounds());
+    } else {
+      this.mae.run(tus);
+    }
   }
 
   private CoverageOptions createCoverageOptions(ReportOptions data) {
@@ -0,0 +1,215 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class AdaptiveSampleTest {
+
+  @Test
+  public void drawsSameSampleForSameSeed() {
+    List<MutationDetails> mutants = mutants("foo", "mutator", 100);
+    assertThat(sample(1, 10, 10).divide(mutants))
+        .isEqualTo(sample(1, 10, 10).divide(mutants));
+  }
+
+  @Test
+  public void drawsDifferentSampleForDifferentSeed() {
+    List<MutationDetails> mutants = mutants("foo", "mutator", 100);
+    assertThat(sample(1, 10, 10).divide(mutants).get(0))
+        .isNotEqualTo(sample(2, 10, 10).divide(mutants).get(0));
+  }
+
+  @Test
+  public void samplesEachClassAndMutatorInProportion() {
+    List<MutationDetails> mutants = new ArrayList<>();
+    mutants.addAll(mutants("foo", "a", 100));
+    mutants.addAll(mutants("foo", "b", 50));
+    mutants.addAll(mutants("bar", "a", 200));
+
+    List<MutationDetails> firstRound = sample(0, 10, 10).divide(mutants).get(0);
+
+    assertThat(count(firstRound, "foo", "a")).isEqualTo(10);
+    assertThat(count(firstRound, "foo", "b")).isEqualTo(5);
+    assertThat(count(firstRound, "bar", "a")).isEqualTo(20);
+  }
+
+  @Test
+  public void doublesEachRoundUntilEveryMutantIsIncluded() {
+    List<MutationDetails> mutants = mutants("foo", "mutator", 100);
+
+    List<List<MutationDetails>> rounds = sample(0, 25, 10).divide(mutants);
+
+    assertThat(rounds.stream().map(List::size)).containsExactly(25, 25, 50);
+    assertThat(rounds.stream().flatMap(List::stream).collect(Collectors.toSet()))
+        .containsExactlyInAnyOrderElementsOf(mutants);
+  }
+
+  @Test
+  public void extendsEarlierRoundsWhenInitialSampleIsLarger() {
+    List<MutationDetails> mutants = mutants("foo", "mutator", 100);
+
+    List<MutationDetails> small = sample(0, 10, 10).divide(mutants).get(0);
+    List<MutationDetails> large = sample(0, 20, 10).divide(mutants).get(0);
+
+    assertThat(large).containsAll(small);
+  }
+
+  @Test
+  public void returnsEmptyRoundsWhenNoMutants() {
+    assertThat(sample(0, 10, 10).divide(Collections.emptyList()))
+        .isNotEmpty()
+        .allMatch(List::isEmpty);
+  }
+
+  @Test
+  public void alwaysRunsFirstRound() {
+    AdaptiveSample underTest = sample(0, 50, 100);
+    underTest.addRound(Collections.emptyList());
+    underTest.addRound(Collections.singletonList(unit(DetectionStatus.KILLED)));
+
+    Iterator<List<MutationAnalysisUnit>> rounds = underTest.rounds();
+
+    assertThat(rounds.hasNext()).isTrue();
+    rounds.next();
+    assertThat(rounds.hasNext()).isFalse();
+  }
+
+  @Test
+  public void stopsWhenIntervalIsWithinTargetWidth() throws Exception {
+    AdaptiveSample underTest = sample(0, 50, 50);
+    underTest.setPopulation(40);
+    underTest.addRound(units(20, DetectionStatus.KILLED));
+    underTest.addRound(units(20, DetectionStatus.KILLED));
+
+    Iterator<List<MutationAnalysisUnit>> rounds = underTest.rounds();
+    run(rounds.next());
+
+    assertThat(rounds.hasNext()).isFalse();
+  }
+
+  @Test
+  public void continuesWhileIntervalIsWiderThanTarget() throws Exception {
+    AdaptiveSample underTest = sample(0, 50, 1);
+    underTest.setPopulation(40);
+    underTest.addRound(units(20, DetectionStatus.KILLED));
+    underTest.addRound(units(20, DetectionStatus.SURVIVED));
+
+    Iterator<List<MutationAnalysisUnit>> rounds = underTest.rounds();
+    run(rounds.next());
+    assertThat(rounds.hasNext()).isTrue();
+    run(rounds.next());
+
+    assertThat(rounds.hasNext()).isFalse();
+    assertThat(underTest.estimate().isComplete()).isTrue();
+    assertThat(underTest.estimate().score()).isEqualTo(0.5);
+  }
+
+  @Test
+  public void stopsWhenTimeBudgetIsSpent() throws Exception {
+    AtomicLong time = new AtomicLong();
+    AdaptiveSample underTest = new AdaptiveSample(new SamplingPlan(0, 50, 1, 1000), time::get);
+    underTest.setPopulation(40);
+    underTest.addRound(units(20, DetectionStatus.KILLED));
+    underTest.addRound(units(20, DetectionStatus.SURVIVED));
+
+    Iterator<List<MutationAnalysisUnit>> rounds = underTest.rounds();
+    run(rounds.next());
+    time.set(1000);
+
+    assertThat(rounds.hasNext()).isFalse();
+  }
+
+  @Test
+  public void estimatesScoreFromResultsOfRunUnits() throws Exception {
+    AdaptiveSample underTest = sample(0, 50, 1);
+    underTest.setPopulation(100);
+    List<MutationAnalysisUnit> units = new ArrayList<>();
+    units.addAll(units(3, DetectionStatus.KILLED));
+    units.addAll(units(1, DetectionStatus.SURVIVED));
+    units.addAll(units(1, DetectionStatus.TIMED_OUT));
+    underTest.addRound(units);
+
+    run(underTest.rounds().next());
+
+    assertThat(underTest.estimate().sampled()).isEqualTo(5);
+    assertThat(underTest.estimate().detected()).isEqualTo(4);
+    assertThat(underTest.estimate().population()).isEqualTo(100);
+  }
+
+  @Test
+  public void countsKnownResultsExactlyRatherThanSampling() throws Exception {
+    AdaptiveSample underTest = sample(0, 50, 1);
+    underTest.setPopulation(10);
+    underTest.addKnown(Arrays.asList(result(DetectionStatus.KILLED),
+        result(DetectionStatus.KILLED), result(DetectionStatus.SURVIVED)));
+    underTest.addRound(units(1, DetectionStatus.SURVIVED));
+
+    List<MutationAnalysisUnit> first = underTest.rounds().next();
+    run(first);
+
+    assertThat(first).hasSize(2);
+    assertThat(underTest.estimate().sampled()).isEqualTo(1);
+    assertThat(underTest.estimate().detected()).isZero();
+    assertThat(underTest.estimate().known()).isEqualTo(3);
+    assertThat(underTest.estimate().knownDetected()).isEqualTo(2);
+    assertThat(underTest.estimate().population()).isEqualTo(13);
+  }
+
+  private static AdaptiveSample sample(long seed, int percent, int width) {
+    return new AdaptiveSample(new SamplingPlan(seed, percent, width, 0));
+  }
+
+  private static void run(List<MutationAnalysisUnit> units) throws Exception {
+    for (MutationAnalysisUnit each : units) {
+      each.call();
+    }
+  }
+
+  private static List<MutationAnalysisUnit> units(int count, DetectionStatus status) {
+    List<MutationAnalysisUnit> units = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      units.add(unit(status));
+    }
+    return units;
+  }
+
+  private static MutationAnalysisUnit unit(DetectionStatus status) {
+    return new KnownStatusMutationTestUnit(Arrays.asList(result(status)));
+  }
+
+  private static MutationResult result(DetectionStatus status) {
+    MutationDetails details = mutants("foo", "mutator", 1).get(0);
+    return new MutationResult(details, new MutationStatusTestPair(1, status, null));
+  }
+
+  private static long count(List<MutationDetails> mutants, String clazz, String mutator) {
+    return mutants.stream()
+        .filter(m -> m.getClassName().asJavaName().equals(clazz) && m.getMutator().equals(mutator))
+        .count();
+  }
+
+  private static List<MutationDetails> mutants(String clazz, String mutator, int count) {
+    List<MutationDetails> mutants = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      mutants.add(new MutationDetails(aMutationId().withLocation(aLocation(clazz))
+          .withMutator(mutator).withIndex(i).build(), "", "desc", 42, 0));
+    }
+    return mutants;
+  }
+
+}
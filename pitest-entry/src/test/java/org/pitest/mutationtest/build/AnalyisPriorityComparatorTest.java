@@ -50,6 +50,11 @@ public class AnalyisPriorityComparatorTest {
         return null;
       }
 
+      @Override
+      public MutationMetaData notRun() {
+        return null;
+      }
+
     };
   }
 
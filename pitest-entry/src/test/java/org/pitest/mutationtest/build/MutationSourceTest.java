@@ -5,6 +5,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
@@ -19,6 +20,7 @@ import org.pitest.process.LaunchOptions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -76,6 +78,49 @@ public class MutationSourceTest {
     assertEquals(expected, actual.getTestsInOrder());
   }
 
+  @Test
+  public void shouldAssignTestsToMutantsDeferredByInterceptor() {
+    final List<TestInfo> expected = makeTestInfos(0);
+    final List<MutationDetails> mutations = makeMutations("foo");
+    final SubsumedMutants subsumed = new SubsumedMutants();
+    this.testee = new MutationSource(this.config, this.prioritiser, this.source,
+        deferAll(subsumed), subsumed);
+
+    when(this.prioritiser.assignTests(any(MutationDetails.class))).thenReturn(
+        expected);
+    when(this.mutater.findMutations(any(ClassName.class)))
+    .thenReturn(mutations);
+
+    assertEquals(Collections.emptyList(), this.testee.createMutations(this.foo));
+    assertEquals(expected, subsumed.release().get(0).getTestsInOrder());
+  }
+
+  private MutationInterceptor deferAll(final SubsumedMutants subsumed) {
+    return new MutationInterceptor() {
+      @Override
+      public InterceptorType type() {
+        return InterceptorType.DEFER;
+      }
+
+      @Override
+      public void begin(ClassTree clazz) {
+      }
+
+      @Override
+      public Collection<MutationDetails> intercept(
+          Collection<MutationDetails> mutations, Mutater m) {
+        for (final MutationDetails each : mutations) {
+          subsumed.defer(each, Collections.emptyList(), false);
+        }
+        return Collections.emptyList();
+      }
+
+      @Override
+      public void end() {
+      }
+    };
+  }
+
   private List<TestInfo> makeTestInfos(final Integer... times) {
     return new ArrayList<>(FCollection.map(Arrays.asList(times),
         timeToTestInfo()));
@@ -7,17 +7,25 @@ import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.shard.Shard;
 
 public class MutationTestBuilderTest {
 
@@ -80,6 +88,51 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldDivideUnitsIntoSamplingRoundsWhenSampling() {
+    final AdaptiveSample sample = new AdaptiveSample(new SamplingPlan(0, 50, 0, 0));
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new DefaultGrouper(1), Shard.all(), Optional.of(sample));
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 10; i++) {
+      mutations.add(new MutationDetails(aMutationId().withLocation(aLocation("foo"))
+          .withIndex(i).build(), "", "desc", 42, 0));
+    }
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(mutations);
+
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+
+    assertEquals(10, actual.size());
+    assertEquals(5, sample.rounds().next().size());
+  }
+
+  @Test
+  public void shouldSampleOnlyMutantsWhoseStatusIsNotKnown() throws Exception {
+    final AdaptiveSample sample = new AdaptiveSample(new SamplingPlan(0, 50, 0, 0));
+    // the first four mutants are known to have been killed
+    final MutationAnalyser history = mutants -> mutants.stream()
+        .map(m -> new MutationResult(m, MutationStatusTestPair.notAnalysed(1,
+            m.getId().getFirstIndex() < 4 ? DetectionStatus.KILLED : DetectionStatus.NOT_STARTED)))
+        .collect(Collectors.toList());
+    this.testee = new MutationTestBuilder(this.wf, history,
+        this.source, new DefaultGrouper(1), Shard.all(), Optional.of(sample));
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 10; i++) {
+      mutations.add(new MutationDetails(aMutationId().withLocation(aLocation("foo"))
+          .withIndex(i).build(), "", "desc", 42, 0));
+    }
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(mutations);
+
+    this.testee.createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+    sample.rounds().next().get(0).call();
+
+    assertEquals(10, sample.estimate().population());
+    assertEquals(4, sample.estimate().known());
+    assertEquals(4, sample.estimate().knownDetected());
+    assertEquals(0, sample.estimate().sampled());
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
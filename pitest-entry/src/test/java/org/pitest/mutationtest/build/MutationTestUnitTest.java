@@ -5,13 +5,16 @@ import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
@@ -71,6 +74,24 @@ public class MutationTestUnitTest {
     assertThat(actual.getMutations()).contains(expected);
   }
 
+  @Test
+  public void shouldReportCoveredMutationsAsNotRunWhenNotRun() {
+    addMutation();
+    final MutationDetails covered = new MutationDetails(aMutationId().withIndex(2).build(),
+        "file", "desc", 0, 0);
+    covered.addTestsInOrder(Collections.singletonList(new TestInfo("foo", "fooTest", 0,
+        Optional.empty(), 0)));
+    this.mutations.add(covered);
+
+    final MutationMetaData actual = this.testee.notRun();
+
+    assertThat(actual.getMutations()).containsExactlyInAnyOrder(
+        new MutationResult(this.mutations.get(0),
+            MutationStatusTestPair.notAnalysed(0, DetectionStatus.NO_COVERAGE)),
+        new MutationResult(covered,
+            MutationStatusTestPair.notAnalysed(0, DetectionStatus.NOT_RUN)));
+  }
+
   @Test
   public void shouldReportPriorityBasedOnNumberOfMutations() {
     this.mutations.add(MutationDetailsMother.aMutationDetail().build());
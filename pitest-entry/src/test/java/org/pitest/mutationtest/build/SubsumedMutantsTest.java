@@ -0,0 +1,167 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class SubsumedMutantsTest {
+
+  SubsumedMutants underTest = new SubsumedMutants();
+
+  List<Collection<MutationDetails>> toRun = new ArrayList<>();
+
+  MutationDetails boundary = mutant(1, "boundary");
+  MutationDetails negation = mutant(1, "negation");
+  MutationDetails removal = mutant(1, "removal");
+
+  @Test
+  public void runsOnlyFirstRoundWhenNothingDeferred() throws Exception {
+    List<MutationAnalysisUnit> first = underTest.firstRound(
+        Collections.singletonList(unit(result(boundary, DetectionStatus.KILLED))), this::unitsFor);
+
+    Iterator<List<MutationAnalysisUnit>> rounds = underTest.rounds(first, UnaryOperator.identity());
+    assertThat(rounds.next()).isEqualTo(first);
+    assertThat(rounds.hasNext()).isFalse();
+  }
+
+  @Test
+  public void infersSubsumedMutantKilledWhenSubsumingMutantKilled() throws Exception {
+    underTest.defer(negation, Collections.singletonList(boundary.getId()), true);
+
+    List<MutationResult> results = runBothRounds(result(boundary, DetectionStatus.KILLED));
+
+    assertThat(results).hasSize(1);
+    assertThat(results.get(0).getDetails()).isEqualTo(negation);
+    assertThat(results.get(0).getStatus()).isEqualTo(DetectionStatus.INFERRED_KILLED);
+    assertThat(results.get(0).getKillingTests()).containsExactly("aTest");
+    assertThat(results.get(0).getNumberOfTestsRun()).isZero();
+    assertThat(toRun).isEmpty();
+  }
+
+  @Test
+  public void runsSubsumedMutantWhenInferenceNotEnabled() throws Exception {
+    underTest.defer(negation, Collections.singletonList(boundary.getId()), false);
+
+    List<MutationResult> results = runBothRounds(result(boundary, DetectionStatus.KILLED));
+
+    assertThat(results).isEmpty();
+    assertThat(toRun).containsExactly(Collections.singletonList(negation));
+  }
+
+  @Test
+  public void runsSubsumedMutantWhenSubsumingMutantSurvives() throws Exception {
+    underTest.defer(negation, Collections.singletonList(boundary.getId()), true);
+
+    runBothRounds(result(boundary, DetectionStatus.SURVIVED));
+
+    assertThat(toRun).containsExactly(Collections.singletonList(negation));
+  }
+
+  @Test
+  public void doesNotInferKillsFromTimeouts() throws Exception {
+    underTest.defer(negation, Collections.singletonList(boundary.getId()), true);
+
+    runBothRounds(result(boundary, DetectionStatus.TIMED_OUT));
+
+    assertThat(toRun).containsExactly(Collections.singletonList(negation));
+  }
+
+  @Test
+  public void infersKillWhenAnyOfSeveralSubsumingMutantsKilled() throws Exception {
+    underTest.defer(negation, Arrays.asList(boundary.getId(), removal.getId()), true);
+
+    List<MutationResult> results = runBothRounds(result(boundary, DetectionStatus.SURVIVED),
+        result(removal, DetectionStatus.KILLED));
+
+    assertThat(results).extracting(MutationResult::getDetails).containsExactly(negation);
+    assertThat(toRun).isEmpty();
+  }
+
+  @Test
+  public void runsSubsumedMutantWhenSubsumingMutantNotRun() throws Exception {
+    underTest.defer(negation, Collections.singletonList(boundary.getId()), true);
+
+    List<MutationAnalysisUnit> first = underTest.firstRound(
+        Collections.singletonList(unit(result(boundary, DetectionStatus.KILLED))), this::unitsFor);
+    first.get(0).notRun();
+    underTest.secondRound();
+
+    assertThat(toRun).containsExactly(Collections.singletonList(negation));
+  }
+
+  @Test
+  public void releasesDeferredMutants() {
+    underTest.defer(negation, Collections.singletonList(boundary.getId()), true);
+    assertThat(underTest.release()).containsExactly(negation);
+    assertThat(underTest.isEmpty()).isTrue();
+  }
+
+  private List<MutationResult> runBothRounds(MutationResult... firstResults) throws Exception {
+    List<MutationAnalysisUnit> units = new ArrayList<>();
+    for (MutationResult each : firstResults) {
+      units.add(unit(each));
+    }
+    Iterator<List<MutationAnalysisUnit>> rounds = underTest.rounds(
+        underTest.firstRound(units, this::unitsFor), UnaryOperator.identity());
+    for (MutationAnalysisUnit each : rounds.next()) {
+      each.call();
+    }
+    assertThat(rounds.hasNext()).isTrue();
+    List<MutationResult> second = new ArrayList<>();
+    for (MutationAnalysisUnit each : rounds.next()) {
+      second.addAll(each.call().getMutations());
+    }
+    assertThat(rounds.hasNext()).isFalse();
+    return second;
+  }
+
+  private List<MutationAnalysisUnit> unitsFor(Collection<MutationDetails> mutants) {
+    this.toRun.add(new ArrayList<>(mutants));
+    return Collections.emptyList();
+  }
+
+  private static MutationAnalysisUnit unit(MutationResult result) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() {
+        return new MutationMetaData(Collections.singletonList(result));
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+
+      @Override
+      public MutationMetaData notRun() {
+        return new MutationMetaData(Collections.emptyList());
+      }
+    };
+  }
+
+  private static MutationResult result(MutationDetails mutant, DetectionStatus status) {
+    return new MutationResult(mutant, new MutationStatusTestPair(1, status,
+        status == DetectionStatus.KILLED ? Collections.singletonList("aTest")
+            : Collections.emptyList(), Collections.emptyList()));
+  }
+
+  private static MutationDetails mutant(int index, String mutator) {
+    return new MutationDetails(aMutationId().withLocation(aLocation("foo"))
+        .withIndex(index).withMutator(mutator).build(), "", "desc", 42, 0);
+  }
+}
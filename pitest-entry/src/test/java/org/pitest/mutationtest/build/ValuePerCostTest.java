@@ -0,0 +1,88 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.incremental.CodeHistory;
+
+public class ValuePerCostTest {
+
+  CodeHistory history = mock(CodeHistory.class);
+  ValuePerCost underTest = new ValuePerCost(this.history);
+
+  @Test
+  public void ordersChangedClassesFirst() {
+    when(this.history.getPreviousResult(any())).thenReturn(Optional.empty());
+    when(this.history.hasClassChanged(ClassName.fromString("changed"))).thenReturn(true);
+    List<MutationDetails> unchanged = group(mutant("unchanged", 1, 0));
+    List<MutationDetails> changed = group(mutant("changed", 1, 0));
+
+    assertThat(underTest.prioritise(Arrays.asList(unchanged, changed)))
+        .containsExactly(changed, unchanged);
+  }
+
+  @Test
+  public void ordersClassesWithLowHistoricScoresFirst() {
+    MutationDetails wellTested = mutant("good", 1, 0);
+    MutationDetails poorlyTested = mutant("poor", 1, 0);
+    when(this.history.getPreviousResult(wellTested.getId()))
+        .thenReturn(Optional.of(new MutationStatusTestPair(1, DetectionStatus.KILLED, "test")));
+    when(this.history.getPreviousResult(poorlyTested.getId()))
+        .thenReturn(Optional.of(new MutationStatusTestPair(1, DetectionStatus.SURVIVED, null)));
+    List<MutationDetails> good = group(wellTested);
+    List<MutationDetails> poor = group(poorlyTested);
+
+    assertThat(underTest.prioritise(Arrays.asList(good, poor)))
+        .containsExactly(poor, good);
+  }
+
+  @Test
+  public void ordersCheaperGroupsOfEqualValueFirst() {
+    when(this.history.getPreviousResult(any())).thenReturn(Optional.empty());
+    List<MutationDetails> expensive = group(mutant("foo", 1, 100));
+    List<MutationDetails> cheap = group(mutant("foo", 2, 1));
+
+    assertThat(underTest.prioritise(Arrays.asList(expensive, cheap)))
+        .containsExactly(cheap, expensive);
+  }
+
+  @Test
+  public void retainsOrderOfGroupsOfEqualValue() {
+    when(this.history.getPreviousResult(any())).thenReturn(Optional.empty());
+    List<MutationDetails> a = group(mutant("foo", 1, 1));
+    List<MutationDetails> b = group(mutant("foo", 2, 1));
+
+    assertThat(underTest.prioritise(Arrays.asList(a, b))).containsExactly(a, b);
+    assertThat(underTest.prioritise(Arrays.asList(b, a))).containsExactly(b, a);
+  }
+
+  private static List<MutationDetails> group(MutationDetails... mutants) {
+    return new ArrayList<>(Arrays.asList(mutants));
+  }
+
+  private static MutationDetails mutant(String clazz, int index, int tests) {
+    MutationDetails details = new MutationDetails(aMutationId().withLocation(aLocation(clazz))
+        .withIndex(index).build(), "", "desc", 42, 0);
+    List<TestInfo> covering = new ArrayList<>();
+    for (int i = 0; i != tests; i++) {
+      covering.add(new TestInfo("FooTest", "test" + i, 0, Optional.empty(), 0));
+    }
+    details.addTestsInOrder(covering);
+    return details;
+  }
+}
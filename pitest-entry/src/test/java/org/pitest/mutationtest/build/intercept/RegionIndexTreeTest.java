@@ -0,0 +1,66 @@
+package org.pitest.mutationtest.build.intercept;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RegionIndexTreeTest {
+
+  @Test
+  public void containsNothingWhenEmpty() {
+    RegionIndexTree underTest = RegionIndexTree.of(Collections.emptyList());
+    assertThat(underTest.isEmpty()).isTrue();
+    assertThat(underTest.contains(0)).isFalse();
+  }
+
+  @Test
+  public void includesRegionBoundaries() {
+    RegionIndexTree underTest = RegionIndexTree.of(asList(new RegionIndex(3, 6)));
+    assertThat(underTest.contains(2)).isFalse();
+    assertThat(underTest.contains(3)).isTrue();
+    assertThat(underTest.contains(6)).isTrue();
+    assertThat(underTest.contains(7)).isFalse();
+  }
+
+  @Test
+  public void findsInstructionsInNestedRegions() {
+    RegionIndexTree underTest = RegionIndexTree.of(asList(new RegionIndex(20, 22), new RegionIndex(1, 100), new RegionIndex(5, 6)));
+    assertThat(underTest.contains(50)).isTrue();
+    assertThat(underTest.contains(101)).isFalse();
+  }
+
+  @Test
+  public void doesNotFindInstructionsBetweenRegions() {
+    RegionIndexTree underTest = RegionIndexTree.of(asList(new RegionIndex(10, 12), new RegionIndex(1, 3)));
+    assertThat(underTest.contains(5)).isFalse();
+    assertThat(underTest.contains(11)).isTrue();
+  }
+
+  @Test
+  public void treatsRegionsWithUnknownEndsAsEmpty() {
+    RegionIndexTree underTest = RegionIndexTree.of(asList(new RegionIndex(2, -1)));
+    assertThat(underTest.contains(2)).isFalse();
+  }
+
+  @Test
+  public void agreesWithLinearSearch() {
+    Random random = new Random(42);
+    List<RegionIndex> regions = new ArrayList<>();
+    for (int i = 0; i != 200; i++) {
+      int start = random.nextInt(5000);
+      regions.add(new RegionIndex(start, start + random.nextInt(40)));
+    }
+    RegionIndexTree underTest = RegionIndexTree.of(regions);
+    for (int instruction = -1; instruction != 5100; instruction++) {
+      final int i = instruction;
+      boolean expected = regions.stream().anyMatch(r -> r.start() <= i && r.end() >= i);
+      assertThat(underTest.contains(i)).isEqualTo(expected);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.verifier.interceptors.FactoryVerifier.confirmFactory;
+
+import org.junit.Test;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.plugin.FeatureParameter;
+
+public class SubsumedMutantsFilterFactoryTest {
+
+  SubsumedMutantsFilterFactory underTest = new SubsumedMutantsFilterFactory();
+
+  @Test
+  public void isOnChain() {
+    confirmFactory(underTest).isOnChain();
+  }
+
+  @Test
+  public void isOffByDefault() {
+    confirmFactory(underTest).isOffByDefault();
+  }
+
+  @Test
+  public void createsDeferringInterceptors() {
+    confirmFactory(underTest).createsInterceptorsOfType(InterceptorType.DEFER);
+  }
+
+  @Test
+  public void featureIsCalledSubsumption() {
+    confirmFactory(underTest).featureName().isEqualTo("subsumption");
+  }
+
+  @Test
+  public void hasParameterToDisableInference() {
+    assertThat(underTest.provides().params()).extracting(FeatureParameter::name)
+        .containsExactly("infer");
+  }
+}
@@ -0,0 +1,176 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.SubsumedMutants;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.returns.PrimitiveReturnsMutator;
+
+public class SubsumedMutantsFilterTest {
+
+  private static final String BOUNDARY = ConditionalsBoundaryMutator.class.getName();
+  private static final String NEGATE = NegateConditionalsMutator.class.getName();
+  private static final String REMOVE = RemoveConditionalMutator.class.getName();
+
+  SubsumedMutants subsumed = new SubsumedMutants();
+  SubsumedMutantsFilter testee = new SubsumedMutantsFilter(this.subsumed, false);
+
+  @Test
+  public void shouldDeclareTypeAsDefer() {
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.DEFER);
+  }
+
+  @Test
+  public void shouldLeaveMutantsWithoutRelationshipsUntouched() {
+    Mutater mutater = mutater(NegateConditionalsMutator.NEGATE_CONDITIONALS,
+        PrimitiveReturnsMutator.PRIMITIVE_RETURNS);
+    List<MutationDetails> input = mutater.findMutations(ClassName.fromClass(LessThan.class));
+
+    assertThat(analyse(LessThan.class, mutater)).containsExactlyElementsOf(input);
+    assertThat(this.subsumed.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldDeferNegationSubsumedByBoundaryMutant() {
+    Mutater mutater = mutater(ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY,
+        NegateConditionalsMutator.NEGATE_CONDITIONALS);
+
+    assertThat(mutators(analyse(LessThan.class, mutater))).containsExactly(BOUNDARY);
+    assertThat(mutators(this.subsumed.release())).containsExactly(NEGATE);
+  }
+
+  @Test
+  public void shouldDeferRemovalToNeverJumpForInclusiveJumps() {
+    // a < b compiles to a jump when a >= b
+    Collection<MutationDetails> actual = analyse(LessThan.class, allConditionals());
+
+    assertThat(mutators(actual)).containsExactlyInAnyOrder(BOUNDARY, REMOVE + "_ORDER_ELSE");
+    assertThat(mutators(this.subsumed.release()))
+        .containsExactlyInAnyOrder(NEGATE, REMOVE + "_ORDER_IF");
+  }
+
+  @Test
+  public void shouldDeferRemovalToAlwaysJumpForExclusiveJumps() {
+    // a <= b compiles to a jump when a > b
+    Collection<MutationDetails> actual = analyse(LessOrEqual.class, allConditionals());
+
+    assertThat(mutators(actual)).containsExactlyInAnyOrder(BOUNDARY, REMOVE + "_ORDER_IF");
+    assertThat(mutators(this.subsumed.release()))
+        .containsExactlyInAnyOrder(NEGATE, REMOVE + "_ORDER_ELSE");
+  }
+
+  @Test
+  public void shouldDeferNegationSubsumedByRemovalOfEqualityCheck() {
+    Collection<MutationDetails> actual = analyse(IsNull.class, allConditionals());
+
+    assertThat(mutators(actual)).containsExactlyInAnyOrder(REMOVE + "_EQUAL_IF",
+        REMOVE + "_EQUAL_ELSE");
+    assertThat(mutators(this.subsumed.release())).containsExactly(NEGATE);
+  }
+
+  @Test
+  public void shouldNotRelateMutantsOfDifferentInstructions() {
+    Mutater mutater = mutater(ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY,
+        NegateConditionalsMutator.NEGATE_CONDITIONALS);
+    List<MutationDetails> input = mutater.findMutations(ClassName.fromClass(TwoJumps.class));
+    List<MutationDetails> negationOfEqualityOnly = input.stream()
+        .filter(m -> !(m.getMutator().equals(NEGATE) && m.getInstructionIndex() == boundaryIndex(input)))
+        .collect(Collectors.toList());
+
+    this.testee.begin(treeFor(TwoJumps.class));
+    assertThat(this.testee.intercept(negationOfEqualityOnly, mutater))
+        .containsExactlyElementsOf(negationOfEqualityOnly);
+    assertThat(this.subsumed.isEmpty()).isTrue();
+  }
+
+  private static int boundaryIndex(List<MutationDetails> mutants) {
+    return mutants.stream()
+        .filter(m -> m.getMutator().equals(BOUNDARY))
+        .findFirst().get().getInstructionIndex();
+  }
+
+  private Collection<MutationDetails> analyse(Class<?> clazz, Mutater mutater) {
+    this.testee.begin(treeFor(clazz));
+    List<MutationDetails> input = mutater.findMutations(ClassName.fromClass(clazz));
+    Collection<MutationDetails> actual = this.testee.intercept(input, mutater);
+    this.testee.end();
+    return actual;
+  }
+
+  private static List<String> mutators(Collection<MutationDetails> mutants) {
+    return mutants.stream()
+        .map(MutationDetails::getMutator)
+        .collect(Collectors.toList());
+  }
+
+  private static Mutater allConditionals() {
+    List<MethodMutatorFactory> mutators = new ArrayList<>(Arrays.asList(
+        ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY,
+        NegateConditionalsMutator.NEGATE_CONDITIONALS));
+    RemoveConditionalMutator.factory().forEach(mutators::add);
+    return new GregorMutater(ClassloaderByteArraySource.fromContext(), m -> true, mutators);
+  }
+
+  private static Mutater mutater(MethodMutatorFactory... mutators) {
+    return new GregorMutater(ClassloaderByteArraySource.fromContext(), m -> true,
+        Arrays.asList(mutators));
+  }
+
+  private static ClassTree treeFor(Class<?> clazz) {
+    final ClassloaderByteArraySource source = ClassloaderByteArraySource.fromContext();
+    return ClassTree.fromBytes(source.getBytes(clazz.getName()).get());
+  }
+
+  static class LessThan {
+    int foo(int a, int b) {
+      if (a < b) {
+        return 1;
+      }
+      return 2;
+    }
+  }
+
+  static class LessOrEqual {
+    int foo(int a, int b) {
+      if (a <= b) {
+        return 1;
+      }
+      return 2;
+    }
+  }
+
+  static class IsNull {
+    int foo(Object o) {
+      if (o == null) {
+        return 1;
+      }
+      return 2;
+    }
+  }
+
+  static class TwoJumps {
+    int foo(int a, int b) {
+      if (a < b || a == 42) {
+        return 1;
+      }
+      return 2;
+    }
+  }
+}
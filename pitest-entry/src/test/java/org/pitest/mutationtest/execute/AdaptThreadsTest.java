@@ -0,0 +1,52 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class AdaptThreadsTest {
+
+  AdaptThreads underTest = new AdaptThreads();
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void threadsAreFixedWhenFeatureNotApplied() {
+    assertThat(new ReportOptions().getAdaptiveThreads()).isEmpty();
+  }
+
+  @Test
+  public void defaultsCeilingToAtLeastConfiguredThreads() {
+    ReportOptions data = new ReportOptions();
+    data.setNumberOfThreads(1000);
+    underTest.updateConfig(settings(Collections.emptyMap()), data);
+    assertThat(data.getAdaptiveThreads()).contains(new ThreadLimits(AdaptThreads.DEFAULT_MIN, 1000,
+        AdaptThreads.DEFAULT_INTERVAL));
+  }
+
+  @Test
+  public void usesSuppliedLimits() {
+    Map<String, List<String>> params = new HashMap<>();
+    params.put("min", Collections.singletonList("2"));
+    params.put("max", Collections.singletonList("6"));
+    params.put("interval", Collections.singletonList("100"));
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(params), data);
+    assertThat(data.getAdaptiveThreads()).contains(new ThreadLimits(2, 6, 100));
+  }
+
+  private FeatureSetting settings(Map<String, List<String>> params) {
+    return new FeatureSetting("adaptive_threads", ToggleStatus.ACTIVATE, params);
+  }
+}
@@ -0,0 +1,83 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class AdaptTimeoutsTest {
+
+  AdaptTimeouts underTest = new AdaptTimeouts();
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void timeoutsAreFixedWhenFeatureNotApplied() {
+    assertThat(new ReportOptions().getAdaptiveTimeouts().isEnabled()).isFalse();
+  }
+
+  @Test
+  public void usesDefaultsWhenNoParametersSupplied() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(Collections.emptyMap()), data);
+    assertThat(data.getAdaptiveTimeouts()).isEqualTo(
+        AdaptiveTimeouts.learning(AdaptTimeouts.DEFAULT_PERCENTILE, AdaptTimeouts.DEFAULT_SAMPLES));
+  }
+
+  @Test
+  public void doesNotRecoverFromTimeoutsByDefault() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(Collections.emptyMap()), data);
+    assertThat(data.getAdaptiveTimeouts().recovers()).isFalse();
+    assertThat(data.getAdaptiveTimeouts().isEnabled()).isTrue();
+  }
+
+  @Test
+  public void usesRecoveryDefaultsWhenRecoveryRequested() {
+    Map<String, List<String>> params = new HashMap<>();
+    params.put("recover", Collections.singletonList("true"));
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(params), data);
+    assertThat(data.getAdaptiveTimeouts()).isEqualTo(
+        AdaptiveTimeouts.learning(AdaptTimeouts.DEFAULT_PERCENTILE, AdaptTimeouts.DEFAULT_SAMPLES)
+            .withRecovery(AdaptTimeouts.DEFAULT_ABANDON, AdaptTimeouts.DEFAULT_GRACE));
+  }
+
+  @Test
+  public void usesSuppliedParameters() {
+    Map<String, List<String>> params = new HashMap<>();
+    params.put("percentile", Collections.singletonList("95"));
+    params.put("samples", Collections.singletonList("5"));
+    params.put("recover", Collections.singletonList("true"));
+    params.put("abandon", Collections.singletonList("2"));
+    params.put("grace", Collections.singletonList("50"));
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(params), data);
+    assertThat(data.getAdaptiveTimeouts()).isEqualTo(
+        AdaptiveTimeouts.learning(95, 5).withRecovery(2, 50));
+  }
+
+  @Test
+  public void canDisableRecovery() {
+    Map<String, List<String>> params = new HashMap<>();
+    params.put("recover", Collections.singletonList("false"));
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(params), data);
+    assertThat(data.getAdaptiveTimeouts().recovers()).isFalse();
+    assertThat(data.getAdaptiveTimeouts().isEnabled()).isTrue();
+  }
+
+  private FeatureSetting settings(Map<String, List<String>> params) {
+    return new FeatureSetting("adaptive_timeouts", ToggleStatus.ACTIVATE, params);
+  }
+}
@@ -0,0 +1,211 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class AdaptiveConcurrencyTest {
+
+  private static final long GB = 1024L * 1024 * 1024;
+
+  StubLoad load = new StubLoad();
+
+  @Test
+  public void startsAtCeiling() {
+    AdaptiveConcurrency underTest = new AdaptiveConcurrency(new ThreadLimits(2, 8, 10), load);
+    assertThat(underTest.limit()).isEqualTo(8);
+  }
+
+  @Test
+  public void raisesLimitWhenSaturatedAndMemoryAvailable() throws Exception {
+    load.free = 16 * GB;
+    AdaptiveConcurrency underTest = started(new ThreadLimits(1, 4, 10));
+    lowerTo(underTest, 1);
+
+    load.free = 16 * GB;
+    underTest.acquire();
+    Thread waiter = waitingThread(underTest);
+
+    underTest.adjust();
+
+    assertThat(underTest.limit()).isEqualTo(2);
+    waiter.join(5000);
+    assertThat(underTest.peak()).isEqualTo(2);
+  }
+
+  @Test
+  public void doesNotRaiseLimitWhenNothingWaiting() throws Exception {
+    load.free = 16 * GB;
+    AdaptiveConcurrency underTest = started(new ThreadLimits(1, 4, 10));
+    lowerTo(underTest, 1);
+
+    load.free = 16 * GB;
+    underTest.acquire();
+    underTest.adjust();
+
+    assertThat(underTest.limit()).isEqualTo(1);
+  }
+
+  @Test
+  public void raisesLimitWhenCpuBusy() throws Exception {
+    load.free = 16 * GB;
+    AdaptiveConcurrency underTest = started(new ThreadLimits(1, 4, 10));
+    lowerTo(underTest, 1);
+
+    load.free = 16 * GB;
+    load.cpu = 1;
+    underTest.acquire();
+    Thread waiter = waitingThread(underTest);
+
+    underTest.adjust();
+
+    assertThat(underTest.limit()).isEqualTo(2);
+    waiter.join(5000);
+  }
+
+  @Test
+  public void doesNotLowerLimitWhenCpuBusy() {
+    load.free = 16 * GB;
+    load.cpu = 1;
+    AdaptiveConcurrency underTest = started(new ThreadLimits(1, 4, 10));
+
+    underTest.adjust();
+
+    assertThat(underTest.limit()).isEqualTo(4);
+  }
+
+  @Test
+  public void doesNotRaiseLimitWhenAnotherMinionWouldNotFit() throws Exception {
+    load.free = 16 * GB;
+    AdaptiveConcurrency underTest = started(new ThreadLimits(1, 4, 10));
+    lowerTo(underTest, 1);
+
+    load.free = 4 * GB;
+    underTest.start();
+    underTest.acquire();
+    // minion has consumed 3gb
+    load.free = GB;
+    Thread waiter = waitingThread(underTest);
+
+    underTest.adjust();
+
+    assertThat(underTest.limit()).isEqualTo(1);
+    underTest.release();
+    waiter.join(5000);
+  }
+
+  @Test
+  public void lowersLimitWhenMemoryShort() {
+    load.free = 16 * GB;
+    AdaptiveConcurrency underTest = started(new ThreadLimits(1, 4, 10));
+
+    load.free = AdaptiveConcurrency.MIN_MINION_ESTIMATE / 2;
+    underTest.adjust();
+
+    assertThat(underTest.limit()).isEqualTo(3);
+  }
+
+  @Test
+  public void lowersLimitWhenMinionsWaitedForSlots() {
+    load.free = 16 * GB;
+    AtomicLong slotWait = new AtomicLong(5);
+    AdaptiveConcurrency underTest = new AdaptiveConcurrency(new ThreadLimits(1, 4, 10), load,
+        slotWait::get);
+    underTest.start();
+
+    underTest.adjust();
+    assertThat(underTest.limit()).isEqualTo(4);
+
+    slotWait.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+    underTest.adjust();
+    assertThat(underTest.limit()).isEqualTo(3);
+
+    underTest.adjust();
+    assertThat(underTest.limit()).isEqualTo(3);
+  }
+
+  @Test
+  public void neverDropsBelowFloor() {
+    load.free = 0;
+    AdaptiveConcurrency underTest = started(new ThreadLimits(2, 4, 10));
+
+    for (int i = 0; i != 5; i++) {
+      underTest.adjust();
+    }
+
+    assertThat(underTest.limit()).isEqualTo(2);
+  }
+
+  @Test
+  public void raisesLimitWhenMemoryUnknown() throws Exception {
+    load.free = 16 * GB;
+    AdaptiveConcurrency underTest = started(new ThreadLimits(1, 2, 10));
+    lowerTo(underTest, 1);
+
+    load.free = -1;
+    underTest.acquire();
+    Thread waiter = waitingThread(underTest);
+
+    underTest.adjust();
+
+    assertThat(underTest.limit()).isEqualTo(2);
+    waiter.join(5000);
+  }
+
+  private AdaptiveConcurrency started(ThreadLimits limits) {
+    AdaptiveConcurrency underTest = new AdaptiveConcurrency(limits, load);
+    underTest.start();
+    return underTest;
+  }
+
+  private void lowerTo(AdaptiveConcurrency underTest, int target) {
+    load.free = 0;
+    while (underTest.limit() > target) {
+      underTest.adjust();
+    }
+  }
+
+  private Thread waitingThread(AdaptiveConcurrency underTest) throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    Thread t = new Thread(() -> {
+      started.countDown();
+      try {
+        underTest.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    t.setDaemon(true);
+    t.start();
+    started.await(5, TimeUnit.SECONDS);
+    while (t.getState() != Thread.State.WAITING && t.isAlive()) {
+      Thread.sleep(1);
+    }
+    return t;
+  }
+
+  static class StubLoad implements SystemLoad {
+    long free = -1;
+    long total = 32 * GB;
+    double cpu = -1;
+
+    @Override
+    public long freeMemory() {
+      return free;
+    }
+
+    @Override
+    public long totalMemory() {
+      return total;
+    }
+
+    @Override
+    public double cpuLoad() {
+      return cpu;
+    }
+  }
+}
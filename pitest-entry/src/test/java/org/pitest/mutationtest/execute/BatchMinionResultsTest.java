@@ -0,0 +1,50 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class BatchMinionResultsTest {
+
+  BatchMinionResults underTest = new BatchMinionResults();
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void resultsAreNotBatchedWhenFeatureNotApplied() {
+    assertThat(new ReportOptions().getResultBatching().isEnabled()).isFalse();
+  }
+
+  @Test
+  public void usesDefaultsWhenNoParametersSupplied() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(Collections.emptyMap()), data);
+    assertThat(data.getResultBatching()).isEqualTo(ResultBatching.batchesOf(BatchMinionResults.DEFAULT_SIZE,
+        BatchMinionResults.DEFAULT_INTERVAL));
+  }
+
+  @Test
+  public void usesSuppliedSizeAndInterval() {
+    Map<String, List<String>> params = new HashMap<>();
+    params.put("size", Collections.singletonList("7"));
+    params.put("interval", Collections.singletonList("20"));
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(params), data);
+    assertThat(data.getResultBatching()).isEqualTo(ResultBatching.batchesOf(7, 20));
+  }
+
+  private FeatureSetting settings(Map<String, List<String>> params) {
+    return new FeatureSetting("batch_results", ToggleStatus.ACTIVATE, params);
+  }
+}
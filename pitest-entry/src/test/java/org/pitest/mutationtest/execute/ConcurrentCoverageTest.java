@@ -0,0 +1,56 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class ConcurrentCoverageTest {
+
+  ConcurrentCoverage underTest = new ConcurrentCoverage();
+
+  @Test
+  public void featureIsCalledConcurrentCoverage() {
+    assertThat(underTest.provides().name()).isEqualTo("concurrent_coverage");
+  }
+
+  @Test
+  public void isOffByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void coverageIsSingleThreadedUnlessEnabled() {
+    assertThat(new ReportOptions().getCoverageThreads()).isEqualTo(1);
+  }
+
+  @Test
+  public void usesOneThreadPerProcessorWhenNoneGiven() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(new FeatureSetting("concurrent_coverage", ToggleStatus.ACTIVATE,
+        Collections.emptyMap()), data);
+    assertThat(data.getCoverageThreads()).isEqualTo(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Test
+  public void usesSuppliedThreads() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(new FeatureSetting("concurrent_coverage", ToggleStatus.ACTIVATE,
+        Collections.singletonMap("threads", Collections.singletonList("3"))), data);
+    assertThat(data.getCoverageThreads()).isEqualTo(3);
+  }
+
+  @Test
+  public void rejectsZeroThreads() {
+    ReportOptions data = new ReportOptions();
+    assertThatCode(() -> underTest.updateConfig(new FeatureSetting("concurrent_coverage",
+        ToggleStatus.ACTIVATE, Collections.singletonMap("threads", Collections.singletonList("0"))), data))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
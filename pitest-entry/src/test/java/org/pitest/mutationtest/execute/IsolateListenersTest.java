@@ -0,0 +1,53 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class IsolateListenersTest {
+
+  IsolateListeners underTest = new IsolateListeners();
+
+  @Test
+  public void featureIsCalledAsyncListeners() {
+    assertThat(underTest.provides().name()).isEqualTo("async_listeners");
+  }
+
+  @Test
+  public void isOffByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void usesDefaultQueueWhenNoneGiven() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(new FeatureSetting("async_listeners", ToggleStatus.ACTIVATE,
+        Collections.emptyMap()), data);
+    assertThat(data.getListenerQueue()).contains(IsolateListeners.DEFAULT_QUEUE);
+  }
+
+  @Test
+  public void usesSuppliedQueue() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(new FeatureSetting("async_listeners", ToggleStatus.ACTIVATE,
+        Collections.singletonMap("queue", Collections.singletonList("7"))), data);
+    assertThat(data.getListenerQueue()).contains(7);
+  }
+
+  @Test
+  public void rejectsEmptyQueue() {
+    ReportOptions data = new ReportOptions();
+    assertThatCode(() -> underTest.updateConfig(new FeatureSetting("async_listeners",
+        ToggleStatus.ACTIVATE, Collections.singletonMap("queue", Collections.singletonList("0"))), data))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(data.getListenerQueue()).isEqualTo(Optional.empty());
+  }
+
+}
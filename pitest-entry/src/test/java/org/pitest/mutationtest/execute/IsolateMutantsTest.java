@@ -0,0 +1,80 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class IsolateMutantsTest {
+
+  IsolateMutants underTest = new IsolateMutants();
+
+  @Test
+  public void featureIsCalledIsolateMutants() {
+    assertThat(underTest.provides().name()).isEqualTo("isolate_mutants");
+  }
+
+  @Test
+  public void isOffByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void mutantsAreHotswappedUnlessEnabled() {
+    assertThat(new ReportOptions().getMutantIsolation().isEnabled()).isFalse();
+  }
+
+  @Test
+  public void usesOneThreadPerProcessorWhenNoneGiven() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(new FeatureSetting("isolate_mutants", ToggleStatus.ACTIVATE,
+        Collections.emptyMap()), data);
+    assertThat(data.getMutantIsolation().isEnabled()).isTrue();
+    assertThat(data.getMutantIsolation().threads())
+        .isEqualTo(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Test
+  public void usesSuppliedThreads() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(new FeatureSetting("isolate_mutants", ToggleStatus.ACTIVATE,
+        Collections.singletonMap("threads", Collections.singletonList("3"))), data);
+    assertThat(data.getMutantIsolation().threads()).isEqualTo(3);
+  }
+
+  @Test
+  public void rejectsZeroThreads() {
+    ReportOptions data = new ReportOptions();
+    assertThatCode(() -> underTest.updateConfig(new FeatureSetting("isolate_mutants",
+        ToggleStatus.ACTIVATE, Collections.singletonMap("threads", Collections.singletonList("0"))), data))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void doesNotIsolateMutantsTestedBySerialTests() {
+    ReportOptions data = new ReportOptions();
+    Map<String, List<String>> settings = new HashMap<>();
+    settings.put("serial", Arrays.asList("com.example.Static*", "*SystemPropertyTest"));
+    underTest.updateConfig(new FeatureSetting("isolate_mutants", ToggleStatus.ACTIVATE,
+        settings), data);
+
+    MutantIsolation isolation = data.getMutantIsolation();
+    assertThat(isolation.allows(Arrays.asList(ClassName.fromString("com.example.FooTest"))))
+        .isTrue();
+    assertThat(isolation.allows(Arrays.asList(ClassName.fromString("com.example.FooTest"),
+        ClassName.fromString("com.example.StaticStateTest")))).isFalse();
+    assertThat(isolation.allows(Arrays.asList(ClassName.fromString("org.BarSystemPropertyTest"))))
+        .isFalse();
+  }
+
+}
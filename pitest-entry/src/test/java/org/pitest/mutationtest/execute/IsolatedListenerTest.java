@@ -0,0 +1,171 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.config.CompoundTestListener;
+
+public class IsolatedListenerTest {
+
+  @Test
+  public void passesResultsToListenerInOrder() {
+    RecordingListener child = new RecordingListener();
+    IsolatedListener underTest = new IsolatedListener(child, 2, RunTelemetry.disabled());
+    List<ClassMutationResults> results = results(20);
+
+    underTest.runStart();
+    results.forEach(underTest::handleMutationResult);
+    underTest.runEnd();
+
+    assertThat(child.handled).containsExactlyElementsOf(results);
+    assertThat(underTest.handled()).isEqualTo(20);
+  }
+
+  @Test
+  public void handlesEveryResultBeforeEndingRun() {
+    RecordingListener child = new RecordingListener();
+    IsolatedListener underTest = new IsolatedListener(child, 100, RunTelemetry.disabled());
+
+    underTest.runStart();
+    results(50).forEach(underTest::handleMutationResult);
+    underTest.runEnd();
+
+    assertThat(child.events).startsWith("start").endsWith("end");
+    assertThat(child.handled).hasSize(50);
+  }
+
+  @Test
+  public void handlesResultsOnAnotherThread() {
+    RecordingListener child = new RecordingListener();
+    IsolatedListener underTest = new IsolatedListener(child, 1, RunTelemetry.disabled());
+
+    underTest.runStart();
+    underTest.handleMutationResult(results(1).get(0));
+    underTest.runEnd();
+
+    assertThat(child.threads).doesNotContain(Thread.currentThread().getName());
+  }
+
+  @Test
+  public void waitsForSpaceWhenQueueIsFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingListener child = new RecordingListener() {
+      @Override
+      public void handleMutationResult(ClassMutationResults results) {
+        await(release);
+        super.handleMutationResult(results);
+      }
+    };
+    IsolatedListener underTest = new IsolatedListener(child, 1, RunTelemetry.disabled());
+    underTest.runStart();
+
+    Thread producer = new Thread(() -> results(3).forEach(underTest::handleMutationResult));
+    producer.start();
+    producer.join(200);
+    assertThat(producer.isAlive()).isTrue();
+
+    release.countDown();
+    producer.join(5000);
+    underTest.runEnd();
+
+    assertThat(producer.isAlive()).isFalse();
+    assertThat(child.handled).hasSize(3);
+  }
+
+  @Test
+  public void rethrowsFailureOfListener() {
+    RuntimeException failure = new RuntimeException("boom");
+    MutationResultListener child = new RecordingListener() {
+      @Override
+      public void handleMutationResult(ClassMutationResults results) {
+        throw failure;
+      }
+    };
+    IsolatedListener underTest = new IsolatedListener(child, 1, RunTelemetry.disabled());
+
+    underTest.runStart();
+    assertThatThrownBy(() -> {
+      results(10).forEach(underTest::handleMutationResult);
+      underTest.runEnd();
+    }).isSameAs(failure);
+  }
+
+  @Test
+  public void recordsListenerTimeInTelemetry() {
+    RunTelemetry telemetry = RunTelemetry.recording();
+    IsolatedListener underTest = new IsolatedListener(new RecordingListener(), 1, telemetry);
+
+    underTest.runStart();
+    underTest.handleMutationResult(results(1).get(0));
+    underTest.runEnd();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    telemetry.report(new PrintStream(out));
+    assertThat(out.toString()).contains("> listener : 2 times");
+  }
+
+  @Test
+  public void isolatesEachChildOfCompoundListeners() {
+    RecordingListener a = new RecordingListener();
+    RecordingListener b = new RecordingListener();
+    RecordingListener c = new RecordingListener();
+
+    List<MutationResultListener> actual = IsolatedListeners.isolate(
+        Arrays.asList(new CompoundTestListener(Arrays.asList(a, b)), c), 1,
+        RunTelemetry.disabled());
+
+    assertThat(actual).hasSize(3).allMatch(l -> l instanceof IsolatedListener);
+  }
+
+  private static List<ClassMutationResults> results(int count) {
+    List<ClassMutationResults> results = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      results.add(new ClassMutationResults(Collections.emptyList()));
+    }
+    return results;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class RecordingListener implements MutationResultListener {
+    final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    final List<ClassMutationResults> handled = Collections.synchronizedList(new ArrayList<>());
+    final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void runStart() {
+      events.add("start");
+    }
+
+    @Override
+    public void handleMutationResult(ClassMutationResults results) {
+      events.add("result");
+      threads.add(Thread.currentThread().getName());
+      handled.add(results);
+    }
+
+    @Override
+    public void runEnd() {
+      events.add("end");
+    }
+  }
+
+}
@@ -0,0 +1,71 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+import org.pitest.util.PitError;
+
+public class LimitMinionSlotsTest {
+
+  LimitMinionSlots underTest = new LimitMinionSlots();
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void hasNoLimitWhenFeatureNotApplied() {
+    assertThat(new ReportOptions().getMinionSlots()).isEmpty();
+  }
+
+  @Test
+  public void defaultsToASlotPerCoreUnderTheUsersHome() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(Collections.emptyMap()), data);
+    assertThat(data.getMinionSlots()).contains(new SlotLimit(
+        LimitMinionSlots.defaultDirectory(), Runtime.getRuntime().availableProcessors()));
+    assertThat(LimitMinionSlots.defaultDirectory().getPath())
+        .startsWith(System.getProperty("user.home"));
+  }
+
+  @Test
+  public void usesSuppliedSlotsAndDirectory() {
+    ReportOptions data = new ReportOptions();
+    Map<String, List<String>> params = new HashMap<>();
+    params.put("slots", Collections.singletonList("6"));
+    params.put("dir", Collections.singletonList("/tmp/slots"));
+    underTest.updateConfig(settings(params), data);
+    assertThat(data.getMinionSlots()).contains(new SlotLimit(new File("/tmp/slots"), 6));
+  }
+
+  @Test
+  public void rejectsFewerThanOneSlot() {
+    assertThatCode(() -> underTest.updateConfig(settings(Collections.singletonMap("slots",
+        Collections.singletonList("0"))), new ReportOptions()))
+        .isInstanceOf(PitError.class)
+        .hasMessageContaining("at least 1");
+  }
+
+  @Test
+  public void rejectsNegativeSlots() {
+    assertThatCode(() -> underTest.updateConfig(settings(Collections.singletonMap("slots",
+        Collections.singletonList("-2"))), new ReportOptions()))
+        .isInstanceOf(PitError.class)
+        .hasMessageContaining("-2");
+  }
+
+  private FeatureSetting settings(Map<String, List<String>> params) {
+    return new FeatureSetting("minion_slots", ToggleStatus.ACTIVATE, params);
+  }
+}
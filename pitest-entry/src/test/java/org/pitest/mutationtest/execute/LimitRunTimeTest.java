@@ -0,0 +1,55 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class LimitRunTimeTest {
+
+  LimitRunTime underTest = new LimitRunTime();
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void hasNoBudgetWhenFeatureNotApplied() {
+    assertThat(new ReportOptions().getTimeBudget()).isEmpty();
+  }
+
+  @Test
+  public void defaultsBudget() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(Collections.emptyMap()), data);
+    assertThat(data.getTimeBudget()).contains(Duration.ofMinutes(LimitRunTime.DEFAULT_MINUTES));
+  }
+
+  @Test
+  public void usesSuppliedBudget() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(Collections.singletonMap("minutes",
+        Collections.singletonList("15"))), data);
+    assertThat(data.getTimeBudget()).contains(Duration.ofMinutes(15));
+  }
+
+  @Test
+  public void rejectsBudgetsOfLessThanAMinute() {
+    assertThatCode(() -> underTest.updateConfig(settings(Collections.singletonMap("minutes",
+        Collections.singletonList("0"))), new ReportOptions()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private FeatureSetting settings(Map<String, List<String>> params) {
+    return new FeatureSetting("time_budget", ToggleStatus.ACTIVATE, params);
+  }
+}
@@ -0,0 +1,127 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MinionSlotsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @After
+  public void shutdown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  public void unlimitedSlotsAreAlwaysFree() throws Exception {
+    final MinionSlots underTest = MinionSlots.unlimited();
+    assertThat(underTest.isLimited()).isFalse();
+    underTest.acquire();
+    underTest.acquire();
+    assertThat(underTest.waits()).isZero();
+  }
+
+  @Test
+  public void createsSlotDirectory() throws Exception {
+    final File dir = new File(this.folder.getRoot(), "slots");
+    try (MinionSlots.Slot slot = limitedTo(dir, 1).acquire()) {
+      assertThat(new File(dir, "slot-0.lock")).exists();
+    }
+  }
+
+  @Test
+  public void blocksOnceEverySlotIsHeld() throws Exception {
+    final MinionSlots underTest = limitedTo(this.folder.getRoot(), 2);
+    underTest.acquire();
+    final MinionSlots.Slot second = underTest.acquire();
+
+    final Future<MinionSlots.Slot> third = this.executor.submit(underTest::acquire);
+    assertThat(isBlocked(third)).isTrue();
+
+    second.close();
+    assertThat(third.get(5, TimeUnit.SECONDS)).isNotNull();
+  }
+
+  @Test
+  public void sharesSlotsWithOtherLimitersUsingTheSameDirectory() throws Exception {
+    final MinionSlots.Slot held = limitedTo(this.folder.getRoot(), 1).acquire();
+    final MinionSlots other = limitedTo(this.folder.getRoot(), 1);
+
+    final Future<MinionSlots.Slot> waiting = this.executor.submit(other::acquire);
+    assertThat(isBlocked(waiting)).isTrue();
+
+    held.close();
+    assertThat(waiting.get(5, TimeUnit.SECONDS).waitNanos()).isPositive();
+    assertThat(other.waits()).isEqualTo(1);
+    assertThat(other.totalWaitNanos()).isPositive();
+  }
+
+  @Test
+  public void doesNotShareSlotsAcrossDirectories() throws Exception {
+    limitedTo(this.folder.newFolder(), 1).acquire();
+    final MinionSlots other = limitedTo(this.folder.newFolder(), 1);
+    assertThat(this.executor.submit(other::acquire).get(5, TimeUnit.SECONDS)).isNotNull();
+  }
+
+  @Test
+  public void closingASlotTwiceFreesItOnce() throws Exception {
+    final MinionSlots underTest = limitedTo(this.folder.getRoot(), 1);
+    final MinionSlots.Slot slot = underTest.acquire();
+    slot.close();
+    final MinionSlots.Slot next = underTest.acquire();
+    slot.close();
+
+    final Future<MinionSlots.Slot> waiting = this.executor.submit(underTest::acquire);
+    assertThat(isBlocked(waiting)).isTrue();
+    next.close();
+    assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotNull();
+  }
+
+  @Test
+  public void doesNotCountImmediateAcquisitionsAsWaits() throws Exception {
+    final MinionSlots underTest = limitedTo(this.folder.getRoot(), 1);
+    underTest.acquire().close();
+    underTest.acquire().close();
+    assertThat(underTest.waits()).isZero();
+  }
+
+  @Test
+  public void reportsSlotsAndWaits() throws Exception {
+    final MinionSlots underTest = limitedTo(this.folder.getRoot(), 3);
+    underTest.acquire().close();
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    underTest.report(new PrintStream(out));
+    assertThat(out.toString()).contains("3 slots")
+        .contains("1 minions started, 0 waited for a slot");
+  }
+
+  private boolean isBlocked(Future<?> future) throws Exception {
+    try {
+      future.get(300, TimeUnit.MILLISECONDS);
+      return false;
+    } catch (final TimeoutException e) {
+      return true;
+    }
+  }
+
+  private MinionSlots limitedTo(File dir, int slots) {
+    return MinionSlots.acrossMachine(new SlotLimit(dir, slots));
+  }
+}
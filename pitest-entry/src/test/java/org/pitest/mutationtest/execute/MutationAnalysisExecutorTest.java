@@ -0,0 +1,126 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MetaDataExtractor;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.engine.MutationDetailsMother;
+
+public class MutationAnalysisExecutorTest {
+
+  MetaDataExtractor results = new MetaDataExtractor();
+
+  @Test
+  public void runsEveryUnitWhenBudgetIsUnlimited() {
+    executor(TimeBudget.unlimited()).run(Arrays.asList(unit(), unit()));
+    assertThat(this.results.getDetectionStatus())
+        .containsExactly(DetectionStatus.KILLED, DetectionStatus.KILLED);
+  }
+
+  @Test
+  public void reportsUnitsAsNotRunOnceBudgetIsSpent() {
+    AtomicLong time = new AtomicLong();
+    TimeBudget budget = new TimeBudget(time::get, 100);
+    FakeUnit first = new FakeUnit(() -> time.set(100));
+    FakeUnit second = new FakeUnit(() -> { });
+
+    executor(budget).run(Arrays.asList(first, second));
+
+    assertThat(first.ran).isTrue();
+    assertThat(second.ran).isFalse();
+    assertThat(this.results.getDetectionStatus())
+        .containsExactly(DetectionStatus.KILLED, DetectionStatus.NOT_RUN);
+  }
+
+  @Test
+  public void runsEachRoundWithinSingleRun() {
+    CountingListener listener = new CountingListener();
+    MutationAnalysisExecutor underTest = new MutationAnalysisExecutor(1, r -> r,
+        Arrays.asList(this.results, listener));
+
+    List<List<MutationAnalysisUnit>> rounds = new ArrayList<>();
+    rounds.add(Collections.singletonList(unit()));
+    rounds.add(Arrays.asList(unit(), unit()));
+    Iterator<List<MutationAnalysisUnit>> it = rounds.iterator();
+    underTest.run(it);
+
+    assertThat(this.results.getDetectionStatus()).hasSize(3);
+    assertThat(listener.starts).isEqualTo(1);
+    assertThat(listener.ends).isEqualTo(1);
+  }
+
+  private MutationAnalysisExecutor executor(TimeBudget budget) {
+    return new MutationAnalysisExecutor(1, r -> r,
+        Collections.<MutationResultListener> singletonList(this.results),
+        RunTelemetry.disabled(), budget);
+  }
+
+  private static MutationAnalysisUnit unit() {
+    return new FakeUnit(() -> { });
+  }
+
+  private static class FakeUnit implements MutationAnalysisUnit {
+    private final Runnable onCall;
+    boolean ran;
+
+    FakeUnit(Runnable onCall) {
+      this.onCall = onCall;
+    }
+
+    @Override
+    public int priority() {
+      return 1;
+    }
+
+    @Override
+    public MutationMetaData call() {
+      this.ran = true;
+      this.onCall.run();
+      return result(DetectionStatus.KILLED);
+    }
+
+    @Override
+    public MutationMetaData notRun() {
+      return result(DetectionStatus.NOT_RUN);
+    }
+
+    private static MutationMetaData result(DetectionStatus status) {
+      return new MutationMetaData(Collections.singletonList(
+          new MutationResult(MutationDetailsMother.aMutationDetail().build(),
+              MutationStatusTestPair.notAnalysed(1, status))));
+    }
+  }
+
+  private static class CountingListener implements MutationResultListener {
+    int starts;
+    int ends;
+
+    @Override
+    public void runStart() {
+      this.starts++;
+    }
+
+    @Override
+    public void handleMutationResult(ClassMutationResults results) {
+    }
+
+    @Override
+    public void runEnd() {
+      this.ends++;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class RecordTelemetryTest {
+
+  RecordTelemetry underTest = new RecordTelemetry();
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void doesNotRecordTelemetryWhenFeatureNotApplied() {
+    assertThat(new ReportOptions().getTelemetryFormat()).isEmpty();
+  }
+
+  @Test
+  public void exportsJsonByDefault() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(Collections.emptyMap()), data);
+    assertThat(data.getTelemetryFormat()).contains(TelemetryFormat.JSON);
+  }
+
+  @Test
+  public void usesSuppliedFormat() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(format("CSV")), data);
+    assertThat(data.getTelemetryFormat()).contains(TelemetryFormat.CSV);
+  }
+
+  @Test
+  public void rejectsUnknownFormats() {
+    ReportOptions data = new ReportOptions();
+    assertThatThrownBy(() -> underTest.updateConfig(settings(format("xml")), data))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("xml");
+  }
+
+  private Map<String, List<String>> format(String format) {
+    Map<String, List<String>> params = new HashMap<>();
+    params.put("format", Collections.singletonList(format));
+    return params;
+  }
+
+  private FeatureSetting settings(Map<String, List<String>> params) {
+    return new FeatureSetting("telemetry", ToggleStatus.ACTIVATE, params);
+  }
+}
@@ -0,0 +1,163 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.RunTelemetry.Phase;
+
+public class RunTelemetryTest {
+
+  AtomicLong clock = new AtomicLong(1000);
+  StringWriter csv = new StringWriter();
+  RunTelemetry underTest = new RunTelemetry(true, this.clock::get,
+      new RunTelemetry.Timeline(this.csv, TelemetryFormat.CSV));
+
+  @Test
+  public void recordsNothingWhenDisabled() throws Exception {
+    RunTelemetry disabled = RunTelemetry.disabled();
+    Callable<String> unit = () -> "done";
+    assertThat(disabled.unit(0, unit)).isSameAs(unit);
+    disabled.time(Phase.LISTENER, "foo", () -> { });
+    disabled.minion().record(Phase.SPAWN, 10);
+    assertThat(disabled.summary(Phase.LISTENER)).isNull();
+    assertThat(disabled.summary(Phase.SPAWN)).isNull();
+  }
+
+  @Test
+  public void recordsTimeUnitsWaitAndRun() throws Exception {
+    Callable<String> unit = underTest.unit(3, () -> {
+      this.clock.addAndGet(50);
+      return "done";
+    });
+    this.clock.addAndGet(20);
+
+    assertThat(unit.call()).isEqualTo("done");
+
+    assertThat(timeline()).isEqualTo("unit,minion,phase,subject,end_ns,duration_ns\n"
+        + "3,,queue_wait,,20,20\n"
+        + "3,,unit,,70,50\n");
+  }
+
+  @Test
+  public void attributesMinionsToTheUnitThatCreatedThem() throws Exception {
+    Callable<RunTelemetry.Minion> unit = underTest.unit(7, underTest::minion);
+    unit.call().record(Phase.SPAWN, 5);
+
+    assertThat(timeline()).contains("7,1,spawn,,0,5\n");
+  }
+
+  @Test
+  public void doesNotAttributeMinionsCreatedOutsideUnits() {
+    underTest.minion().record(Phase.SPAWN, 5);
+    assertThat(timeline()).contains(",1,spawn,,0,5\n");
+  }
+
+  @Test
+  public void recordsEachPhaseOfAMutant() {
+    underTest.minion().mutant(aMutant(), new MutantTimings(1, 2, 3));
+
+    assertThat(timeline()).contains(",1,generate,com.example.Foo.bar:2:MATH,0,1\n"
+        + ",1,hotswap,com.example.Foo.bar:2:MATH,0,2\n"
+        + ",1,tests,com.example.Foo.bar:2:MATH,0,3\n");
+  }
+
+  @Test
+  public void recordsTimeTakenToReceiveResults() {
+    this.clock.set(5000);
+    underTest.minion().transfer(aMutant(), 4200);
+    assertThat(underTest.summary(Phase.TRANSFER).max()).isEqualTo(800);
+  }
+
+  @Test
+  public void recordsTransferAsZeroWhenClocksDisagree() {
+    underTest.minion().transfer(aMutant(), 2000);
+    assertThat(underTest.summary(Phase.TRANSFER).max()).isZero();
+  }
+
+  @Test
+  public void timesActions() {
+    underTest.time(Phase.LISTENER, "foo", () -> this.clock.addAndGet(30));
+    assertThat(timeline()).contains(",,listener,foo,30,30\n");
+  }
+
+  @Test
+  public void writesTimelineAsCsvAsEventsArrive() {
+    this.clock.addAndGet(100);
+    underTest.minion().record(Phase.SPAWN, 40);
+    underTest.time(Phase.LISTENER, "a,b", () -> { });
+
+    assertThat(timeline()).isEqualTo("unit,minion,phase,subject,end_ns,duration_ns\n"
+        + ",1,spawn,,100,40\n"
+        + ",,listener,\"a,b\",100,0\n");
+  }
+
+  @Test
+  public void writesTimelineAndSummaryAsJson() {
+    StringWriter json = new StringWriter();
+    RunTelemetry telemetry = new RunTelemetry(true, this.clock::get,
+        new RunTelemetry.Timeline(json, TelemetryFormat.JSON));
+    telemetry.minion().record(Phase.SPAWN, 2_000_000);
+    telemetry.minion().record(Phase.SPAWN, 4_000_000);
+    telemetry.finish();
+
+    assertThat(json.toString())
+        .startsWith("{\n  \"events\" : [\n")
+        .contains("{ \"unit\" : null, \"minion\" : 1, \"phase\" : \"spawn\", "
+            + "\"subject\" : null, \"end_ns\" : 0, \"duration_ns\" : 2000000 }")
+        .contains("\"spawn\" : { \"count\" : 2, \"total_ns\" : 6000000, ")
+        .contains("\"max_ns\" : 4000000")
+        .contains("\"<10ms\" : 2")
+        .endsWith("  }\n}\n");
+  }
+
+  @Test
+  public void summarisesWithoutKeepingEvents() {
+    RunTelemetry telemetry = new RunTelemetry(true, this.clock::get);
+    for (int i = 1; i <= 1000; i++) {
+      telemetry.minion().record(Phase.TESTS, i * 1000L);
+    }
+    RunTelemetry.Histogram tests = telemetry.summary(Phase.TESTS);
+    assertThat(tests.count()).isEqualTo(1000);
+    assertThat(tests.total()).isEqualTo(500_500_000L);
+    assertThat(tests.max()).isEqualTo(1_000_000);
+    assertThat(tests.percentile(50)).isCloseTo(500_000L, withinPercentage(12.5));
+    assertThat(tests.percentile(90)).isCloseTo(900_000L, withinPercentage(12.5));
+    assertThat(tests.percentile(100)).isEqualTo(1_000_000);
+  }
+
+  @Test
+  public void reportsSummaryOfEachPhase() {
+    underTest.minion().record(Phase.CONNECT, 500_000);
+    underTest.minion().record(Phase.CONNECT, 1_500_000_000L);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    underTest.report(new PrintStream(out));
+
+    assertThat(out.toString())
+        .contains("> connect : 2 times, total 1.50s, mean 750.25ms, p50 0.52ms, "
+            + "p90 1.50s, p99 1.50s, max 1.50s")
+        .contains(">   <1ms 1 <10s 1");
+  }
+
+  private String timeline() {
+    underTest.finish();
+    return this.csv.toString();
+  }
+
+  private static MutationIdentifier aMutant() {
+    return aMutationId()
+        .withLocation(aLocation("com.example.Foo").withMethod("bar"))
+        .withIndex(2).withMutator("MATH").build();
+  }
+
+}
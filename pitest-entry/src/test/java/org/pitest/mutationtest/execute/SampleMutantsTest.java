@@ -0,0 +1,53 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.build.SamplingPlan;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class SampleMutantsTest {
+
+  SampleMutants underTest = new SampleMutants();
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void analysesAllMutantsWhenFeatureNotApplied() {
+    assertThat(new ReportOptions().getSampling()).isEmpty();
+  }
+
+  @Test
+  public void usesDefaultPlanWhenNoParametersSupplied() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(Collections.emptyMap()), data);
+    assertThat(data.getSampling()).contains(new SamplingPlan(SampleMutants.DEFAULT_SEED,
+        SampleMutants.DEFAULT_PERCENT, SampleMutants.DEFAULT_WIDTH, 0));
+  }
+
+  @Test
+  public void usesSuppliedParameters() {
+    Map<String, List<String>> params = new HashMap<>();
+    params.put("seed", Collections.singletonList("42"));
+    params.put("percent", Collections.singletonList("5"));
+    params.put("width", Collections.singletonList("4"));
+    params.put("budget", Collections.singletonList("60"));
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(params), data);
+    assertThat(data.getSampling()).contains(new SamplingPlan(42, 5, 4, 60_000));
+  }
+
+  private FeatureSetting settings(Map<String, List<String>> params) {
+    return new FeatureSetting("sampling", ToggleStatus.ACTIVATE, params);
+  }
+}
@@ -0,0 +1,49 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class ShareClassDataTest {
+
+  ShareClassData underTest = new ShareClassData();
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void doesNotShareClassDataWhenFeatureNotApplied() {
+    assertThat(new ReportOptions().getClassDataArchiveDir()).isEmpty();
+  }
+
+  @Test
+  public void keepsArchivesInTempDirectoryByDefault() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(Collections.emptyMap()), data);
+    assertThat(data.getClassDataArchiveDir()).contains(ShareClassData.defaultDir());
+  }
+
+  @Test
+  public void usesSuppliedDirectory() {
+    Map<String, List<String>> params = new HashMap<>();
+    params.put("dir", Collections.singletonList("/somewhere/cds"));
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(settings(params), data);
+    assertThat(data.getClassDataArchiveDir()).contains(new File("/somewhere/cds"));
+  }
+
+  private FeatureSetting settings(Map<String, List<String>> params) {
+    return new FeatureSetting("class_data_sharing", ToggleStatus.ACTIVATE, params);
+  }
+}
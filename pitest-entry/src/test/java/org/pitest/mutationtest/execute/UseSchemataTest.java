@@ -0,0 +1,30 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class UseSchemataTest {
+
+  UseSchemata underTest = new UseSchemata();
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+    assertThat(new ReportOptions().useSchemata()).isFalse();
+  }
+
+  @Test
+  public void enablesSchemata() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(new FeatureSetting("schemata", ToggleStatus.ACTIVATE,
+        Collections.emptyMap()), data);
+    assertThat(data.useSchemata()).isTrue();
+  }
+
+}
@@ -0,0 +1,56 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+public class UseStaticCoverageTest {
+
+  UseStaticCoverage underTest = new UseStaticCoverage();
+
+  @Test
+  public void featureIsCalledStaticCoverage() {
+    assertThat(underTest.provides().name()).isEqualTo("static_coverage");
+  }
+
+  @Test
+  public void isOffByDefault() {
+    assertThat(underTest.provides().isOnByDefault()).isFalse();
+  }
+
+  @Test
+  public void coverageIsGatheredByRunningTestsUnlessEnabled() {
+    assertThat(new ReportOptions().getStaticCoverage()).isEmpty();
+  }
+
+  @Test
+  public void assumesDefaultTimeWhenNoneGiven() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(new FeatureSetting("static_coverage", ToggleStatus.ACTIVATE,
+        Collections.emptyMap()), data);
+    assertThat(data.getStaticCoverage()).contains(UseStaticCoverage.DEFAULT_TIME);
+  }
+
+  @Test
+  public void usesSuppliedTime() {
+    ReportOptions data = new ReportOptions();
+    underTest.updateConfig(new FeatureSetting("static_coverage", ToggleStatus.ACTIVATE,
+        Collections.singletonMap("time", Collections.singletonList("250"))), data);
+    assertThat(data.getStaticCoverage()).contains(250);
+  }
+
+  @Test
+  public void rejectsNegativeTime() {
+    ReportOptions data = new ReportOptions();
+    assertThatCode(() -> underTest.updateConfig(new FeatureSetting("static_coverage",
+        ToggleStatus.ACTIVATE, Collections.singletonMap("time", Collections.singletonList("-1"))), data))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
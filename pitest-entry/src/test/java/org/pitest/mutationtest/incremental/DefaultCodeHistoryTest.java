@@ -89,7 +89,7 @@ public class DefaultCodeHistoryTest {
     final ClassInfo currentFoo = ClassInfoMother.make(currentId, parent);
 
     final ClassInfo modifiedParent = ClassInfoMother.make(new ClassIdentifier(
-        parent.getHash().longValue() + 1, ClassName.fromString("parent")));
+        parent.getHash() + 1, ClassName.fromString("parent")));
     final ClassInfo modifiedFoo = ClassInfoMother.make(currentId,
         modifiedParent);
 
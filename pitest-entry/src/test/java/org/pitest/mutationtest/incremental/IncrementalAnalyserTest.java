@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 import static org.pitest.mutationtest.DetectionStatus.NOT_STARTED;
@@ -17,7 +18,6 @@ import static org.pitest.mutationtest.DetectionStatus.TIMED_OUT;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -99,10 +99,10 @@ public class IncrementalAnalyserTest {
     final MutationDetails md = makeMutation("foo");
     setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
     when(coverage.getCoverageIdForClass(any(ClassName.class)))
-        .thenReturn(BigInteger.ONE);
+        .thenReturn(1L);
     when(
         this.history.hasCoverageChanged(any(ClassName.class),
-            any(BigInteger.class))).thenReturn(true);
+            anyLong())).thenReturn(true);
     final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
 
     assertThat(actual, hasItem(withStatus(NOT_STARTED)));
@@ -119,7 +119,7 @@ public class IncrementalAnalyserTest {
     setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
     when(
         this.history.hasCoverageChanged(any(ClassName.class),
-            any(BigInteger.class))).thenReturn(false);
+            anyLong())).thenReturn(false);
     final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
 
     assertThat(actual, hasItem(withStatus(SURVIVED)));
@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.incremental;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
@@ -12,7 +13,6 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -31,12 +31,13 @@ import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.report.MutationTestResultMother;
 
 public class ObjectOutputStreamHistoryStoreTest {
 
-    private static final String             COV           = BigInteger.TEN.toString(16);
+    private static final String             COV           = Long.toHexString(10);
 
     private ObjectOutputStreamHistoryStore  testee;
 
@@ -64,7 +65,7 @@ public class ObjectOutputStreamHistoryStoreTest {
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         when(this.coverage.getCoverageIdForClass(any(ClassName.class))).thenReturn(
-            BigInteger.TEN);
+            10L);
     }
 
     @Test
@@ -87,6 +88,24 @@ public class ObjectOutputStreamHistoryStoreTest {
         assertEquals(expected, this.testee.getHistoricClassPath());
     }
 
+    @Test
+    public void shouldRecordAndRetrieveTestClassTimes() {
+        final HierarchicalClassId fooTest = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("fooTest")), "");
+        when(this.coverage.getTestClassTime(ClassName.fromString("fooTest")))
+            .thenReturn(Optional.of(42));
+
+        recordClassPathWithTestee(fooTest);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        assertEquals(Optional.of(42), this.testee.getHistoricClassPath()
+            .get(ClassName.fromString("fooTest")).getTestTime());
+    }
+
     @Test
     public void shouldRecordAndRetrieveResults() {
         final HierarchicalClassId foo = new HierarchicalClassId(
@@ -108,6 +127,32 @@ public class ObjectOutputStreamHistoryStoreTest {
         assertEquals(expected, this.testee.getHistoricResults());
     }
 
+    @Test
+    public void shouldRecordAndRetrieveTestDurationsAlongsideResults() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        recordClassPathWithTestee(foo);
+
+        final MutationResult mr = new MutationResult(
+            MutationTestResultMother.createDetails("foo"),
+            new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+        final TestDurations durations = new TestDurations();
+        durations.record("testName", 42);
+
+        this.testee.recordResult(mr);
+        this.testee.recordTestDurations(durations);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        assertEquals(1, this.testee.getHistoricResults().size());
+        final Map<String, long[]> actual = new HashMap<>();
+        this.testee.getHistoricTestDurations().forEach(actual::put);
+        assertArrayEquals(new long[] { 42 }, actual.get("testName"));
+    }
+
     @Test
     public void shouldNotAttemptToWriteToFileWhenNoneSupplied() {
         try {
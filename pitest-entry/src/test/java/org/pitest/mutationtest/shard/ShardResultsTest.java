@@ -0,0 +1,115 @@
+package org.pitest.mutationtest.shard;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.PitError;
+
+public class ShardResultsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  MutationDetails a = aMutationDetail().withId(aMutationId().withIndex(1)).build();
+  MutationDetails b = aMutationDetail().withId(aMutationId().withIndex(2)).build();
+
+  @Test
+  public void shouldRoundTripResults() throws IOException {
+    final MutationStatusTestPair killed = new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, asList("aTest"), asList("anotherTest"));
+    final StringWriter w = new StringWriter();
+    ShardResults.write(w, new Shard(2, 3),
+        Collections.singletonList(new MutationResult(this.a, killed)));
+
+    final Map<MutationIdentifier, MutationStatusTestPair> actual = new HashMap<>();
+    final Shard shard = ShardResults.read(new StringReader(w.toString()), actual);
+
+    assertThat(shard).isEqualTo(new Shard(2, 3));
+    assertThat(actual).containsEntry(this.a.getId(), killed);
+  }
+
+  @Test
+  public void shouldSupplyResultsRecordedByEveryShard() throws IOException {
+    final File first = write(new Shard(1, 2), survived(this.a));
+    final File second = write(new Shard(2, 2), survived(this.b));
+
+    final Collection<MutationResult> actual = ShardResults.merge(asList(first, second))
+        .analyse(asList(this.a, this.b));
+
+    assertThat(actual).extracting(MutationResult::getDetails)
+        .containsExactly(this.a, this.b);
+    assertThat(actual).extracting(MutationResult::getStatus)
+        .containsOnly(DetectionStatus.SURVIVED);
+  }
+
+  @Test
+  public void shouldFailWhenAShardIsMissing() throws IOException {
+    final File first = write(new Shard(1, 2), survived(this.a));
+    assertThatCode(() -> ShardResults.merge(asList(first)))
+        .isInstanceOf(PitError.class)
+        .hasMessageContaining("Results are required from every shard");
+  }
+
+  @Test
+  public void shouldFailWhenAShardIsSuppliedTwice() throws IOException {
+    final File first = write(new Shard(1, 2), survived(this.a));
+    assertThatCode(() -> ShardResults.merge(asList(first, first)))
+        .isInstanceOf(PitError.class)
+        .hasMessageContaining("more than once");
+  }
+
+  @Test
+  public void shouldFailWhenShardsWereSplitDifferently() throws IOException {
+    final File first = write(new Shard(1, 2), survived(this.a));
+    final File second = write(new Shard(2, 3), survived(this.b));
+    assertThatCode(() -> ShardResults.merge(asList(first, second)))
+        .isInstanceOf(PitError.class)
+        .hasMessageContaining("split into");
+  }
+
+  @Test
+  public void shouldFailWhenNoShardRecordedAMutant() throws IOException {
+    final File only = write(new Shard(1, 1), survived(this.a));
+    final ShardResults underTest = ShardResults.merge(asList(only));
+    assertThatCode(() -> underTest.analyse(asList(this.a, this.b)))
+        .isInstanceOf(PitError.class)
+        .hasMessageContaining("No shard recorded a result for 1 mutations");
+  }
+
+  private MutationResult survived(MutationDetails details) {
+    return new MutationResult(details,
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED, null));
+  }
+
+  private File write(Shard shard, MutationResult... results) throws IOException {
+    final File file = this.folder.newFile(shard.resultsFileName());
+    try (Writer w = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      ShardResults.write(w, shard, asList(results));
+    }
+    return file;
+  }
+
+}
@@ -0,0 +1,129 @@
+package org.pitest.mutationtest.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+public class ShardTest {
+
+  @Test
+  public void shouldParseIndexAndCount() {
+    final Shard actual = Shard.valueOf("2/4");
+    assertThat(actual.index()).isEqualTo(2);
+    assertThat(actual.count()).isEqualTo(4);
+    assertThat(actual.isPartial()).isTrue();
+  }
+
+  @Test
+  public void shouldRejectMalformedShards() {
+    assertThatCode(() -> Shard.valueOf("2")).isInstanceOf(IllegalArgumentException.class);
+    assertThatCode(() -> Shard.valueOf("a/b")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldRejectShardsOutOfRange() {
+    assertThatCode(() -> new Shard(0, 2)).isInstanceOf(IllegalArgumentException.class);
+    assertThatCode(() -> new Shard(3, 2)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldRoundTripThroughToString() {
+    assertThat(Shard.valueOf(new Shard(3, 5).toString())).isEqualTo(new Shard(3, 5));
+  }
+
+  @Test
+  public void allShouldNotBePartial() {
+    assertThat(Shard.all().isPartial()).isFalse();
+    assertThat(Shard.all().includesKnownResults()).isTrue();
+  }
+
+  @Test
+  public void onlyFirstShardShouldIncludeKnownResults() {
+    assertThat(new Shard(1, 3).includesKnownResults()).isTrue();
+    assertThat(new Shard(2, 3).includesKnownResults()).isFalse();
+  }
+
+  @Test
+  public void shouldSelectEverythingWhenNotPartial() {
+    final List<List<MutationDetails>> groups = someGroups();
+    assertThat(Shard.all().select(groups)).isSameAs(groups);
+  }
+
+  @Test
+  public void shouldAssignEachGroupToExactlyOneShard() {
+    final List<List<MutationDetails>> groups = someGroups();
+    final List<List<MutationDetails>> selected = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      selected.addAll(new Shard(i, 3).select(groups));
+    }
+    assertThat(selected).hasSize(groups.size());
+    assertThat(selected).containsExactlyInAnyOrderElementsOf(groups);
+  }
+
+  @Test
+  public void shouldSelectSameGroupsWhateverTheOrderSupplied() {
+    final List<List<MutationDetails>> groups = someGroups();
+    final List<List<MutationDetails>> reversed = new ArrayList<>(groups);
+    Collections.reverse(reversed);
+
+    final Shard underTest = new Shard(2, 3);
+    assertThat(underTest.select(reversed))
+        .containsExactlyInAnyOrderElementsOf(underTest.select(groups));
+  }
+
+  @Test
+  public void shouldRetainOrderOfSuppliedGroups() {
+    final List<List<MutationDetails>> groups = someGroups();
+    final List<List<MutationDetails>> selected = new Shard(1, 2).select(groups);
+    assertThat(groups).containsSubsequence(selected);
+  }
+
+  @Test
+  public void shouldBalanceShardsByNumberOfTests() {
+    final List<List<MutationDetails>> groups = new ArrayList<>();
+    groups.add(group(0, 100));
+    groups.add(group(1, 60));
+    groups.add(group(2, 40));
+
+    assertThat(new Shard(1, 2).select(groups)).containsExactly(groups.get(0));
+    assertThat(new Shard(2, 2).select(groups))
+        .containsExactly(groups.get(1), groups.get(2));
+  }
+
+  @Test
+  public void shouldObeyEqualsContract() {
+    EqualsVerifier.forClass(Shard.class).verify();
+  }
+
+  private List<List<MutationDetails>> someGroups() {
+    final List<List<MutationDetails>> groups = new ArrayList<>();
+    for (int i = 0; i != 10; i++) {
+      groups.add(group(i, i % 4));
+    }
+    return groups;
+  }
+
+  private List<MutationDetails> group(int index, int tests) {
+    final List<TestInfo> covering = new ArrayList<>();
+    for (int i = 0; i != tests; i++) {
+      covering.add(new TestInfo("FooTest", "test" + i, 1, Optional.empty(), 0));
+    }
+    return Collections.singletonList(aMutationDetail()
+        .withId(aMutationId().withIndex(index))
+        .withTestsInOrder(covering)
+        .build());
+  }
+
+}
@@ -170,6 +170,39 @@ public class MutationStatisticsPrecursorTest {
     assertEquals(">> Ran 43 tests (21.5 tests per mutation)", actual[2]);
   }
 
+  @Test
+  public void shouldExcludeMutationsNotRunFromScore() {
+    this.testee.registerResults(Arrays.asList(
+            makeResult(DetectionStatus.SURVIVED),
+            makeResult(DetectionStatus.KILLED),
+            makeResult(DetectionStatus.NOT_RUN)));
+    final MutationStatistics actual = this.testee.toStatistics();
+    assertEquals(2, actual.getTotalMutations());
+    assertEquals(2, actual.getTotalMutationsWithCoverage());
+    assertEquals(50, actual.getPercentageDetected());
+    assertEquals(1, actual.getTotalNotRun());
+    assertTrue(actual.isPartial());
+  }
+
+  @Test
+  public void shouldNotBePartialWhenAllMutationsRun() {
+    this.testee.registerResults(Arrays.asList(
+            makeResult(DetectionStatus.SURVIVED),
+            makeResult(DetectionStatus.KILLED)));
+    assertFalse(this.testee.toStatistics().isPartial());
+  }
+
+  @Test
+  public void shouldReportNumberOfMutationsNotRun() {
+    this.testee.registerResults(Arrays.asList(
+            makeResult(DetectionStatus.KILLED),
+            makeResult(DetectionStatus.NOT_RUN),
+            makeResult(DetectionStatus.NOT_RUN)));
+    final String[] actual = generateReportLines();
+    assertEquals(">> WARNING 2 mutations were not run before the time budget was spent."
+        + " Scores are partial and exclude them", actual[3]);
+  }
+
   private Predicate<Score> hasResultForMutator(final String mutator) {
     return a -> a.getMutatorName().equals(mutator);
   }
@@ -0,0 +1,121 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class ScoreEstimateTest {
+
+  @Test
+  public void estimatesScoreAsProportionOfSampleDetected() {
+    assertThat(ScoreEstimate.estimate(1000, 100, 80).score()).isEqualTo(0.8);
+  }
+
+  @Test
+  public void calculatesWilsonIntervalForLargePopulation() {
+    ScoreEstimate underTest = ScoreEstimate.estimate(1_000_000_000, 100, 80);
+    assertThat(underTest.lower()).isCloseTo(0.7112, within(0.0001));
+    assertThat(underTest.upper()).isCloseTo(0.8666, within(0.0001));
+  }
+
+  @Test
+  public void narrowsIntervalWhenSampleIsLargeFractionOfPopulation() {
+    ScoreEstimate small = ScoreEstimate.estimate(1000, 100, 80);
+    ScoreEstimate large = ScoreEstimate.estimate(1000, 900, 720);
+    assertThat(small.lower()).isCloseTo(0.7161, within(0.0001));
+    assertThat(small.upper()).isCloseTo(0.8638, within(0.0001));
+    assertThat(large.lower()).isCloseTo(0.7916, within(0.0001));
+    assertThat(large.upper()).isCloseTo(0.8081, within(0.0001));
+  }
+
+  @Test
+  public void hasNoWidthWhenEveryMutantIsSampled() {
+    ScoreEstimate underTest = ScoreEstimate.estimate(100, 100, 75);
+    assertThat(underTest.isComplete()).isTrue();
+    assertThat(underTest.width()).isZero();
+    assertThat(underTest.lower()).isEqualTo(0.75);
+  }
+
+  @Test
+  public void coversAllScoresWhenNothingIsSampled() {
+    ScoreEstimate underTest = ScoreEstimate.estimate(100, 0, 0);
+    assertThat(underTest.lower()).isZero();
+    assertThat(underTest.upper()).isEqualTo(1);
+  }
+
+  @Test
+  public void keepsIntervalWithinZeroAndOne() {
+    assertThat(ScoreEstimate.estimate(1000, 10, 10).upper()).isEqualTo(1);
+    assertThat(ScoreEstimate.estimate(1000, 10, 0).lower()).isEqualTo(0);
+  }
+
+  @Test
+  public void countsKnownResultsExactly() {
+    ScoreEstimate underTest = ScoreEstimate.estimate(100, 100, 50).withKnown(100, 100);
+    assertThat(underTest.population()).isEqualTo(200);
+    assertThat(underTest.score()).isEqualTo(0.75);
+    assertThat(underTest.width()).isZero();
+    assertThat(underTest.isComplete()).isTrue();
+  }
+
+  @Test
+  public void narrowsIntervalInProportionToKnownResults() {
+    ScoreEstimate sampled = ScoreEstimate.estimate(1000, 100, 80);
+    ScoreEstimate underTest = sampled.withKnown(1000, 1000);
+    assertThat(underTest.score()).isCloseTo(0.9, within(0.0001));
+    assertThat(underTest.lower()).isCloseTo((1000 + sampled.lower() * 1000) / 2000,
+        within(0.0001));
+    assertThat(underTest.width()).isCloseTo(sampled.width() / 2, within(0.0001));
+    assertThat(underTest.isComplete()).isFalse();
+  }
+
+  @Test
+  public void rejectsMoreDetectedThanSampled() {
+    assertThatCode(() -> ScoreEstimate.estimate(100, 10, 11))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void reportsEstimateWithStatistics() {
+    MutationStatistics statistics = new MutationStatistics(Collections.emptyList(), 100, 80,
+        100, 200, Collections.emptySet())
+        .withEstimate(ScoreEstimate.estimate(1000, 100, 80));
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    statistics.report(new PrintStream(bos));
+
+    assertThat(bos.toString())
+        .contains(">> Sampled 100 of 1000 mutations. Estimated score 80% (95% confidence 72% to 86%)");
+  }
+
+  @Test
+  public void reportsKnownResultsSeparately() {
+    MutationStatistics statistics = new MutationStatistics(Collections.emptyList(), 100, 80,
+        100, 200, Collections.emptySet())
+        .withEstimate(ScoreEstimate.estimate(1000, 100, 80).withKnown(200, 100));
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    statistics.report(new PrintStream(bos));
+
+    assertThat(bos.toString())
+        .contains(">> Sampled 100 of 1000 mutations whose status was not known (200 known)");
+  }
+
+  @Test
+  public void doesNotReportEstimateWhenAllMutantsAnalysed() {
+    MutationStatistics statistics = new MutationStatistics(Collections.emptyList(), 100, 80,
+        100, 200, Collections.emptySet());
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    statistics.report(new PrintStream(bos));
+
+    assertThat(statistics.getEstimate()).isEmpty();
+    assertThat(bos.toString()).doesNotContain("Sampled");
+  }
+}
@@ -61,6 +61,7 @@ import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
 import org.pitest.mutationtest.verify.BuildVerifier;
+import org.pitest.process.LaunchOptions;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Timings;
 import org.pitest.util.Unchecked;
@@ -110,6 +111,7 @@ public class MutationCoverageReportTest {
     this.data = new ReportOptions();
     this.data.setSourceDirs(Collections.emptyList());
     when(this.coverage.calculateCoverage()).thenReturn(this.coverageDb);
+    when(this.coverage.getLaunchOptions()).thenReturn(new LaunchOptions(null));
     when(
         this.listenerFactory.getListener(any(),
             any(ListenerArguments.class))).thenReturn(this.listener);
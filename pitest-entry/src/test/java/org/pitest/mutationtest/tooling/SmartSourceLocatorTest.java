@@ -0,0 +1,119 @@
+package org.pitest.mutationtest.tooling;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SmartSourceLocatorTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+  Path root;
+
+  @Before
+  public void setUp() {
+    root = folder.getRoot().toPath();
+  }
+
+  @Test
+  public void locatesSourceInPackageBeneathRoot() throws Exception {
+    createFile(root.resolve("src/main/java/com/example/Foo.java"), "foo");
+    SmartSourceLocator testee = locator(root);
+    assertThat(content(testee.locate(singletonList("com.example.Foo"), "Foo.java")))
+        .isEqualTo("foo");
+  }
+
+  @Test
+  public void locatesSourceInWrongPackage() throws Exception {
+    createFile(root.resolve("src/main/java/com/other/Foo.java"), "foo");
+    SmartSourceLocator testee = locator(root);
+    assertThat(content(testee.locate(singletonList("com.example.Foo"), "Foo.java")))
+        .isEqualTo("foo");
+  }
+
+  @Test
+  public void prefersFileInPackageOfClass() throws Exception {
+    createFile(root.resolve("src/com/example/other/Foo.java"), "not this one");
+    createFile(root.resolve("src/com/example/correct/Foo.java"), "this one");
+    SmartSourceLocator testee = locator(root.resolve("src"));
+    assertThat(content(testee.locate(singletonList("com.example.correct.Foo"), "Foo.java")))
+        .isEqualTo("this one");
+  }
+
+  @Test
+  public void returnsEmptyWhenNoFileFound() throws Exception {
+    createFile(root.resolve("src/com/example/Bar.java"), "bar");
+    SmartSourceLocator testee = locator(root);
+    assertThat(testee.locate(singletonList("com.example.Foo"), "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void doesNotReturnDirectories() throws Exception {
+    Files.createDirectories(root.resolve("src/com/example/Foo.java"));
+    SmartSourceLocator testee = locator(root);
+    assertThat(testee.locate(singletonList("com.example.Foo"), "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void ignoresRootsThatDoNotExist() throws Exception {
+    createFile(root.resolve("src/com/example/Foo.java"), "foo");
+    SmartSourceLocator testee = locator(root.resolve("doesNotExist"), root.resolve("src"));
+    assertThat(content(testee.locate(singletonList("com.example.Foo"), "Foo.java")))
+        .isEqualTo("foo");
+  }
+
+  @Test
+  public void doesNotSeeFilesCreatedAfterConstruction() throws Exception {
+    SmartSourceLocator testee = locator(root);
+    createFile(root.resolve("src/com/example/Foo.java"), "foo");
+    assertThat(testee.locate(singletonList("com.example.Foo"), "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void usesHintToChooseBetweenModules() throws Exception {
+    createFile(root.resolve("a/src/main/java/com/example/Foo.java"), "module a");
+    createFile(root.resolve("b/src/main/java/com/example/Foo.java"), "module b");
+    SmartSourceLocator testee = locator(root);
+
+    testee.sourceRootHint(root.resolve("a/target/classes"));
+    assertThat(content(testee.locate(singletonList("com.example.Foo"), "Foo.java")))
+        .isEqualTo("module a");
+
+    testee.sourceRootHint(root.resolve("b/target/classes"));
+    assertThat(content(testee.locate(singletonList("com.example.Foo"), "Foo.java")))
+        .isEqualTo("module b");
+  }
+
+  private SmartSourceLocator locator(Path... roots) {
+    return new SmartSourceLocator(asList(roots), StandardCharsets.UTF_8);
+  }
+
+  private void createFile(Path file, String content) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String content(Optional<Reader> reader) throws Exception {
+    assertThat(reader).isPresent();
+    StringBuilder s = new StringBuilder();
+    try (Reader r = reader.get()) {
+      int ch;
+      while ((ch = r.read()) != -1) {
+        s.append((char) ch);
+      }
+    }
+    return s.toString();
+  }
+}
@@ -0,0 +1,201 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.process.ClassDataSharing.Launch;
+import org.pitest.process.ClassDataSharing.Mode;
+
+public class ClassDataSharingTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void launchesWithoutArchiveWhenDisabled() {
+    Launch launch = ClassDataSharing.disabled().prepare("java", "cp", getClass(),
+        Collections.emptyList());
+    assertThat(launch.jvmArgs()).isEmpty();
+  }
+
+  @Test
+  public void launchesWithoutArchiveWhenJvmDoesNotSupportArchives() throws IOException {
+    ClassDataSharing underTest = new ClassDataSharing(folder.newFolder(), j -> false, successfulDump());
+    assertThat(prepare(underTest).jvmArgs()).isEmpty();
+  }
+
+  @Test
+  public void firstLaunchRecordsLoadedClasses() throws IOException {
+    ClassDataSharing underTest = new ClassDataSharing(folder.newFolder(), j -> true, successfulDump());
+    Launch launch = prepare(underTest);
+    assertThat(launch.mode()).isEqualTo(Mode.RECORD);
+    assertThat(launch.jvmArgs()).hasSize(1);
+    assertThat(launch.jvmArgs().get(0)).startsWith("-XX:DumpLoadedClassList=");
+    assertThat(launch.awaitsExit()).isTrue();
+  }
+
+  @Test
+  public void launchesWhileArchiveIsPreparedStartNormally() throws IOException {
+    ClassDataSharing underTest = new ClassDataSharing(folder.newFolder(), j -> true, successfulDump());
+    prepare(underTest);
+    Launch second = prepare(underTest);
+    assertThat(second.jvmArgs()).isEmpty();
+    assertThat(second.awaitsExit()).isFalse();
+  }
+
+  @Test
+  public void launchesUseArchiveOnceDumped() throws IOException {
+    ClassDataSharing underTest = new ClassDataSharing(folder.newFolder(), j -> true, successfulDump());
+    Launch record = prepare(underTest);
+    writeClassList(record);
+    underTest.launchEnded(record);
+
+    Launch shared = prepare(underTest);
+    assertThat(shared.mode()).isEqualTo(Mode.SHARED);
+    assertThat(shared.jvmArgs().get(0)).startsWith("-XX:SharedArchiveFile=");
+  }
+
+  @Test
+  public void reusesArchivesWrittenByEarlierRuns() throws IOException {
+    File dir = folder.newFolder();
+    ClassDataSharing first = new ClassDataSharing(dir, j -> true, successfulDump());
+    Launch record = prepare(first);
+    writeClassList(record);
+    first.launchEnded(record);
+
+    ClassDataSharing second = new ClassDataSharing(dir, j -> true, successfulDump());
+    assertThat(prepare(second).mode()).isEqualTo(Mode.SHARED);
+  }
+
+  @Test
+  public void stopsTryingToShareWhenNoClassesAreRecorded() throws IOException {
+    ClassDataSharing underTest = new ClassDataSharing(folder.newFolder(), j -> true, successfulDump());
+    underTest.launchEnded(prepare(underTest));
+    assertThat(prepare(underTest).jvmArgs()).isEmpty();
+  }
+
+  @Test
+  public void stopsTryingToShareWhenDumpFails() throws IOException {
+    ClassDataSharing underTest = new ClassDataSharing(folder.newFolder(), j -> true, c -> false);
+    Launch record = prepare(underTest);
+    writeClassList(record);
+    underTest.launchEnded(record);
+    assertThat(prepare(underTest).jvmArgs()).isEmpty();
+  }
+
+  @Test
+  public void dumpsJarsOfClassPath() throws IOException {
+    String a = folder.newFile("a.jar").getAbsolutePath();
+    String b = folder.newFile("b.jar").getAbsolutePath();
+    String dir = folder.newFolder("classes").getAbsolutePath();
+    assertThat(ClassDataSharing.archivableClassPath(String.join(File.pathSeparator, a, b, dir)))
+      .isEqualTo(String.join(File.pathSeparator, a, b));
+  }
+
+  @Test
+  public void dumpsJarsThatFollowDirectories() throws IOException {
+    String dir = folder.newFolder("classes").getAbsolutePath();
+    String a = folder.newFile("a.jar").getAbsolutePath();
+    String b = folder.newFile("b.jar").getAbsolutePath();
+    assertThat(ClassDataSharing.archivableClassPath(String.join(File.pathSeparator, dir, a, b)))
+      .isEqualTo(String.join(File.pathSeparator, a, b));
+  }
+
+  @Test
+  public void launchesSharingMinionsWithJarsAheadOfDirectories() throws IOException {
+    String tests = folder.newFolder("test-classes").getAbsolutePath();
+    String classes = folder.newFolder("classes").getAbsolutePath();
+    String a = folder.newFile("a.jar").getAbsolutePath();
+    String b = folder.newFile("b.jar").getAbsolutePath();
+    ClassDataSharing underTest = new ClassDataSharing(folder.newFolder(), j -> true,
+        successfulDump());
+
+    Launch launch = underTest.prepare("java",
+        String.join(File.pathSeparator, tests, a, classes, b), getClass(),
+        Collections.emptyList());
+
+    assertThat(launch.classPath())
+      .contains(String.join(File.pathSeparator, a, b, tests, classes));
+    assertThat(launch.dumpCommand(new File("out.jsa")))
+      .containsSequence("-cp", String.join(File.pathSeparator, a, b));
+  }
+
+  @Test
+  public void launchesUnsharedMinionsWithGivenClassPath() {
+    assertThat(Launch.unshared().classPath()).isEmpty();
+  }
+
+  @Test
+  public void keysArchivesOnLaunchConfiguration() {
+    String key = ClassDataSharing.key("java", "a.jar", String.class, Arrays.asList("-Xmx1g"));
+    assertThat(key).isEqualTo(ClassDataSharing.key("java", "a.jar", String.class, Arrays.asList("-Xmx1g")));
+    assertThat(key).isNotEqualTo(ClassDataSharing.key("java", "b.jar", String.class, Arrays.asList("-Xmx1g")));
+    assertThat(key).isNotEqualTo(ClassDataSharing.key("java", "a.jar", Integer.class, Arrays.asList("-Xmx1g")));
+    assertThat(key).isNotEqualTo(ClassDataSharing.key("java", "a.jar", String.class, Arrays.asList("-Xmx2g")));
+    assertThat(key).isNotEqualTo(ClassDataSharing.key("java11", "a.jar", String.class, Arrays.asList("-Xmx1g")));
+  }
+
+  @Test
+  public void keysArchivesOnSizeAndModificationTimeOfJars() throws IOException {
+    File jar = this.folder.newFile("a.jar");
+    Files.write(jar.toPath(), new byte[] {1});
+    jar.setLastModified(1000000);
+    String key = ClassDataSharing.key("java", jar.getPath(), String.class, Collections.emptyList());
+
+    jar.setLastModified(2000000);
+    String touched = ClassDataSharing.key("java", jar.getPath(), String.class, Collections.emptyList());
+    assertThat(touched).isNotEqualTo(key);
+
+    Files.write(jar.toPath(), new byte[] {1, 2});
+    jar.setLastModified(2000000);
+    assertThat(ClassDataSharing.key("java", jar.getPath(), String.class, Collections.emptyList()))
+        .isNotEqualTo(touched);
+  }
+
+  @Test
+  public void recognisesJvmsSupportingArchives() {
+    assertThat(ClassDataSharing.supportsArchives("openjdk version \"17.0.9\" 2023-10-17")).isTrue();
+    assertThat(ClassDataSharing.supportsArchives("openjdk version \"11.0.2\" 2019-01-15")).isTrue();
+    assertThat(ClassDataSharing.supportsArchives("java version \"10.0.1\" 2018-04-17")).isFalse();
+    assertThat(ClassDataSharing.supportsArchives("java version \"1.8.0_292\"")).isFalse();
+    assertThat(ClassDataSharing.supportsArchives("unexpected")).isFalse();
+  }
+
+  private Launch prepare(ClassDataSharing underTest) {
+    return underTest.prepare("java", "cp", getClass(), Collections.emptyList());
+  }
+
+  private Predicate<List<String>> successfulDump() {
+    return cmd -> {
+      String to = cmd.stream().filter(a -> a.startsWith("-XX:SharedArchiveFile="))
+          .findFirst().get();
+      write(new File(to.substring(to.indexOf('=') + 1)));
+      return true;
+    };
+  }
+
+  private void writeClassList(Launch launch) {
+    String arg = launch.jvmArgs().get(0);
+    write(new File(arg.substring(arg.indexOf('=') + 1)));
+  }
+
+  private void write(File file) {
+    try {
+      Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
@@ -2,6 +2,7 @@ package org.pitest.process;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 import java.io.File;
 import java.io.IOException;
@@ -9,7 +10,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.function.Consumer;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.pitest.classpath.ClassPath;
 import org.pitest.util.NullJavaAgent;
 
@@ -17,6 +20,9 @@ public class WrappingProcessTest {
 
   private static final int EXIT_CODE = 10;
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   public static void main(final String[] args) {
     try {
       System.out.println("Sleeping");
@@ -51,6 +57,38 @@ public class WrappingProcessTest {
     assertEquals(EXIT_CODE, process.waitToDie());
   }
 
+  @Test
+  public void laterLaunchesShareClassDataWrittenByFirst() throws IOException,
+  InterruptedException {
+    assumeTrue(ClassDataSharing.supportsArchives("version \""
+        + System.getProperty("java.version") + "\""));
+
+    final File dir = this.folder.newFolder();
+    final LaunchOptions launchOptions = new LaunchOptions(NullJavaAgent.instance(),
+        new DefaultJavaExecutableLocator(), Collections.emptyList(),
+        new HashMap<>()).withClassDataSharing(ClassDataSharing.inDirectory(dir));
+
+    final ProcessArgs processArgs = ProcessArgs
+        .withClassPath(new ClassPath().getLocalClassPath())
+        .andBaseDir(new File(System.getProperty("user.dir")))
+        .andLaunchOptions(launchOptions).andStdout(nullHandler())
+        .andStderr(nullHandler());
+
+    final WrappingProcess first = new WrappingProcess(-1, processArgs,
+        getClass());
+    first.start();
+    first.destroy();
+
+    final File[] archives = dir.listFiles((d, name) -> name.endsWith(".jsa"));
+    assertEquals(1, archives.length);
+
+    final WrappingProcess second = new WrappingProcess(-1, processArgs,
+        getClass());
+    second.start();
+    assertEquals(EXIT_CODE, second.getProcess().waitToDie());
+    second.destroy();
+  }
+
   private Consumer<String> nullHandler() {
     return a -> {
 
@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import org.pitest.coverage.ClassLines;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.Log;
@@ -61,12 +62,13 @@ public class MutationTestSummaryData {
     mt.addLines(getNumberOfLines());
     mt.addLinesCovered(this.numberOfCoveredLines);
     mt.addMutationsWithCoverage(this.getNumberOfMutationsWithCoverage());
+    mt.addMutationsNotRun(this.getNumberOfMutationsNotRun());
     return mt;
   }
 
   private long getNumberOfMutationsWithCoverage() {
     return this.mutations.values().stream()
-            .filter(it -> it.getStatus().hasCoverage())
+            .filter(it -> wasRun(it) && it.getStatus().hasCoverage())
             .count();
   }
 
@@ -131,8 +133,21 @@ public class MutationTestSummaryData {
     return (a, b) -> a + b.getNumberOfCodeLines();
   }
 
+  // mutations not run within the time budget are listed but not scored
   private long getNumberOfMutations() {
-    return this.mutations.size();
+    return this.mutations.values().stream()
+            .filter(MutationTestSummaryData::wasRun)
+            .count();
+  }
+
+  private long getNumberOfMutationsNotRun() {
+    return this.mutations.values().stream()
+            .filter(it -> !wasRun(it))
+            .count();
+  }
+
+  private static boolean wasRun(MutationResult result) {
+    return result.getStatus() != DetectionStatus.NOT_RUN;
   }
 
   private long getNumberOfMutationsDetected() {
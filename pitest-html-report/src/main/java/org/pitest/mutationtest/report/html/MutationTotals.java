@@ -8,6 +8,7 @@ public class MutationTotals {
   private long numberOfMutations             = 0;
   private long numberOfMutationsDetected     = 0;
   private long numberOfMutationsWithCoverage = 0;
+  private long numberOfMutationsNotRun       = 0;
 
   public long getNumberOfFiles() {
     return this.numberOfFiles;
@@ -74,6 +75,22 @@ public class MutationTotals {
     return this.numberOfMutationsWithCoverage;
   }
 
+  public long getNumberOfMutationsNotRun() {
+    return this.numberOfMutationsNotRun;
+  }
+
+  /**
+   * Mutations not run before the time budget was spent are excluded from the
+   * other totals, so scores are partial when any are present.
+   */
+  public void addMutationsNotRun(final long mutationsNotRun) {
+    this.numberOfMutationsNotRun += mutationsNotRun;
+  }
+
+  public boolean isPartial() {
+    return this.numberOfMutationsNotRun != 0;
+  }
+
   public void add(final MutationTotals data) {
     add(data.getNumberOfLines(), data.getNumberOfFiles(), data);
   }
@@ -85,5 +102,6 @@ public class MutationTotals {
     this.addMutations(data.getNumberOfMutations());
     this.addMutationsDetetcted(data.getNumberOfMutationsDetected());
     this.addMutationsWithCoverage(data.getNumberOfMutationsWithCoverage());
+    this.addMutationsNotRun(data.getNumberOfMutationsNotRun());
   }
 }
\ No newline at end of file
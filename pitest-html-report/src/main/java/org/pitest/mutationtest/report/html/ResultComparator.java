@@ -1,8 +1,10 @@
 package org.pitest.mutationtest.report.html;
 
+import static org.pitest.mutationtest.DetectionStatus.INFERRED_KILLED;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 import static org.pitest.mutationtest.DetectionStatus.MEMORY_ERROR;
 import static org.pitest.mutationtest.DetectionStatus.NON_VIABLE;
+import static org.pitest.mutationtest.DetectionStatus.NOT_RUN;
 import static org.pitest.mutationtest.DetectionStatus.NOT_STARTED;
 import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.RUN_ERROR;
@@ -33,6 +35,8 @@ class ResultComparator implements Comparator<MutationResult>, Serializable {
     RANK.put(STARTED, 1);
     RANK.put(RUN_ERROR, 0);
     RANK.put(NO_COVERAGE, 0);
+    RANK.put(NOT_RUN, 1);
+    RANK.put(INFERRED_KILLED, 3);
   }
 
   @Override
@@ -19,6 +19,8 @@ import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
 
@@ -141,6 +143,29 @@ public class MutationTestSummaryDataTest {
     assertEquals(75, this.testee.getTotals().getTestStrength());
   }
 
+  @Test
+  public void shouldExcludeMutationsNotRunFromTotals() {
+    this.testee = buildSummaryDataWithMutationResults(makeClass(),
+            aMutationResult(DetectionStatus.KILLED, "a"),
+            aMutationResult(DetectionStatus.SURVIVED, "b"),
+            aMutationResult(DetectionStatus.NOT_RUN, "c")
+    );
+    assertEquals(2, this.testee.getTotals().getNumberOfMutations());
+    assertEquals(50, this.testee.getTotals().getMutationCoverage());
+    assertEquals(50, this.testee.getTotals().getTestStrength());
+    assertEquals(1, this.testee.getTotals().getNumberOfMutationsNotRun());
+    assertTrue(this.testee.getTotals().isPartial());
+  }
+
+  @Test
+  public void shouldNotReportTotalsAsPartialWhenAllMutationsRun() {
+    this.testee = buildSummaryDataWithMutationResults(makeClass(),
+            aMutationResult(DetectionStatus.KILLED, "a"),
+            aMutationResult(DetectionStatus.SURVIVED, "b")
+    );
+    assertFalse(this.testee.getTotals().isPartial());
+  }
+
   @Test
   public void shouldReturnSortedListOfMutators() {
     this.testee = buildSummaryDataMutators();
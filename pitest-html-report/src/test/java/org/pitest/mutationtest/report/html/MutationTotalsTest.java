@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.report.html;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -106,11 +107,14 @@ public class MutationTotalsTest {
     extra.addMutations(9);
     extra.addMutationsDetetcted(3);
     extra.addMutationsWithCoverage(6);
+    extra.addMutationsNotRun(5);
     this.testee.add(extra);
     assertEquals(2, this.testee.getNumberOfFiles());
     assertEquals(50, this.testee.getLineCoverage());
     assertEquals(33, this.testee.getMutationCoverage());
     assertEquals(50, this.testee.getTestStrength());
+    assertEquals(5, this.testee.getNumberOfMutationsNotRun());
+    assertTrue(this.testee.isPartial());
   }
 
 }
@@ -10,6 +10,7 @@ import org.pitest.coverage.CoverageSummary;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.shard.Shard;
 import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
 import org.pitest.plugin.ToolClasspathPlugin;
@@ -335,6 +336,29 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "${session.executionRootDirectory}", property = "projectBase")
   private String                       projectBase;
 
+  /**
+   * Run only one of a number of shards of the analysis, given as index/count
+   * e.g. 2/4. The results of each shard are written to the report directory
+   * for later merging.
+   */
+  @Parameter(property = "shard")
+  private String                       shard;
+
+  /**
+   * Results written by each shard of a run, to be merged into a single report.
+   */
+  @Parameter(property = "shardResults")
+  private List<File>                   shardResults;
+
+  /**
+   * Port of a pitest daemon running on this machine to hand the analysis to,
+   * so that repeated runs start warm. Thresholds are then checked by the
+   * daemon. The analysis runs in this process if the configuration cannot be
+   * passed to the daemon.
+   */
+  @Parameter(property = "daemonPort")
+  private Integer                      daemonPort;
+
   /**
    * Configuration properties.
    *
@@ -425,7 +449,9 @@ public class AbstractPitMojo extends AbstractMojo {
       this.getLog().info("Available mutators : " + operators);
 
       final Optional<CombinedStatistics> result = analyse();
-      if (result.isPresent()) {
+      // thresholds apply to the whole run, so are checked when shards are merged
+      if (result.isPresent() && !isPartialShard()) {
+        throwErrorIfMutationThresholdsCannotBeChecked(result.get().getMutationStatistics());
         throwErrorIfTestStrengthBelowThreshold(result.get().getMutationStatistics());
         throwErrorIfScoreBelowThreshold(result.get().getMutationStatistics());
         throwErrorIfMoreThanMaximumSurvivors(result.get().getMutationStatistics());
@@ -461,6 +487,18 @@ public class AbstractPitMojo extends AbstractMojo {
     }
   }
 
+  private void throwErrorIfMutationThresholdsCannotBeChecked(final MutationStatistics result)
+      throws MojoFailureException {
+    final boolean hasThreshold = (this.mutationThreshold != 0)
+        || (this.testStrengthThreshold != 0)
+        || (this.maxSurviving >= 0);
+    if (hasThreshold && result.isPartial()) {
+      throw new MojoFailureException("Mutation thresholds cannot be checked as "
+          + result.getTotalNotRun()
+          + " mutations were not run before the time budget was spent");
+    }
+  }
+
   private void throwErrorIfScoreBelowThreshold(final MutationStatistics result)
       throws MojoFailureException {
     if ((this.mutationThreshold != 0)
@@ -494,6 +532,14 @@ public class AbstractPitMojo extends AbstractMojo {
   protected Optional<CombinedStatistics> analyse() throws MojoExecutionException {
     final ReportOptions data = new MojoToReportOptionsConverter(this,
         new SurefireConfigConverter(), this.filter).convert();
+    if (this.daemonPort != null) {
+      data.setMutationThreshold(this.mutationThreshold);
+      data.setTestStrengthThreshold(this.testStrengthThreshold);
+      data.setMaximumAllowedSurvivors(this.maxSurviving);
+      data.setCoverageThreshold(this.coverageThreshold);
+      return Optional.ofNullable(new DaemonStrategy(this.daemonPort, this.goalStrategy)
+          .execute(detectBaseDir(), data, this.plugins, this.environmentVariables));
+    }
     return Optional.ofNullable(this.goalStrategy.execute(detectBaseDir(), data,
         this.plugins, this.environmentVariables));
   }
@@ -740,6 +786,22 @@ public class AbstractPitMojo extends AbstractMojo {
     return projectBase;
   }
 
+  public String getShard() {
+    return shard;
+  }
+
+  public List<File> getShardResults() {
+    return shardResults;
+  }
+
+  public Integer getDaemonPort() {
+    return daemonPort;
+  }
+
+  private boolean isPartialShard() {
+    return shard != null && Shard.valueOf(shard).isPartial();
+  }
+
   static class RunDecision {
     private List<String> reasons = new ArrayList<>(4);
 
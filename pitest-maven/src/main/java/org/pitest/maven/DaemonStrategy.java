@@ -0,0 +1,72 @@
+package org.pitest.maven;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.ReportOptionsArguments;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+import org.pitest.mutationtest.tooling.DaemonClient;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+
+/**
+ * Hands the analysis to a pitest daemon as command line arguments. The daemon
+ * checks the thresholds given in the options, so no statistics are returned.
+ *
+ * Runs the analysis with the fallback strategy instead when the options
+ * cannot be passed as arguments, or environment variables are set, as the
+ * daemon starts minions with its own environment.
+ */
+public class DaemonStrategy implements GoalStrategy {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final DaemonClient client;
+  private final GoalStrategy fallback;
+
+  public DaemonStrategy(int port, GoalStrategy fallback) {
+    this(new DaemonClient(port), fallback);
+  }
+
+  DaemonStrategy(int port, Path tokenDirectory, GoalStrategy fallback) {
+    this(new DaemonClient(port, tokenDirectory), fallback);
+  }
+
+  private DaemonStrategy(DaemonClient client, GoalStrategy fallback) {
+    this.client = client;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public CombinedStatistics execute(File baseDir, ReportOptions data,
+      PluginServices plugins, Map<String, String> environmentVariables)
+      throws MojoExecutionException {
+    if (!environmentVariables.isEmpty()) {
+      LOG.warning("Environment variables cannot be passed to the pitest daemon, so running here");
+      return this.fallback.execute(baseDir, data, plugins, environmentVariables);
+    }
+
+    final List<String> args;
+    try {
+      args = ReportOptionsArguments.toArguments(data);
+    } catch (final PitError e) {
+      LOG.warning(e.getMessage() + ", so running here rather than in the pitest daemon");
+      return this.fallback.execute(baseDir, data, plugins, environmentVariables);
+    }
+
+    try {
+      this.client.run(args, baseDir != null ? baseDir
+          : new File(System.getProperty("user.dir")), System.out);
+    } catch (final RuntimeException e) {
+      throw new MojoExecutionException("Analysis in pitest daemon failed: " + e.getMessage(), e);
+    }
+    return null;
+  }
+
+}
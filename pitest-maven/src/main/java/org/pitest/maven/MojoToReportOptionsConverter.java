@@ -24,6 +24,7 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.DirectoryClassPathRoot;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.shard.Shard;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Glob;
 import org.pitest.util.Verbosity;
@@ -168,6 +169,13 @@ public class MojoToReportOptionsConverter {
       data.setProjectBase(FileSystems.getDefault().getPath(this.mojo.getProjectBase()));
     }
 
+    if (this.mojo.getShard() != null) {
+      data.setShard(Shard.valueOf(this.mojo.getShard()));
+    }
+    if (this.mojo.getShardResults() != null) {
+      data.setShardResults(this.mojo.getShardResults());
+    }
+
     checkForObsoleteOptions(this.mojo);
 
     return data;
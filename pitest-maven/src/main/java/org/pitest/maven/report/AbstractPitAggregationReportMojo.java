@@ -91,6 +91,7 @@ abstract class AbstractPitAggregationReportMojo extends PitReportMojo {
 
       AggregationResult result = reportAggregator.aggregateReport();
 
+      throwErrorIfMutationThresholdsCannotBeChecked(result);
       throwErrorIfTestStrengthBelowThreshold(result.getTestStrength());
       throwErrorIfScoreBelowThreshold(result.getMutationCoverage());
       throwErrorIfMoreThanMaximumSurvivors(result.getMutationsSurvived());
@@ -170,6 +171,18 @@ abstract class AbstractPitAggregationReportMojo extends PitReportMojo {
         sourceRoots);
   }
 
+  private void throwErrorIfMutationThresholdsCannotBeChecked(final AggregationResult result)
+      throws MojoFailureException {
+    final boolean hasThreshold = (this.aggregatedMutationThreshold != 0)
+        || (this.aggregatedTestStrengthThreshold != 0)
+        || (this.aggregatedMaxSurviving >= 0);
+    if (hasThreshold && (result.getMutationsNotRun() != 0)) {
+      throw new MojoFailureException("Mutation thresholds cannot be checked as "
+          + result.getMutationsNotRun()
+          + " mutations were not run before the time budget was spent");
+    }
+  }
+
   private void throwErrorIfScoreBelowThreshold(final int mutationCoverage)
       throws MojoFailureException {
     if ((this.aggregatedMutationThreshold != 0)
@@ -0,0 +1,124 @@
+package org.pitest.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.tooling.DaemonProtocol;
+
+public class DaemonStrategyTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final GoalStrategy   fallback = mock(GoalStrategy.class);
+  private final PluginServices plugins  = PluginServices.makeForContextLoader();
+
+  private Path         tokens;
+  private String       token;
+  private ServerSocket server;
+
+  @Before
+  public void setUp() throws Exception {
+    this.tokens = this.folder.getRoot().toPath().resolve("tokens");
+    this.server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+    this.token = DaemonProtocol.writeToken(DaemonProtocol.tokenFile(this.tokens,
+        this.server.getLocalPort()));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    this.server.close();
+  }
+
+  @Test
+  public void handsAnalysisToDaemonAsArguments() throws Exception {
+    final CompletableFuture<List<String>> received = reply(DaemonProtocol.SUCCESS, "");
+    final ReportOptions data = new ReportOptions();
+    data.setReportDir("/reports");
+
+    final Object result = underTest().execute(this.folder.getRoot(), data, this.plugins,
+        Collections.emptyMap());
+
+    assertThat(result).isNull();
+    assertThat(received.get()).contains("--reportDir=/reports", "--includeLaunchClasspath=false");
+    verifyNoInteractions(this.fallback);
+  }
+
+  @Test
+  public void failsWhenAnalysisInDaemonFails() {
+    reply(DaemonProtocol.FAILURE, "Mutation score of 10 is below threshold of 50");
+
+    assertThatThrownBy(() -> underTest().execute(this.folder.getRoot(), new ReportOptions(),
+        this.plugins, Collections.emptyMap()))
+        .isInstanceOf(MojoExecutionException.class)
+        .hasMessageContaining("below threshold");
+  }
+
+  @Test
+  public void runsHereWhenEnvironmentVariablesAreSet() throws Exception {
+    final ReportOptions data = new ReportOptions();
+    final Map<String, String> env = Collections.singletonMap("FOO", "bar");
+    final File baseDir = this.folder.getRoot();
+
+    underTest().execute(baseDir, data, this.plugins, env);
+
+    verify(this.fallback).execute(eq(baseDir), eq(data), any(PluginServices.class), eq(env));
+  }
+
+  @Test
+  public void runsHereWhenOptionsCannotBePassedToDaemon() throws Exception {
+    final ReportOptions data = new ReportOptions();
+    data.setTargetTests(Collections.singletonList(s -> true));
+    final File baseDir = this.folder.getRoot();
+
+    underTest().execute(baseDir, data, this.plugins, Collections.emptyMap());
+
+    verify(this.fallback).execute(eq(baseDir), eq(data), any(PluginServices.class), any());
+  }
+
+  private CompletableFuture<List<String>> reply(int status, String message) {
+    return CompletableFuture.supplyAsync(() -> {
+      try (Socket socket = this.server.accept()) {
+        final DataInputStream in = new DataInputStream(socket.getInputStream());
+        final DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        assertThat(DaemonProtocol.readToken(in, this.token)).isTrue();
+        DaemonProtocol.readWorkingDir(in);
+        final List<String> args = DaemonProtocol.readArgs(in);
+        DaemonProtocol.writeExit(out, status, message);
+        return args;
+      } catch (final Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  private DaemonStrategy underTest() {
+    return new DaemonStrategy(this.server.getLocalPort(), this.tokens, this.fallback);
+  }
+
+}
@@ -24,6 +24,7 @@ import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.shard.Shard;
 import org.pitest.util.Unchecked;
 
 import java.io.File;
@@ -426,6 +427,16 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertThat(actual.getProjectBase().toString()).isEqualTo("user");
   }
 
+  public void testParsesShard() {
+    final ReportOptions actual = parseConfig("<shard>2/3</shard>");
+    assertEquals(new Shard(2, 3), actual.getShard());
+  }
+
+  public void testParsesShardResults() {
+    final ReportOptions actual = parseConfig("<shardResults><value>a</value><value>b</value></shardResults>");
+    assertThat(actual.getShardResults()).containsExactly(new File("a"), new File("b"));
+  }
+
   public void testParsesInputSourceEncoding() {
     final ReportOptions actual = parseConfig("<inputEncoding>US-ASCII</inputEncoding>");
     assertThat(actual.getInputEncoding()).isEqualTo(StandardCharsets.US_ASCII);
@@ -5,10 +5,19 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.project.MavenProject;
 import org.mockito.Mock;
+import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.CoverageSummary;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.statistics.MutationStatistics;
+import org.pitest.mutationtest.statistics.MutationStatisticsListener;
 import org.pitest.mutationtest.statistics.Score;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
 
@@ -394,6 +403,30 @@ public class PitMojoTest extends BasePitMojoTest {
         mojo.getFeatures());
   }
 
+  public void testThrowsMojoFailureExceptionWhenMutantsNotRunAndMutationThresholdSet()
+      throws Exception {
+    this.testee = createPITMojo(createPomWithConfiguration("<mutationThreshold>10</mutationThreshold>"));
+    setupNotRunMutants();
+    try {
+      this.testee.execute();
+      fail();
+    } catch (final MojoFailureException ex) {
+      assertTrue(ex.getMessage().contains("1 mutations were not run"));
+    }
+  }
+
+  public void testDoesNotThrowMojoFailureExceptionWhenMutantsNotRunAndOnlyCoverageThresholdSet()
+      throws Exception {
+    this.testee = createPITMojo(createPomWithConfiguration("<coverageThreshold>50</coverageThreshold>"));
+    setupNotRunMutants();
+    try {
+      this.testee.execute();
+      // pass
+    } catch (final MojoFailureException ex) {
+      fail();
+    }
+  }
+
   private void setupCoverage(long mutationScore, int lines, int linesCovered)
       throws MojoExecutionException {
     Iterable<Score> scores = Collections.<Score>emptyList();
@@ -418,6 +451,25 @@ public class PitMojoTest extends BasePitMojoTest {
             .thenReturn(cs);
   }
   
+  private void setupNotRunMutants() throws MojoExecutionException {
+    final MutationStatisticsListener listener = new MutationStatisticsListener();
+    listener.handleMutationResult(new ClassMutationResults(asList(
+        aResult(1, DetectionStatus.KILLED), aResult(2, DetectionStatus.NOT_RUN))));
+    CoverageSummary sum = new CoverageSummary(100, 100);
+    final CombinedStatistics cs = new CombinedStatistics(listener.getStatistics(), sum, Collections.emptyList());
+    when(
+        this.executionStrategy.execute(any(File.class),
+            any(ReportOptions.class), any(PluginServices.class), anyMap()))
+            .thenReturn(cs);
+  }
+
+  private static MutationResult aResult(int index, DetectionStatus status) {
+    final MutationIdentifier id = new MutationIdentifier(
+        Location.location(ClassName.fromString("com.example.Foo"), "bar", "()V"), index, "mutator");
+    return new MutationResult(new MutationDetails(id, "Foo.java", "desc", 1, 0),
+        new MutationStatusTestPair(1, status, "test"));
+  }
+
   private void setupSuvivingMutants(long survivors)
       throws MojoExecutionException {
     Iterable<Score> scores = Collections.<Score>emptyList();
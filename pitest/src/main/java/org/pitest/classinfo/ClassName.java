@@ -14,10 +14,13 @@
  */
 package org.pitest.classinfo;
 
+import org.pitest.util.Interner;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -27,18 +30,17 @@ public final class ClassName implements Comparable<ClassName>, Serializable {
   private static final long serialVersionUID = 1L;
   private static final Logger LOG = Log.getLogger();
 
-  private static final ClassName OBJECT = new ClassName("java/lang/Object");
-  private static final ClassName STRING = new ClassName("java/lang/String");
-  private static final ClassName INTEGER = new ClassName("java/lang/Integer");
-  private static final ClassName LIST = new ClassName("java/util/List");
-  private static final ClassName ARRAY_LIST = new ClassName("java/util/ArrayList");
-  private static final ClassName STREAM = new ClassName("java/util/stream/Stream");
-  private static final ClassName FUNCTION = new ClassName("java/util/function/Function");
-  private static final ClassName PREDICATE = new ClassName("java/util/function/Predicate");
+  private static final Interner<ClassName> INTERNED = new Interner<>();
+
+  // names are looked up here first, to avoid allocating for names seen before
+  private static final int MAX_CACHED = 1 << 16;
+  private static final Map<String, ClassName> BY_GIVEN_NAME = new ConcurrentHashMap<>();
 
   // always stored in java/lang/String "internal" format
   private final String        name;
 
+  private transient String    javaName;
+
   private ClassName(final String name) {
     this.name = name;
   }
@@ -47,38 +49,31 @@ public final class ClassName implements Comparable<ClassName>, Serializable {
     return ClassName.fromString(clazz.getName());
   }
 
+  /**
+   * Returns the canonical ClassName for the class, so equal names share a
+   * single instance for as long as any of them is in use.
+   */
   public static ClassName fromString(final String clazz) {
-    final String name = clazz.replace('.', '/');
-    if (name.equals(OBJECT.asInternalName())) {
-      return OBJECT;
-    }
-    if (name.equals(STRING.asInternalName())) {
-      return STRING;
-    }
-    if (name.equals(INTEGER.asInternalName())) {
-      return INTEGER;
-    }
-    if (name.equals(LIST.asInternalName())) {
-      return LIST;
-    }
-    if (name.equals(ARRAY_LIST.asInternalName())) {
-      return ARRAY_LIST;
+    final ClassName cached = BY_GIVEN_NAME.get(clazz);
+    if (cached != null) {
+      return cached;
     }
-    if (name.equals(STREAM.asInternalName())) {
-      return STREAM;
+    final ClassName name = INTERNED.intern(new ClassName(clazz.replace('.', '/')));
+    // a long lived process may see an unbounded number of names
+    if (BY_GIVEN_NAME.size() >= MAX_CACHED) {
+      BY_GIVEN_NAME.clear();
     }
-    if (name.equals(FUNCTION.asInternalName())) {
-      return FUNCTION;
-    }
-    if (name.equals(PREDICATE.asInternalName())) {
-      return PREDICATE;
-    }
-    return new ClassName(name);
+    BY_GIVEN_NAME.put(clazz, name);
+    return name;
   }
 
-
   public String asJavaName() {
-    return this.name.replace('/', '.');
+    String javaName = this.javaName;
+    if (javaName == null) {
+      javaName = this.name.replace('/', '.');
+      this.javaName = javaName;
+    }
+    return javaName;
   }
 
   public String asInternalName() {
@@ -142,6 +137,10 @@ public final class ClassName implements Comparable<ClassName>, Serializable {
     };
   }
 
+  private Object readResolve() {
+    return INTERNED.intern(this);
+  }
+
   @Override
   public int hashCode() {
     return name.hashCode();
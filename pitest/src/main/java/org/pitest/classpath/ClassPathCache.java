@@ -0,0 +1,217 @@
+package org.pitest.classpath;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.util.Log;
+import org.pitest.util.StreamUtil;
+
+/**
+ * Keeps the archives of class paths between analyses run by one long lived
+ * process, so that the classes in an archive are listed and read only once
+ * while the archive is unchanged.
+ *
+ * An archive is treated as changed when its size or modification time
+ * differs from when it was first read. Directories are expected to change
+ * between analyses, so are read afresh each time.
+ *
+ * Archives not used by an analysis for longer than the maximum age are
+ * dropped, as are the least recently used archives while the classes held
+ * exceed the maximum size. Both limits are applied when a class path is
+ * requested, so a single analysis may briefly hold more than the maximum.
+ */
+public class ClassPathCache {
+
+  private static final Logger LOG = Log.getLogger();
+
+  public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+  public static final long DEFAULT_MAX_AGE = TimeUnit.HOURS.toMillis(1);
+
+  private final long         maxBytes;
+  private final long         maxAge;
+  private final LongSupplier clock;
+
+  // in order of last use
+  private final Map<File, CachedArchiveRoot> archives = new LinkedHashMap<>(16, 0.75f, true);
+
+  public ClassPathCache() {
+    this(DEFAULT_MAX_BYTES, DEFAULT_MAX_AGE, System::currentTimeMillis);
+  }
+
+  /**
+   * @param maxBytes size of classes to hold before dropping archives
+   * @param maxAge   milliseconds after which an unused archive is dropped
+   * @param clock    source of the current time in milliseconds
+   */
+  public ClassPathCache(long maxBytes, long maxAge, LongSupplier clock) {
+    this.maxBytes = maxBytes;
+    this.maxAge = maxAge;
+    this.clock = clock;
+  }
+
+  public synchronized ClassPath classPath(Collection<File> files) {
+    final long now = this.clock.getAsLong();
+    evict(now);
+    final List<ClassPathRoot> roots = new ArrayList<>();
+    for (final File each : files) {
+      if (!each.exists() || !each.canRead()) {
+        continue;
+      }
+      if (each.isDirectory()) {
+        roots.add(new DirectoryClassPathRoot(each));
+      } else {
+        roots.add(archive(each, now));
+      }
+    }
+    return new ClassPath(roots);
+  }
+
+  public synchronized int size() {
+    return this.archives.size();
+  }
+
+  /**
+   * Size of the classes held, in bytes.
+   */
+  public synchronized long bytes() {
+    return this.archives.values().stream()
+        .mapToLong(CachedArchiveRoot::bytes)
+        .sum();
+  }
+
+  private CachedArchiveRoot archive(File file, long now) {
+    final CachedArchiveRoot cached = this.archives.get(file);
+    if (cached != null && cached.isCurrent()) {
+      cached.lastUsed = now;
+      return cached;
+    }
+    if (cached != null) {
+      LOG.fine("Reading changed archive " + file);
+    }
+    final CachedArchiveRoot root = new CachedArchiveRoot(file);
+    root.lastUsed = now;
+    this.archives.put(file, root);
+    return root;
+  }
+
+  private void evict(long now) {
+    long held = 0;
+    final Iterator<CachedArchiveRoot> it = this.archives.values().iterator();
+    while (it.hasNext()) {
+      final CachedArchiveRoot each = it.next();
+      if (now - each.lastUsed > this.maxAge) {
+        LOG.fine("Dropping unused archive " + each.file);
+        it.remove();
+      } else {
+        held += each.bytes();
+      }
+    }
+
+    final Iterator<CachedArchiveRoot> lru = this.archives.values().iterator();
+    while (held > this.maxBytes && lru.hasNext()) {
+      final CachedArchiveRoot each = lru.next();
+      LOG.fine("Dropping archive " + each.file + " to stay within cache size");
+      held -= each.bytes();
+      lru.remove();
+    }
+  }
+
+  private static class CachedArchiveRoot implements ClassPathRoot {
+
+    private final File                       file;
+    private final long                       length;
+    private final long                       lastModified;
+    private final ArchiveClassPathRoot       child;
+    private final Map<String, byte[]>        classes = new ConcurrentHashMap<>();
+    private final AtomicLong                 bytes = new AtomicLong();
+    private long                             lastUsed;
+    private volatile Collection<String>      names;
+    private volatile Set<String>             nameSet;
+
+    CachedArchiveRoot(File file) {
+      this.file = file;
+      this.length = file.length();
+      this.lastModified = file.lastModified();
+      this.child = new ArchiveClassPathRoot(file);
+    }
+
+    long bytes() {
+      return this.bytes.get();
+    }
+
+    boolean isCurrent() {
+      return this.file.length() == this.length
+          && this.file.lastModified() == this.lastModified;
+    }
+
+    @Override
+    public URL getResource(String name) throws MalformedURLException {
+      return this.child.getResource(name);
+    }
+
+    @Override
+    public InputStream getData(String name) throws IOException {
+      if (!names().contains(ClassName.fromString(name).asJavaName())) {
+        return null;
+      }
+      byte[] bytes = this.classes.get(name);
+      if (bytes == null) {
+        try (InputStream is = this.child.getData(name)) {
+          if (is == null) {
+            return null;
+          }
+          bytes = StreamUtil.streamToByteArray(is);
+        }
+        if (this.classes.putIfAbsent(name, bytes) == null) {
+          this.bytes.addAndGet(bytes.length);
+        }
+      }
+      return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public Collection<String> classNames() {
+      names();
+      return this.names;
+    }
+
+    @Override
+    public Optional<String> cacheLocation() {
+      return this.child.cacheLocation();
+    }
+
+    private Set<String> names() {
+      if (this.nameSet == null) {
+        final Collection<String> read = this.child.classNames();
+        this.names = read;
+        this.nameSet = new HashSet<>(read);
+      }
+      return this.nameSet;
+    }
+
+    @Override
+    public String toString() {
+      return "CachedArchiveRoot [file=" + this.file.getName() + "]";
+    }
+  }
+
+}
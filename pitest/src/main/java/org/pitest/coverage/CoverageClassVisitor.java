@@ -31,6 +31,7 @@ import sun.pitest.CodeCoverageStore;
  */
 public class CoverageClassVisitor extends MethodFilteringAdapter {
   private final int classId;
+  private final boolean threadProbes;
 
   /**
    * Probe count starts at 1, because probe "0" indicates that the class was hit
@@ -43,8 +44,22 @@ public class CoverageClassVisitor extends MethodFilteringAdapter {
   private boolean   isInterface;
 
   public CoverageClassVisitor(final int classId, final ClassWriter writer) {
+    this(classId, writer, false);
+  }
+
+  /**
+   * @param threadProbes if true, hits are recorded in probes belonging to the
+   *                     running thread rather than a single array for the class
+   */
+  public CoverageClassVisitor(final int classId, final ClassWriter writer,
+      final boolean threadProbes) {
     super(writer, SyntheticMethodFilter.INSTANCE);
     this.classId = classId;
+    this.threadProbes = threadProbes;
+  }
+
+  public boolean usesThreadProbes() {
+    return this.threadProbes;
   }
 
   public void registerProbes(final int number) {
@@ -16,10 +16,16 @@ import java.util.function.Predicate;
 public class CoverageTransformer implements ClassFileTransformer {
 
   private final Predicate<String>   filter;
+  private final boolean             threadProbes;
   private final Map<String, String> computeCache = new ConcurrentHashMap<>();
 
   public CoverageTransformer(final Predicate<String> filter) {
+    this(filter, false);
+  }
+
+  public CoverageTransformer(final Predicate<String> filter, final boolean threadProbes) {
     this.filter = filter;
+    this.threadProbes = threadProbes;
   }
 
   @Override
@@ -56,7 +62,7 @@ public class CoverageTransformer implements ClassFileTransformer {
 
     final int id = CodeCoverageStore.registerClass(className);
     try {
-      reader.accept(new CoverageClassVisitor(id, writer),
+      reader.accept(new CoverageClassVisitor(id, writer, this.threadProbes),
           ClassReader.EXPAND_FRAMES);
       return writer.toByteArray();
     } catch (AlreadyInstrumentedException ex) {
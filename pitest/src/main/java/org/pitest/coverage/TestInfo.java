@@ -55,6 +55,14 @@ public final class TestInfo implements Serializable {
     return this.blocks;
   }
 
+  public String getDefiningClass() {
+    return this.definingClass;
+  }
+
+  public Optional<ClassName> getTestee() {
+    return Optional.ofNullable(this.testee);
+  }
+
   @Override
   public String toString() {
     return this.name;
@@ -7,6 +7,7 @@ import org.objectweb.asm.tree.MethodNode;
 import org.pitest.bytecode.ASMVersion;
 import org.pitest.coverage.CoverageClassVisitor;
 import org.pitest.mutationtest.engine.gregor.analysis.DefaultInstructionCounter;
+import org.pitest.mutationtest.engine.gregor.analysis.InstructionCounter;
 import org.pitest.mutationtest.engine.gregor.analysis.InstructionTrackingMethodVisitor;
 import sun.pitest.CodeCoverageStore;
 
@@ -43,10 +44,18 @@ public class CoverageAnalyser extends MethodNode {
         this.probeOffset, (this.probeOffset + blocks.size()) - 1);
 
     final DefaultInstructionCounter counter = new DefaultInstructionCounter();
-    accept(new InstructionTrackingMethodVisitor(
-        new ArrayProbeCoverageMethodVisitor(blocks, counter, this.classId,
-            this.mv, this.access, parent.getClassName(), this.name, this.desc,
-            this.probeOffset), counter));
+    accept(new InstructionTrackingMethodVisitor(probeStrategy(blocks, counter), counter));
+  }
+
+  private MethodVisitor probeStrategy(List<Block> blocks, InstructionCounter counter) {
+    if (this.parent.usesThreadProbes()) {
+      return new ThreadProbeCoverageMethodVisitor(blocks, counter, this.classId,
+          this.mv, this.access, parent.getClassName(), this.name, this.desc,
+          this.probeOffset);
+    }
+    return new ArrayProbeCoverageMethodVisitor(blocks, counter, this.classId,
+        this.mv, this.access, parent.getClassName(), this.name, this.desc,
+        this.probeOffset);
   }
 
   private List<Block> findRequriedProbeLocations() {
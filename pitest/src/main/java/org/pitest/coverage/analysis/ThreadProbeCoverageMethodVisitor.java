@@ -0,0 +1,71 @@
+package org.pitest.coverage.analysis;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.pitest.mutationtest.engine.gregor.analysis.InstructionCounter;
+import sun.pitest.CodeCoverageStore;
+
+import java.util.List;
+
+/**
+ * Instruments a method adding probes at each block, recording hits in probes
+ * belonging to the thread that runs the method.
+ *
+ * Instead of reading the probe array held in a static field of the class, each
+ * invocation fetches the probes of the current thread from the
+ * CodeCoverageStore. This allows tests running concurrently on different
+ * threads to each see only their own hits, at the cost of a thread local
+ * lookup per invocation.
+ *
+ * <pre>
+ *   private void bar(){
+ *     boolean[] localRefToProbes = CodeCoverageStore.getThreadProbes(thisClassID, $$pitCoverageProbeSize);
+ *     localRefToProbes[0] = true;
+ *     //line of code
+ *     localRefToProbes[1] = true; //assuming above line was probe 1
+ *   }
+ * </pre>
+ */
+public class ThreadProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
+
+  private int probeHitArrayLocal;
+
+  public ThreadProbeCoverageMethodVisitor(List<Block> blocks,
+      InstructionCounter counter, final int classId,
+      final MethodVisitor writer, final int access, final String className, final String name,
+      final String desc, final int probeOffset) {
+    super(blocks, counter, classId, writer, access, className, name, desc, probeOffset);
+  }
+
+  @Override
+  void prepare() {
+    this.probeHitArrayLocal = newLocal(Type.getType("[Z"));
+
+    pushConstant(this.classId);
+    this.mv.visitFieldInsn(Opcodes.GETSTATIC, this.className,
+        CodeCoverageStore.PROBE_LENGTH_FIELD_NAME, "I");
+    this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+        "getThreadProbes", "(II)[Z", false);
+
+    //Make sure that we recorded that the class was hit
+    this.mv.visitInsn(DUP);
+    this.mv.visitInsn(ICONST_0);
+    this.mv.visitInsn(ICONST_1);
+    this.mv.visitInsn(BASTORE);
+    this.mv.visitVarInsn(ASTORE, this.probeHitArrayLocal);
+  }
+
+  @Override
+  void generateProbeReportCode() {
+  }
+
+  @Override
+  void insertProbe() {
+    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
+    pushConstant(this.probeOffset + this.probeCount);
+    this.mv.visitInsn(ICONST_1);
+    this.mv.visitInsn(BASTORE);
+  }
+
+}
@@ -16,6 +16,7 @@ package org.pitest.coverage.execute;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadMXBean;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import org.pitest.coverage.CoverageReceiver;
@@ -25,16 +26,30 @@ import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.ExitingResultCollector;
 import org.pitest.util.Log;
 
+import sun.pitest.CodeCoverageStore;
+
 public class CoverageDecorator extends TestUnitDecorator {
 
   private static final Logger    LOG     = Log.getLogger();
 
-  private final CoverageReceiver invokeQueue;
-  private final ThreadMXBean     threads = ManagementFactory.getThreadMXBean();
+  private final CoverageReceiver   invokeQueue;
+  private final Consumer<TestUnit> uncredited;
+  private final ThreadMXBean       threads = ManagementFactory.getThreadMXBean();
 
   protected CoverageDecorator(final CoverageReceiver queue, final TestUnit child) {
+    this(queue, child, t -> { });
+  }
+
+  /**
+   * @param uncredited receives tests run with thread probes whose coverage was
+   *                   not recorded, because threads without probes of their own
+   *                   ran tested code while they ran
+   */
+  protected CoverageDecorator(final CoverageReceiver queue, final TestUnit child,
+      final Consumer<TestUnit> uncredited) {
     super(child);
     this.invokeQueue = queue;
+    this.uncredited = uncredited;
   }
 
   @Override
@@ -42,6 +57,7 @@ public class CoverageDecorator extends TestUnitDecorator {
     LOG.fine(() -> "Gathering coverage for test " + child().getDescription());
 
     final int threadsBeforeTest = this.threads.getThreadCount();
+    final long uncreditedBeforeTest = CodeCoverageStore.uncreditedProbeRequests();
 
     final long t0 = System.currentTimeMillis();
     final ExitingResultCollector wrappedCollector = new ExitingResultCollector(
@@ -50,8 +66,19 @@ public class CoverageDecorator extends TestUnitDecorator {
 
     final int executionTime = (int) (System.currentTimeMillis() - t0);
 
+    // the hits may have been made by this test or by one running alongside it
+    if (CodeCoverageStore.hasThreadProbes()
+        && CodeCoverageStore.uncreditedProbeRequests() != uncreditedBeforeTest) {
+      LOG.fine(() -> "Tested code ran on threads without probes during "
+          + child().getDescription() + ". Test will be run again");
+      CodeCoverageStore.resetThreadProbes();
+      this.uncredited.accept(child());
+      return;
+    }
+
+    // other tests start threads when tests run concurrently
     final int threadsAfterTest = this.threads.getThreadCount();
-    if (threadsAfterTest > threadsBeforeTest) {
+    if (threadsAfterTest > threadsBeforeTest && !CodeCoverageStore.hasThreadProbes()) {
       LOG.warning("More threads at end of test (" + threadsAfterTest + ") "
           + child().getDescription().getName() + " than start. ("
           + threadsBeforeTest + ")");
@@ -80,7 +80,8 @@ public class CoverageMinion {
       CodeCoverageStore.init(invokeQueue);
 
       HotSwapAgent.addTransformer(new CoverageTransformer(
-          convertToJVMClassFilter(paramsFromParent.getFilter())));
+          convertToJVMClassFilter(paramsFromParent.getFilter()),
+          paramsFromParent.isConcurrent()));
 
       enableTransformations();
 
@@ -95,7 +96,11 @@ public class CoverageMinion {
 
       if (!toExecute.isEmpty()) {
         LOG.info(() -> "Executing " + toExecute.size() + " tests not run during discovery.");
-        CoverageWorker worker = new CoverageWorker(invokeQueue, toExecute);
+        if (paramsFromParent.isConcurrent()) {
+          LOG.info(() -> "Running up to " + paramsFromParent.threads() + " test classes at once");
+        }
+        CoverageWorker worker = new CoverageWorker(invokeQueue, toExecute,
+            paramsFromParent.threads());
         worker.run();
       } else {
         LOG.info(() -> tus.size() + "All tests were executed as part of discovery.");
@@ -177,6 +182,7 @@ public class CoverageMinion {
         .findTestUnitsForAllSuppliedClasses(classes.stream()
                 .flatMap(ClassName.nameToClass())
                 .collect(Collectors.toList()));
+    invokeQueue.registerTests(finder.describe(tus));
     LOG.info(() -> "Found " + tus.size() + " tests");
     return tus;
   }
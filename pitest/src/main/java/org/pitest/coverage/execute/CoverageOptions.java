@@ -24,7 +24,7 @@ import java.util.function.Predicate;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.util.Verbosity;
-import org.pitest.util.Glob;
+import org.pitest.util.GlobMatcher;
 
 public class CoverageOptions implements Serializable {
 
@@ -34,23 +34,41 @@ public class CoverageOptions implements Serializable {
   private final Collection<String>      exclude;
   private final Verbosity verbosity;
   private final TestPluginArguments pitConfig;
+  private final int threads;
 
 
   public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
       final TestPluginArguments pitConfig, final Verbosity verbose) {
+    this(include, exclude, pitConfig, verbose, 1);
+  }
+
+  /**
+   * @param threads number of test classes the minion runs at once
+   */
+  public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
+      final TestPluginArguments pitConfig, final Verbosity verbose, final int threads) {
     Objects.requireNonNull(pitConfig);
     this.include = include;
     this.exclude = exclude;
     this.verbosity = verbose;
     this.pitConfig = pitConfig;
+    this.threads = threads;
   }
 
   public Predicate<String> getFilter() {
-    return Prelude.and(Prelude.or(Glob.toGlobPredicates(this.include)),
-        Prelude.not(Prelude.or(Glob.toGlobPredicates(this.exclude))),
+    return Prelude.and(GlobMatcher.of(this.include),
+        Prelude.not(GlobMatcher.of(this.exclude)),
         Prelude.not(commonClasses()));
   }
 
+  public Collection<String> getInclude() {
+    return this.include;
+  }
+
+  public Collection<String> getExclude() {
+    return this.exclude;
+  }
+
   public Verbosity verbosity() {
     return this.verbosity;
   }
@@ -59,19 +77,22 @@ public class CoverageOptions implements Serializable {
     return this.pitConfig;
   }
 
-  private static Predicate<String> commonClasses() {
-    return Prelude.or(
-            glob("org.pitest.*"),
-            glob("java.*"),
-            glob("javax.*"),
-            glob("com.sun*"),
-            glob("org.junit*"),
-            glob("sun.*"));
+  public int threads() {
+    return this.threads;
   }
 
+  public boolean isConcurrent() {
+    return this.threads > 1;
+  }
 
-  private static Glob glob(String match) {
-    return new Glob(match);
+  private static Predicate<String> commonClasses() {
+    return GlobMatcher.of(
+            "org.pitest.*",
+            "java.*",
+            "javax.*",
+            "com.sun*",
+            "org.junit*",
+            "sun.*");
   }
 
 }
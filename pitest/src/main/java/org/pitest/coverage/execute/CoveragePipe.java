@@ -2,9 +2,11 @@ package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.List;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.Description;
+import org.pitest.testapi.TestUnitDescriptor;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataOutputStream;
@@ -20,10 +22,27 @@ public class CoveragePipe implements CoverageReceiver {
   }
 
   @Override
-  public synchronized void recordTestOutcome(final Description description,
+  public void recordTestOutcome(final Description description,
+      final boolean wasGreen, final int executionTime) {
+    // tests run concurrently each have probes of their own
+    if (CodeCoverageStore.hasThreadProbes()) {
+      final Collection<Long> hits = CodeCoverageStore.getThreadHits();
+      writeOutcome(description, wasGreen, executionTime, hits);
+      CodeCoverageStore.resetThreadProbes();
+    } else {
+      recordSharedOutcome(description, wasGreen, executionTime);
+    }
+  }
+
+  private synchronized void recordSharedOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
     final Collection<Long> hits = CodeCoverageStore.getHits();
+    writeOutcome(description, wasGreen, executionTime, hits);
+    CodeCoverageStore.reset();
+  }
 
+  private synchronized void writeOutcome(final Description description,
+      final boolean wasGreen, final int executionTime, final Collection<Long> hits) {
     this.dos.writeByte(Id.OUTCOME);
     this.dos.write(description);
     this.dos.writeInt(hits.size());
@@ -32,9 +51,18 @@ public class CoveragePipe implements CoverageReceiver {
     }
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
-    
-    CodeCoverageStore.reset();
+  }
 
+  /**
+   * Sends descriptors for discovered tests, so later minions can rebuild them
+   * without repeating discovery.
+   */
+  public synchronized void registerTests(final List<TestUnitDescriptor> tests) {
+    this.dos.writeByte(Id.TESTS);
+    this.dos.writeInt(tests.size());
+    for (final TestUnitDescriptor each : tests) {
+      this.dos.write(each);
+    }
   }
 
   public synchronized void end(final ExitCode exitCode) {
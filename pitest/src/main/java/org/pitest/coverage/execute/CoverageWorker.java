@@ -17,40 +17,136 @@ package org.pitest.coverage.execute;
 import static java.util.stream.Collectors.toList;
 import static org.pitest.util.Unchecked.translateCheckedException;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.Container;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.testapi.execute.containers.UnContainer;
+import org.pitest.util.Log;
+
+import sun.pitest.CodeCoverageStore;
 
 public class CoverageWorker {
 
+  private static final Logger LOG = Log.getLogger();
+
   private final CoveragePipe   pipe;
   private final List<TestUnit> tests;
+  private final int            threads;
 
   public CoverageWorker(final CoveragePipe pipe, final List<TestUnit> tests) {
+    this(pipe, tests, 1);
+  }
+
+  /**
+   * @param threads number of test classes run at once. When more than one,
+   *                tested classes must have been instrumented for thread probes.
+   */
+  public CoverageWorker(final CoveragePipe pipe, final List<TestUnit> tests,
+      final int threads) {
     this.pipe = pipe;
     this.tests = tests;
+    this.threads = threads;
   }
 
   public void run() {
     try {
-      final List<TestUnit> decoratedTests = decorateForCoverage(this.tests,
-          this.pipe);
+      if (this.threads > 1) {
+        final Queue<TestUnit> uncredited = new ConcurrentLinkedQueue<>();
+        runConcurrently(decorateForCoverage(this.tests, this.pipe, uncredited::add));
+        rerunUncredited(new ArrayList<>(uncredited));
+      } else {
+        runTests(decorateForCoverage(this.tests, this.pipe, t -> { }));
+      }
+    } catch (final Exception ex) {
+      throw translateCheckedException(ex);
+    }
 
-      decoratedTests.sort(testComparator());
+  }
 
-      final Container c = new UnContainer();
+  private static void runTests(List<TestUnit> tests) {
+    final Container c = new UnContainer();
 
-      final Pitest pit = new Pitest(new ErrorListener());
-      pit.run(c, decoratedTests);
-    } catch (final Exception ex) {
-      throw translateCheckedException(ex);
+    final Pitest pit = new Pitest(new ErrorListener());
+    pit.run(c, tests);
+  }
+
+  /**
+   * Runs each test class on a worker thread, with the tests of a class run
+   * one after another. Each worker has probes of its own, so the coverage
+   * recorded for a test contains only the blocks hit on its thread.
+   */
+  private void runConcurrently(List<TestUnit> tests)
+      throws InterruptedException, ExecutionException {
+    final Map<String, List<TestUnit>> byClass = new LinkedHashMap<>();
+    for (final TestUnit each : tests) {
+      byClass.computeIfAbsent(each.getDescription().getFirstTestClass(),
+          k -> new ArrayList<>()).add(each);
     }
 
+    final ExecutorService pool = Executors.newFixedThreadPool(
+        Math.min(this.threads, Math.max(1, byClass.size())), coverageThreads());
+    try {
+      final List<Future<?>> running = new ArrayList<>();
+      for (final List<TestUnit> each : byClass.values()) {
+        running.add(pool.submit(() -> runWithThreadProbes(each)));
+      }
+      for (final Future<?> each : running) {
+        each.get();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Runs tests again, one at a time, whose coverage could not be recorded
+   * when run concurrently because tested code ran on threads without probes
+   * of their own, such as those the tests start. Their hits then reach the
+   * shared probes, so are credited to the only test running.
+   */
+  private void rerunUncredited(List<TestUnit> uncredited) {
+    if (uncredited.isEmpty()) {
+      return;
+    }
+    LOG.info(() -> uncredited.size() + " tests ran code on threads of their own, or alongside"
+        + " tests that did, so are run again one at a time");
+    CodeCoverageStore.reset();
+    runTests(decorateForCoverage(uncredited, this.pipe, t -> { }));
+  }
+
+  private static void runWithThreadProbes(List<TestUnit> tests) {
+    CodeCoverageStore.captureThreadProbes();
+    try {
+      runTests(tests);
+    } finally {
+      CodeCoverageStore.releaseThreadProbes();
+    }
+  }
+
+  private static ThreadFactory coverageThreads() {
+    final AtomicInteger count = new AtomicInteger();
+    return r -> {
+      final Thread t = new Thread(r, "pit-coverage-" + count.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    };
   }
 
   private static Comparator<TestUnit> testComparator() {
@@ -58,9 +154,10 @@ public class CoverageWorker {
   }
 
   private static List<TestUnit> decorateForCoverage(final List<TestUnit> plainTests,
-      final CoverageReceiver queue) {
+      final CoverageReceiver queue, final Consumer<TestUnit> uncredited) {
     return plainTests.stream()
-            .map(each -> new CoverageDecorator(queue, each))
+            .map(each -> new CoverageDecorator(queue, each, uncredited))
+            .sorted(testComparator())
             .collect(toList());
   }
 }
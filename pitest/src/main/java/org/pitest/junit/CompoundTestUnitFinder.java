@@ -2,6 +2,7 @@ package org.pitest.junit;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.TestUnitExecutionListener;
@@ -26,4 +27,26 @@ public class CompoundTestUnitFinder implements TestUnitFinder {
     return Collections.emptyList();
   }
 
+  @Override
+  public Optional<String> rebuildKey(final TestUnit unit) {
+    for (final TestUnitFinder each : this.tufs) {
+      final Optional<String> key = each.rebuildKey(unit);
+      if (key.isPresent()) {
+        return key;
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<TestUnit> rebuild(final Class<?> clazz, final String key) {
+    for (final TestUnitFinder each : this.tufs) {
+      final Optional<TestUnit> unit = each.rebuild(clazz, key);
+      if (unit.isPresent()) {
+        return unit;
+      }
+    }
+    return Optional.empty();
+  }
+
 }
@@ -52,6 +52,9 @@ public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
   @SuppressWarnings("rawtypes")
   private static final Optional<Class> CLASS_RULE = findClassRuleClass();
 
+  private static final String WHOLE_CLASS_KEY = "junit4";
+  private static final String FILTERED_KEY_PREFIX = "junit4:";
+
 
   private final TestGroupConfig config;
   private final Collection<String> excludedRunners;
@@ -84,6 +87,34 @@ public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
     }
   }
 
+  @Override
+  public Optional<String> rebuildKey(final TestUnit unit) {
+    if (!(unit instanceof AdaptedJUnitTestUnit)) {
+      return Optional.empty();
+    }
+    final Optional<Filter> filter = ((AdaptedJUnitTestUnit) unit).getFilter();
+    if (!filter.isPresent()) {
+      return Optional.of(WHOLE_CLASS_KEY);
+    }
+    if (filter.get() instanceof DescriptionFilter) {
+      return Optional.of(FILTERED_KEY_PREFIX + filter.get().describe());
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<TestUnit> rebuild(final Class<?> clazz, final String key) {
+    if (key.equals(WHOLE_CLASS_KEY)) {
+      return Optional.of(new AdaptedJUnitTestUnit(clazz, Optional.empty()));
+    }
+    if (key.startsWith(FILTERED_KEY_PREFIX)) {
+      final String description = key.substring(FILTERED_KEY_PREFIX.length());
+      return Optional.of(new AdaptedJUnitTestUnit(clazz,
+          Optional.of(new DescriptionFilter(description))));
+    }
+    return Optional.empty();
+  }
+
   private List<TestUnit> filterUnitsByMethod(List<TestUnit> filteredUnits) {
     if (this.includedTestMethods.isEmpty()) {
       return filteredUnits;
@@ -47,6 +47,10 @@ public class AdaptedJUnitTestUnit extends AbstractTestUnit {
     this.filter = filter;
   }
 
+  public Optional<Filter> getFilter() {
+    return this.filter;
+  }
+
   private static String createName(final Class<?> clazz,
       final Optional<Filter> filter) {
     if (filter.isPresent()) {
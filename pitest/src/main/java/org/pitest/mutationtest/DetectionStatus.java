@@ -65,7 +65,20 @@ public enum DetectionStatus {
   /**
    * Mutation is not covered by any test.
    */
-  NO_COVERAGE(false);
+  NO_COVERAGE(false),
+
+  /**
+   * Mutation was not analysed because the time budget for the run was spent
+   * before it could be started.
+   */
+  NOT_RUN(false),
+
+  /**
+   * Mutation was not run, but is expected to be killed by the tests that
+   * killed a mutation subsuming it. Reported only if inference from
+   * subsumption has been enabled.
+   */
+  INFERRED_KILLED(true);
 
 
   private final boolean detected;
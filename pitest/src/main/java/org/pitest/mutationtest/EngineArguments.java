@@ -10,10 +10,17 @@ public class EngineArguments implements Serializable {
 
   private final Collection<String> mutators;
   private final Collection<String> excludedMethods;
+  private final boolean schemata;
 
   public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods) {
+    this(mutators, excludedMethods, false);
+  }
+
+  public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods,
+      boolean schemata) {
     this.mutators = mutators;
     this.excludedMethods = excludedMethods;
+    this.schemata = schemata;
   }
 
   public static EngineArguments arguments() {
@@ -21,11 +28,19 @@ public class EngineArguments implements Serializable {
   }
 
   public EngineArguments withMutators(Collection<String> mutators) {
-    return new EngineArguments(mutators, this.excludedMethods);
+    return new EngineArguments(mutators, this.excludedMethods, this.schemata);
   }
 
   public EngineArguments withExcludedMethods(Collection<String> excludedMethods) {
-    return new EngineArguments(this.mutators, excludedMethods);
+    return new EngineArguments(this.mutators, excludedMethods, this.schemata);
+  }
+
+  /**
+   * Combine the mutants of each class into a single schema class, where
+   * the engine supports it, rather than creating a class for each mutant.
+   */
+  public EngineArguments withSchemata(boolean schemata) {
+    return new EngineArguments(this.mutators, this.excludedMethods, schemata);
   }
 
   public Collection<String> mutators() {
@@ -36,5 +51,9 @@ public class EngineArguments implements Serializable {
     return this.excludedMethods;
   }
 
+  public boolean usesSchemata() {
+    return this.schemata;
+  }
+
 }
 
@@ -21,4 +21,19 @@ public interface TimeoutLengthStrategy extends Serializable {
 
   long getAllowedTime(long normalDuration);
 
+  /**
+   * Allowed time for a named test. Strategies that learn from observed
+   * durations may allow different times for tests with the same normal duration.
+   */
+  default long getAllowedTime(String test, long normalDuration) {
+    return getAllowedTime(normalDuration);
+  }
+
+  /**
+   * Records the duration of a test that ran to completion against a mutant
+   */
+  default void recordDuration(String test, long duration) {
+
+  }
+
 }
@@ -0,0 +1,68 @@
+package org.pitest.mutationtest.build;
+
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+
+/**
+ * Bases timeouts on a percentile of the durations observed for each test, rather than
+ * on the single timing taken during coverage. The timing from coverage is treated as
+ * the first sample, further samples are recorded as tests complete against mutants.
+ *
+ * Durations observed by earlier minions, or in earlier runs, may be supplied, in which
+ * case they are used in place of the coverage timing.
+ *
+ * Until enough samples are available for a test, the child strategy is applied to the
+ * coverage timing.
+ */
+public class LearnedTimeoutStrategy implements TimeoutLengthStrategy {
+
+  private static final long serialVersionUID = 1L;
+
+  private final TimeoutLengthStrategy child;
+  private final double                percentile;
+  private final int                   minSamples;
+
+  private final TestDurations durations = new TestDurations();
+  private final TestDurations observed  = new TestDurations();
+
+  public LearnedTimeoutStrategy(TimeoutLengthStrategy child, double percentile, int minSamples) {
+    this(child, percentile, minSamples, new TestDurations());
+  }
+
+  public LearnedTimeoutStrategy(TimeoutLengthStrategy child, double percentile, int minSamples,
+      TestDurations known) {
+    this.child = child;
+    this.percentile = percentile;
+    this.minSamples = minSamples;
+    this.durations.recordAll(known);
+  }
+
+  @Override
+  public long getAllowedTime(long normalDuration) {
+    return this.child.getAllowedTime(normalDuration);
+  }
+
+  @Override
+  public long getAllowedTime(String test, long normalDuration) {
+    this.durations.recordIfAbsent(test, normalDuration);
+    if (this.durations.count(test) < this.minSamples) {
+      return this.child.getAllowedTime(normalDuration);
+    }
+    return this.child.getAllowedTime(this.durations.percentile(test, this.percentile));
+  }
+
+  @Override
+  public void recordDuration(String test, long duration) {
+    if (this.durations.contains(test)) {
+      this.durations.record(test, duration);
+      this.observed.record(test, duration);
+    }
+  }
+
+  /**
+   * Durations recorded since this strategy was created
+   */
+  public TestDurations observed() {
+    return this.observed;
+  }
+
+}
@@ -0,0 +1,137 @@
+package org.pitest.mutationtest.build;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * The most recent durations observed for each test. Minions send the durations
+ * they observe to the main process, which passes them on to the minions that
+ * replace them and records them in the history file, so timeouts learned by a
+ * minion are not lost when it exits.
+ */
+public final class TestDurations implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final int MAX_SAMPLES = 64;
+
+  private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+  public void record(String test, long duration) {
+    this.samples.computeIfAbsent(test, t -> new Samples()).add(duration);
+  }
+
+  /**
+   * Adds the durations of another instance to those already held, as if
+   * recorded after them.
+   */
+  public void recordAll(TestDurations other) {
+    other.forEach((test, durations) -> {
+      final Samples s = this.samples.computeIfAbsent(test, t -> new Samples());
+      for (final long each : durations) {
+        s.add(each);
+      }
+    });
+  }
+
+  /**
+   * The durations of the given tests only
+   */
+  public TestDurations select(Collection<String> tests) {
+    final TestDurations selected = new TestDurations();
+    for (final String each : tests) {
+      final Samples s = this.samples.get(each);
+      if (s != null) {
+        selected.samples.put(each, s.copy());
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Supplies each test with its durations, oldest first
+   */
+  public void forEach(BiConsumer<String, long[]> consumer) {
+    this.samples.forEach((test, s) -> consumer.accept(test, s.inOrder()));
+  }
+
+  public boolean isEmpty() {
+    return this.samples.isEmpty();
+  }
+
+  public int size() {
+    return this.samples.size();
+  }
+
+  boolean contains(String test) {
+    return this.samples.containsKey(test);
+  }
+
+  /**
+   * Records a duration for a test only if none are yet known for it
+   */
+  void recordIfAbsent(String test, long duration) {
+    this.samples.computeIfAbsent(test, t -> {
+      final Samples s = new Samples();
+      s.add(duration);
+      return s;
+    });
+  }
+
+  int count(String test) {
+    final Samples s = this.samples.get(test);
+    return s == null ? 0 : s.size();
+  }
+
+  long percentile(String test, double percentile) {
+    return this.samples.get(test).percentile(percentile);
+  }
+
+  private static final class Samples implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long[] values = new long[MAX_SAMPLES];
+    private int          count;
+    private int          next;
+
+    synchronized void add(long duration) {
+      this.values[this.next] = duration;
+      this.next = (this.next + 1) % this.values.length;
+      this.count = Math.min(this.count + 1, this.values.length);
+    }
+
+    synchronized int size() {
+      return this.count;
+    }
+
+    synchronized long[] inOrder() {
+      final long[] ordered = new long[this.count];
+      final int oldest = this.count < this.values.length ? 0 : this.next;
+      for (int i = 0; i != this.count; i++) {
+        ordered[i] = this.values[(oldest + i) % this.values.length];
+      }
+      return ordered;
+    }
+
+    synchronized Samples copy() {
+      final Samples copy = new Samples();
+      for (final long each : inOrder()) {
+        copy.add(each);
+      }
+      return copy;
+    }
+
+    synchronized long percentile(double percentile) {
+      final long[] sorted = Arrays.copyOf(this.values, this.count);
+      Arrays.sort(sorted);
+      final int rank = (int) Math.ceil((percentile / 100) * sorted.length) - 1;
+      return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+  }
+
+}
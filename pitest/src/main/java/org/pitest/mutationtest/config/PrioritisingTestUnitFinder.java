@@ -6,6 +6,7 @@ import org.pitest.testapi.TestUnitFinder;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 class PrioritisingTestUnitFinder implements TestUnitFinder {
     private final List<TestUnitFinder> orderedChildren;
@@ -24,4 +25,26 @@ class PrioritisingTestUnitFinder implements TestUnitFinder {
        }
        return Collections.emptyList();
     }
+
+    @Override
+    public Optional<String> rebuildKey(TestUnit unit) {
+        for (TestUnitFinder each : orderedChildren) {
+            Optional<String> key = each.rebuildKey(unit);
+            if (key.isPresent()) {
+                return key;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<TestUnit> rebuild(Class<?> clazz, String key) {
+        for (TestUnitFinder each : orderedChildren) {
+            Optional<TestUnit> unit = each.rebuild(clazz, key);
+            if (unit.isPresent()) {
+                return unit;
+            }
+        }
+        return Optional.empty();
+    }
 }
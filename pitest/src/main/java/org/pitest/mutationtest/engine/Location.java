@@ -18,6 +18,7 @@ import java.io.Serializable;
 import java.util.Objects;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.util.Interner;
 
 /**
  * The co-ordinates of a method within a class.
@@ -27,20 +28,29 @@ public final class Location implements Comparable<Location>, Serializable  {
 
   private static final long serialVersionUID = 1L;
 
+  private static final Interner<Location> INTERNED = new Interner<>();
+
   private final ClassName  clazz;
   private final String     method;
   private final String     methodDesc;
 
+  private final transient int hash;
+
   public Location(final ClassName clazz, final String method,
       final String methodDesc) {
     this.clazz = clazz;
     this.method = method;
     this.methodDesc = methodDesc;
+    this.hash = calculateHash();
   }
 
+  /**
+   * Returns the canonical instance of the location, so that equal locations
+   * share a single instance for as long as any of them is in use.
+   */
   public static Location location(final ClassName clazz,
       final String method, final String methodDesc) {
-    return new Location(clazz, method, methodDesc);
+    return INTERNED.intern(new Location(clazz, method, methodDesc));
   }
 
   public ClassName getClassName() {
@@ -55,8 +65,17 @@ public final class Location implements Comparable<Location>, Serializable  {
     return this.methodDesc;
   }
 
+  // the hash is not serialised, so is recalculated by the constructor
+  private Object readResolve() {
+    return location(this.clazz, this.method, this.methodDesc);
+  }
+
   @Override
   public int hashCode() {
+    return this.hash;
+  }
+
+  private int calculateHash() {
     return Objects.hash(clazz, method, methodDesc);
   }
 
@@ -0,0 +1,43 @@
+package org.pitest.mutationtest.engine;
+
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * A class containing many mutants, each of which is active only when its key
+ * is selected at runtime.
+ */
+public final class MutantSchema {
+
+  private final byte[]                          bytes;
+  private final Map<MutationIdentifier, Integer> keys;
+
+  public MutantSchema(final byte[] bytes, final Map<MutationIdentifier, Integer> keys) {
+    this.bytes = bytes;
+    this.keys = keys;
+  }
+
+  /**
+   * Returns a byte array containing the schema class
+   *
+   * @return A byte array
+   */
+  public byte[] getBytes() {
+    return this.bytes;
+  }
+
+  /**
+   * The key that activates the given mutant, if the mutant is included in the
+   * schema. Not all mutators support schemata, so mutants without a key must
+   * be created individually.
+   */
+  public OptionalInt keyFor(MutationIdentifier id) {
+    final Integer key = this.keys.get(id);
+    return key == null ? OptionalInt.empty() : OptionalInt.of(key);
+  }
+
+  public boolean isEmpty() {
+    return this.keys.isEmpty();
+  }
+
+}
@@ -15,6 +15,8 @@
 package org.pitest.mutationtest.engine;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.pitest.classinfo.ClassName;
 
@@ -41,4 +43,20 @@ public interface Mutater {
    */
   List<MutationDetails> findMutations(ClassName classToMutate);
 
+  /**
+   * Creates a single class containing the given mutants of a class, each of
+   * which is active only when its key is selected. Mutants the engine cannot
+   * combine are left out of the schema.
+   *
+   * @param classToMutate
+   *          the class containing the mutants
+   * @param keys
+   *          the mutants to include, with the key that will select each
+   * @return a schema, or empty if the engine does not support schemata
+   */
+  default Optional<MutantSchema> getSchema(ClassName classToMutate,
+      Map<MutationIdentifier, Integer> keys) {
+    return Optional.empty();
+  }
+
 }
@@ -14,10 +14,13 @@
  */
 package org.pitest.mutationtest.engine;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -30,10 +33,18 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
 
   private static final long serialVersionUID = 1L;
 
+  // identifiers are written via SerializedForm, but those written before it
+  // was introduced hold their indexes as a List<Integer>
+  private static final ObjectStreamField[] serialPersistentFields = {
+      new ObjectStreamField("indexes", List.class),
+      new ObjectStreamField("location", Location.class),
+      new ObjectStreamField("mutator", String.class)
+  };
+
   /**
    * The location at which the mutation occurs
    */
-  private final Location      location;
+  private final Location        location;
 
   /**
    * The indexes to the instructions within the method at which the mutation
@@ -42,23 +53,37 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
    * Usually this will be a single instruction, but may be multiple if the
    * mutation has been inlined by the compiler to implement a finally block
    */
-  private final List<Integer> indexes;
+  private final int[]           indexes;
 
   /**
    * Name of the mutation operator that created this mutation
    */
-  private final String        mutator;
+  private final String          mutator;
+
+  private final transient int   hash;
+
+  private final transient List<Integer> indexList;
+
+  // set only when reading an identifier written before SerializedForm
+  private transient SerializedForm legacy;
 
   public MutationIdentifier(final Location location, final int index,
       final String mutatorUniqueId) {
-    this(location, Collections.singleton(index), mutatorUniqueId);
+    this(location, new int[] { index }, mutatorUniqueId);
   }
 
   public MutationIdentifier(final Location location,
       final Collection<Integer> indexes, final String mutatorUniqueId) {
+    this(location, toArray(indexes), mutatorUniqueId);
+  }
+
+  private MutationIdentifier(final Location location, final int[] indexes,
+      final String mutatorUniqueId) {
     this.location = location;
-    this.indexes = new ArrayList<>(indexes);
+    this.indexes = indexes;
     this.mutator = mutatorUniqueId;
+    this.hash = calculateHash();
+    this.indexList = new IndexList(indexes);
   }
 
   /**
@@ -85,7 +110,7 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
    * @return the instruction indexes of the mutation
    */
   public List<Integer> getIndexes() {
-    return indexes;
+    return this.indexList;
   }
 
   /**
@@ -95,13 +120,13 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
    * @return the zero based index to the instruction
    */
   public int getFirstIndex() {
-    return this.indexes.iterator().next();
+    return this.indexes[0];
   }
 
   @Override
   public String toString() {
     return "MutationIdentifier [location=" + this.location + ", indexes="
-        + this.indexes + ", mutator=" + this.mutator + "]";
+        + getIndexes() + ", mutator=" + this.mutator + "]";
   }
 
   /**
@@ -113,7 +138,7 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
    */
   public boolean matches(final MutationIdentifier id) {
     return this.location.equals(id.location) && this.mutator.equals(id.mutator)
-        && this.indexes.contains(id.getFirstIndex());
+        && containsIndex(id.getFirstIndex());
   }
 
   /**
@@ -127,7 +152,7 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
 
   @Override
   public int hashCode() {
-    return Objects.hash(location, indexes, mutator);
+    return this.hash;
   }
 
   @Override
@@ -140,7 +165,7 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
     }
     final MutationIdentifier other = (MutationIdentifier) obj;
     return Objects.equals(location, other.location)
-            && Objects.equals(indexes, other.indexes)
+            && Arrays.equals(indexes, other.indexes)
             && Objects.equals(mutator, other.mutator);
   }
 
@@ -154,7 +179,89 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
     if (comp != 0) {
       return comp;
     }
-    return this.indexes.get(0).compareTo(other.indexes.get(0));
+    return Integer.compare(this.indexes[0], other.indexes[0]);
+  }
+
+  // matches the hash of the list based implementation
+  private int calculateHash() {
+    return Objects.hash(this.location, Arrays.hashCode(this.indexes), this.mutator);
+  }
+
+  private boolean containsIndex(int index) {
+    for (final int each : this.indexes) {
+      if (each == index) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Object writeReplace() {
+    return new SerializedForm(this.location, this.indexes, this.mutator);
+  }
+
+  // only reached for identifiers written before SerializedForm was introduced
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    this.legacy = new SerializedForm((Location) fields.get("location", null),
+        toArray((List<Integer>) fields.get("indexes", null)),
+        (String) fields.get("mutator", null));
+  }
+
+  private Object readResolve() {
+    return this.legacy.readResolve();
+  }
+
+  private static int[] toArray(Collection<Integer> indexes) {
+    final int[] array = new int[indexes.size()];
+    int i = 0;
+    for (final int each : indexes) {
+      array[i++] = each;
+    }
+    return array;
+  }
+
+  private static final class IndexList extends AbstractList<Integer> {
+
+    private final int[] indexes;
+
+    IndexList(int[] indexes) {
+      this.indexes = indexes;
+    }
+
+    @Override
+    public Integer get(int index) {
+      return this.indexes[index];
+    }
+
+    @Override
+    public int size() {
+      return this.indexes.length;
+    }
+  }
+
+  /**
+   * Serialization proxy, so that identifiers are only ever created through
+   * the constructor.
+   */
+  private static final class SerializedForm implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Location location;
+    private final int[]    indexes;
+    private final String   mutator;
+
+    SerializedForm(Location location, int[] indexes, String mutator) {
+      this.location = location;
+      this.indexes = indexes;
+      this.mutator = mutator;
+    }
+
+    private Object readResolve() {
+      return new MutationIdentifier(this.location, this.indexes.clone(), this.mutator);
+    }
   }
 
 }
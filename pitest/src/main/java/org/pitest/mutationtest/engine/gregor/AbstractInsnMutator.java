@@ -58,7 +58,8 @@ public abstract class AbstractInsnMutator extends MethodVisitor {
 
     if (this.context.shouldMutate(newId)) {
       mutation.apply(opcode, this.mv);
-    } else {
+    } else if (!this.context.mutateInSchema(newId, mv -> mutation.apply(opcode, mv),
+        () -> applyUnmutatedInstruction(opcode))) {
       applyUnmutatedInstruction(opcode);
     }
   }
@@ -66,7 +66,9 @@ public abstract class AbstractJumpMutator extends MethodVisitor {
 
     if (this.context.shouldMutate(newId)) {
       this.mv.visitJumpInsn(substitution.newCode, label);
-    } else {
+    } else if (!this.context.mutateInSchema(newId,
+        mv -> mv.visitJumpInsn(substitution.newCode, label),
+        () -> this.mv.visitJumpInsn(opcode, label))) {
       this.mv.visitJumpInsn(opcode, label);
     }
   }
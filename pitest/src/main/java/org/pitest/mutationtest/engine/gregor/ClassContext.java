@@ -16,7 +16,11 @@ package org.pitest.mutationtest.engine.gregor;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import org.pitest.functional.FCollection;
@@ -34,6 +38,9 @@ class ClassContext implements BlockCounter {
   private Optional<MutationIdentifier>  target       = Optional.empty();
   private final List<MutationDetails> mutations    = new ArrayList<>();
 
+  private Map<MutationIdentifier, Map.Entry<MutationIdentifier, Integer>> schema = Collections.emptyMap();
+  private final Map<MutationIdentifier, Integer> included = new HashMap<>();
+
   private final ConcreteBlockCounter  blockCounter = new ConcreteBlockCounter();
 
   public Optional<MutationIdentifier> getTargetMutation() {
@@ -76,6 +83,50 @@ class ClassContext implements BlockCounter {
     return getTargetMutation().filter(idMatches(newId)).isPresent();
   }
 
+  /**
+   * As an identifier may span several instructions, the schema is indexed by
+   * each instruction it covers so that ids can be looked up rather than
+   * matched against every mutant in turn.
+   */
+  public void setSchema(final Map<MutationIdentifier, Integer> schema) {
+    final Map<MutationIdentifier, Map.Entry<MutationIdentifier, Integer>> byInstruction = new HashMap<>();
+    for (final Map.Entry<MutationIdentifier, Integer> each : schema.entrySet()) {
+      final MutationIdentifier id = each.getKey();
+      for (final int index : id.getIndexes()) {
+        byInstruction.putIfAbsent(instruction(id, index), each);
+      }
+    }
+    this.schema = byInstruction;
+  }
+
+  /**
+   * The key selecting the schema mutant matching the id, if any.
+   */
+  public OptionalInt schemaKey(final MutationIdentifier newId) {
+    if (this.schema.isEmpty()) {
+      return OptionalInt.empty();
+    }
+    final Map.Entry<MutationIdentifier, Integer> match = this.schema
+        .get(instruction(newId, newId.getFirstIndex()));
+    if (match == null) {
+      return OptionalInt.empty();
+    }
+    this.included.put(match.getKey(), match.getValue());
+    return OptionalInt.of(match.getValue());
+  }
+
+  private static MutationIdentifier instruction(final MutationIdentifier id,
+      final int index) {
+    return new MutationIdentifier(id.getLocation(), index, id.getMutator());
+  }
+
+  /**
+   * Schema mutants that were found in the class and have been woven into it.
+   */
+  public Map<MutationIdentifier, Integer> getIncludedInSchema() {
+    return this.included;
+  }
+
   private static Predicate<MutationIdentifier> idMatches(
       final MutationIdentifier newId) {
     return a -> a.matches(newId);
@@ -37,6 +37,7 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ComputeClassWriter;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchema;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -47,13 +48,22 @@ public class GregorMutater implements Mutater {
   private final Predicate<MethodInfo>     filter;
   private final ClassByteArraySource      byteSource;
   private final List<MethodMutatorFactory> mutators;
+  private final boolean                   schemata;
 
   public GregorMutater(final ClassByteArraySource byteSource,
       final Predicate<MethodInfo> filter,
       final Collection<MethodMutatorFactory> mutators) {
+    this(byteSource, filter, mutators, false);
+  }
+
+  public GregorMutater(final ClassByteArraySource byteSource,
+      final Predicate<MethodInfo> filter,
+      final Collection<MethodMutatorFactory> mutators,
+      final boolean schemata) {
     this.filter = filter;
     this.mutators = orderAndDeDuplicate(mutators);
     this.byteSource = byteSource;
+    this.schemata = schemata;
   }
 
   @Override
@@ -112,6 +122,36 @@ public class GregorMutater implements Mutater {
 
   }
 
+  @Override
+  public Optional<MutantSchema> getSchema(final ClassName classToMutate,
+      final Map<MutationIdentifier, Integer> keys) {
+    if (!this.schemata || keys.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final Optional<byte[]> bytes = this.byteSource.getBytes(classToMutate
+        .asJavaName());
+    // guards are only woven when frames can be recomputed
+    if (!bytes.isPresent() || !FrameOptions.needsFrames(bytes.get())) {
+      return Optional.empty();
+    }
+
+    final ClassContext context = new ClassContext();
+    context.setTargetMutation(Optional.empty());
+    context.setSchema(keys);
+
+    final ClassReader reader = new ClassReader(bytes.get());
+    final ClassWriter w = new ComputeClassWriter(this.byteSource,
+        this.computeCache, FrameOptions.pickFlags(bytes.get()));
+    final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
+        filterMethods(), FCollection.filter(this.mutators,
+            m -> keys.keySet().stream().anyMatch(m::isMutatorFor)));
+    reader.accept(mca, ClassReader.EXPAND_FRAMES);
+
+    return Optional.of(new MutantSchema(w.toByteArray(),
+        context.getIncludedInSchema()));
+  }
+
   private Predicate<MethodInfo> filterMethods() {
     return and(this.filter, filterSyntheticMethods());
   }
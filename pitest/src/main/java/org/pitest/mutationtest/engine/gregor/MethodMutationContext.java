@@ -1,22 +1,37 @@
 package org.pitest.mutationtest.engine.gregor;
 
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.analysis.InstructionCounter;
 
+import sun.pitest.ActiveMutant;
+
 class MethodMutationContext implements MutationContext, InstructionCounter {
 
-  private final ClassContext classContext;
-  private final Location     location;
+  private final ClassContext  classContext;
+  private final Location      location;
+  private final MethodVisitor writer;
 
   private int                instructionIndex;
 
   private int                lastLineNumber;
 
   MethodMutationContext(final ClassContext classContext, final Location location) {
+    this(classContext, location, null);
+  }
+
+  MethodMutationContext(final ClassContext classContext, final Location location,
+      final MethodVisitor writer) {
     this.classContext = classContext;
     this.location = location;
+    this.writer = writer;
   }
 
   @Override
@@ -70,6 +85,28 @@ class MethodMutationContext implements MutationContext, InstructionCounter {
     return this.classContext.shouldMutate(newId);
   }
 
+  @Override
+  public boolean mutateInSchema(final MutationIdentifier id,
+      final Consumer<MethodVisitor> mutated, final Runnable original) {
+    final OptionalInt key = this.classContext.schemaKey(id);
+    if (!key.isPresent() || this.writer == null) {
+      return false;
+    }
+
+    final Label unmutated = new Label();
+    final Label end = new Label();
+    this.writer.visitFieldInsn(Opcodes.GETSTATIC, ActiveMutant.CLASS_NAME,
+        ActiveMutant.FIELD_NAME, "I");
+    this.writer.visitLdcInsn(key.getAsInt());
+    this.writer.visitJumpInsn(Opcodes.IF_ICMPNE, unmutated);
+    mutated.accept(this.writer);
+    this.writer.visitJumpInsn(Opcodes.GOTO, end);
+    this.writer.visitLabel(unmutated);
+    original.run();
+    this.writer.visitLabel(end);
+    return true;
+  }
+
   @Override
   public void increment() {
     this.instructionIndex = this.instructionIndex + 1;
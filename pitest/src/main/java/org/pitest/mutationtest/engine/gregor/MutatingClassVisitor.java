@@ -89,13 +89,13 @@ class MutatingClassVisitor extends ClassVisitor {
       final String methodDescriptor, final String signature,
       final String[] exceptions) {
 
+    final MethodVisitor methodVisitor = this.cv.visitMethod(access, methodName,
+        methodDescriptor, signature, exceptions);
+
     final MethodMutationContext methodContext = new MethodMutationContext(
         this.context, Location.location(
             ClassName.fromString(this.context.getClassInfo().getName()),
-            methodName, methodDescriptor));
-
-    final MethodVisitor methodVisitor = this.cv.visitMethod(access, methodName,
-        methodDescriptor, signature, exceptions);
+            methodName, methodDescriptor), methodVisitor);
 
     final MethodInfo info = new MethodInfo()
     .withOwner(this.context.getClassInfo()).withAccess(access)
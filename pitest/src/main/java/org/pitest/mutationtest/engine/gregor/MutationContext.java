@@ -1,5 +1,8 @@
 package org.pitest.mutationtest.engine.gregor;
 
+import java.util.function.Consumer;
+
+import org.objectweb.asm.MethodVisitor;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.blocks.BlockCounter;
 
@@ -9,4 +12,24 @@ public interface MutationContext extends BasicContext, BlockCounter {
 
   MutationIdentifier registerMutation(MethodMutatorFactory factory,
       String description);
-}
\ No newline at end of file
+
+  /**
+   * If the mutant is part of a schema, emits the mutated form of the current
+   * instruction guarded by a check that the mutant is active, followed by the
+   * original form for when it is not.
+   *
+   * The mutated form is written directly to the class being generated, so it
+   * is not seen by other mutators. The original form is emitted by the caller,
+   * so other mutators may in turn mutate it.
+   *
+   * @param id the mutant
+   * @param mutated emits the mutated instruction to the supplied visitor
+   * @param original emits the original instruction
+   * @return false if the mutant is not part of a schema, in which case nothing
+   *         is emitted
+   */
+  default boolean mutateInSchema(MutationIdentifier id,
+      Consumer<MethodVisitor> mutated, Runnable original) {
+    return false;
+  }
+}
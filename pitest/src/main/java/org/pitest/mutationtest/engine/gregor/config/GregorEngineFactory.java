@@ -31,17 +31,25 @@ public final class GregorEngineFactory implements MutationEngineFactory {
   @Override
   public MutationEngine createEngine(EngineArguments args) {
     return createEngineWithMutators(args.excludedMethods(),
-           createMutatorListFromArrayOrUseDefaults(args.mutators()));
+           createMutatorListFromArrayOrUseDefaults(args.mutators()),
+           args.usesSchemata());
   }
 
   MutationEngine createEngineWithMutators(
       final Collection<String> excludedMethods,
       final Collection<? extends MethodMutatorFactory> mutators) {
+    return createEngineWithMutators(excludedMethods, mutators, false);
+  }
+
+  MutationEngine createEngineWithMutators(
+      final Collection<String> excludedMethods,
+      final Collection<? extends MethodMutatorFactory> mutators,
+      final boolean schemata) {
 
     final Predicate<MethodInfo> filter = Prelude.not(stringToMethodInfoPredicate(excludedMethods));
     final DefaultMutationEngineConfiguration config = new DefaultMutationEngineConfiguration(
         filter, mutators);
-    return new GregorMutationEngine(config);
+    return new GregorMutationEngine(config, schemata);
   }
 
   private static Collection<? extends MethodMutatorFactory> createMutatorListFromArrayOrUseDefaults(
@@ -0,0 +1,121 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Settings for learning timeouts from observed test durations, and for
+ * recovering from timeouts without restarting the minion.
+ */
+public final class AdaptiveTimeouts implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final AdaptiveTimeouts NONE = new AdaptiveTimeouts(false, 0, 0, false, 0, 0);
+
+  private final boolean enabled;
+  private final double  percentile;
+  private final int     minSamples;
+  private final boolean recover;
+  private final int     maxAbandonedThreads;
+  private final long    graceMillis;
+
+  private AdaptiveTimeouts(boolean enabled, double percentile, int minSamples, boolean recover,
+      int maxAbandonedThreads, long graceMillis) {
+    this.enabled = enabled;
+    this.percentile = percentile;
+    this.minSamples = minSamples;
+    this.recover = recover;
+    this.maxAbandonedThreads = maxAbandonedThreads;
+    this.graceMillis = graceMillis;
+  }
+
+  public static AdaptiveTimeouts none() {
+    return NONE;
+  }
+
+  /**
+   * @param percentile percentile (0 to 100) of observed durations to base timeouts on
+   * @param minSamples samples required for a test before its observed durations are used
+   */
+  public static AdaptiveTimeouts learning(double percentile, int minSamples) {
+    if (percentile <= 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    if (minSamples < 1) {
+      throw new IllegalArgumentException("At least one sample is required");
+    }
+    return new AdaptiveTimeouts(true, percentile, minSamples, false, 0, 0);
+  }
+
+  /**
+   * Attempt to recover from a timeout by interrupting the test thread, waiting up to
+   * graceMillis for it to stop, then abandoning it if fewer than maxAbandonedThreads
+   * are already abandoned.
+   */
+  public AdaptiveTimeouts withRecovery(int maxAbandonedThreads, long graceMillis) {
+    if (maxAbandonedThreads < 0 || graceMillis < 0) {
+      throw new IllegalArgumentException("Recovery limits must not be negative");
+    }
+    return new AdaptiveTimeouts(this.enabled, this.percentile, this.minSamples, true,
+        maxAbandonedThreads, graceMillis);
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public double percentile() {
+    return this.percentile;
+  }
+
+  public int minSamples() {
+    return this.minSamples;
+  }
+
+  public boolean recovers() {
+    return this.recover;
+  }
+
+  public int maxAbandonedThreads() {
+    return this.maxAbandonedThreads;
+  }
+
+  public long graceMillis() {
+    return this.graceMillis;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final AdaptiveTimeouts that = (AdaptiveTimeouts) o;
+    return this.enabled == that.enabled
+        && Double.compare(this.percentile, that.percentile) == 0
+        && this.minSamples == that.minSamples
+        && this.recover == that.recover
+        && this.maxAbandonedThreads == that.maxAbandonedThreads
+        && this.graceMillis == that.graceMillis;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.enabled, this.percentile, this.minSamples, this.recover,
+        this.maxAbandonedThreads, this.graceMillis);
+  }
+
+  @Override
+  public String toString() {
+    if (!this.enabled) {
+      return "AdaptiveTimeouts [none]";
+    }
+    return "AdaptiveTimeouts [percentile=" + this.percentile + ", minSamples=" + this.minSamples
+        + ", recover=" + this.recover + ", maxAbandonedThreads=" + this.maxAbandonedThreads
+        + ", graceMillis=" + this.graceMillis + "]";
+  }
+
+}
@@ -0,0 +1,110 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ExitCode;
+
+/**
+ * Reporter that sends results in batches rather than flushing the socket for every
+ * mutant.
+ *
+ * The mutant under analysis is recorded in a memory mapped progress file so the
+ * main process can still identify it if the minion dies before the batch is sent.
+ * The record is cleared once the mutant's result is buffered, as a mutant that
+ * completed must not be blamed for a later death. Results are flushed when the batch is full, when the flush interval elapses and
+ * when the minion finishes.
+ */
+class BatchingReporter implements Reporter {
+
+  private final DefaultReporter          out;
+  private final ProgressFile             progress;
+  private final int                      batchSize;
+  private final ScheduledExecutorService flusher;
+
+  private int                pending;
+  private MutationIdentifier inFlight;
+
+  BatchingReporter(DefaultReporter out, ProgressFile progress, ResultBatching batching) {
+    this.out = out;
+    this.progress = progress;
+    this.batchSize = batching.batchSize();
+    this.flusher = startFlusher(batching.flushIntervalMillis());
+  }
+
+  @Override
+  public synchronized void describe(MutationIdentifier i) {
+    this.inFlight = i;
+    if (!this.progress.record(i)) {
+      // could not record locally so fall back to the socket
+      flush();
+      this.out.describe(i);
+    }
+  }
+
+  @Override
+  public synchronized void report(MutationIdentifier i, MutationStatusTestPair mutationDetected) {
+    this.inFlight = null;
+    this.progress.clear();
+    this.out.writeReport(i, mutationDetected);
+    this.pending++;
+    if (this.pending >= this.batchSize) {
+      flush();
+    }
+  }
+
+  @Override
+  public synchronized void discoveryTime(long nanos) {
+    this.out.discoveryTime(nanos);
+  }
+
+  @Override
+  public synchronized void timings(MutationIdentifier i, MutantTimings timings) {
+    this.out.timings(i, timings);
+  }
+
+  @Override
+  public synchronized void testDurations(TestDurations durations) {
+    this.out.testDurations(durations);
+  }
+
+  @Override
+  public synchronized void done(ExitCode exitCode) {
+    if (this.flusher != null) {
+      this.flusher.shutdownNow();
+    }
+    // we may be exiting due to a timeout, so ensure the mutant in progress
+    // is known to the main process without relying on the progress file
+    if (this.inFlight != null) {
+      this.out.writeDescribe(this.inFlight);
+      this.inFlight = null;
+    }
+    this.pending = 0;
+    this.out.done(exitCode);
+  }
+
+  synchronized void flush() {
+    if (this.pending != 0) {
+      this.out.flush();
+      this.pending = 0;
+    }
+  }
+
+  private ScheduledExecutorService startFlusher(long intervalMillis) {
+    if (intervalMillis <= 0) {
+      return null;
+    }
+    final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread t = new Thread(r, "pit-result-flusher");
+      t.setDaemon(true);
+      return t;
+    });
+    executor.scheduleAtFixedRate(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    return executor;
+  }
+
+}
@@ -79,8 +79,10 @@ public class CatchNewClassLoadersTransformer implements ClassFileTransformer {
 
     private boolean shouldTransform(ClassLoader loader) {
         // Only gwtmockito has been identified so far as a loader not to transform
-        // but there will be others
-        return !loader.getClass().getName().startsWith("com.google.gwtmockito.");
+        // but there will be others. Loaders for isolated mutants are given
+        // their mutant directly.
+        return !loader.getClass().getName().startsWith("com.google.gwtmockito.")
+            && !(loader instanceof MutantClassLoader);
     }
 
 }
@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.execute;
 
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
@@ -25,6 +26,7 @@ import java.io.OutputStream;
 public class DefaultReporter implements Reporter {
 
   private final SafeDataOutputStream w;
+  private final MutationWireEncoder encoder = new MutationWireEncoder();
 
   DefaultReporter(final OutputStream w) {
     this.w = new SafeDataOutputStream(w);
@@ -32,17 +34,56 @@ public class DefaultReporter implements Reporter {
 
   @Override
   public synchronized void describe(final MutationIdentifier i) {
-    this.w.writeByte(Id.DESCRIBE);
-    this.w.write(i);
+    writeDescribe(i);
     this.w.flush();
   }
 
   @Override
   public synchronized void report(final MutationIdentifier i,
       final MutationStatusTestPair mutationDetected) {
+    writeReport(i, mutationDetected);
+    this.w.flush();
+  }
+
+  // timings are not flushed, but travel with the next result
+  @Override
+  public synchronized void discoveryTime(final long nanos) {
+    this.w.writeByte(Id.TIMINGS);
+    this.w.writeBoolean(false);
+    this.w.writeLong(nanos);
+  }
+
+  @Override
+  public synchronized void timings(final MutationIdentifier i,
+      final MutantTimings timings) {
+    this.w.writeByte(Id.TIMINGS);
+    this.w.writeBoolean(true);
+    this.encoder.writeIdentifier(this.w, i);
+    this.encoder.writeTimings(this.w, timings);
+    // lets the main process time the transfer of the result that follows
+    this.w.writeLong(System.nanoTime());
+  }
+
+  // durations are not flushed, but travel with the exit code
+  @Override
+  public synchronized void testDurations(final TestDurations durations) {
+    this.w.writeByte(Id.DURATIONS);
+    this.encoder.writeDurations(this.w, durations);
+  }
+
+  synchronized void writeDescribe(final MutationIdentifier i) {
+    this.w.writeByte(Id.DESCRIBE);
+    this.encoder.writeIdentifier(this.w, i);
+  }
+
+  synchronized void writeReport(final MutationIdentifier i,
+      final MutationStatusTestPair mutationDetected) {
     this.w.writeByte(Id.REPORT);
-    this.w.write(i);
-    this.w.write(mutationDetected);
+    this.encoder.writeIdentifier(this.w, i);
+    this.encoder.writeStatus(this.w, mutationDetected);
+  }
+
+  synchronized void flush() {
     this.w.flush();
   }
 
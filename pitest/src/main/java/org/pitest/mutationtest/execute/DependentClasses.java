@@ -0,0 +1,275 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.pitest.bytecode.ASMVersion;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+
+/**
+ * Decides which classes must be loaded again alongside a mutant of a class,
+ * because they refer to it directly or through other classes. A class that
+ * was left to the parent loader would otherwise link to the unmutated class.
+ *
+ * Classes are read only when first asked about, and answers are remembered.
+ * Classes from the jdk, and pitest's own boot classes, are always shared.
+ */
+final class DependentClasses implements Predicate<String> {
+
+  private static final String[] SHARED = { "java/", "javax/", "jdk/", "sun/", "com/sun/" };
+
+  private final ClassByteArraySource source;
+  private final Map<String, Boolean> known = new HashMap<>();
+
+  DependentClasses(ClassByteArraySource source, ClassName target) {
+    this.source = source;
+    this.known.put(target.asInternalName(), true);
+  }
+
+  /**
+   * @param className java name of a class
+   * @return true if the class is the target, or depends on it
+   */
+  @Override
+  public synchronized boolean test(String className) {
+    return dependsOnTarget(className.replace('.', '/'));
+  }
+
+  private boolean dependsOnTarget(String root) {
+    final Boolean answer = this.known.get(root);
+    if (answer != null) {
+      return answer;
+    }
+    if (isShared(root)) {
+      return false;
+    }
+
+    // depth first search, keeping the path so every class on it can be marked
+    // once the target is found. If it is not, nothing visited reaches it.
+    final Set<String> visited = new HashSet<>();
+    final Deque<String> path = new ArrayDeque<>();
+    final Deque<Iterator<String>> pending = new ArrayDeque<>();
+    visited.add(root);
+    path.push(root);
+    pending.push(referencesFrom(root).iterator());
+    while (!pending.isEmpty()) {
+      if (!pending.peek().hasNext()) {
+        pending.pop();
+        path.pop();
+        continue;
+      }
+      final String next = pending.peek().next();
+      final Boolean known = this.known.get(next);
+      if (Boolean.TRUE.equals(known)) {
+        for (final String each : path) {
+          this.known.put(each, true);
+        }
+        return true;
+      }
+      if (known != null || isShared(next) || !visited.add(next)) {
+        continue;
+      }
+      path.push(next);
+      pending.push(referencesFrom(next).iterator());
+    }
+
+    for (final String each : visited) {
+      this.known.put(each, false);
+    }
+    return false;
+  }
+
+  private Set<String> referencesFrom(String internalName) {
+    final Optional<byte[]> bytes = this.source.getBytes(internalName.replace('/', '.'));
+    if (!bytes.isPresent()) {
+      return Collections.emptySet();
+    }
+    final ReferenceCollector collector = new ReferenceCollector();
+    new ClassReader(bytes.get()).accept(collector,
+        ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    collector.references.remove(internalName);
+    return collector.references;
+  }
+
+  private static boolean isShared(String internalName) {
+    for (final String each : SHARED) {
+      if (internalName.startsWith(each)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Collects every class a class names in its signatures, instructions and
+   * nesting attributes.
+   */
+  private static final class ReferenceCollector extends ClassVisitor {
+
+    private final Set<String> references = new HashSet<>();
+
+    private final MethodVisitor methods = new MethodVisitor(ASMVersion.ASM_VERSION) {
+      @Override
+      public void visitTypeInsn(int opcode, String type) {
+        addName(type);
+      }
+
+      @Override
+      public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+        addName(owner);
+        addDescriptor(descriptor);
+      }
+
+      @Override
+      public void visitMethodInsn(int opcode, String owner, String name, String descriptor,
+          boolean isInterface) {
+        addName(owner);
+        addDescriptor(descriptor);
+      }
+
+      @Override
+      public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrap,
+          Object... arguments) {
+        addDescriptor(descriptor);
+        for (final Object each : arguments) {
+          addConstant(each);
+        }
+      }
+
+      @Override
+      public void visitLdcInsn(Object value) {
+        addConstant(value);
+      }
+
+      @Override
+      public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+        addDescriptor(descriptor);
+      }
+
+      @Override
+      public void visitTryCatchBlock(Label start, Label end,
+          Label handler, String type) {
+        if (type != null) {
+          addName(type);
+        }
+      }
+    };
+
+    ReferenceCollector() {
+      super(ASMVersion.ASM_VERSION);
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature,
+        String superName, String[] interfaces) {
+      if (superName != null) {
+        addName(superName);
+      }
+      addNames(interfaces);
+    }
+
+    @Override
+    public void visitOuterClass(String owner, String name, String descriptor) {
+      addName(owner);
+    }
+
+    @Override
+    public void visitNestHost(String nestHost) {
+      addName(nestHost);
+    }
+
+    @Override
+    public void visitNestMember(String nestMember) {
+      addName(nestMember);
+    }
+
+    @Override
+    public void visitInnerClass(String name, String outerName, String innerName,
+        int access) {
+      addName(name);
+      if (outerName != null) {
+        addName(outerName);
+      }
+    }
+
+    @Override
+    public FieldVisitor visitField(int access, String name, String descriptor,
+        String signature, Object value) {
+      addDescriptor(descriptor);
+      return null;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor,
+        String signature, String[] exceptions) {
+      addDescriptor(descriptor);
+      addNames(exceptions);
+      return this.methods;
+    }
+
+    private void addConstant(Object value) {
+      if (value instanceof Type) {
+        addType((Type) value);
+      } else if (value instanceof Handle) {
+        addName(((Handle) value).getOwner());
+        addDescriptor(((Handle) value).getDesc());
+      }
+    }
+
+    private void addNames(String[] names) {
+      if (names != null) {
+        for (final String each : names) {
+          addName(each);
+        }
+      }
+    }
+
+    private void addName(String internalName) {
+      if (internalName.startsWith("[")) {
+        addDescriptor(internalName);
+      } else {
+        this.references.add(internalName);
+      }
+    }
+
+    private void addDescriptor(String descriptor) {
+      addType(Type.getType(descriptor));
+    }
+
+    private void addType(Type type) {
+      switch (type.getSort()) {
+      case Type.METHOD:
+        for (final Type each : type.getArgumentTypes()) {
+          addType(each);
+        }
+        addType(type.getReturnType());
+        break;
+      case Type.ARRAY:
+        addType(type.getElementType());
+        break;
+      case Type.OBJECT:
+        this.references.add(type.getInternalName());
+        break;
+      default:
+        break;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,58 @@
+package org.pitest.mutationtest.execute;
+
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.LearnedTimeoutStrategy;
+import org.pitest.mutationtest.build.TestDurations;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ExitCode;
+
+/**
+ * Sends the test durations a minion has learned before its exit code, including
+ * when it exits after a timeout, so minions started after it need not learn
+ * them again.
+ */
+class DurationsReporter implements Reporter {
+
+  private final Reporter               child;
+  private final LearnedTimeoutStrategy timeouts;
+
+  DurationsReporter(Reporter child, LearnedTimeoutStrategy timeouts) {
+    this.child = child;
+    this.timeouts = timeouts;
+  }
+
+  @Override
+  public void describe(MutationIdentifier i) {
+    this.child.describe(i);
+  }
+
+  @Override
+  public void report(MutationIdentifier i, MutationStatusTestPair mutationDetected) {
+    this.child.report(i, mutationDetected);
+  }
+
+  @Override
+  public void discoveryTime(long nanos) {
+    this.child.discoveryTime(nanos);
+  }
+
+  @Override
+  public void timings(MutationIdentifier i, MutantTimings timings) {
+    this.child.timings(i, timings);
+  }
+
+  @Override
+  public void testDurations(TestDurations durations) {
+    this.child.testDurations(durations);
+  }
+
+  @Override
+  public synchronized void done(ExitCode exitCode) {
+    final TestDurations observed = this.timeouts.observed();
+    if (!observed.isEmpty()) {
+      this.child.testDurations(observed);
+    }
+    this.child.done(exitCode);
+  }
+
+}
@@ -0,0 +1,102 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.Configuration;
+import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.TestUnitDescriptor;
+import org.pitest.testapi.execute.FindTestUnits;
+import org.pitest.testapi.execute.TestUnitIndex;
+import org.pitest.util.Log;
+
+/**
+ * Finds the tests required by a set of mutations. Where every test required from a
+ * class is present in the index, the tests are rebuilt directly, otherwise the class
+ * is scanned for tests in the normal way.
+ */
+class IndexedTestFinder {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final FindTestUnits finder;
+  private final TestUnitIndex index;
+
+  IndexedTestFinder(Configuration config, TestUnitIndex index) {
+    this.finder = new FindTestUnits(config);
+    this.index = index;
+  }
+
+  List<TestUnit> findTests(ClassLoader loader, Collection<ClassName> testClasses,
+      Collection<MutationDetails> mutations) {
+    final Map<String, Set<String>> requiredByClass = requiredTestsByClass(mutations);
+
+    final List<TestUnit> tests = new ArrayList<>();
+    final List<Class<?>> toScan = new ArrayList<>();
+    int rebuiltCount = 0;
+    for (final Class<?> clazz : load(loader, testClasses)) {
+      final Optional<List<TestUnit>> rebuilt = rebuild(clazz,
+          requiredByClass.getOrDefault(clazz.getName(), Collections.emptySet()));
+      if (rebuilt.isPresent()) {
+        tests.addAll(rebuilt.get());
+        rebuiltCount++;
+      } else {
+        toScan.add(clazz);
+      }
+    }
+
+    tests.addAll(this.finder.findTestUnitsForAllSuppliedClasses(toScan));
+
+    final int rebuiltClasses = rebuiltCount;
+    LOG.fine(() -> "Rebuilt tests for " + rebuiltClasses + " classes from index, scanned "
+        + toScan.size());
+    return tests;
+  }
+
+  private Optional<List<TestUnit>> rebuild(Class<?> clazz, Set<String> requiredTests) {
+    if (requiredTests.isEmpty()) {
+      return Optional.empty();
+    }
+    final List<TestUnit> units = new ArrayList<>(requiredTests.size());
+    for (final String each : requiredTests) {
+      final Optional<TestUnit> unit = this.index.find(each)
+          .flatMap(descriptor -> rebuild(clazz, descriptor));
+      if (!unit.isPresent()) {
+        return Optional.empty();
+      }
+      units.add(unit.get());
+    }
+    return Optional.of(units);
+  }
+
+  private Optional<TestUnit> rebuild(Class<?> clazz, TestUnitDescriptor descriptor) {
+    if (!clazz.getName().equals(descriptor.getDescription().getFirstTestClass())) {
+      return Optional.empty();
+    }
+    return this.finder.rebuild(clazz, descriptor);
+  }
+
+  private static Map<String, Set<String>> requiredTestsByClass(
+      Collection<MutationDetails> mutations) {
+    return mutations.stream()
+        .flatMap(m -> m.getTestsInOrder().stream())
+        .collect(Collectors.groupingBy(TestInfo::getDefiningClass,
+            Collectors.mapping(TestInfo::getName, Collectors.toCollection(LinkedHashSet::new))));
+  }
+
+  private static List<Class<?>> load(ClassLoader loader, Collection<ClassName> classes) {
+    return classes.stream().flatMap(ClassName.nameToClass(loader)).collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,106 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.TestUnit;
+
+/**
+ * Creates the loaders and tests for mutants run in isolation from each other.
+ */
+class IsolatedMutants {
+
+  // grace period for timed out tests when recovery has not been configured
+  private static final long DEFAULT_GRACE = 200;
+
+  // an abandoned thread takes cpu from the mutants that follow for as long as
+  // it runs, so the minion is restarted once this many per thread have been
+  // abandoned when recovery has not been configured
+  private static final int DEFAULT_ABANDONED_PER_THREAD = 2;
+
+  private final MutantIsolation       settings;
+  private final ClassLoader           parent;
+  private final ClassByteArraySource  source;
+  private final BiFunction<ClassLoader, Collection<MutationDetails>, List<TestUnit>> testFinder;
+  private final TimeoutLengthStrategy timeoutStrategy;
+  private final TimeoutRecovery       recovery;
+  private final Reporter              reporter;
+
+  /**
+   * @param source thread safe source of the bytes of classes visible to the parent
+   * @param testFinder finds the tests of some mutations within a loader
+   */
+  IsolatedMutants(MutantIsolation settings, ClassLoader parent, ClassByteArraySource source,
+      BiFunction<ClassLoader, Collection<MutationDetails>, List<TestUnit>> testFinder,
+      TimeoutLengthStrategy timeoutStrategy, Optional<TimeoutRecovery> recovery,
+      Reporter reporter) {
+    this.settings = settings;
+    this.parent = parent;
+    this.source = source;
+    this.testFinder = testFinder;
+    this.timeoutStrategy = timeoutStrategy;
+    // a timed out mutant can be abandoned safely, as nothing else loads its classes
+    this.recovery = recovery.orElseGet(() -> new TimeoutRecovery(settings.threads(),
+        settings.threads() * DEFAULT_ABANDONED_PER_THREAD, DEFAULT_GRACE));
+    this.reporter = reporter;
+  }
+
+  int threads() {
+    return this.settings.threads();
+  }
+
+  boolean canIsolate(Collection<MutationDetails> mutations) {
+    return this.settings.allows(testClassesOf(mutations));
+  }
+
+  Optional<byte[]> originalBytes(ClassName clazz) {
+    return this.source.getBytes(clazz.asJavaName());
+  }
+
+  Predicate<String> dependentsOf(ClassName clazz) {
+    return new DependentClasses(this.source, clazz);
+  }
+
+  ClassLoader loaderFor(ClassName clazz, byte[] bytes, Predicate<String> dependents) {
+    return new MutantClassLoader(this.parent, clazz, bytes, dependents, this.source);
+  }
+
+  /**
+   * Whether tests run against a loader from {@link #loaderFor} used the class
+   * it defines, rather than the one visible to the parent.
+   */
+  boolean definedMutant(ClassLoader loader) {
+    return loader instanceof MutantClassLoader
+        && ((MutantClassLoader) loader).definedMutant();
+  }
+
+  /**
+   * Finds the tests for mutations within a loader. Each source records its
+   * own recovered timeouts.
+   */
+  TimeOutDecoratedTestSource testsFor(ClassLoader loader,
+      Collection<MutationDetails> mutations) {
+    return new TimeOutDecoratedTestSource(this.timeoutStrategy,
+        this.testFinder.apply(loader, mutations), this.reporter,
+        Optional.of(this.recovery.share()));
+  }
+
+  static Set<ClassName> testClassesOf(Collection<MutationDetails> mutations) {
+    return mutations.stream()
+        .flatMap(m -> m.getTestsInOrder().stream())
+        .map(TestInfo::getDefiningClass)
+        .map(ClassName::fromString)
+        .collect(Collectors.toSet());
+  }
+
+}
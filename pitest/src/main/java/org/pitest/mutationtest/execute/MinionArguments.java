@@ -14,14 +14,22 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.File;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.LearnedTimeoutStrategy;
+import org.pitest.mutationtest.build.TestDurations;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.execute.TestUnitIndex;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
 import org.pitest.util.Verbosity;
 
 public class MinionArguments implements Serializable {
@@ -36,11 +44,41 @@ public class MinionArguments implements Serializable {
   final Verbosity verbosity;
   final boolean                     fullMutationMatrix;
   final TestPluginArguments         pitConfig;
+  final ResultBatching              batching;
+  final String                      progressFile;
+  final TestUnitIndex               testIndex;
+  final AdaptiveTimeouts            adaptiveTimeouts;
+  final boolean                     recordsTimings;
+  final MutantIsolation             mutantIsolation;
+  final TestDurations               testDurations;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final String engine, final EngineArguments engineArgs,
       final TimeoutLengthStrategy timeoutStrategy, final Verbosity verbosity, final boolean fullMutationMatrix,
       final TestPluginArguments pitConfig) {
+    this(mutations, tests, engine, engineArgs, timeoutStrategy, verbosity, fullMutationMatrix, pitConfig,
+        ResultBatching.none(), null, TestUnitIndex.empty(), AdaptiveTimeouts.none(), false,
+        MutantIsolation.none());
+  }
+
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final String engine, final EngineArguments engineArgs,
+      final TimeoutLengthStrategy timeoutStrategy, final Verbosity verbosity, final boolean fullMutationMatrix,
+      final TestPluginArguments pitConfig, final ResultBatching batching, final String progressFile,
+      final TestUnitIndex testIndex, final AdaptiveTimeouts adaptiveTimeouts,
+      final boolean recordsTimings, final MutantIsolation mutantIsolation) {
+    this(mutations, tests, engine, engineArgs, timeoutStrategy, verbosity, fullMutationMatrix, pitConfig,
+        batching, progressFile, testIndex, adaptiveTimeouts, recordsTimings, mutantIsolation,
+        new TestDurations());
+  }
+
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final String engine, final EngineArguments engineArgs,
+      final TimeoutLengthStrategy timeoutStrategy, final Verbosity verbosity, final boolean fullMutationMatrix,
+      final TestPluginArguments pitConfig, final ResultBatching batching, final String progressFile,
+      final TestUnitIndex testIndex, final AdaptiveTimeouts adaptiveTimeouts,
+      final boolean recordsTimings, final MutantIsolation mutantIsolation,
+      final TestDurations testDurations) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
@@ -49,10 +87,80 @@ public class MinionArguments implements Serializable {
     this.verbosity = verbosity;
     this.fullMutationMatrix = fullMutationMatrix;
     this.pitConfig = pitConfig;
+    this.batching = batching;
+    this.progressFile = progressFile;
+    this.testIndex = testIndex;
+    this.adaptiveTimeouts = adaptiveTimeouts;
+    this.recordsTimings = recordsTimings;
+    this.mutantIsolation = mutantIsolation;
+    this.testDurations = testDurations;
   }
 
   public Verbosity verbosity() {
     return this.verbosity;
   }
 
+  public Optional<File> progressFile() {
+    return Optional.ofNullable(this.progressFile).map(File::new);
+  }
+
+  public boolean batchesResults() {
+    return this.batching.isEnabled() && this.progressFile != null;
+  }
+
+  /**
+   * Timeout strategy to use in the minion, learning from observed test durations
+   * if adaptive timeouts are enabled. Learning starts from the durations observed
+   * by earlier minions. Each call creates a new strategy, so the minion should
+   * share a single instance between everything it times.
+   */
+  public TimeoutLengthStrategy timeoutStrategy() {
+    if (!this.adaptiveTimeouts.isEnabled()) {
+      return this.timeoutStrategy;
+    }
+    return new LearnedTimeoutStrategy(this.timeoutStrategy, this.adaptiveTimeouts.percentile(),
+        this.adaptiveTimeouts.minSamples(), this.testDurations);
+  }
+
+  /**
+   * True if the minion should report how long each phase of its work took.
+   */
+  public boolean recordsTimings() {
+    return this.recordsTimings;
+  }
+
+  public MutantIsolation mutantIsolation() {
+    return this.mutantIsolation;
+  }
+
+  public Optional<TimeoutRecovery> timeoutRecovery() {
+    if (!this.adaptiveTimeouts.recovers()) {
+      return Optional.empty();
+    }
+    return Optional.of(new TimeoutRecovery(this.adaptiveTimeouts.maxAbandonedThreads(),
+        this.adaptiveTimeouts.graceMillis()));
+  }
+
+  /**
+   * Sends the arguments to a minion. Settings are java serialized, but the
+   * mutations (which dominate the size of the message) are written in a compact form
+   * by a MutationWireEncoder.
+   */
+  public void writeTo(SafeDataOutputStream dos) {
+    dos.write(withMutations(Collections.emptyList()));
+    new MutationWireEncoder().writeMutations(dos, this.mutations);
+  }
+
+  public static MinionArguments readFrom(SafeDataInputStream dis) {
+    final MinionArguments settings = dis.read(MinionArguments.class);
+    return settings.withMutations(new MutationWireDecoder().readMutations(dis));
+  }
+
+  private MinionArguments withMutations(Collection<MutationDetails> mutations) {
+    return new MinionArguments(mutations, this.testClasses, this.engine, this.engineArgs,
+        this.timeoutStrategy, this.verbosity, this.fullMutationMatrix, this.pitConfig,
+        this.batching, this.progressFile, this.testIndex, this.adaptiveTimeouts,
+        this.recordsTimings, this.mutantIsolation, this.testDurations);
+  }
+
 }
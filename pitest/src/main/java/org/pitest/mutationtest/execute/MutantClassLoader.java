@@ -0,0 +1,80 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.function.Predicate;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+
+/**
+ * Defines a mutant, and the classes that must see it, in a loader of its own
+ * so that it can be tested while other mutants of the same class are tested
+ * in other loaders. Every other class is left to the parent.
+ */
+final class MutantClassLoader extends ClassLoader {
+
+  static {
+    registerAsParallelCapable();
+  }
+
+  private final String               mutantName;
+  private final byte[]               mutantBytes;
+  private final Predicate<String>    isolated;
+  private final ClassByteArraySource source;
+
+  private volatile boolean           mutantDefined;
+
+  /**
+   * @param isolated java names of the classes to define in this loader rather
+   *                 than take from the parent
+   */
+  MutantClassLoader(ClassLoader parent, ClassName mutant, byte[] mutantBytes,
+      Predicate<String> isolated, ClassByteArraySource source) {
+    super(parent);
+    this.mutantName = mutant.asJavaName();
+    this.mutantBytes = mutantBytes;
+    this.isolated = isolated;
+    this.source = source;
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> clazz = findLoadedClass(name);
+      if (clazz == null && this.isolated.test(name)) {
+        clazz = define(name);
+      }
+      if (clazz == null) {
+        return super.loadClass(name, resolve);
+      }
+      if (resolve) {
+        resolveClass(clazz);
+      }
+      return clazz;
+    }
+  }
+
+  private Class<?> define(String name) {
+    if (name.equals(this.mutantName)) {
+      final Class<?> mutant = defineClass(name, this.mutantBytes, 0, this.mutantBytes.length);
+      this.mutantDefined = true;
+      return mutant;
+    }
+    return this.source.getBytes(name)
+        .map(b -> defineClass(name, b, 0, b.length))
+        .orElse(null);
+  }
+
+  /**
+   * Whether the mutant has been defined by this loader. If it has not, any
+   * code that ran reached the class through the parent, so saw the original.
+   */
+  boolean definedMutant() {
+    return this.mutantDefined;
+  }
+
+  @Override
+  public String toString() {
+    return "MutantClassLoader [" + this.mutantName + "]";
+  }
+
+}
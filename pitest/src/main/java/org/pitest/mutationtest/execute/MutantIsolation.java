@@ -0,0 +1,101 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.util.GlobMatcher;
+
+/**
+ * Settings for running the mutants of a unit concurrently within one minion,
+ * each defined in a classloader of its own rather than hotswapped into the
+ * application loader.
+ */
+public final class MutantIsolation implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final MutantIsolation NONE = new MutantIsolation(false, 1,
+      Collections.emptyList());
+
+  private final boolean      enabled;
+  private final int          threads;
+  private final List<String> serialTests;
+
+  private MutantIsolation(boolean enabled, int threads, List<String> serialTests) {
+    this.enabled = enabled;
+    this.threads = threads;
+    this.serialTests = serialTests;
+  }
+
+  public static MutantIsolation none() {
+    return NONE;
+  }
+
+  /**
+   * @param threads number of mutants to run at once
+   * @param serialTests globs matching test classes that are not safe to run in
+   *                    isolation, because they depend on state outside the
+   *                    classes they load. Mutants tested by any of them are
+   *                    hotswapped and run one at a time.
+   */
+  public static MutantIsolation concurrent(int threads, Collection<String> serialTests) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("At least one thread is required");
+    }
+    return new MutantIsolation(true, threads, new ArrayList<>(serialTests));
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public int threads() {
+    return this.threads;
+  }
+
+  public List<String> serialTests() {
+    return this.serialTests;
+  }
+
+  /**
+   * True if mutants tested by the given test classes may run in isolation
+   */
+  public boolean allows(Collection<ClassName> testClasses) {
+    if (!this.enabled) {
+      return false;
+    }
+    final GlobMatcher serial = GlobMatcher.of(this.serialTests);
+    return testClasses.stream().noneMatch(c -> serial.test(c.asJavaName()));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final MutantIsolation that = (MutantIsolation) o;
+    return this.enabled == that.enabled
+        && this.threads == that.threads
+        && Objects.equals(this.serialTests, that.serialTests);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.enabled, this.threads, this.serialTests);
+  }
+
+  @Override
+  public String toString() {
+    return "MutantIsolation [enabled=" + this.enabled + ", threads=" + this.threads
+        + ", serialTests=" + this.serialTests + "]";
+  }
+
+}
@@ -0,0 +1,67 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Objects;
+
+/**
+ * Time in nanoseconds a minion spent in each phase of analysing a single
+ * mutant.
+ */
+public final class MutantTimings {
+
+  private final long generateNanos;
+  private final long hotswapNanos;
+  private final long testNanos;
+
+  public MutantTimings(long generateNanos, long hotswapNanos, long testNanos) {
+    this.generateNanos = generateNanos;
+    this.hotswapNanos = hotswapNanos;
+    this.testNanos = testNanos;
+  }
+
+  /**
+   * Time taken to create the mutant bytecode
+   */
+  public long generateNanos() {
+    return this.generateNanos;
+  }
+
+  /**
+   * Time taken to swap the mutant into the running jvm. Zero if the mutant
+   * was not covered.
+   */
+  public long hotswapNanos() {
+    return this.hotswapNanos;
+  }
+
+  /**
+   * Time taken to run tests against the mutant. Zero if no tests were run.
+   */
+  public long testNanos() {
+    return this.testNanos;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final MutantTimings that = (MutantTimings) o;
+    return this.generateNanos == that.generateNanos
+        && this.hotswapNanos == that.hotswapNanos
+        && this.testNanos == that.testNanos;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.generateNanos, this.hotswapNanos, this.testNanos);
+  }
+
+  @Override
+  public String toString() {
+    return "MutantTimings [generateNanos=" + this.generateNanos + ", hotswapNanos="
+        + this.hotswapNanos + ", testNanos=" + this.testNanos + "]";
+  }
+}
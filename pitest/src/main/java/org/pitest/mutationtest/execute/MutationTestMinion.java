@@ -17,10 +17,11 @@ package org.pitest.mutationtest.execute;
 import org.pitest.boot.HotSwapAgent;
 import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
-import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.LearnedTimeoutStrategy;
 import org.pitest.mutationtest.environment.ResetEnvironment;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
@@ -32,7 +33,6 @@ import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapat
 import org.pitest.mutationtest.mocksupport.JavassistInterceptor;
 import org.pitest.testapi.Configuration;
 import org.pitest.testapi.TestUnit;
-import org.pitest.testapi.execute.FindTestUnits;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Glob;
 import org.pitest.util.IsolationUtils;
@@ -41,14 +41,16 @@ import org.pitest.util.SafeDataInputStream;
 
 import javax.management.NotificationListener;
 import javax.management.openmbean.CompositeData;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
-import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 public class MutationTestMinion {
 
@@ -62,21 +64,32 @@ public class MutationTestMinion {
   private final Reporter            reporter;
   private final MinionSettings      plugins;
 
+  // the reporter results are currently sent through, which may batch them
+  private volatile Reporter         active;
+  private ProgressFile              progress;
+
   public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
       final Reporter reporter) {
     this.dis = dis;
     this.reporter = reporter;
     this.plugins = plugins;
+    this.active = reporter;
   }
 
   public void run() {
+    Reporter r = this.reporter;
     try {
 
-      final MinionArguments paramsFromParent = this.dis
-          .read(MinionArguments.class);
+      final MinionArguments paramsFromParent = MinionArguments.readFrom(this.dis);
 
       configureVerbosity(paramsFromParent);
 
+      // shared so that every test timed in the minion learns from the others
+      final TimeoutLengthStrategy timeouts = paramsFromParent.timeoutStrategy();
+
+      r = reportingDurations(reporterFor(paramsFromParent), timeouts);
+      this.active = r;
+
       final ClassLoader loader = IsolationUtils.getContextClassLoader();
 
       final ClassByteArraySource byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
@@ -88,25 +101,71 @@ public class MutationTestMinion {
 
       final ResetEnvironment reset = this.plugins.createReset();
 
-      final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, reset, paramsFromParent.fullMutationMatrix);
+      final IndexedTestFinder testFinder = new IndexedTestFinder(
+          createTestPlugin(paramsFromParent.pitConfig), paramsFromParent.testIndex);
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
+      final MutationTestWorker worker = new MutationTestWorker(hotswap,
+          engine.createMutator(byteSource), loader, reset, paramsFromParent.fullMutationMatrix,
+          paramsFromParent.recordsTimings(), isolatedMutants(paramsFromParent, loader,
+              testFinder, timeouts, r));
+
+      final long t0 = System.nanoTime();
+      final List<TestUnit> tests = testFinder
+          .findTests(loader, paramsFromParent.testClasses, paramsFromParent.mutations);
+      if (paramsFromParent.recordsTimings()) {
+        r.discoveryTime(System.nanoTime() - t0);
+      }
 
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+      worker.run(paramsFromParent.mutations, r,
+          new TimeOutDecoratedTestSource(timeouts,
+              tests, r, paramsFromParent.timeoutRecovery()));
 
-      this.reporter.done(ExitCode.OK);
+      r.done(ExitCode.OK);
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
       LOG.log(Level.WARNING, "Error during mutation test", ex);
-      this.reporter.done(ExitCode.UNKNOWN_ERROR);
+      r.done(ExitCode.UNKNOWN_ERROR);
+    } finally {
+      if (this.progress != null) {
+        this.progress.close();
+      }
     }
 
   }
 
+  private static Optional<IsolatedMutants> isolatedMutants(MinionArguments paramsFromParent,
+      ClassLoader loader, IndexedTestFinder testFinder, TimeoutLengthStrategy timeouts,
+      Reporter r) {
+    if (!paramsFromParent.mutantIsolation().isEnabled()) {
+      return Optional.empty();
+    }
+    LOG.fine(() -> "Running up to " + paramsFromParent.mutantIsolation().threads()
+        + " isolated mutants at once");
+    return Optional.of(new IsolatedMutants(paramsFromParent.mutantIsolation(), loader,
+        new ClassloaderByteArraySource(loader),
+        (child, mutations) -> testFinder.findTests(child,
+            IsolatedMutants.testClassesOf(mutations), mutations),
+        timeouts, paramsFromParent.timeoutRecovery(), r));
+  }
+
+  private static Reporter reportingDurations(Reporter r, TimeoutLengthStrategy timeouts) {
+    if (!(timeouts instanceof LearnedTimeoutStrategy)) {
+      return r;
+    }
+    return new DurationsReporter(r, (LearnedTimeoutStrategy) timeouts);
+  }
+
+  private Reporter reporterFor(MinionArguments paramsFromParent) {
+    // batching relies on control of flushing, so is only possible when we
+    // are writing directly to the parent
+    if (!paramsFromParent.batchesResults() || !(this.reporter instanceof DefaultReporter)) {
+      return this.reporter;
+    }
+    LOG.fine(() -> "Batching results with " + paramsFromParent.batching);
+    this.progress = ProgressFile.openForWriting(new File(paramsFromParent.progressFile));
+    return new BatchingReporter((DefaultReporter) this.reporter, this.progress, paramsFromParent.batching);
+  }
+
   private void configureVerbosity(MinionArguments paramsFromParent) {
     Log.setVerbose(paramsFromParent.verbosity());
     if (!paramsFromParent.verbosity().showMinionOutput()) {
@@ -138,13 +197,13 @@ public class MutationTestMinion {
       // if we can't read/write in 20 seconds, something is badly wrong
       s.setSoTimeout(20000);
       final SafeDataInputStream dis = new SafeDataInputStream(
-          s.getInputStream());
+          new BufferedInputStream(s.getInputStream()));
 
-      final Reporter reporter = new DefaultReporter(s.getOutputStream());
-      addMemoryWatchDog(reporter);
+      final Reporter reporter = new DefaultReporter(new BufferedOutputStream(s.getOutputStream()));
       final ClientPluginServices plugins = ClientPluginServices.makeForContextLoader();
       final MinionSettings factory = new MinionSettings(plugins);
       final MutationTestMinion instance = new MutationTestMinion(factory, dis, reporter);
+      addMemoryWatchDog(instance);
       instance.run();
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
@@ -157,14 +216,6 @@ public class MutationTestMinion {
 
   }
 
-  private static List<TestUnit> findTestsForTestClasses(
-      final ClassLoader loader, final Collection<ClassName> testClasses,
-      final Configuration pitConfig) {
-    final Collection<Class<?>> tcs = testClasses.stream().flatMap(ClassName.nameToClass(loader)).collect(Collectors.toList());
-    final FindTestUnits finder = new FindTestUnits(pitConfig);
-    return finder.findTestUnitsForAllSuppliedClasses(tcs);
-  }
-
   private static void enablePowerMockSupport() {
     // Bwahahahahahahaha
     HotSwapAgent.addTransformer(new BendJavassistToMyWillTransformer(Prelude
@@ -188,7 +239,9 @@ public class MutationTestMinion {
     }
   }
 
-  private static void addMemoryWatchDog(final Reporter r) {
+  // reports through the minion's current reporter, so any batched results
+  // are sent before the exit code
+  private static void addMemoryWatchDog(final MutationTestMinion minion) {
     final NotificationListener listener = (notification, handback) -> {
     final String type = notification.getType();
     if (type.equals(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED)) {
@@ -199,7 +252,7 @@ public class MutationTestMinion {
         + " has exceeded the shutdown threshold : " + memInfo.getCount()
         + " times.\n" + memInfo.getUsage());
 
-    r.done(ExitCode.OUT_OF_MEMORY);
+    minion.active.done(ExitCode.OUT_OF_MEMORY);
 
     } else {
       LOG.warning("Unknown notification: " + notification);
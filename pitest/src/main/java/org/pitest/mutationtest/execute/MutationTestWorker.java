@@ -14,10 +14,13 @@
  */
 package org.pitest.mutationtest.execute;
 
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.environment.ResetEnvironment;
 import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchema;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -32,12 +35,27 @@ import org.pitest.testapi.execute.Pitest;
 import org.pitest.testapi.execute.containers.ConcreteResultCollector;
 import org.pitest.testapi.execute.containers.UnContainer;
 import org.pitest.util.Log;
+import sun.pitest.ActiveMutant;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -57,6 +75,11 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final HotSwap                                     hotswap;
   private final boolean                                     fullMutationMatrix;
+  private final boolean                                     recordTimings;
+  private final Optional<IsolatedMutants>                   isolated;
+
+  // keys must be unique across every schema inserted into this JVM
+  private int                                               nextSchemaKey;
 
   private final ResetEnvironment                            reset;
 
@@ -65,28 +88,289 @@ public class MutationTestWorker {
                             ClassLoader loader,
                             ResetEnvironment reset,
                             boolean fullMutationMatrix) {
+    this(hotswap, mutater, loader, reset, fullMutationMatrix, false);
+  }
+
+  public MutationTestWorker(HotSwap hotswap,
+                            Mutater mutater,
+                            ClassLoader loader,
+                            ResetEnvironment reset,
+                            boolean fullMutationMatrix,
+                            boolean recordTimings) {
+    this(hotswap, mutater, loader, reset, fullMutationMatrix, recordTimings, Optional.empty());
+  }
+
+  MutationTestWorker(HotSwap hotswap,
+                     Mutater mutater,
+                     ClassLoader loader,
+                     ResetEnvironment reset,
+                     boolean fullMutationMatrix,
+                     boolean recordTimings,
+                     Optional<IsolatedMutants> isolated) {
     this.loader = loader;
     this.reset = reset;
     this.mutater = mutater;
     this.hotswap = hotswap;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.recordTimings = recordTimings;
+    this.isolated = isolated;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
 
-    for (final MutationDetails mutation : range) {
-      if (DEBUG) {
-        LOG.fine("Running mutation " + mutation);
+    for (final List<MutationDetails> mutations : byClass(range)) {
+      final List<MutationDetails> remaining = runSchema(runIsolated(mutations, r), r,
+          testSource);
+      for (final MutationDetails mutation : remaining) {
+        if (DEBUG) {
+          LOG.fine("Running mutation " + mutation);
+        }
+        final long t0 = System.currentTimeMillis();
+        processMutation(r, testSource, mutation);
+        if (DEBUG) {
+          LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
+              + " ms.");
+        }
       }
-      final long t0 = System.currentTimeMillis();
-      processMutation(r, testSource, mutation);
-      if (DEBUG) {
-        LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
-            + " ms.");
+    }
+
+  }
+
+  private static Collection<List<MutationDetails>> byClass(
+      final Collection<MutationDetails> range) {
+    final Map<ClassName, List<MutationDetails>> byClass = new LinkedHashMap<>();
+    for (final MutationDetails each : range) {
+      byClass.computeIfAbsent(each.getClassName(), c -> new ArrayList<>()).add(each);
+    }
+    return byClass.values();
+  }
+
+  /**
+   * Runs mutants concurrently, each defined in a loader of its own alongside
+   * the classes that depend on it. Returns the mutants that must instead be
+   * hotswapped, which is all of them if isolation is not enabled, not allowed
+   * for their tests, or found to change the outcome of the unmutated tests,
+   * and otherwise those whose tests did not reach the isolated mutant.
+   *
+   * Up to the number of threads mutants are started at once, so if the minion
+   * dies they are all unfinished. The main process then runs each again in a
+   * minion of its own before attributing the failure to it.
+   */
+  private List<MutationDetails> runIsolated(final List<MutationDetails> mutations,
+      final Reporter r) {
+    if (!this.isolated.isPresent() || !this.isolated.get().canIsolate(mutations)) {
+      return mutations;
+    }
+    final IsolatedMutants isolation = this.isolated.get();
+    final ClassName clazz = mutations.get(0).getClassName();
+    final Predicate<String> dependents = isolation.dependentsOf(clazz);
+    if (!isolationPreservesResults(isolation, clazz, dependents, mutations)) {
+      return mutations;
+    }
+
+    final List<MutationDetails> notIsolated = new ArrayList<>();
+    final ExecutorService pool = Executors.newFixedThreadPool(isolation.threads(),
+        isolatedMutantThreads());
+    try {
+      final CompletionService<IsolatedRun> running = new ExecutorCompletionService<>(pool);
+      int inFlight = 0;
+      for (final MutationDetails each : mutations) {
+        if (inFlight == isolation.threads()) {
+          report(r, take(running), notIsolated);
+          inFlight--;
+        }
+        final IsolatedRun run = new IsolatedRun(each);
+        final Mutant mutant = this.mutater.getMutation(each.getId());
+        run.generateNanos = System.nanoTime() - run.start;
+        r.describe(each.getId());
+        running.submit(() -> runIsolated(isolation, dependents, run, mutant));
+        inFlight++;
+      }
+      for (; inFlight != 0; inFlight--) {
+        report(r, take(running), notIsolated);
       }
+    } finally {
+      pool.shutdownNow();
+    }
+    if (!notIsolated.isEmpty()) {
+      LOG.info(() -> notIsolated.size() + " mutants of " + clazz + " were not reached in"
+          + " isolation by their tests. They will be hotswapped");
     }
+    return notIsolated;
+  }
 
+  private IsolatedRun runIsolated(final IsolatedMutants isolation,
+      final Predicate<String> dependents, final IsolatedRun run, final Mutant mutant) {
+    final MutationDetails details = run.details;
+    final long t0 = System.nanoTime();
+    final ClassLoader child = isolation.loaderFor(details.getClassName(), mutant.getBytes(),
+        dependents);
+    final Thread thread = Thread.currentThread();
+    final ClassLoader previous = thread.getContextClassLoader();
+    thread.setContextClassLoader(child);
+    try {
+      final TimeOutDecoratedTestSource source = isolation.testsFor(child,
+          Collections.singletonList(details));
+      final List<TestUnit> tests = source.translateTests(details.getTestsInOrder());
+      run.clock.hotswapNanos = System.nanoTime() - t0;
+      run.result = timeoutIfRecovered(source,
+          handleMutation(details, mutant, tests, run.clock, () -> true));
+      run.isolated = isolation.definedMutant(child);
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+    return run;
+  }
+
+  /**
+   * Runs the tests of the mutants against the unmutated class, loaded in the
+   * same way as its mutants would be. Any failure indicates that the tests
+   * depend on state that isolation does not preserve.
+   */
+  private boolean isolationPreservesResults(final IsolatedMutants isolation,
+      final ClassName clazz, final Predicate<String> dependents,
+      final List<MutationDetails> mutations) {
+    final Optional<byte[]> original = isolation.originalBytes(clazz);
+    if (!original.isPresent()) {
+      return false;
+    }
+    final Map<String, TestInfo> tests = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      for (final TestInfo test : each.getTestsInOrder()) {
+        tests.putIfAbsent(test.getName(), test);
+      }
+    }
+
+    final ClassLoader child = isolation.loaderFor(clazz, original.get(), dependents);
+    final Thread thread = Thread.currentThread();
+    final ClassLoader previous = thread.getContextClassLoader();
+    thread.setContextClassLoader(child);
+    try {
+      final TimeOutDecoratedTestSource source = isolation.testsFor(child, mutations);
+      final MutationStatusTestPair result = doTestsDetectMutation(createNewContainer(),
+          source.translateTests(new ArrayList<>(tests.values())));
+      if (result.getStatus() != DetectionStatus.SURVIVED || source.takeRecoveredTimeout()) {
+        LOG.info(() -> "Tests for " + clazz + " do not pass when its dependents are loaded"
+            + " in isolation. Mutants will be hotswapped");
+        return false;
+      }
+      if (!isolation.definedMutant(child)) {
+        LOG.info(() -> "Tests for " + clazz + " reach it through a loader that is not"
+            + " isolated. Mutants will be hotswapped");
+        return false;
+      }
+      return true;
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  private void report(final Reporter r, final IsolatedRun run,
+      final List<MutationDetails> notIsolated) {
+    if (!run.isolated) {
+      // the tests saw the unmutated class, so would report a false survivor
+      notIsolated.add(run.details);
+      return;
+    }
+    final MutationIdentifier mutationId = run.details.getId();
+    if (this.recordTimings) {
+      r.timings(mutationId, new MutantTimings(run.generateNanos, run.clock.hotswapNanos,
+          run.clock.testNanos));
+    }
+    r.report(mutationId, run.result);
+    if (DEBUG) {
+      LOG.fine("Mutation " + mutationId + " detected = " + run.result);
+    }
+  }
+
+  private static IsolatedRun take(final CompletionService<IsolatedRun> running) {
+    try {
+      return running.take().get();
+    } catch (final InterruptedException | ExecutionException ex) {
+      throw translateCheckedException(ex);
+    }
+  }
+
+  private static ThreadFactory isolatedMutantThreads() {
+    final AtomicInteger count = new AtomicInteger();
+    return r -> {
+      final Thread t = new Thread(r, "pit-isolated-mutant-" + count.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    };
+  }
+
+  private static final class IsolatedRun {
+    final MutationDetails  details;
+    final long             start = System.nanoTime();
+    final PhaseClock       clock = new PhaseClock();
+    long                   generateNanos;
+    MutationStatusTestPair result;
+    boolean                isolated;
+
+    IsolatedRun(MutationDetails details) {
+      this.details = details;
+    }
+  }
+
+  /**
+   * Runs the mutants that can be combined into a single schema class, so the
+   * class is redefined once and each mutant is then selected by setting the
+   * active mutant. Returns the mutants that must be created individually.
+   */
+  private List<MutationDetails> runSchema(final List<MutationDetails> mutations,
+      final Reporter r, final TimeOutDecoratedTestSource testSource) {
+    if (mutations.isEmpty()) {
+      return mutations;
+    }
+    final Map<MutationIdentifier, Integer> keys = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      keys.put(each.getId(), this.nextSchemaKey++);
+    }
+
+    final ClassName clazz = mutations.get(0).getClassName();
+    final long t0 = System.nanoTime();
+    final Optional<MutantSchema> schema = this.mutater.getSchema(clazz, keys);
+    final long generateNanos = System.nanoTime() - t0;
+    if (!schema.isPresent() || schema.get().isEmpty()) {
+      return mutations;
+    }
+
+    final long t1 = System.nanoTime();
+    if (!this.hotswap.insertClass(clazz, this.loader, schema.get().getBytes())) {
+      LOG.warning("Schema for " + clazz + " was not viable. Mutants will be created individually");
+      return mutations;
+    }
+    final long hotswapNanos = System.nanoTime() - t1;
+    if (DEBUG) {
+      LOG.fine("replaced " + clazz + " with schema in "
+          + TimeUnit.NANOSECONDS.toMillis(hotswapNanos) + " ms");
+    }
+
+    final List<MutationDetails> remaining = new ArrayList<>();
+    boolean first = true;
+    for (final MutationDetails each : mutations) {
+      final OptionalInt key = schema.get().keyFor(each.getId());
+      if (!key.isPresent()) {
+        remaining.add(each);
+        continue;
+      }
+      // the cost of creating and inserting the schema is attributed to its first mutant
+      final PhaseClock clock = new PhaseClock();
+      clock.hotswapNanos = first ? hotswapNanos : 0;
+      try {
+        processMutant(r, testSource, each, new Mutant(each, schema.get().getBytes()),
+            first ? generateNanos : 0, clock, () -> {
+              ActiveMutant.activate(key.getAsInt());
+              return true;
+            });
+      } finally {
+        ActiveMutant.deactivate();
+      }
+      first = false;
+    }
+    return remaining;
   }
 
   private void processMutation(final Reporter r,
@@ -94,7 +378,22 @@ public class MutationTestWorker {
       final MutationDetails mutationDetails) {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
+    final long t0 = System.nanoTime();
     final Mutant mutatedClass = this.mutater.getMutation(mutationId);
+    final long generateNanos = System.nanoTime() - t0;
+
+    final PhaseClock clock = new PhaseClock();
+    processMutant(r, testSource, mutationDetails, mutatedClass, generateNanos, clock,
+        () -> this.hotswap.insertClass(mutationDetails.getClassName(), this.loader,
+            mutatedClass.getBytes()));
+  }
+
+  private void processMutant(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final MutationDetails mutationDetails, final Mutant mutatedClass,
+      final long generateNanos, final PhaseClock clock, final BooleanSupplier insert) {
+
+    final MutationIdentifier mutationId = mutationDetails.getId();
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -110,18 +409,32 @@ public class MutationTestWorker {
 
     r.describe(mutationId);
 
-    final MutationStatusTestPair mutationDetected = handleMutation(
-        mutationDetails, mutatedClass, relevantTests);
+    final MutationStatusTestPair mutationDetected = timeoutIfRecovered(testSource,
+        handleMutation(mutationDetails, mutatedClass, relevantTests, clock, insert));
 
+    if (this.recordTimings) {
+      r.timings(mutationId, new MutantTimings(generateNanos, clock.hotswapNanos,
+          clock.testNanos));
+    }
     r.report(mutationId, mutationDetected);
     if (DEBUG) {
       LOG.fine("Mutation " + mutationId + " detected = " + mutationDetected);
     }
   }
 
+  private static MutationStatusTestPair timeoutIfRecovered(
+      final TimeOutDecoratedTestSource testSource, final MutationStatusTestPair result) {
+    if (testSource.takeRecoveredTimeout()) {
+      return MutationStatusTestPair.notAnalysed(result.getNumberOfTestsRun(),
+          DetectionStatus.TIMED_OUT);
+    }
+    return result;
+  }
+
   private MutationStatusTestPair handleMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final PhaseClock clock,
+      final BooleanSupplier insert) {
     final MutationStatusTestPair mutationDetected;
     if ((relevantTests == null) || relevantTests.isEmpty()) {
       LOG.info(() -> "No test coverage for mutation " + mutationId + " in "
@@ -129,7 +442,7 @@ public class MutationTestWorker {
       mutationDetected =  MutationStatusTestPair.notAnalysed(0, DetectionStatus.RUN_ERROR);
     } else {
       mutationDetected = handleCoveredMutation(mutationId, mutatedClass,
-          relevantTests);
+          relevantTests, clock, insert);
 
     }
     return mutationDetected;
@@ -137,7 +450,8 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair handleCoveredMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final PhaseClock clock,
+      final BooleanSupplier insert) {
     final MutationStatusTestPair mutationDetected;
     if (DEBUG) {
       LOG.fine("" + relevantTests.size() + " relevant test for "
@@ -145,16 +459,23 @@ public class MutationTestWorker {
     }
 
     final Container c = createNewContainer();
-    final long t0 = System.currentTimeMillis();
+    final long t0 = System.nanoTime();
+
+    final boolean inserted = insert.getAsBoolean();
+    final long t1 = System.nanoTime();
+    clock.hotswapNanos += t1 - t0;
 
-    if (this.hotswap.insertClass(mutationId.getClassName(), this.loader,
-        mutatedClass.getBytes())) {
+    if (inserted) {
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
-            + (System.currentTimeMillis() - t0) + " ms");
+            + TimeUnit.NANOSECONDS.toMillis(clock.hotswapNanos) + " ms");
       }
 
-      mutationDetected = doTestsDetectMutation(c, relevantTests);
+      try {
+        mutationDetected = doTestsDetectMutation(c, relevantTests);
+      } finally {
+        clock.testNanos = System.nanoTime() - t1;
+      }
     } else {
       LOG.warning("Mutation " + mutationId + " was not viable ");
       mutationDetected = MutationStatusTestPair.notAnalysed(0,
@@ -163,6 +484,11 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
+  private static final class PhaseClock {
+    long hotswapNanos;
+    long testNanos;
+  }
+
   private static Container createNewContainer() {
     return new UnContainer() {
       @Override
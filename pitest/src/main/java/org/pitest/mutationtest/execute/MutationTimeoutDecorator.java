@@ -14,6 +14,7 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -22,39 +23,68 @@ import java.util.concurrent.TimeoutException;
 import org.pitest.extension.common.TestUnitDecorator;
 import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 import org.pitest.util.Unchecked;
 
 public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
-  private final TimeoutLengthStrategy timeOutStrategy;
-  private final SideEffect            timeOutSideEffect;
-  private final long                  executionTime;
+  private final TimeoutLengthStrategy     timeOutStrategy;
+  private final SideEffect                timeOutSideEffect;
+  private final long                      executionTime;
+  private final Optional<TimeoutRecovery> recovery;
 
   public MutationTimeoutDecorator(final TestUnit child,
       final SideEffect timeOutSideEffect,
       final TimeoutLengthStrategy timeStrategy, final long executionTime) {
+    this(child, timeOutSideEffect, timeStrategy, executionTime, Optional.empty());
+  }
+
+  public MutationTimeoutDecorator(final TestUnit child,
+      final SideEffect timeOutSideEffect,
+      final TimeoutLengthStrategy timeStrategy, final long executionTime,
+      final Optional<TimeoutRecovery> recovery) {
     super(child);
     this.timeOutSideEffect = timeOutSideEffect;
     this.executionTime = executionTime;
     this.timeOutStrategy = timeStrategy;
+    this.recovery = recovery;
   }
 
   @Override
   public void execute(final ResultCollector rc) {
 
+    final String name = child().getDescription().getQualifiedName();
     final long maxTime = this.timeOutStrategy
-        .getAllowedTime(this.executionTime);
+        .getAllowedTime(name, this.executionTime);
 
-    final FutureTask<?> future = createFutureForChildTestUnit(rc);
+    final GatedResultCollector gated = new GatedResultCollector(rc);
+    final FutureTask<?> future = new FutureTask<>(createRunnable(gated), null);
+    final long t0 = System.nanoTime();
+    final Thread thread = startThread(future);
     executeFutureWithTimeOut(maxTime, future, rc);
     if (!future.isDone()) {
-      this.timeOutSideEffect.apply();
+      handleTimeout(rc, gated, thread, maxTime);
+    } else if (gated.completedNormally()) {
+      this.timeOutStrategy.recordDuration(name,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
     }
 
   }
 
+  private void handleTimeout(final ResultCollector rc, final GatedResultCollector gated,
+      final Thread thread, final long maxTime) {
+    // results from an interrupted or abandoned thread must not reach the collector
+    gated.close();
+    if (this.recovery.isPresent() && this.recovery.get().recover(thread)) {
+      rc.notifyEnd(child().getDescription(),
+          new TimeoutException("Timed out after " + maxTime + "ms"));
+    } else {
+      this.timeOutSideEffect.apply();
+    }
+  }
+
   private void executeFutureWithTimeOut(final long maxTime,
       final FutureTask<?> future, final ResultCollector rc) {
     try {
@@ -66,13 +96,12 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     }
   }
 
-  private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc) {
-    final FutureTask<?> future = new FutureTask<>(createRunnable(rc), null);
+  private static Thread startThread(final FutureTask<?> future) {
     final Thread thread = new Thread(future);
     thread.setDaemon(true);
     thread.setName("mutationTestThread");
     thread.start();
-    return future;
+    return thread;
   }
 
   private Runnable createRunnable(final ResultCollector rc) {
@@ -86,4 +115,63 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     };
   }
 
+  /**
+   * Passes results to a child collector until closed, and tracks whether the
+   * test completed without failure.
+   */
+  private static final class GatedResultCollector implements ResultCollector {
+
+    private final ResultCollector child;
+    private volatile boolean      open = true;
+    private volatile boolean      ended;
+    private volatile boolean      failed;
+
+    GatedResultCollector(final ResultCollector child) {
+      this.child = child;
+    }
+
+    void close() {
+      this.open = false;
+    }
+
+    boolean completedNormally() {
+      return this.ended && !this.failed;
+    }
+
+    @Override
+    public void notifyEnd(final Description description, final Throwable t) {
+      this.failed = true;
+      if (this.open) {
+        this.child.notifyEnd(description, t);
+      }
+    }
+
+    @Override
+    public void notifyEnd(final Description description) {
+      this.ended = true;
+      if (this.open) {
+        this.child.notifyEnd(description);
+      }
+    }
+
+    @Override
+    public void notifyStart(final Description description) {
+      if (this.open) {
+        this.child.notifyStart(description);
+      }
+    }
+
+    @Override
+    public void notifySkipped(final Description description) {
+      if (this.open) {
+        this.child.notifySkipped(description);
+      }
+    }
+
+    @Override
+    public boolean shouldExit() {
+      return !this.open || this.child.shouldExit();
+    }
+  }
+
 }
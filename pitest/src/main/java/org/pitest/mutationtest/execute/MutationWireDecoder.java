@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+
+/**
+ * Reads data written by a MutationWireEncoder.
+ */
+public class MutationWireDecoder {
+
+  private final List<String> strings = new ArrayList<>();
+
+  public List<MutationDetails> readMutations(SafeDataInputStream dis) {
+    final TestInfo[] tests = new TestInfo[dis.readInt()];
+    for (int i = 0; i != tests.length; i++) {
+      tests[i] = readTest(dis);
+    }
+
+    final int numberOfMutations = dis.readInt();
+    final List<MutationDetails> mutations = new ArrayList<>(numberOfMutations);
+    for (int i = 0; i != numberOfMutations; i++) {
+      final MutationIdentifier id = readIdentifier(dis);
+      final String filename = readString(dis);
+      final String description = readString(dis);
+      final int lineNumber = dis.readInt();
+      final List<Integer> blocks = readInts(dis);
+      final MutationDetails details = new MutationDetails(id, filename, description, lineNumber, blocks);
+      final TestInfo[] covering = new TestInfo[dis.readInt()];
+      for (int t = 0; t != covering.length; t++) {
+        covering[t] = tests[dis.readInt()];
+      }
+      details.addTestsInOrder(Arrays.asList(covering));
+      mutations.add(details);
+    }
+    return mutations;
+  }
+
+  public MutationIdentifier readIdentifier(SafeDataInputStream dis) {
+    final ClassName clazz = ClassName.fromString(readString(dis));
+    final String method = readString(dis);
+    final String desc = readString(dis);
+    final List<Integer> indexes = readInts(dis);
+    final String mutator = readString(dis);
+    return new MutationIdentifier(Location.location(clazz, method, desc), indexes, mutator);
+  }
+
+  public MutationStatusTestPair readStatus(SafeDataInputStream dis) {
+    final int testsRun = dis.readInt();
+    final DetectionStatus status = DetectionStatus.valueOf(readString(dis));
+    final List<String> killing = readStrings(dis);
+    final List<String> succeeding = readStrings(dis);
+    return new MutationStatusTestPair(testsRun, status, killing, succeeding);
+  }
+
+  public MutantTimings readTimings(SafeDataInputStream dis) {
+    final long generate = dis.readLong();
+    final long hotswap = dis.readLong();
+    final long tests = dis.readLong();
+    return new MutantTimings(generate, hotswap, tests);
+  }
+
+  public TestDurations readDurations(SafeDataInputStream dis) {
+    final TestDurations durations = new TestDurations();
+    final int tests = dis.readInt();
+    for (int i = 0; i != tests; i++) {
+      final String test = readString(dis);
+      final int count = dis.readInt();
+      for (int j = 0; j != count; j++) {
+        durations.record(test, dis.readLong());
+      }
+    }
+    return durations;
+  }
+
+  private TestInfo readTest(SafeDataInputStream dis) {
+    final String definingClass = readString(dis);
+    final String name = readString(dis);
+    final int time = dis.readInt();
+    final Optional<ClassName> testee = Optional.ofNullable(readString(dis)).map(ClassName::fromString);
+    final int blocks = dis.readInt();
+    return new TestInfo(definingClass, name, time, testee, blocks);
+  }
+
+  private List<String> readStrings(SafeDataInputStream dis) {
+    final int size = dis.readInt();
+    if (size == 0) {
+      return Collections.emptyList();
+    }
+    final List<String> values = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      values.add(readString(dis));
+    }
+    return values;
+  }
+
+  private static List<Integer> readInts(SafeDataInputStream dis) {
+    final int size = dis.readInt();
+    final List<Integer> values = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      values.add(dis.readInt());
+    }
+    return values;
+  }
+
+  private String readString(SafeDataInputStream dis) {
+    final int id = dis.readInt();
+    if (id == MutationWireEncoder.NULL_STRING) {
+      return null;
+    }
+    if (id < this.strings.size()) {
+      return this.strings.get(id);
+    }
+    if (id != this.strings.size()) {
+      throw new PitError("Unexpected string id " + id + " on minion wire, expected at most "
+          + this.strings.size());
+    }
+    final String value = dis.readString();
+    this.strings.add(value);
+    return value;
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Writes mutants and their results between the main process and minions as
+ * primitive records rather than java serialized object graphs.
+ *
+ * Strings are sent once per connection and referred to by index thereafter, so
+ * class, method and test names shared by many mutants cost only an int each. An
+ * encoder must be paired with a single MutationWireDecoder reading the same stream
+ * in the same order.
+ */
+public class MutationWireEncoder {
+
+  static final int NULL_STRING = -1;
+
+  private final Map<String, Integer> strings = new HashMap<>();
+
+  public void writeMutations(SafeDataOutputStream dos, Collection<MutationDetails> mutations) {
+    final Map<TestInfo, Integer> testIds = new IdentityHashMap<>();
+    final Map<TestInfo, Integer> canonicalIds = new HashMap<>();
+    for (MutationDetails each : mutations) {
+      for (TestInfo test : each.getTestsInOrder()) {
+        if (!testIds.containsKey(test)) {
+          testIds.put(test, canonicalIds.computeIfAbsent(test, t -> canonicalIds.size()));
+        }
+      }
+    }
+
+    final TestInfo[] tests = new TestInfo[canonicalIds.size()];
+    canonicalIds.forEach((test, id) -> tests[id] = test);
+
+    dos.writeInt(tests.length);
+    for (TestInfo each : tests) {
+      writeTest(dos, each);
+    }
+
+    dos.writeInt(mutations.size());
+    for (MutationDetails each : mutations) {
+      writeIdentifier(dos, each.getId());
+      writeString(dos, each.getFilename());
+      writeString(dos, each.getDescription());
+      dos.writeInt(each.getLineNumber());
+      writeInts(dos, each.getBlocks());
+      final List<TestInfo> covering = each.getTestsInOrder();
+      dos.writeInt(covering.size());
+      for (TestInfo test : covering) {
+        dos.writeInt(testIds.get(test));
+      }
+    }
+  }
+
+  public void writeIdentifier(SafeDataOutputStream dos, MutationIdentifier id) {
+    final Location location = id.getLocation();
+    writeString(dos, location.getClassName().asInternalName());
+    writeString(dos, location.getMethodName());
+    writeString(dos, location.getMethodDesc());
+    writeInts(dos, id.getIndexes());
+    writeString(dos, id.getMutator());
+  }
+
+  public void writeStatus(SafeDataOutputStream dos, MutationStatusTestPair status) {
+    dos.writeInt(status.getNumberOfTestsRun());
+    writeString(dos, status.getStatus().name());
+    writeStrings(dos, status.getKillingTests());
+    writeStrings(dos, status.getSucceedingTests());
+  }
+
+  public void writeTimings(SafeDataOutputStream dos, MutantTimings timings) {
+    dos.writeLong(timings.generateNanos());
+    dos.writeLong(timings.hotswapNanos());
+    dos.writeLong(timings.testNanos());
+  }
+
+  public void writeDurations(SafeDataOutputStream dos, TestDurations durations) {
+    dos.writeInt(durations.size());
+    durations.forEach((test, values) -> {
+      writeString(dos, test);
+      dos.writeInt(values.length);
+      for (final long each : values) {
+        dos.writeLong(each);
+      }
+    });
+  }
+
+  private void writeTest(SafeDataOutputStream dos, TestInfo test) {
+    writeString(dos, test.getDefiningClass());
+    writeString(dos, test.getName());
+    dos.writeInt(test.getTime());
+    writeString(dos, test.getTestee().map(c -> c.asInternalName()).orElse(null));
+    dos.writeInt(test.getNumberOfBlocksCovered());
+  }
+
+  private void writeStrings(SafeDataOutputStream dos, List<String> values) {
+    dos.writeInt(values.size());
+    for (String each : values) {
+      writeString(dos, each);
+    }
+  }
+
+  private static void writeInts(SafeDataOutputStream dos, List<Integer> values) {
+    dos.writeInt(values.size());
+    for (Integer each : values) {
+      dos.writeInt(each);
+    }
+  }
+
+  private void writeString(SafeDataOutputStream dos, String value) {
+    if (value == null) {
+      dos.writeInt(NULL_STRING);
+      return;
+    }
+
+    final Integer known = this.strings.get(value);
+    if (known != null) {
+      dos.writeInt(known);
+      return;
+    }
+
+    // a previously unseen index is followed by the string itself
+    final int id = this.strings.size();
+    this.strings.put(value, id);
+    dos.writeInt(id);
+    dos.writeString(value);
+  }
+
+}
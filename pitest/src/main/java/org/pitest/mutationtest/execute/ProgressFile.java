@@ -0,0 +1,140 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Unchecked;
+
+/**
+ * Memory mapped record of the mutant a minion is currently analysing.
+ *
+ * Writing to the mapped region costs no system calls, so the minion can update it
+ * before every mutant. The main process reads it only when it does not receive a
+ * result for a described mutant, typically because the minion died.
+ *
+ * Layout is a length prefix followed by the encoded identifier. The length is zeroed
+ * before the identifier is written and set afterwards, so a torn write reads as empty.
+ */
+public final class ProgressFile implements AutoCloseable {
+
+  static final int SIZE = 16 * 1024;
+  private static final int HEADER = 4;
+
+  private final RandomAccessFile file;
+  private final MappedByteBuffer buffer;
+  private final ByteArrayOutputStream scratch = new ByteArrayOutputStream(256);
+
+  private ProgressFile(RandomAccessFile file, MappedByteBuffer buffer) {
+    this.file = file;
+    this.buffer = buffer;
+  }
+
+  public static ProgressFile openForWriting(File location) {
+    try {
+      final RandomAccessFile raf = new RandomAccessFile(location, "rw");
+      final MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, SIZE);
+      return new ProgressFile(raf, buffer);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  /**
+   * Records the mutant about to be analysed.
+   *
+   * @param id mutant about to be analysed
+   * @return false if the identifier is too large to record
+   */
+  public boolean record(MutationIdentifier id) {
+    final byte[] encoded = encode(id);
+    this.buffer.putInt(0, 0);
+    if (encoded.length > SIZE - HEADER) {
+      return false;
+    }
+    this.buffer.position(HEADER);
+    this.buffer.put(encoded);
+    this.buffer.putInt(0, encoded.length);
+    return true;
+  }
+
+  /**
+   * Records that no mutant is being analysed, so one whose result is held
+   * in memory is not blamed if the minion then dies.
+   */
+  public void clear() {
+    this.buffer.putInt(0, 0);
+  }
+
+  public static Optional<MutationIdentifier> readLast(File location) {
+    if (!location.exists() || location.length() < HEADER) {
+      return Optional.empty();
+    }
+    try (RandomAccessFile raf = new RandomAccessFile(location, "r")) {
+      final int length = raf.readInt();
+      if (length <= 0 || length > SIZE - HEADER) {
+        return Optional.empty();
+      }
+      final byte[] encoded = new byte[length];
+      raf.readFully(encoded);
+      return Optional.of(decode(encoded));
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      this.file.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private byte[] encode(MutationIdentifier id) {
+    this.scratch.reset();
+    try (DataOutputStream dos = new DataOutputStream(this.scratch)) {
+      final Location location = id.getLocation();
+      dos.writeUTF(location.getClassName().asInternalName());
+      dos.writeUTF(location.getMethodName());
+      dos.writeUTF(location.getMethodDesc());
+      dos.writeInt(id.getIndexes().size());
+      for (final int each : id.getIndexes()) {
+        dos.writeInt(each);
+      }
+      dos.writeUTF(id.getMutator());
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    return this.scratch.toByteArray();
+  }
+
+  private static MutationIdentifier decode(byte[] encoded) throws IOException {
+    try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(encoded))) {
+      final ClassName clazz = ClassName.fromString(dis.readUTF());
+      final String method = dis.readUTF();
+      final String desc = dis.readUTF();
+      final int numberOfIndexes = dis.readInt();
+      final List<Integer> indexes = new ArrayList<>(numberOfIndexes);
+      for (int i = 0; i != numberOfIndexes; i++) {
+        indexes.add(dis.readInt());
+      }
+      final String mutator = dis.readUTF();
+      return new MutationIdentifier(Location.location(clazz, method, desc), indexes, mutator);
+    }
+  }
+
+}
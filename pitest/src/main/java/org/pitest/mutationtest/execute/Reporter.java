@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.execute;
 
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 
@@ -24,6 +25,12 @@ public interface Reporter {
 
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected);
 
+  void discoveryTime(long nanos);
+
+  void timings(MutationIdentifier i, MutantTimings timings);
+
+  void testDurations(TestDurations durations);
+
   void done(ExitCode exitCode);
 
 }
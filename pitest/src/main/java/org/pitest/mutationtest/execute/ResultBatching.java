@@ -0,0 +1,77 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Controls how a mutation test minion sends results back to the main process.
+ *
+ * By default each result is written and flushed as soon as the mutant has been
+ * analysed. When batching is enabled results are buffered and flushed once the batch
+ * size is reached, or the flush interval has elapsed, and the mutant under test is
+ * recorded in a memory mapped progress file rather than sent over the socket.
+ */
+public final class ResultBatching implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final ResultBatching NONE = new ResultBatching(1, 0);
+
+  private final int batchSize;
+  private final long flushIntervalMillis;
+
+  private ResultBatching(int batchSize, long flushIntervalMillis) {
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+  }
+
+  public static ResultBatching none() {
+    return NONE;
+  }
+
+  public static ResultBatching batchesOf(int batchSize, long flushIntervalMillis) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be at least 1 but was " + batchSize);
+    }
+    if (flushIntervalMillis < 0) {
+      throw new IllegalArgumentException("Flush interval cannot be negative");
+    }
+    return new ResultBatching(batchSize, flushIntervalMillis);
+  }
+
+  public boolean isEnabled() {
+    return this.batchSize > 1 || this.flushIntervalMillis > 0;
+  }
+
+  public int batchSize() {
+    return this.batchSize;
+  }
+
+  public long flushIntervalMillis() {
+    return this.flushIntervalMillis;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ResultBatching that = (ResultBatching) o;
+    return this.batchSize == that.batchSize
+        && this.flushIntervalMillis == that.flushIntervalMillis;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.batchSize, this.flushIntervalMillis);
+  }
+
+  @Override
+  public String toString() {
+    return "ResultBatching [batchSize=" + this.batchSize + ", flushIntervalMillis="
+        + this.flushIntervalMillis + "]";
+  }
+}
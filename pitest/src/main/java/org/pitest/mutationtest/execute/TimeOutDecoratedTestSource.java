@@ -15,9 +15,12 @@
 
 package org.pitest.mutationtest.execute;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,20 +32,42 @@ import org.pitest.testapi.TestUnit;
 public class TimeOutDecoratedTestSource {
 
   private final Map<String, TestUnit> allTests = new HashMap<>();
+  private final Map<String, List<TestUnit>> testsByClass = new HashMap<>();
   private final TimeoutLengthStrategy timeoutStrategy;
   private final Reporter              r;
+  private final Optional<TimeoutRecovery> recovery;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
+    this(timeoutStrategy, allTests, r, Optional.empty());
+  }
+
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final Reporter r,
+      final Optional<TimeoutRecovery> recovery) {
     this.timeoutStrategy = timeoutStrategy;
     mapTests(allTests);
     this.r = r;
+    this.recovery = recovery;
+  }
+
+  /**
+   * Returns true if a test timed out, but the minion was able to recover, since
+   * the last call.
+   */
+  public boolean takeRecoveredTimeout() {
+    return this.recovery.map(TimeoutRecovery::takeRecovered).orElse(false);
   }
 
   private void mapTests(final List<TestUnit> tests) {
     for (final TestUnit each : tests) {
       this.allTests.put(each.getDescription().getQualifiedName(), each);
+      final String testClass = each.getDescription().getFirstTestClass();
+      if (testClass != null) {
+        this.testsByClass.computeIfAbsent(testClass, k -> new ArrayList<>()).add(each);
+      }
     }
   }
 
@@ -55,14 +80,22 @@ public class TimeOutDecoratedTestSource {
       final TestUnit tu = TimeOutDecoratedTestSource.this.allTests.get(a
           .getName());
       if (tu != null) {
-        return Stream
-            .of(new MutationTimeoutDecorator(tu,
-                new TimeOutSystemExitSideEffect(
-                    TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+        return Stream.of(decorate(tu, a));
+      }
+      // a test named after its defining class stands for every test in it
+      if (a.getName().equals(a.getDefiningClass())) {
+        return this.testsByClass.getOrDefault(a.getName(), Collections.emptyList())
+            .stream()
+            .map(each -> decorate(each, a));
       }
       return Stream.empty();
     };
   }
 
+  private TestUnit decorate(final TestUnit tu, final TestInfo a) {
+    return new MutationTimeoutDecorator(tu,
+        new TimeOutSystemExitSideEffect(this.r), this.timeoutStrategy, a.getTime(),
+        this.recovery);
+  }
+
 }
@@ -0,0 +1,111 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+
+/**
+ * Attempts to recover from a timed out test without restarting the minion.
+ *
+ * The test thread is interrupted and given a short time to stop. If it does not,
+ * it is abandoned, as long as only a small number of abandoned threads are
+ * still running. Each abandoned thread continues to consume cpu and to run
+ * the mutated code, which may change static state seen by later tests, so
+ * the limit should be kept low. A limit may also be placed on the number of
+ * threads abandoned over the life of the minion, after which it is restarted.
+ */
+public class TimeoutRecovery {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final int       maxAbandoned;
+  private final int       maxAbandonedInTotal;
+  private final long      graceMillis;
+  private final Abandoned abandoned;
+
+  private boolean recovered;
+
+  public TimeoutRecovery(int maxAbandoned, long graceMillis) {
+    this(maxAbandoned, Integer.MAX_VALUE, graceMillis);
+  }
+
+  /**
+   * @param maxAbandonedInTotal limit on the threads abandoned over the life of
+   *                            the minion, including those that have since stopped
+   */
+  public TimeoutRecovery(int maxAbandoned, int maxAbandonedInTotal, long graceMillis) {
+    this(maxAbandoned, maxAbandonedInTotal, graceMillis, new Abandoned());
+  }
+
+  private TimeoutRecovery(int maxAbandoned, int maxAbandonedInTotal, long graceMillis,
+      Abandoned abandoned) {
+    this.maxAbandoned = maxAbandoned;
+    this.maxAbandonedInTotal = maxAbandonedInTotal;
+    this.graceMillis = graceMillis;
+    this.abandoned = abandoned;
+  }
+
+  /**
+   * Returns a recovery that records its own recovered timeouts, but counts
+   * abandoned threads against the same limit as this one. Used when tests of
+   * several mutants run at once.
+   */
+  public TimeoutRecovery share() {
+    return new TimeoutRecovery(this.maxAbandoned, this.maxAbandonedInTotal, this.graceMillis,
+        this.abandoned);
+  }
+
+  /**
+   * @return true if testing can continue in this process
+   */
+  public synchronized boolean recover(Thread testThread) {
+    testThread.interrupt();
+    try {
+      testThread.join(this.graceMillis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+
+    if (!testThread.isAlive()) {
+      LOG.fine("Timed out test stopped after interrupt");
+      this.recovered = true;
+      return true;
+    }
+
+    synchronized (this.abandoned) {
+      this.abandoned.running.removeIf(t -> !t.isAlive());
+      if (this.abandoned.total >= this.maxAbandonedInTotal) {
+        LOG.fine(() -> this.abandoned.total + " timed out test threads have been abandoned."
+            + " Minion will restart");
+        return false;
+      }
+      if (this.abandoned.running.size() < this.maxAbandoned) {
+        LOG.fine(() -> "Abandoning timed out test thread " + testThread.getName());
+        this.abandoned.running.add(testThread);
+        this.abandoned.total++;
+        this.recovered = true;
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns true if a timeout has been recovered from since the last call
+   */
+  public synchronized boolean takeRecovered() {
+    final boolean result = this.recovered;
+    this.recovered = false;
+    return result;
+  }
+
+  private static final class Abandoned {
+    private final List<Thread> running = new ArrayList<>();
+    private int                total;
+  }
+
+}
@@ -0,0 +1,64 @@
+package org.pitest.testapi;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Records enough about a discovered test unit for the finder that discovered it to
+ * recreate it later without repeating discovery.
+ */
+public final class TestUnitDescriptor implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int         id;
+  private final Description description;
+  private final String      key;
+
+  public TestUnitDescriptor(int id, Description description, String key) {
+    this.id = id;
+    this.description = description;
+    this.key = key;
+  }
+
+  public int getId() {
+    return this.id;
+  }
+
+  public Description getDescription() {
+    return this.description;
+  }
+
+  /**
+   * Finder specific key from which the unit can be rebuilt
+   */
+  public String getKey() {
+    return this.key;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final TestUnitDescriptor that = (TestUnitDescriptor) o;
+    return this.id == that.id
+        && Objects.equals(this.description, that.description)
+        && Objects.equals(this.key, that.key);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.id, this.description, this.key);
+  }
+
+  @Override
+  public String toString() {
+    return "TestUnitDescriptor [id=" + this.id + ", description=" + this.description
+        + ", key=" + this.key + "]";
+  }
+
+}
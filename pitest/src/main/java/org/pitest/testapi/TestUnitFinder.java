@@ -16,6 +16,7 @@
 package org.pitest.testapi;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TestUnitFinder {
 
@@ -26,4 +27,21 @@ public interface TestUnitFinder {
    */
   List<TestUnit> findTestUnits(Class<?> clazz, TestUnitExecutionListener listener);
 
+  /**
+   * Returns a key from which a unit previously returned by this finder can be
+   * recreated by {@link #rebuild}, or empty if the unit cannot be recreated
+   * without discovery.
+   */
+  default Optional<String> rebuildKey(TestUnit unit) {
+    return Optional.empty();
+  }
+
+  /**
+   * Recreates a unit from a key returned by {@link #rebuildKey}. Returns empty if
+   * the key was not issued by this finder.
+   */
+  default Optional<TestUnit> rebuild(Class<?> clazz, String key) {
+    return Optional.empty();
+  }
+
 }
@@ -4,11 +4,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.pitest.testapi.Configuration;
 import org.pitest.testapi.NullExecutionListener;
 import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.TestUnitDescriptor;
 import org.pitest.testapi.TestUnitExecutionListener;
 
 /**
@@ -41,6 +43,28 @@ public class FindTestUnits {
 
   }
 
+  /**
+   * Creates descriptors, with ids unique within the supplied list, for each unit
+   * that the configured finder is able to rebuild.
+   */
+  public List<TestUnitDescriptor> describe(List<TestUnit> units) {
+    final List<TestUnitDescriptor> descriptors = new ArrayList<>();
+    for (int i = 0; i != units.size(); i++) {
+      final TestUnit unit = units.get(i);
+      final int id = i;
+      this.config.testUnitFinder().rebuildKey(unit)
+          .ifPresent(key -> descriptors.add(new TestUnitDescriptor(id, unit.getDescription(), key)));
+    }
+    return descriptors;
+  }
+
+  /**
+   * Recreates a described unit without repeating discovery of its class.
+   */
+  public Optional<TestUnit> rebuild(Class<?> clazz, TestUnitDescriptor descriptor) {
+    return this.config.testUnitFinder().rebuild(clazz, descriptor.getKey());
+  }
+
   private Collection<TestUnit> getTestUnits(final Class<?> suiteClass) {
     final List<TestUnit> tus = new ArrayList<>();
     final Set<Class<?>> visitedClasses = new HashSet<>();
@@ -0,0 +1,72 @@
+package org.pitest.testapi.execute;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.testapi.TestUnitDescriptor;
+
+/**
+ * Descriptors for discovered test units, keyed by the qualified name of each test.
+ * Allows minions to recreate the units they require without rescanning test classes.
+ */
+public final class TestUnitIndex implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final TestUnitIndex EMPTY = new TestUnitIndex(Collections.emptyList());
+
+  private final Map<String, TestUnitDescriptor> descriptors = new LinkedHashMap<>();
+
+  public TestUnitIndex(Collection<TestUnitDescriptor> descriptors) {
+    for (final TestUnitDescriptor each : descriptors) {
+      this.descriptors.put(each.getDescription().getQualifiedName(), each);
+    }
+  }
+
+  public static TestUnitIndex empty() {
+    return EMPTY;
+  }
+
+  public Optional<TestUnitDescriptor> find(String qualifiedName) {
+    return Optional.ofNullable(this.descriptors.get(qualifiedName));
+  }
+
+  /**
+   * Returns an index containing only the named tests
+   */
+  public TestUnitIndex select(Collection<String> qualifiedNames) {
+    if (this.descriptors.isEmpty()) {
+      return this;
+    }
+    final Map<String, TestUnitDescriptor> selected = new LinkedHashMap<>();
+    for (final String each : qualifiedNames) {
+      final TestUnitDescriptor descriptor = this.descriptors.get(each);
+      if (descriptor != null) {
+        selected.put(each, descriptor);
+      }
+    }
+    return new TestUnitIndex(selected.values());
+  }
+
+  public Collection<TestUnitDescriptor> descriptors() {
+    return Collections.unmodifiableCollection(this.descriptors.values());
+  }
+
+  public int size() {
+    return this.descriptors.size();
+  }
+
+  public boolean isEmpty() {
+    return this.descriptors.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "TestUnitIndex [" + this.descriptors.size() + " tests]";
+  }
+
+}
@@ -0,0 +1,222 @@
+package org.pitest.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Matches a string against any of a set of globs, giving the same answer as
+ * combining a {@link Glob} for each with {@code Prelude.or}.
+ *
+ * The literal prefix of each glob, up to its first wildcard, is merged into a
+ * trie so that a string is compared against the shared prefixes once,
+ * rather than once per glob. The remainder of a glob is only tried when the
+ * string reaches the end of its prefix, and a trailing {@code *} needs no
+ * further matching at all. Regex globs (prefixed with {@code ~}) and globs
+ * containing characters that {@link Glob} passes through to the regex engine
+ * are matched by a {@link Glob} as before.
+ *
+ * Decisions are cached, as the same names are often tested more than once.
+ */
+public final class GlobMatcher implements Predicate<String> {
+
+  private static final int    CACHE_SIZE = 8192;
+
+  // characters Glob does not escape that have a meaning in a regex
+  private static final String REGEX_ONLY = "[](){}|^";
+
+  private final Collection<String>            globs;
+  private final Node                          root = new Node();
+  private final List<Glob>                    regexes = new ArrayList<>();
+  private final Map<String, Boolean>          cache = new ConcurrentHashMap<>();
+
+  private GlobMatcher(Collection<String> globs) {
+    this.globs = globs;
+    for (final String each : globs) {
+      if (isPlainGlob(each)) {
+        add(each);
+      } else {
+        this.regexes.add(new Glob(each));
+      }
+    }
+  }
+
+  /**
+   * @param globs globs to match, or null to match nothing
+   */
+  public static GlobMatcher of(Collection<String> globs) {
+    return new GlobMatcher(globs == null ? Collections.<String>emptyList() : globs);
+  }
+
+  public static GlobMatcher of(String... globs) {
+    return of(Arrays.asList(globs));
+  }
+
+  @Override
+  public boolean test(String value) {
+    final Boolean cached = this.cache.get(value);
+    if (cached != null) {
+      return cached;
+    }
+    final boolean matches = matches(value);
+    if (this.cache.size() >= CACHE_SIZE) {
+      this.cache.clear();
+    }
+    this.cache.put(value, matches);
+    return matches;
+  }
+
+  private boolean matches(String value) {
+    Node node = this.root;
+    int i = 0;
+    while (true) {
+      if (node.matchesAnything) {
+        return true;
+      }
+      for (final char[] each : node.tails) {
+        if (wildcardMatch(each, value, i)) {
+          return true;
+        }
+      }
+      if (i == value.length()) {
+        if (node.matchesEnd) {
+          return true;
+        }
+        break;
+      }
+      node = node.child(value.charAt(i));
+      if (node == null) {
+        break;
+      }
+      i++;
+    }
+
+    for (final Glob each : this.regexes) {
+      if (each.matches(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void add(String glob) {
+    Node node = this.root;
+    int i = 0;
+    while (i != glob.length() && !isWildcard(glob.charAt(i))) {
+      node = node.childFor(glob.charAt(i));
+      i++;
+    }
+    if (i == glob.length()) {
+      node.matchesEnd = true;
+    } else if (isOnlyStars(glob, i)) {
+      node.matchesAnything = true;
+    } else {
+      node.addTail(glob.substring(i).toCharArray());
+    }
+  }
+
+  /**
+   * Matches the glob tail against the value from start, backtracking to the
+   * most recent star on a mismatch.
+   */
+  private static boolean wildcardMatch(char[] glob, String value, int start) {
+    int g = 0;
+    int v = start;
+    int star = -1;
+    int starMatch = 0;
+    while (v != value.length()) {
+      if (g != glob.length && (glob[g] == '?' || glob[g] == value.charAt(v))) {
+        g++;
+        v++;
+      } else if (g != glob.length && glob[g] == '*') {
+        star = g;
+        starMatch = v;
+        g++;
+      } else if (star != -1) {
+        g = star + 1;
+        starMatch++;
+        v = starMatch;
+      } else {
+        return false;
+      }
+    }
+    while (g != glob.length && glob[g] == '*') {
+      g++;
+    }
+    return g == glob.length;
+  }
+
+  private static boolean isPlainGlob(String glob) {
+    if (glob.startsWith("~")) {
+      return false;
+    }
+    for (int i = 0; i != glob.length(); i++) {
+      if (REGEX_ONLY.indexOf(glob.charAt(i)) != -1) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isWildcard(char c) {
+    return c == '*' || c == '?';
+  }
+
+  private static boolean isOnlyStars(String glob, int from) {
+    for (int i = from; i != glob.length(); i++) {
+      if (glob.charAt(i) != '*') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "GlobMatcher " + this.globs;
+  }
+
+  private static final class Node {
+    private static final Node[]   NO_NODES = new Node[0];
+    private static final char[][] NO_TAILS = new char[0][];
+
+    private char[]   keys = new char[0];
+    private Node[]   children = NO_NODES;
+    private char[][] tails = NO_TAILS;
+    private boolean  matchesEnd;
+    private boolean  matchesAnything;
+
+    Node child(char c) {
+      for (int i = 0; i != this.keys.length; i++) {
+        if (this.keys[i] == c) {
+          return this.children[i];
+        }
+      }
+      return null;
+    }
+
+    Node childFor(char c) {
+      final Node existing = child(c);
+      if (existing != null) {
+        return existing;
+      }
+      final Node added = new Node();
+      this.keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+      this.keys[this.keys.length - 1] = c;
+      this.children = Arrays.copyOf(this.children, this.children.length + 1);
+      this.children[this.children.length - 1] = added;
+      return added;
+    }
+
+    void addTail(char[] tail) {
+      this.tails = Arrays.copyOf(this.tails, this.tails.length + 1);
+      this.tails[this.tails.length - 1] = tail;
+    }
+  }
+
+}
@@ -0,0 +1,46 @@
+package org.pitest.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalises equal values so that only one instance of each is retained.
+ *
+ * Values are held weakly, so a value is forgotten once no longer referenced
+ * elsewhere. The table is split into stripes, each with its own lock, to
+ * limit contention between threads.
+ */
+public final class Interner<T> {
+
+  private static final int STRIPES = 16;
+
+  private final List<Map<T, WeakReference<T>>> stripes = new ArrayList<>(STRIPES);
+
+  public Interner() {
+    for (int i = 0; i != STRIPES; i++) {
+      this.stripes.add(new WeakHashMap<>());
+    }
+  }
+
+  /**
+   * Returns the canonical instance equal to the value, making the value
+   * canonical if there is none.
+   */
+  public T intern(T value) {
+    final int h = value.hashCode();
+    final Map<T, WeakReference<T>> stripe = this.stripes.get((h ^ (h >>> 16)) & (STRIPES - 1));
+    synchronized (stripe) {
+      final WeakReference<T> ref = stripe.get(value);
+      final T existing = ref == null ? null : ref.get();
+      if (existing != null) {
+        return existing;
+      }
+      stripe.put(value, new WeakReference<>(value));
+      return value;
+    }
+  }
+
+}
@@ -0,0 +1,32 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Selects which mutant of a mutant schema is active. Schema classes contain
+ * every mutant of a class, each guarded by a comparison of this id with the
+ * key assigned to the mutant, so mutants are switched by setting the id rather
+ * than by redefining the class.
+ */
+public final class ActiveMutant {
+
+  public static final String CLASS_NAME = ActiveMutant.class.getName()
+                                            .replace('.', '/');
+  public static final String FIELD_NAME = "id";
+
+  public static final int    NONE       = -1;
+
+  public static volatile int id         = NONE;
+
+  private ActiveMutant() {
+  }
+
+  public static void activate(int key) {
+    id = key;
+  }
+
+  public static void deactivate() {
+    id = NONE;
+  }
+
+}
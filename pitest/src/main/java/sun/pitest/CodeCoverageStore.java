@@ -26,6 +26,8 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Store for line visit information.
@@ -54,6 +56,18 @@ public final class CodeCoverageStore {
   // investigated
   private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
 
+  // probes for threads that run tests concurrently, so that each test sees
+  // only its own hits. Threads without their own probes use CLASS_HITS. The
+  // outer array holds the probes indexed by class id, so they can be grown.
+  // No other classes are used, as only this one is on the boot classpath.
+  private static final ThreadLocal<boolean[][][]> THREAD_PROBES  = new ThreadLocal<>();
+
+  // while any thread has probes of its own, hits made on other threads, such
+  // as those started by a test, cannot be credited to a test. Requests for
+  // probes by those threads are counted so this can be noticed.
+  private static final AtomicInteger THREAD_PROBE_HOLDERS      = new AtomicInteger();
+  private static final AtomicLong    UNCREDITED_PROBE_REQUESTS = new AtomicLong();
+
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
   }
@@ -143,6 +157,94 @@ public final class CodeCoverageStore {
     return ret;
   }
 
+  /**
+   * Gives the calling thread probes of its own. Classes instrumented for
+   * thread probes then record hits made on this thread separately from those
+   * made on other threads, until {@link #releaseThreadProbes()} is called.
+   */
+  public static void captureThreadProbes() {
+    if (THREAD_PROBES.get() == null) {
+      THREAD_PROBE_HOLDERS.incrementAndGet();
+    }
+    THREAD_PROBES.set(new boolean[][][] { new boolean[64][] });
+  }
+
+  public static void releaseThreadProbes() {
+    if (THREAD_PROBES.get() != null) {
+      THREAD_PROBE_HOLDERS.decrementAndGet();
+    }
+    THREAD_PROBES.remove();
+  }
+
+  /**
+   * The number of times a thread without probes of its own has entered a
+   * method instrumented for thread probes while other threads had theirs. A
+   * change while a test runs means that hits may have been made that are not
+   * credited to any test.
+   */
+  public static long uncreditedProbeRequests() {
+    return UNCREDITED_PROBE_REQUESTS.get();
+  }
+
+  public static boolean hasThreadProbes() {
+    return THREAD_PROBES.get() != null;
+  }
+
+  /**
+   * Hits recorded by the calling thread since it last reset its probes.
+   */
+  public static Collection<Long> getThreadHits() {
+    final boolean[][] classes = THREAD_PROBES.get()[0];
+    final Collection<Long> blockHits = new ArrayList<>();
+    for (int classId = 0; classId != classes.length; classId++) {
+      final boolean[] bs = classes[classId];
+      if (bs == null || !bs[CLASS_HIT_INDEX]) {
+        continue;
+      }
+      for (int probeId = 1; probeId != bs.length; probeId++) {
+        if (bs[probeId]) {
+          blockHits.add(encode(classId, probeId));
+        }
+      }
+    }
+    return blockHits;
+  }
+
+  public static void resetThreadProbes() {
+    for (final boolean[] each : THREAD_PROBES.get()[0]) {
+      if (each != null && each[CLASS_HIT_INDEX]) {
+        Arrays.fill(each, false);
+      }
+    }
+  }
+
+  /**
+   * Called on entry to each method of a class instrumented for thread probes.
+   */
+  public static boolean[] getThreadProbes(final int classId, final int probeCount) {
+    final boolean[][][] holder = THREAD_PROBES.get();
+    if (holder == null) {
+      if (THREAD_PROBE_HOLDERS.get() != 0) {
+        UNCREDITED_PROBE_REQUESTS.incrementAndGet();
+      }
+      return getOrRegisterClassProbes(classId, probeCount);
+    }
+    boolean[][] classes = holder[0];
+    if (classId >= classes.length) {
+      classes = Arrays.copyOf(classes, Math.max(classId + 1, classes.length * 2));
+      holder[0] = classes;
+    }
+    boolean[] probes = classes[classId];
+    if (probes == null) {
+      probes = new boolean[probeCount + 1];
+      classes[classId] = probes;
+    } else if (probes.length < probeCount + 1) {
+      probes = Arrays.copyOf(probes, probeCount + 1);
+      classes[classId] = probes;
+    }
+    return probes;
+  }
+
   public static void resetAllStaticState() {
     CLASS_HITS.clear();
   }
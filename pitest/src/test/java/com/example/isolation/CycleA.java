@@ -0,0 +1,7 @@
+package com.example.isolation;
+
+public class CycleA {
+  public static int value(int n) {
+    return n == 0 ? 0 : CycleB.value(n - 1);
+  }
+}
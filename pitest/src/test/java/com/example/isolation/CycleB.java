@@ -0,0 +1,7 @@
+package com.example.isolation;
+
+public class CycleB {
+  public static int value(int n) {
+    return n == 0 ? Target.value() : CycleA.value(n - 1);
+  }
+}
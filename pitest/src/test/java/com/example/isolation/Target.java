@@ -0,0 +1,7 @@
+package com.example.isolation;
+
+public class Target {
+  public static int value() {
+    return 1;
+  }
+}
@@ -0,0 +1,10 @@
+package com.example.isolation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Unrelated {
+  public static List<String> value() {
+    return new ArrayList<>();
+  }
+}
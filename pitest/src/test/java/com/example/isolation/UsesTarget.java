@@ -0,0 +1,7 @@
+package com.example.isolation;
+
+public class UsesTarget {
+  public static int value() {
+    return Target.value() + 1;
+  }
+}
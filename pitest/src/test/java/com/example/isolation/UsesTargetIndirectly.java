@@ -0,0 +1,7 @@
+package com.example.isolation;
+
+public class UsesTargetIndirectly {
+  public static int value() {
+    return UsesTarget.value() + 1;
+  }
+}
@@ -19,6 +19,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -196,4 +200,28 @@ public class ClassNameTest {
   public void shouldUseCachedInstancesForPredicate() {
     assertThat(ClassName.fromClass(Predicate.class)).isSameAs(ClassName.fromClass(Predicate.class));
   }
+
+  @Test
+  public void shouldShareInstancesOfEqualNames() {
+    assertThat(ClassName.fromString("com.example.Foo")).isSameAs(ClassName.fromString("com/example/Foo"));
+  }
+
+  @Test
+  public void shouldShareInstancesWhenDeserialised() throws Exception {
+    final ClassName name = ClassName.fromString("com.example.Foo");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(name);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject()).isSameAs(name);
+    }
+  }
+
+  @Test
+  public void shouldReuseJavaName() {
+    final ClassName name = ClassName.fromString("com/example/Foo");
+    assertThat(name.asJavaName()).isEqualTo("com.example.Foo");
+    assertThat(name.asJavaName()).isSameAs(name.asJavaName());
+  }
 }
@@ -0,0 +1,128 @@
+package org.pitest.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassPathCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final ClassPathCache underTest = new ClassPathCache();
+
+  @Test
+  public void readsClassesFromArchives() throws Exception {
+    final File jar = jar("a.jar", "com/example/Foo", new byte[] { 1, 2, 3 });
+
+    final ClassPath cp = underTest.classPath(Collections.singletonList(jar));
+
+    assertThat(cp.classNames()).containsExactly("com.example.Foo");
+    assertThat(cp.getClassData("com.example.Foo")).containsExactly(1, 2, 3);
+    assertThat(cp.getClassData("com.example.Bar")).isNull();
+  }
+
+  @Test
+  public void reusesUnchangedArchives() throws Exception {
+    final File jar = jar("a.jar", "com/example/Foo", new byte[] { 1, 2, 3 });
+    underTest.classPath(Collections.singletonList(jar)).getClassData("com.example.Foo");
+    final long modified = jar.lastModified();
+
+    // same size and modification time, so treated as unchanged
+    jar("a.jar", "com/example/Foo", new byte[] { 4, 5, 6 });
+    assertThat(jar.setLastModified(modified)).isTrue();
+
+    final ClassPath cp = underTest.classPath(Collections.singletonList(jar));
+    assertThat(cp.getClassData("com.example.Foo")).containsExactly(1, 2, 3);
+    assertThat(underTest.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void rereadsChangedArchives() throws Exception {
+    final File jar = jar("a.jar", "com/example/Foo", new byte[] { 1, 2, 3 });
+    underTest.classPath(Collections.singletonList(jar)).classNames();
+
+    jar("a.jar", "com/example/Bar", new byte[] { 4, 5, 6, 7 });
+    assertThat(jar.setLastModified(jar.lastModified() + 2000)).isTrue();
+
+    final ClassPath cp = underTest.classPath(Collections.singletonList(jar));
+    assertThat(cp.classNames()).containsExactly("com.example.Bar");
+    assertThat(cp.getClassData("com.example.Bar")).containsExactly(4, 5, 6, 7);
+  }
+
+  @Test
+  public void readsDirectoriesAfresh() throws Exception {
+    final File dir = folder.newFolder("classes");
+    final ClassPath before = underTest.classPath(Collections.singletonList(dir));
+    assertThat(before.classNames()).isEmpty();
+
+    assertThat(new File(dir, "Foo.class").createNewFile()).isTrue();
+
+    final ClassPath after = underTest.classPath(Collections.singletonList(dir));
+    assertThat(after.classNames()).containsExactly("Foo");
+    assertThat(underTest.size()).isZero();
+  }
+
+  @Test
+  public void ignoresMissingEntries() {
+    final ClassPath cp = underTest.classPath(Arrays.asList(new File(folder.getRoot(), "missing.jar")));
+    assertThat(cp.classNames()).isEmpty();
+  }
+
+  @Test
+  public void dropsArchivesUnusedForLongerThanMaxAge() throws Exception {
+    final AtomicLong now = new AtomicLong();
+    final ClassPathCache cache = new ClassPathCache(Long.MAX_VALUE, 1000, now::get);
+    final File a = jar("a.jar", "com/example/Foo", new byte[] { 1 });
+    final File b = jar("b.jar", "com/example/Bar", new byte[] { 2 });
+    cache.classPath(Arrays.asList(a, b));
+
+    now.set(600);
+    cache.classPath(Collections.singletonList(a));
+    now.set(1500);
+    cache.classPath(Collections.singletonList(a));
+
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void dropsLeastRecentlyUsedArchivesWhenOverMaxSize() throws Exception {
+    final ClassPathCache cache = new ClassPathCache(5, Long.MAX_VALUE, () -> 0);
+    final File a = jar("a.jar", "com/example/Foo", new byte[] { 1, 2, 3 });
+    final File b = jar("b.jar", "com/example/Bar", new byte[] { 4, 5, 6 });
+    cache.classPath(Collections.singletonList(a)).getClassData("com.example.Foo");
+    cache.classPath(Collections.singletonList(b)).getClassData("com.example.Bar");
+    assertThat(cache.bytes()).isEqualTo(6);
+
+    final File c = jar("c.jar", "com/example/Baz", new byte[] { 7 });
+    cache.classPath(Collections.singletonList(c));
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.bytes()).isEqualTo(3);
+    final ClassPath cp = cache.classPath(Collections.singletonList(b));
+    assertThat(cp.getClassData("com.example.Bar")).containsExactly(4, 5, 6);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  private File jar(String name, String clazz, byte[] bytes) throws IOException {
+    final File jar = new File(folder.getRoot(), name);
+    try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(jar))) {
+      zip.putNextEntry(new ZipEntry(clazz + ".class"));
+      zip.write(bytes);
+      zip.closeEntry();
+    }
+    return jar;
+  }
+
+}
@@ -235,6 +235,35 @@ public class JUnitCustomRunnerTestUnitFinderTest {
     assertEquals(1, actual.size());
   }
 
+  @Test
+  public void shouldRebuildSplitUnitsFromKeys() {
+    for (final TestUnit each : findWithTestee(One.class)) {
+      final String key = this.testee.rebuildKey(each).get();
+      final TestUnit rebuilt = this.testee.rebuild(One.class, key).get();
+      assertEquals(each.getDescription(), rebuilt.getDescription());
+    }
+  }
+
+  @Test
+  public void shouldRebuildAtomicUnitsFromKeys() {
+    final TestUnit unit = findWithTestee(HasBeforeClassAnnotation.class).iterator().next();
+    final String key = this.testee.rebuildKey(unit).get();
+    final TestUnit rebuilt = this.testee.rebuild(HasBeforeClassAnnotation.class, key).get();
+    assertEquals(unit.getDescription(), rebuilt.getDescription());
+  }
+
+  @Test
+  public void shouldNotIssueKeysForUnitsFromOtherFinders() {
+    final ParameterisedJUnitTestFinder other = new ParameterisedJUnitTestFinder();
+    final TestUnit unit = other.findTestUnits(ParameterisedTest.class, new NullExecutionListener()).get(0);
+    assertThat(this.testee.rebuildKey(unit)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotRebuildFromUnknownKeys() {
+    assertThat(this.testee.rebuild(One.class, "junit5:something")).isEmpty();
+  }
+
   public static class HasAfterClassAnnotation {
 
     @AfterClass
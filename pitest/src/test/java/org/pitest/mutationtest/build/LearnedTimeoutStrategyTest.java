@@ -0,0 +1,84 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+
+public class LearnedTimeoutStrategyTest {
+
+  private final TimeoutLengthStrategy child = new PercentAndConstantTimeoutStrategy(1.0f, 10);
+
+  private LearnedTimeoutStrategy testee = new LearnedTimeoutStrategy(this.child, 50, 3);
+
+  @Test
+  public void shouldUseChildStrategyForUnnamedTests() {
+    assertEquals(110, this.testee.getAllowedTime(100));
+  }
+
+  @Test
+  public void shouldUseChildStrategyUntilEnoughSamplesRecorded() {
+    assertEquals(110, this.testee.getAllowedTime("test", 100));
+    this.testee.recordDuration("test", 500);
+    assertEquals(110, this.testee.getAllowedTime("test", 100));
+  }
+
+  @Test
+  public void shouldBaseTimeoutOnPercentileOfSamplesIncludingCoverageTiming() {
+    this.testee.getAllowedTime("test", 100);
+    this.testee.recordDuration("test", 300);
+    this.testee.recordDuration("test", 200);
+    // median of 100, 200, 300
+    assertEquals(210, this.testee.getAllowedTime("test", 100));
+  }
+
+  @Test
+  public void shouldLearnDurationsSeparatelyForEachTest() {
+    this.testee.getAllowedTime("slow", 1000);
+    this.testee.getAllowedTime("fast", 1);
+    this.testee.recordDuration("slow", 1000);
+    this.testee.recordDuration("slow", 1000);
+    this.testee.recordDuration("fast", 1);
+    this.testee.recordDuration("fast", 1);
+    assertEquals(1010, this.testee.getAllowedTime("slow", 1000));
+    assertEquals(11, this.testee.getAllowedTime("fast", 1));
+  }
+
+  @Test
+  public void shouldOnlyConsiderMostRecentSamples() {
+    this.testee = new LearnedTimeoutStrategy(this.child, 100, 1);
+    this.testee.getAllowedTime("test", 10000);
+    for (int i = 0; i != TestDurations.MAX_SAMPLES; i++) {
+      this.testee.recordDuration("test", 5);
+    }
+    assertEquals(15, this.testee.getAllowedTime("test", 10000));
+  }
+
+  @Test
+  public void shouldLearnFromDurationsObservedByEarlierMinions() {
+    TestDurations known = new TestDurations();
+    known.record("test", 300);
+    known.record("test", 200);
+    known.record("test", 250);
+    this.testee = new LearnedTimeoutStrategy(this.child, 50, 3, known);
+    assertEquals(260, this.testee.getAllowedTime("test", 100));
+  }
+
+  @Test
+  public void shouldReportOnlyDurationsObservedSinceCreation() {
+    TestDurations known = new TestDurations();
+    known.record("test", 300);
+    this.testee = new LearnedTimeoutStrategy(this.child, 50, 3, known);
+    this.testee.getAllowedTime("test", 100);
+    this.testee.recordDuration("test", 200);
+    assertThat(TestDurationsTest.durationsOf(this.testee.observed(), "test")).containsExactly(200);
+  }
+
+  @Test
+  public void shouldIgnoreDurationsForTestsWithNoTimeoutRequested() {
+    this.testee.recordDuration("unknown", 100000);
+    assertEquals(110, this.testee.getAllowedTime("unknown", 100));
+  }
+
+}
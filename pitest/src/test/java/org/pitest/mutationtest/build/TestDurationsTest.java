@@ -0,0 +1,71 @@
+package org.pitest.mutationtest.build;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class TestDurationsTest {
+
+  private final TestDurations testee = new TestDurations();
+
+  @Test
+  public void suppliesDurationsOldestFirst() {
+    this.testee.record("a", 3);
+    this.testee.record("a", 1);
+    this.testee.record("a", 2);
+    assertThat(durationsOf(this.testee, "a")).containsExactly(3, 1, 2);
+  }
+
+  @Test
+  public void keepsOnlyMostRecentDurations() {
+    for (int i = 0; i != TestDurations.MAX_SAMPLES + 2; i++) {
+      this.testee.record("a", i);
+    }
+    long[] durations = durationsOf(this.testee, "a");
+    assertThat(durations).hasSize(TestDurations.MAX_SAMPLES);
+    assertThat(durations[0]).isEqualTo(2);
+    assertThat(durations[TestDurations.MAX_SAMPLES - 1]).isEqualTo(TestDurations.MAX_SAMPLES + 1);
+  }
+
+  @Test
+  public void addsMergedDurationsAfterThoseHeld() {
+    this.testee.record("a", 1);
+    TestDurations other = new TestDurations();
+    other.record("a", 2);
+    other.record("b", 3);
+
+    this.testee.recordAll(other);
+
+    assertThat(durationsOf(this.testee, "a")).containsExactly(1, 2);
+    assertThat(durationsOf(this.testee, "b")).containsExactly(3);
+  }
+
+  @Test
+  public void selectsDurationsOfGivenTestsOnly() {
+    this.testee.record("a", 1);
+    this.testee.record("b", 2);
+
+    TestDurations selected = this.testee.select(asList("b", "c"));
+
+    assertThat(selected.size()).isEqualTo(1);
+    assertThat(durationsOf(selected, "b")).containsExactly(2);
+  }
+
+  @Test
+  public void selectionIsNotChangedByLaterDurations() {
+    this.testee.record("a", 1);
+    TestDurations selected = this.testee.select(asList("a"));
+    this.testee.record("a", 2);
+    assertThat(durationsOf(selected, "a")).containsExactly(1);
+  }
+
+  static long[] durationsOf(TestDurations durations, String test) {
+    Map<String, long[]> all = new HashMap<>();
+    durations.forEach(all::put);
+    return all.get(test);
+  }
+}
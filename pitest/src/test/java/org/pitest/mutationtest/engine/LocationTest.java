@@ -1,8 +1,13 @@
 package org.pitest.mutationtest.engine;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.pitest.mutationtest.engine.Location.location;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -31,7 +36,30 @@ public class LocationTest {
 
   @Test
   public void shouldObeyHashcodeEqualsContract() {
-    EqualsVerifier.forClass(Location.class).verify();
+    EqualsVerifier.forClass(Location.class)
+        .withCachedHashCode("hash", "calculateHash",
+            new Location(ClassName.fromString("A"), "a", "()V"))
+        .verify();
+  }
+
+  @Test
+  public void shouldShareInstancesOfEqualLocations() {
+    assertSame(location(ClassName.fromString("A"), "a", "()V"),
+        location(ClassName.fromString("A"), "a", "()V"));
+  }
+
+  @Test
+  public void shouldShareInstancesWhenDeserialised() throws Exception {
+    final Location a = location(ClassName.fromString("A"), "a", "()V");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(a);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final Location actual = (Location) in.readObject();
+      assertSame(a, actual);
+      assertEquals(a.hashCode(), actual.hashCode());
+    }
   }
 
 }
@@ -2,21 +2,33 @@ package org.pitest.mutationtest.engine;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 
 import org.junit.Test;
+import org.pitest.classinfo.ClassName;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 public class MutationIdentifierTest {
 
+  // written by the implementation that held indexes in an ArrayList
+  private static final String LIST_FORM = "rO0ABXNyADFvcmcucGl0ZXN0Lm11dGF0aW9udGVzdC5lbmdpbmUuTXV0YXRpb25JZGVudGlmaWVyAAAAAAAAAAECAANMAAdpbmRleGVzdAAQTGphdmEvdXRpbC9MaXN0O0wACGxvY2F0aW9udAApTG9yZy9waXRlc3QvbXV0YXRpb250ZXN0L2VuZ2luZS9Mb2NhdGlvbjtMAAdtdXRhdG9ydAASTGphdmEvbGFuZy9TdHJpbmc7eHBzcgATamF2YS51dGlsLkFycmF5TGlzdHiB0h2Zx2GdAwABSQAEc2l6ZXhwAAAAAncEAAAAAnNyABFqYXZhLmxhbmcuSW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJlcoaslR0LlOCLAgAAeHAAAAABc3EAfgAHAAAAA3hzcgAnb3JnLnBpdGVzdC5tdXRhdGlvbnRlc3QuZW5naW5lLkxvY2F0aW9uAAAAAAAAAAECAANMAAVjbGF6enQAIExvcmcvcGl0ZXN0L2NsYXNzaW5mby9DbGFzc05hbWU7TAAGbWV0aG9kcQB+AANMAAptZXRob2REZXNjcQB+AAN4cHNyAB5vcmcucGl0ZXN0LmNsYXNzaW5mby5DbGFzc05hbWUAAAAAAAAAAQIAAUwABG5hbWVxAH4AA3hwdAAPY29tL2V4YW1wbGUvRm9vdAADYmFydAADKClWdAAHTVVUQVRPUg==";
+
   @Test
   public void shouldEqualSelf() {
     final MutationIdentifier a = aMutationId().withIndex(1).withMutator("M").build();
@@ -125,7 +137,67 @@ public class MutationIdentifierTest {
 
   @Test
   public void shouldObeyHashcodeEqualsContract() {
-    EqualsVerifier.forClass(MutationIdentifier.class).verify();
+    EqualsVerifier.forClass(MutationIdentifier.class)
+        .withCachedHashCode("hash", "calculateHash", aMutationId().build())
+        .verify();
+  }
+
+  @Test
+  public void shouldHashAsWhenIndexesWereHeldInAList() {
+    final MutationIdentifier a = new MutationIdentifier(aLocation().build(),
+        Arrays.asList(1, 3), "M");
+    assertEquals(Objects.hash(a.getLocation(), Arrays.asList(1, 3), "M"), a.hashCode());
+  }
+
+  @Test
+  public void shouldReturnIndexesInOrder() {
+    final MutationIdentifier a = new MutationIdentifier(aLocation().build(),
+        Arrays.asList(3, 1, 2), "M");
+    assertEquals(Arrays.asList(3, 1, 2), a.getIndexes());
+    assertEquals(3, a.getFirstIndex());
+  }
+
+  @Test
+  public void shouldReuseIndexList() {
+    final MutationIdentifier a = aMutationId().withIndex(1).build();
+    assertSame(a.getIndexes(), a.getIndexes());
+  }
+
+  @Test
+  public void shouldSurviveSerialisation() throws Exception {
+    final MutationIdentifier a = new MutationIdentifier(aLocation().build(),
+        Arrays.asList(1, 3), "M");
+    final MutationIdentifier actual = deserialise(serialise(a));
+    assertEquals(a, actual);
+    assertEquals(a.hashCode(), actual.hashCode());
+    assertEquals(Arrays.asList(1, 3), actual.getIndexes());
+  }
+
+  @Test
+  public void shouldReadIdentifiersSerialisedWhenIndexesWereHeldInAList() throws Exception {
+    final MutationIdentifier actual = deserialise(Base64.getDecoder().decode(LIST_FORM));
+    assertEquals(new MutationIdentifier(Location.location(ClassName.fromString("com.example.Foo"),
+        "bar", "()V"), Arrays.asList(1, 3), "MUTATOR"), actual);
+  }
+
+  @Test
+  public void shouldSerialiseIndexesAsList() {
+    assertEquals(List.class, ObjectStreamClass.lookup(MutationIdentifier.class)
+        .getField("indexes").getType());
+  }
+
+  private static byte[] serialise(MutationIdentifier id) throws Exception {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(id);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static MutationIdentifier deserialise(byte[] bytes) throws Exception {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (MutationIdentifier) in.readObject();
+    }
   }
 
 }
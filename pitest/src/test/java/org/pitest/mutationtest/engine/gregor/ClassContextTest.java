@@ -0,0 +1,66 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class ClassContextTest {
+
+  private ClassContext underTest;
+
+  private final MutationIdentifier spanning = new MutationIdentifier(
+      aLocation().build(), Arrays.asList(3, 5), "mutator");
+
+  private final MutationIdentifier single = aMutationId().withIndex(1).build();
+
+  @Before
+  public void setUp() {
+    this.underTest = new ClassContext();
+    final Map<MutationIdentifier, Integer> schema = new HashMap<>();
+    schema.put(this.spanning, 0);
+    schema.put(this.single, 1);
+    this.underTest.setSchema(schema);
+  }
+
+  @Test
+  public void shouldFindKeyForIdWithSameInstruction() {
+    assertThat(this.underTest.schemaKey(aMutationId().withIndex(1).build()))
+        .isEqualTo(OptionalInt.of(1));
+  }
+
+  @Test
+  public void shouldFindKeyForAnyInstructionSpannedById() {
+    assertThat(this.underTest.schemaKey(aMutationId().withIndex(5).build()))
+        .isEqualTo(OptionalInt.of(0));
+  }
+
+  @Test
+  public void shouldNotFindKeyForDifferentMutator() {
+    assertThat(this.underTest
+        .schemaKey(aMutationId().withIndex(1).withMutator("other").build()))
+        .isEqualTo(OptionalInt.empty());
+  }
+
+  @Test
+  public void shouldNotFindKeyForUnknownInstruction() {
+    assertThat(this.underTest.schemaKey(aMutationId().withIndex(4).build()))
+        .isEqualTo(OptionalInt.empty());
+  }
+
+  @Test
+  public void shouldRecordMatchedIdsAsIncluded() {
+    this.underTest.schemaKey(aMutationId().withIndex(3).build());
+    assertThat(this.underTest.getIncludedInSchema())
+        .containsOnlyKeys(this.spanning);
+  }
+
+}
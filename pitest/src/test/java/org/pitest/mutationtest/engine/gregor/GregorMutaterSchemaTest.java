@@ -0,0 +1,128 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.IntUnaryOperator;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.MutantSchema;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+import org.pitest.simpletest.ExcludedPrefixIsolationStrategy;
+import org.pitest.simpletest.TransformingClassLoader;
+import org.pitest.util.IsolationUtils;
+import org.pitest.util.Unchecked;
+
+import sun.pitest.ActiveMutant;
+
+public class GregorMutaterSchemaTest {
+
+  private static final ClassName TARGET = ClassName.fromClass(HasSeveralMutants.class);
+
+  @Test
+  public void shouldNotCreateSchemaUnlessEnabled() {
+    final GregorMutater underTest = mutater(false);
+    assertThat(underTest.getSchema(TARGET, keysFor(underTest.findMutations(TARGET))))
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldBehaveAsUnmutatedClassWhenNoMutantActive() {
+    final GregorMutater underTest = mutater(true);
+    final MutantSchema schema = underTest.getSchema(TARGET,
+        keysFor(underTest.findMutations(TARGET))).get();
+
+    assertThat(run(schema.getBytes(), ActiveMutant.NONE, 5)).isEqualTo(12);
+    assertThat(run(schema.getBytes(), ActiveMutant.NONE, 20)).isEqualTo(22);
+  }
+
+  @Test
+  public void shouldBehaveAsEachIndividualMutantWhenItsKeyIsActive() {
+    final GregorMutater underTest = mutater(true);
+    final List<MutationDetails> mutations = underTest.findMutations(TARGET);
+    final MutantSchema schema = underTest.getSchema(TARGET, keysFor(mutations)).get();
+
+    int included = 0;
+    for (final MutationDetails each : mutations) {
+      final OptionalInt key = schema.keyFor(each.getId());
+      if (key.isPresent()) {
+        included++;
+        final byte[] mutant = underTest.getMutation(each.getId()).getBytes();
+        for (final int input : new int[] { 5, 20 }) {
+          assertThat(run(schema.getBytes(), key.getAsInt(), input))
+              .describedAs(each.getDescription())
+              .isEqualTo(run(mutant, ActiveMutant.NONE, input));
+        }
+      }
+    }
+    assertThat(included).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldLeaveOutMutantsFromMutatorsWithoutSchemaSupport() {
+    final GregorMutater underTest = mutater(true);
+    final List<MutationDetails> mutations = underTest.findMutations(TARGET);
+    final MutantSchema schema = underTest.getSchema(TARGET, keysFor(mutations)).get();
+
+    assertThat(mutations).filteredOn(m -> m.getMutator().equals(
+        IncrementsMutator.INCREMENTS.getGloballyUniqueId()))
+        .extracting(MutationDetails::getId)
+        .allMatch(id -> !schema.keyFor(id).isPresent())
+        .isNotEmpty();
+  }
+
+  private static Map<MutationIdentifier, Integer> keysFor(List<MutationDetails> mutations) {
+    final Map<MutationIdentifier, Integer> keys = new HashMap<>();
+    for (final MutationDetails each : mutations) {
+      keys.put(each.getId(), keys.size());
+    }
+    return keys;
+  }
+
+  private static GregorMutater mutater(boolean schemata) {
+    return new GregorMutater(
+        new ClassloaderByteArraySource(IsolationUtils.getContextClassLoader()),
+        m -> true, asList(MathMutator.MATH, NegateConditionalsMutator.NEGATE_CONDITIONALS,
+            IncrementsMutator.INCREMENTS), schemata);
+  }
+
+  private static int run(byte[] bytes, int active, int input) {
+    final ClassLoader loader = new TransformingClassLoader(new ClassPath(),
+        (name, original) -> name.equals(TARGET.asJavaName()) ? bytes : original,
+        new ExcludedPrefixIsolationStrategy(new String[0]),
+        Object.class.getClassLoader());
+    try {
+      loader.loadClass(ActiveMutant.class.getName())
+          .getMethod("activate", int.class).invoke(null, active);
+      final IntUnaryOperator instance = (IntUnaryOperator) loader
+          .loadClass(TARGET.asJavaName()).getDeclaredConstructor().newInstance();
+      return instance.applyAsInt(input);
+    } catch (final ReflectiveOperationException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  public static class HasSeveralMutants implements IntUnaryOperator {
+    @Override
+    public int applyAsInt(int i) {
+      int j = i;
+      j++;
+      if (j > 10) {
+        return j + 1;
+      }
+      return j * 2;
+    }
+  }
+
+}
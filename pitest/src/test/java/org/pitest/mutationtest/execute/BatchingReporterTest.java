@@ -0,0 +1,140 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.SafeDataInputStream;
+
+public class BatchingReporterTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final ByteArrayOutputStream os = new ByteArrayOutputStream();
+  private final MutationStatusTestPair killed = new MutationStatusTestPair(1, DetectionStatus.KILLED, "foo");
+
+  private File file;
+  private ProgressFile progress;
+
+  @Before
+  public void setUp() throws IOException {
+    this.file = this.folder.newFile();
+    this.progress = ProgressFile.openForWriting(this.file);
+  }
+
+  @After
+  public void tearDown() {
+    this.progress.close();
+  }
+
+  @Test
+  public void recordsMutantInProgressWithoutWritingToStream() {
+    BatchingReporter underTest = makeReporter(10);
+    MutationIdentifier id = anId(1);
+    underTest.describe(id);
+    assertThat(this.os.size()).isZero();
+    assertThat(ProgressFile.readLast(this.file)).contains(id);
+  }
+
+  @Test
+  public void clearsMutantInProgressOnceResultIsHeld() {
+    BatchingReporter underTest = makeReporter(10);
+    underTest.describe(anId(1));
+    underTest.report(anId(1), this.killed);
+    // a minion dying now must not have the completed mutant blamed
+    assertThat(this.os.size()).isZero();
+    assertThat(ProgressFile.readLast(this.file)).isEmpty();
+  }
+
+  @Test
+  public void holdsResultsUntilBatchIsFull() {
+    BatchingReporter underTest = makeReporter(2);
+    underTest.describe(anId(1));
+    underTest.report(anId(1), this.killed);
+    assertThat(this.os.size()).isZero();
+
+    underTest.describe(anId(2));
+    underTest.report(anId(2), this.killed);
+    assertThat(this.os.size()).isNotZero();
+
+    SafeDataInputStream is = written();
+    MutationWireDecoder decoder = new MutationWireDecoder();
+    assertThat(is.readByte()).isEqualTo(Id.REPORT);
+    assertThat(decoder.readIdentifier(is)).isEqualTo(anId(1));
+    assertThat(decoder.readStatus(is)).isEqualTo(this.killed);
+    assertThat(is.readByte()).isEqualTo(Id.REPORT);
+    assertThat(decoder.readIdentifier(is)).isEqualTo(anId(2));
+  }
+
+  @Test
+  public void sendsPendingResultsWhenDone() {
+    BatchingReporter underTest = makeReporter(10);
+    underTest.describe(anId(1));
+    underTest.report(anId(1), this.killed);
+    underTest.done(ExitCode.OK);
+
+    SafeDataInputStream is = written();
+    MutationWireDecoder decoder = new MutationWireDecoder();
+    assertThat(is.readByte()).isEqualTo(Id.REPORT);
+    decoder.readIdentifier(is);
+    decoder.readStatus(is);
+    assertThat(is.readByte()).isEqualTo(Id.DONE);
+    assertThat(is.readInt()).isEqualTo(ExitCode.OK.getCode());
+  }
+
+  @Test
+  public void describesMutantInProgressWhenFinishingEarly() {
+    BatchingReporter underTest = makeReporter(10);
+    underTest.describe(anId(1));
+    underTest.done(ExitCode.TIMEOUT);
+
+    SafeDataInputStream is = written();
+    assertThat(is.readByte()).isEqualTo(Id.DESCRIBE);
+    assertThat(new MutationWireDecoder().readIdentifier(is)).isEqualTo(anId(1));
+    assertThat(is.readByte()).isEqualTo(Id.DONE);
+    assertThat(is.readInt()).isEqualTo(ExitCode.TIMEOUT.getCode());
+  }
+
+  @Test
+  public void flushesResultsAfterInterval() throws InterruptedException {
+    BatchingReporter underTest = new BatchingReporter(new DefaultReporter(new BufferedOutputStream(this.os)),
+        this.progress, ResultBatching.batchesOf(100, 10));
+    underTest.describe(anId(1));
+    underTest.report(anId(1), this.killed);
+    long deadline = System.currentTimeMillis() + 5000;
+    while (this.os.size() == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    underTest.done(ExitCode.OK);
+    assertThat(written().readByte()).isEqualTo(Id.REPORT);
+  }
+
+  private BatchingReporter makeReporter(int size) {
+    return new BatchingReporter(new DefaultReporter(new BufferedOutputStream(this.os)), this.progress,
+        ResultBatching.batchesOf(size, 0));
+  }
+
+  private static MutationIdentifier anId(int index) {
+    return aMutationId().withIndex(index).withMutator("m").build();
+  }
+
+  private SafeDataInputStream written() {
+    return new SafeDataInputStream(new ByteArrayInputStream(this.os.toByteArray()));
+  }
+}
@@ -14,6 +14,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 public class DefaultReporterTest {
@@ -35,7 +37,7 @@ public class DefaultReporterTest {
     this.testee.describe(mi);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.DESCRIBE, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
+    assertEquals(new MutationWireDecoder().readIdentifier(is), mi);
   }
 
   @Test
@@ -46,9 +48,53 @@ public class DefaultReporterTest {
         DetectionStatus.KILLED, "foo");
     this.testee.report(mi, ms);
     final SafeDataInputStream is = resultToStream();
+    final MutationWireDecoder decoder = new MutationWireDecoder();
     assertEquals(Id.REPORT, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
-    assertEquals(is.read(MutationStatusTestPair.class), ms);
+    assertEquals(decoder.readIdentifier(is), mi);
+    assertEquals(decoder.readStatus(is), ms);
+  }
+
+  @Test
+  public void shouldSendMutantTimings() {
+    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
+        .build();
+    final MutantTimings timings = new MutantTimings(1, 2, 3);
+    final long before = System.nanoTime();
+    this.testee.timings(mi, timings);
+    final SafeDataInputStream is = resultToStream();
+    final MutationWireDecoder decoder = new MutationWireDecoder();
+    assertEquals(Id.TIMINGS, is.readByte());
+    assertTrue(is.readBoolean());
+    assertEquals(decoder.readIdentifier(is), mi);
+    assertEquals(decoder.readTimings(is), timings);
+    assertTrue(is.readLong() >= before);
+  }
+
+  @Test
+  public void shouldSendDiscoveryTime() {
+    this.testee.discoveryTime(42);
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.TIMINGS, is.readByte());
+    assertFalse(is.readBoolean());
+    assertEquals(42, is.readLong());
+  }
+
+  @Test
+  public void shouldSendRepeatedStringsOnlyOnce() {
+    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
+        .build();
+    this.testee.describe(mi);
+    final int firstSize = this.os.size();
+    this.testee.describe(mi);
+    final int secondSize = this.os.size() - firstSize;
+    assertTrue(secondSize < firstSize);
+
+    final SafeDataInputStream is = resultToStream();
+    final MutationWireDecoder decoder = new MutationWireDecoder();
+    is.readByte();
+    assertEquals(decoder.readIdentifier(is), mi);
+    is.readByte();
+    assertEquals(decoder.readIdentifier(is), mi);
   }
 
   private SafeDataInputStream resultToStream() {
@@ -0,0 +1,66 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+import com.example.isolation.CycleA;
+import com.example.isolation.CycleB;
+import com.example.isolation.Target;
+import com.example.isolation.Unrelated;
+import com.example.isolation.UsesTarget;
+import com.example.isolation.UsesTargetIndirectly;
+
+public class DependentClassesTest {
+
+  DependentClasses underTest = new DependentClasses(
+      new ClassloaderByteArraySource(getClass().getClassLoader()), ClassName.fromClass(Target.class));
+
+  @Test
+  public void targetIsIsolated() {
+    assertThat(underTest.test(Target.class.getName())).isTrue();
+  }
+
+  @Test
+  public void classesCallingTargetAreIsolated() {
+    assertThat(underTest.test(UsesTarget.class.getName())).isTrue();
+  }
+
+  @Test
+  public void classesCallingTargetThroughOtherClassesAreIsolated() {
+    assertThat(underTest.test(UsesTargetIndirectly.class.getName())).isTrue();
+  }
+
+  @Test
+  public void classesInCyclesThatReachTargetAreIsolated() {
+    assertThat(underTest.test(CycleA.class.getName())).isTrue();
+    assertThat(underTest.test(CycleB.class.getName())).isTrue();
+  }
+
+  @Test
+  public void givesSameAnswersWhenAskedInAnyOrder() {
+    assertThat(underTest.test(Unrelated.class.getName())).isFalse();
+    assertThat(underTest.test(CycleB.class.getName())).isTrue();
+    assertThat(underTest.test(CycleA.class.getName())).isTrue();
+    assertThat(underTest.test(Unrelated.class.getName())).isFalse();
+  }
+
+  @Test
+  public void unrelatedClassesAreShared() {
+    assertThat(underTest.test(Unrelated.class.getName())).isFalse();
+  }
+
+  @Test
+  public void jdkClassesAreShared() {
+    assertThat(underTest.test("java.lang.String")).isFalse();
+    assertThat(underTest.test("sun.pitest.ActiveMutant")).isFalse();
+  }
+
+  @Test
+  public void unknownClassesAreShared() {
+    assertThat(underTest.test("com.example.DoesNotExist")).isFalse();
+  }
+
+}
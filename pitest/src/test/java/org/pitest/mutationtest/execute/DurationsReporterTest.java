@@ -0,0 +1,48 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.junit.Test;
+import org.pitest.mutationtest.build.LearnedTimeoutStrategy;
+import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.SafeDataInputStream;
+
+public class DurationsReporterTest {
+
+  private final ByteArrayOutputStream os = new ByteArrayOutputStream();
+  private final LearnedTimeoutStrategy timeouts = new LearnedTimeoutStrategy(
+      new PercentAndConstantTimeoutStrategy(1.0f, 10), 50, 3);
+  private final DurationsReporter testee = new DurationsReporter(new DefaultReporter(this.os),
+      this.timeouts);
+
+  @Test
+  public void sendsLearnedDurationsBeforeExitCode() {
+    this.timeouts.getAllowedTime("test", 100);
+    this.timeouts.recordDuration("test", 42);
+
+    this.testee.done(ExitCode.TIMEOUT);
+
+    SafeDataInputStream is = written();
+    assertThat(is.readByte()).isEqualTo(Id.DURATIONS);
+    assertThat(new MutationWireDecoder().readDurations(is).size()).isEqualTo(1);
+    assertThat(is.readByte()).isEqualTo(Id.DONE);
+    assertThat(is.readInt()).isEqualTo(ExitCode.TIMEOUT.getCode());
+  }
+
+  @Test
+  public void sendsOnlyExitCodeWhenNothingLearned() {
+    this.testee.done(ExitCode.OK);
+
+    SafeDataInputStream is = written();
+    assertThat(is.readByte()).isEqualTo(Id.DONE);
+  }
+
+  private SafeDataInputStream written() {
+    return new SafeDataInputStream(new ByteArrayInputStream(this.os.toByteArray()));
+  }
+}
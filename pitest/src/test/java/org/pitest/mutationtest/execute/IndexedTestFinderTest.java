@@ -0,0 +1,99 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.junit.JUnitCompatibleConfiguration;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationDetailsMother;
+import org.pitest.testapi.Configuration;
+import org.pitest.testapi.TestGroupConfig;
+import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.execute.FindTestUnits;
+import org.pitest.testapi.execute.TestUnitIndex;
+import org.pitest.util.IsolationUtils;
+
+public class IndexedTestFinderTest {
+
+  Configuration config = new JUnitCompatibleConfiguration(new TestGroupConfig(),
+      Collections.emptyList(), Collections.emptyList());
+
+  List<TestUnit> discovered = new FindTestUnits(config)
+      .findTestUnitsForAllSuppliedClasses(Collections.singletonList(TwoTests.class));
+
+  @Test
+  public void rebuildsOnlyRequiredTestsWhenIndexed() {
+    TestUnitIndex index = new TestUnitIndex(new FindTestUnits(config).describe(discovered));
+    IndexedTestFinder underTest = new IndexedTestFinder(config, index);
+
+    List<TestUnit> actual = underTest.findTests(loader(), classes(), requiring(discovered.get(0)));
+
+    assertThat(names(actual)).containsExactly(name(discovered.get(0)));
+  }
+
+  @Test
+  public void scansClassWhenIndexEmpty() {
+    IndexedTestFinder underTest = new IndexedTestFinder(config, TestUnitIndex.empty());
+
+    List<TestUnit> actual = underTest.findTests(loader(), classes(), requiring(discovered.get(0)));
+
+    assertThat(names(actual)).containsExactlyInAnyOrderElementsOf(names(discovered));
+  }
+
+  @Test
+  public void scansClassWhenAnyRequiredTestMissingFromIndex() {
+    TestUnitIndex partial = new TestUnitIndex(new FindTestUnits(config).describe(discovered.subList(0, 1)));
+    IndexedTestFinder underTest = new IndexedTestFinder(config, partial);
+
+    List<TestUnit> actual = underTest.findTests(loader(), classes(),
+        requiring(discovered.get(0), discovered.get(1)));
+
+    assertThat(names(actual)).containsExactlyInAnyOrderElementsOf(names(discovered));
+  }
+
+  private List<MutationDetails> requiring(TestUnit... tests) {
+    MutationDetails mutation = MutationDetailsMother.makeMutation();
+    mutation.addTestsInOrder(Arrays.stream(tests)
+        .map(t -> new TestInfo(t.getDescription().getFirstTestClass(), name(t), 0,
+            Optional.empty(), 0))
+        .collect(Collectors.toList()));
+    return Collections.singletonList(mutation);
+  }
+
+  private static List<ClassName> classes() {
+    return Collections.singletonList(ClassName.fromClass(TwoTests.class));
+  }
+
+  private static ClassLoader loader() {
+    return IsolationUtils.getContextClassLoader();
+  }
+
+  private static List<String> names(List<TestUnit> units) {
+    return units.stream().map(IndexedTestFinderTest::name).collect(Collectors.toList());
+  }
+
+  private static String name(TestUnit unit) {
+    return unit.getDescription().getQualifiedName();
+  }
+
+  public static class TwoTests {
+    @org.junit.Test
+    public void one() {
+
+    }
+
+    @org.junit.Test
+    public void two() {
+
+    }
+  }
+
+}
@@ -0,0 +1,104 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.bytecode.ASMVersion;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+import com.example.isolation.Target;
+import com.example.isolation.Unrelated;
+import com.example.isolation.UsesTarget;
+import com.example.isolation.UsesTargetIndirectly;
+
+public class MutantClassLoaderTest {
+
+  ClassLoader parent = getClass().getClassLoader();
+  ClassByteArraySource source = new ClassloaderByteArraySource(this.parent);
+  ClassName target = ClassName.fromClass(Target.class);
+
+  @Test
+  public void definesMutantInsteadOfOriginal() throws Exception {
+    ClassLoader underTest = loaderFor(mutateTarget());
+    assertThat(call(underTest, Target.class)).isEqualTo(2);
+  }
+
+  @Test
+  public void dependentClassesSeeMutant() throws Exception {
+    ClassLoader underTest = loaderFor(mutateTarget());
+    assertThat(call(underTest, UsesTarget.class)).isEqualTo(3);
+    assertThat(call(underTest, UsesTargetIndirectly.class)).isEqualTo(4);
+  }
+
+  @Test
+  public void parentStillSeesOriginal() throws Exception {
+    loaderFor(mutateTarget()).loadClass(UsesTarget.class.getName()).getMethod("value")
+        .invoke(null);
+    assertThat(UsesTargetIndirectly.value()).isEqualTo(3);
+  }
+
+  @Test
+  public void leavesOtherClassesToParent() throws Exception {
+    ClassLoader underTest = loaderFor(mutateTarget());
+    assertThat(underTest.loadClass(Unrelated.class.getName())).isSameAs(Unrelated.class);
+    assertThat(underTest.loadClass(String.class.getName())).isSameAs(String.class);
+  }
+
+  @Test
+  public void definesEachIsolatedClassOnce() throws Exception {
+    ClassLoader underTest = loaderFor(mutateTarget());
+    assertThat(underTest.loadClass(UsesTarget.class.getName()))
+        .isSameAs(underTest.loadClass(UsesTarget.class.getName()));
+  }
+
+  @Test
+  public void recordsWhenMutantDefined() throws Exception {
+    MutantClassLoader underTest = loaderFor(mutateTarget());
+    assertThat(underTest.definedMutant()).isFalse();
+    call(underTest, UsesTarget.class);
+    assertThat(underTest.definedMutant()).isTrue();
+  }
+
+  @Test
+  public void doesNotRecordMutantDefinedWhenOnlyOtherClassesLoaded() throws Exception {
+    MutantClassLoader underTest = loaderFor(mutateTarget());
+    underTest.loadClass(Unrelated.class.getName());
+    assertThat(underTest.definedMutant()).isFalse();
+  }
+
+  private MutantClassLoader loaderFor(byte[] bytes) {
+    return new MutantClassLoader(this.parent, this.target, bytes,
+        new DependentClasses(this.source, this.target), this.source);
+  }
+
+  private static Object call(ClassLoader loader, Class<?> clazz) throws Exception {
+    return loader.loadClass(clazz.getName()).getMethod("value").invoke(null);
+  }
+
+  private byte[] mutateTarget() {
+    ClassReader reader = new ClassReader(this.source.getBytes(Target.class.getName()).get());
+    ClassWriter writer = new ClassWriter(0);
+    reader.accept(new ClassVisitor(ASMVersion.ASM_VERSION, writer) {
+      @Override
+      public MethodVisitor visitMethod(int access, String name, String descriptor,
+          String signature, String[] exceptions) {
+        return new MethodVisitor(ASMVersion.ASM_VERSION,
+            super.visitMethod(access, name, descriptor, signature, exceptions)) {
+          @Override
+          public void visitInsn(int opcode) {
+            super.visitInsn(opcode == Opcodes.ICONST_1 ? Opcodes.ICONST_2 : opcode);
+          }
+        };
+      }
+    }, 0);
+    return writer.toByteArray();
+  }
+
+}
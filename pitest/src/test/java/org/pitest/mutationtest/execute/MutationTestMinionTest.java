@@ -6,6 +6,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -29,6 +31,7 @@ import org.pitest.testapi.Configuration;
 import org.pitest.util.ExitCode;
 import org.pitest.util.PitError;
 import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
 import org.pitest.util.Verbosity;
 
 public class MutationTestMinionTest {
@@ -38,15 +41,9 @@ public class MutationTestMinionTest {
   @Mock
   private Reporter                    reporter;
 
-  @Mock
-  private SafeDataInputStream         is;
-
   @Mock
   private MutationEngine              engine;
 
-  @Mock
-  private TimeoutLengthStrategy       timeoutStrategy;
-
   @Mock
   private Configuration               testConfig;
 
@@ -69,9 +66,8 @@ public class MutationTestMinionTest {
     this.tests = new ArrayList<>();
 
     this.args = new MinionArguments(this.mutations, this.tests,  "anEgine", EngineArguments.arguments(),
-        this.timeoutStrategy, Verbosity.DEFAULT, false, TestPluginArguments.defaults());
+        new TestTimeoutStrategy(), Verbosity.DEFAULT, false, TestPluginArguments.defaults());
 
-    when(this.is.read(MinionArguments.class)).thenReturn(this.args);
     when(this.engine.createMutator(any(ClassByteArraySource.class)))
     .thenReturn(this.mutater);
 
@@ -80,11 +76,11 @@ public class MutationTestMinionTest {
 
     when(this.settings.createEngine(any(String.class))).thenReturn(factory);
 
-    this.testee = new MutationTestMinion(this.settings, this.is, this.reporter);
   }
 
   @Test
   public void shouldReportNoErrorWhenNoMutationsSupplied() {
+    makeTestee();
     this.testee.run();
     verify(this.reporter, atLeastOnce()).done(ExitCode.OK);
   }
@@ -95,8 +91,26 @@ public class MutationTestMinionTest {
         .withMutator("foo").build(), "file", "desc", 0, 0));
     when(this.mutater.getMutation(any(MutationIdentifier.class))).thenThrow(
         new PitError("foo"));
+    makeTestee();
     this.testee.run();
     verify(this.reporter).done(ExitCode.UNKNOWN_ERROR);
   }
 
+  private void makeTestee() {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    this.args.writeTo(new SafeDataOutputStream(bos));
+    final SafeDataInputStream is = new SafeDataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+    this.testee = new MutationTestMinion(this.settings, is, this.reporter);
+  }
+
+  // arguments now travel over a real stream, so cannot contain a mock
+  private static class TestTimeoutStrategy implements TimeoutLengthStrategy {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public long getAllowedTime(long normalDuration) {
+      return normalDuration;
+    }
+  }
+
 }
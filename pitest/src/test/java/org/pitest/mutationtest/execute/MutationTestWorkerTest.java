@@ -1,6 +1,10 @@
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -11,18 +15,24 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.environment.ResetEnvironment;
 import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchema;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -31,6 +41,7 @@ import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
 import junit.framework.AssertionFailedError;
+import sun.pitest.ActiveMutant;
 
 public class MutationTestWorkerTest {
 
@@ -131,6 +142,239 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldReportPhaseTimingsWhenRequested() throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, this.reset, false, true);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final TestUnit tu = makeFailingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+    verify(this.reporter).timings(eq(mutantOne.getId()), any(MutantTimings.class));
+  }
+
+  @Test
+  public void shouldNotReportPhaseTimingsByDefault() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+    verify(this.reporter, never()).timings(any(MutationIdentifier.class),
+        any(MutantTimings.class));
+  }
+
+  @Test
+  public void shouldInsertSchemaOnceForAllMutantsOfAClass() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final List<Integer> active = new ArrayList<>();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(recordActiveMutant(active)));
+    when(this.mutater.getSchema(eq(ClassName.fromString("foo")), any(Map.class)))
+        .thenReturn(Optional.of(schemaFor(mutantOne, 7, mutantTwo, 8)));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter, this.testSource);
+
+    verify(this.hotswapper, times(1)).insertClass(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+    verify(this.mutater, never()).getMutation(any(MutationIdentifier.class));
+    assertThat(active).containsExactly(7, 8);
+    assertThat(ActiveMutant.id).isEqualTo(ActiveMutant.NONE);
+    verify(this.reporter).report(eq(mutantOne.getId()), any(MutationStatusTestPair.class));
+    verify(this.reporter).report(eq(mutantTwo.getId()), any(MutationStatusTestPair.class));
+  }
+
+  @Test
+  public void shouldCreateMutantsLeftOutOfSchemaIndividually() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    final Map<MutationIdentifier, Integer> keys = new HashMap<>();
+    keys.put(mutantOne.getId(), 0);
+    when(this.mutater.getSchema(eq(ClassName.fromString("foo")), any(Map.class)))
+        .thenReturn(Optional.of(new MutantSchema(new byte[0], keys)));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter, this.testSource);
+
+    verify(this.mutater, never()).getMutation(mutantOne.getId());
+    verify(this.mutater).getMutation(mutantTwo.getId());
+    verify(this.reporter).report(eq(mutantTwo.getId()), any(MutationStatusTestPair.class));
+  }
+
+  @Test
+  public void shouldCreateMutantsIndividuallyWhenSchemaNotViable() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(this.mutater.getSchema(eq(ClassName.fromString("foo")), any(Map.class)))
+        .thenReturn(Optional.of(schemaFor(mutantOne, 0, mutantOne, 0)));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(false);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.mutater).getMutation(mutantOne.getId());
+  }
+
+  @Test
+  public void shouldRunMutantsInIsolationWithoutHotswapping() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final IsolatedMutants isolated = isolatedMutants(makePassingTest(), makeFailingTest());
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, this.reset, false, false, Optional.of(isolated));
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter, this.testSource);
+
+    verify(this.hotswapper, never()).insertClass(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+    verify(this.reporter).describe(mutantOne.getId());
+    verify(this.reporter).describe(mutantTwo.getId());
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "atest"));
+    verify(this.reporter).report(mutantTwo.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "atest"));
+  }
+
+  @Test
+  public void shouldHotswapMutantsWhenTestsFailInIsolation() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final IsolatedMutants isolated = isolatedMutants(makeFailingTest(), makeFailingTest());
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, this.reset, false, false, Optional.of(isolated));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.hotswapper).insertClass(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class));
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED, new ArrayList<>(),  new ArrayList<>()));
+  }
+
+  @Test
+  public void shouldHotswapMutantsWhenIsolationNotAllowedForTests() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final IsolatedMutants isolated = isolatedMutants(makePassingTest(), makeFailingTest());
+    when(isolated.canIsolate(any(Collection.class))).thenReturn(false);
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, this.reset, false, false, Optional.of(isolated));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(isolated, never()).loaderFor(any(ClassName.class), any(byte[].class),
+        any(Predicate.class));
+  }
+
+  @Test
+  public void shouldHotswapMutantsWhenTestsDoNotReachIsolatedClass() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final IsolatedMutants isolated = isolatedMutants(makePassingTest(), makeFailingTest());
+    when(isolated.definedMutant(any(ClassLoader.class))).thenReturn(false);
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, this.reset, false, false, Optional.of(isolated));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(isolated, times(1)).loaderFor(any(ClassName.class), any(byte[].class),
+        any(Predicate.class));
+    verify(this.hotswapper).insertClass(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class));
+  }
+
+  @Test
+  public void shouldHotswapMutantsNotReachedInIsolation() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final IsolatedMutants isolated = isolatedMutants(makePassingTest(), makeFailingTest());
+    when(isolated.definedMutant(any(ClassLoader.class))).thenReturn(true, false);
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, this.reset, false, false, Optional.of(isolated));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.hotswapper).insertClass(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class));
+    verify(this.reporter, times(1)).report(any(MutationIdentifier.class),
+        any(MutationStatusTestPair.class));
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED, new ArrayList<>(),  new ArrayList<>()));
+  }
+
+  private IsolatedMutants isolatedMutants(TestUnit unmutated, TestUnit mutated) {
+    final TimeOutDecoratedTestSource unmutatedSource = sourceOf(unmutated);
+    final TimeOutDecoratedTestSource mutatedSource = sourceOf(mutated);
+    final IsolatedMutants isolated = Mockito.mock(IsolatedMutants.class);
+    when(isolated.canIsolate(any(Collection.class))).thenReturn(true);
+    when(isolated.threads()).thenReturn(2);
+    when(isolated.originalBytes(any(ClassName.class))).thenReturn(Optional.of(new byte[0]));
+    when(isolated.dependentsOf(any(ClassName.class))).thenReturn(c -> false);
+    when(isolated.loaderFor(any(ClassName.class), any(byte[].class), any(Predicate.class)))
+        .thenReturn(this.loader);
+    when(isolated.testsFor(any(ClassLoader.class), any(Collection.class)))
+        .thenReturn(unmutatedSource, mutatedSource);
+    when(isolated.definedMutant(any(ClassLoader.class))).thenReturn(true);
+    return isolated;
+  }
+
+  private TimeOutDecoratedTestSource sourceOf(TestUnit test) {
+    final TimeOutDecoratedTestSource source = Mockito.mock(TimeOutDecoratedTestSource.class);
+    when(source.translateTests(any(List.class))).thenReturn(Collections.singletonList(test));
+    return source;
+  }
+
+  private MutantSchema schemaFor(MutationDetails one, int oneKey,
+      MutationDetails two, int twoKey) {
+    final Map<MutationIdentifier, Integer> keys = new HashMap<>();
+    keys.put(one.getId(), oneKey);
+    keys.put(two.getId(), twoKey);
+    return new MutantSchema(new byte[0], keys);
+  }
+
+  private TestUnit recordActiveMutant(List<Integer> active) {
+    return new TestUnit() {
+
+      @Override
+      public void execute(final ResultCollector rc) {
+        active.add(ActiveMutant.id);
+        rc.notifyStart(getDescription());
+        rc.notifyEnd(getDescription());
+      }
+
+      @Override
+      public Description getDescription() {
+        return new Description("atest");
+      }
+
+    };
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
@@ -21,10 +21,19 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -48,17 +57,20 @@ public class MutationTimeoutDecoratorTest {
 
   private static final long        NORMAL_EXECUTION = 1;
 
+  private static final Description DESCRIPTION = new Description("test", "aClass");
+
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
+    when(this.child.getDescription()).thenReturn(DESCRIPTION);
     this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
         this.timeoutStrategy, NORMAL_EXECUTION);
   }
 
   @Test
   public void shouldCompleteNormallyWhenChildExecutesWithinAllowedTime() {
-    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
-        1000L);
+    when(this.timeoutStrategy.getAllowedTime(DESCRIPTION.getQualifiedName(), NORMAL_EXECUTION))
+        .thenReturn(1000L);
     this.testee.execute(this.rc);
     verify(this.child).execute(any(ResultCollector.class));
     verify(this.sideEffect, never()).apply();
@@ -67,7 +79,8 @@ public class MutationTimeoutDecoratorTest {
   @Test
   @Ignore("flakey")
   public void shouldApplySideEffectWhenChildRunsForLongerThanAllowedTime() {
-    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50L);
+    when(this.timeoutStrategy.getAllowedTime(DESCRIPTION.getQualifiedName(), NORMAL_EXECUTION))
+        .thenReturn(50L);
 
     doAnswer(invocation -> {
       Thread.sleep(100);
@@ -78,4 +91,77 @@ public class MutationTimeoutDecoratorTest {
     verify(this.child).execute(any(ResultCollector.class));
     verify(this.sideEffect).apply();
   }
+
+  @Test
+  public void shouldRecordDurationOfTestsThatComplete() {
+    when(this.timeoutStrategy.getAllowedTime(DESCRIPTION.getQualifiedName(), NORMAL_EXECUTION))
+        .thenReturn(1000L);
+    doAnswer(invocation -> {
+      ((ResultCollector) invocation.getArgument(0)).notifyEnd(DESCRIPTION);
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+
+    verify(this.timeoutStrategy).recordDuration(eq(DESCRIPTION.getQualifiedName()), anyLong());
+  }
+
+  @Test
+  public void shouldNotRecordDurationOfTestsThatFail() {
+    when(this.timeoutStrategy.getAllowedTime(DESCRIPTION.getQualifiedName(), NORMAL_EXECUTION))
+        .thenReturn(1000L);
+    doAnswer(invocation -> {
+      ((ResultCollector) invocation.getArgument(0)).notifyEnd(DESCRIPTION, new AssertionError());
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+
+    verify(this.timeoutStrategy, never()).recordDuration(any(String.class), anyLong());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldReportTimeoutAndContinueWhenRecovered() {
+    final TimeoutRecovery recovery = new TimeoutRecovery(1, 10);
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, Optional.of(recovery));
+    when(this.timeoutStrategy.getAllowedTime(DESCRIPTION.getQualifiedName(), NORMAL_EXECUTION))
+        .thenReturn(10L);
+    doAnswer(invocation -> {
+      Thread.sleep(5000);
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+
+    verify(this.sideEffect, never()).apply();
+    verify(this.rc).notifyEnd(eq(DESCRIPTION), isA(TimeoutException.class));
+    assertThat(recovery.takeRecovered()).isTrue();
+  }
+
+  @Test(timeout = 10000)
+  public void shouldApplySideEffectWhenUnableToRecover() {
+    final TimeoutRecovery recovery = new TimeoutRecovery(0, 10);
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, Optional.of(recovery));
+    when(this.timeoutStrategy.getAllowedTime(DESCRIPTION.getQualifiedName(), NORMAL_EXECUTION))
+        .thenReturn(10L);
+    final AtomicBoolean stop = new AtomicBoolean();
+    doAnswer(invocation -> {
+      while (!stop.get()) {
+        // ignore interrupts
+        Thread.interrupted();
+      }
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    try {
+      this.testee.execute(this.rc);
+    } finally {
+      stop.set(true);
+    }
+
+    verify(this.sideEffect).apply();
+    assertThat(recovery.takeRecovered()).isFalse();
+  }
 }
@@ -0,0 +1,139 @@
+package org.pitest.mutationtest.execute;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestDurations;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class MutationWireEncoderTest {
+
+  private final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+  private final SafeDataOutputStream dos = new SafeDataOutputStream(this.bos);
+  private final MutationWireEncoder encoder = new MutationWireEncoder();
+  private final MutationWireDecoder decoder = new MutationWireDecoder();
+
+  @Test
+  public void roundTripsMutationIdentifiers() {
+    MutationIdentifier id = new MutationIdentifier(aMutationId().build().getLocation(), asList(3, 7, 9), "mutator");
+    this.encoder.writeIdentifier(this.dos, id);
+    MutationIdentifier actual = this.decoder.readIdentifier(written());
+    assertThat(actual).isEqualTo(id);
+    assertThat(actual.getIndexes()).containsExactly(3, 7, 9);
+  }
+
+  @Test
+  public void roundTripsStatuses() {
+    MutationStatusTestPair status = new MutationStatusTestPair(3, DetectionStatus.KILLED,
+        asList("a", "b"), asList("c"));
+    this.encoder.writeStatus(this.dos, status);
+    assertThat(this.decoder.readStatus(written())).isEqualTo(status);
+  }
+
+  @Test
+  public void roundTripsStatusesWithNoTests() {
+    MutationStatusTestPair status = MutationStatusTestPair.notAnalysed(0, DetectionStatus.NO_COVERAGE);
+    this.encoder.writeStatus(this.dos, status);
+    assertThat(this.decoder.readStatus(written())).isEqualTo(status);
+  }
+
+  @Test
+  public void roundTripsMutationsAndTheirTests() {
+    TestInfo a = new TestInfo("com.example.FooTest", "a", 42, Optional.of(ClassName.fromString("com.example.Foo")), 3);
+    TestInfo b = new TestInfo(null, "b", 1, Optional.empty(), 0);
+
+    MutationDetails first = new MutationDetails(aMutationId().withIndex(1).build(), "Foo.java", "desc", 12, asList(1, 2));
+    first.addTestsInOrder(asList(b, a));
+    MutationDetails second = new MutationDetails(aMutationId().withIndex(2).build(), null, "desc", 13, 3);
+    second.addTestsInOrder(asList(a));
+
+    this.encoder.writeMutations(this.dos, asList(first, second));
+    List<MutationDetails> actual = this.decoder.readMutations(written());
+
+    assertThat(actual).containsExactly(first, second);
+    MutationDetails actualFirst = actual.get(0);
+    assertThat(actualFirst.getFilename()).isEqualTo("Foo.java");
+    assertThat(actualFirst.getDescription()).isEqualTo("desc");
+    assertThat(actualFirst.getLineNumber()).isEqualTo(12);
+    assertThat(actualFirst.getBlocks()).containsExactly(1, 2);
+    assertThat(actualFirst.getTestsInOrder()).containsExactly(b, a);
+
+    TestInfo actualA = actualFirst.getTestsInOrder().get(1);
+    assertThat(actualA.getTime()).isEqualTo(42);
+    assertThat(actualA.getNumberOfBlocksCovered()).isEqualTo(3);
+    assertThat(actualA.directlyHits(ClassName.fromString("com.example.Foo"))).isTrue();
+    assertThat(actualA.getDefiningClass()).isEqualTo("com.example.FooTest");
+    assertThat(actualFirst.getTestsInOrder().get(0).getDefiningClass()).isNull();
+
+    assertThat(actual.get(1).getFilename()).isEqualTo("unknown_source");
+    assertThat(actual.get(1).getTestsInOrder().get(0)).isSameAs(actualA);
+  }
+
+  @Test
+  public void sendsEachTestOnceWhenSharedByManyMutants() {
+    List<TestInfo> tests = new ArrayList<>();
+    for (int i = 0; i != 100; i++) {
+      tests.add(new TestInfo("com.example.FooTest", "com.example.FooTest.test" + i, i, Optional.empty(), 1));
+    }
+
+    List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 200; i++) {
+      MutationDetails md = new MutationDetails(aMutationId().withIndex(i).build(), "Foo.java", "desc", i, i);
+      md.addTestsInOrder(tests);
+      mutations.add(md);
+    }
+
+    this.encoder.writeMutations(this.dos, mutations);
+    int compact = this.bos.size();
+
+    ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+    new SafeDataOutputStream(serialized).write(new ArrayList<>(mutations));
+
+    assertThat(compact).isLessThan(serialized.size());
+    assertThat(this.decoder.readMutations(written())).hasSize(200);
+  }
+
+  @Test
+  public void roundTripsTestDurations() {
+    TestDurations durations = new TestDurations();
+    durations.record("a", 1);
+    durations.record("a", 2);
+    durations.record("b", 3);
+    this.encoder.writeDurations(this.dos, durations);
+
+    Map<String, long[]> actual = new HashMap<>();
+    this.decoder.readDurations(written()).forEach(actual::put);
+
+    assertThat(actual).containsOnlyKeys("a", "b");
+    assertThat(actual.get("a")).containsExactly(1, 2);
+    assertThat(actual.get("b")).containsExactly(3);
+  }
+
+  @Test
+  public void roundTripsEmptyMutationLists() {
+    this.encoder.writeMutations(this.dos, Collections.emptyList());
+    assertThat(this.decoder.readMutations(written())).isEmpty();
+  }
+
+  private SafeDataInputStream written() {
+    return new SafeDataInputStream(new ByteArrayInputStream(this.bos.toByteArray()));
+  }
+}
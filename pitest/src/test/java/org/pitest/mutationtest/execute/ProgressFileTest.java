@@ -0,0 +1,67 @@
+package org.pitest.mutationtest.execute;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class ProgressFileTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void readsNothingWhenFileDoesNotExist() {
+    assertThat(ProgressFile.readLast(new File(folder.getRoot(), "missing"))).isEmpty();
+  }
+
+  @Test
+  public void readsNothingWhenNothingRecorded() throws IOException {
+    File file = folder.newFile();
+    ProgressFile.openForWriting(file).close();
+    assertThat(ProgressFile.readLast(file)).isEmpty();
+  }
+
+  @Test
+  public void readsLastRecordedMutant() throws IOException {
+    File file = folder.newFile();
+    MutationIdentifier first = new MutationIdentifier(aMutationId().build().getLocation(), asList(1, 2), "a.long.mutator.Name");
+    MutationIdentifier second = aMutationId().withIndex(3).withMutator("b").build();
+    try (ProgressFile underTest = ProgressFile.openForWriting(file)) {
+      assertThat(underTest.record(first)).isTrue();
+      assertThat(underTest.record(second)).isTrue();
+    }
+    assertThat(ProgressFile.readLast(file)).contains(second);
+  }
+
+  @Test
+  public void readsNothingOnceCleared() throws IOException {
+    File file = folder.newFile();
+    try (ProgressFile underTest = ProgressFile.openForWriting(file)) {
+      underTest.record(aMutationId().withIndex(1).build());
+      underTest.clear();
+    }
+    assertThat(ProgressFile.readLast(file)).isEmpty();
+  }
+
+  @Test
+  public void doesNotRecordMutantsTooLargeForFile() throws IOException {
+    File file = folder.newFile();
+    StringBuilder hugeName = new StringBuilder();
+    for (int i = 0; i != ProgressFile.SIZE; i++) {
+      hugeName.append('a');
+    }
+    try (ProgressFile underTest = ProgressFile.openForWriting(file)) {
+      underTest.record(aMutationId().withIndex(1).build());
+      assertThat(underTest.record(aMutationId().withMutator(hugeName.toString()).build())).isFalse();
+    }
+    assertThat(ProgressFile.readLast(file)).isEmpty();
+  }
+}
@@ -71,9 +71,23 @@ public class TimeOutDecoratedTestSourceTest {
     assertEquals(1, actual.size());
   }
 
+  @Test
+  public void shouldReturnEveryTestOfClassWhenTestNamedAfterClassSupplied() {
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
+        Arrays.asList(makeTestUnit("one", "foo"), makeTestUnit("two", "foo"),
+            makeTestUnit("three", "bar")), this.reporter);
+    final List<TestUnit> actual = this.testee.translateTests(Arrays
+        .asList(new TestInfo("foo", "foo", 42, Optional.<ClassName> empty(), 0)));
+    assertEquals(2, actual.size());
+  }
+
   private TestUnit makeTestUnit(final String name) {
+    return makeTestUnit(name, null);
+  }
+
+  private TestUnit makeTestUnit(final String name, final String testClass) {
     return new TestUnit() {
-      private final Description description = new Description(name);
+      private final Description description = new Description(name, testClass);
 
       @Override
       public void execute(final ResultCollector rc) {
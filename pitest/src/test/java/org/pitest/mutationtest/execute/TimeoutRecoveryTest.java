@@ -0,0 +1,130 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class TimeoutRecoveryTest {
+
+  private final AtomicBoolean stop = new AtomicBoolean();
+
+  @After
+  public void stopThreads() {
+    this.stop.set(true);
+  }
+
+  @Test
+  public void recoversWhenThreadStopsOnInterrupt() throws Exception {
+    TimeoutRecovery underTest = new TimeoutRecovery(0, 5000);
+    Thread t = start(sleeper());
+    assertThat(underTest.recover(t)).isTrue();
+    assertThat(t.isAlive()).isFalse();
+    assertThat(underTest.takeRecovered()).isTrue();
+  }
+
+  @Test
+  public void abandonsThreadsUpToLimit() throws Exception {
+    TimeoutRecovery underTest = new TimeoutRecovery(1, 10);
+    assertThat(underTest.recover(start(spinner()))).isTrue();
+    assertThat(underTest.takeRecovered()).isTrue();
+    assertThat(underTest.recover(start(spinner()))).isFalse();
+    assertThat(underTest.takeRecovered()).isFalse();
+  }
+
+  @Test
+  public void abandonedThreadsThatLaterStopDoNotCountTowardsLimit() throws Exception {
+    TimeoutRecovery underTest = new TimeoutRecovery(1, 10);
+    Thread first = start(spinner());
+    assertThat(underTest.recover(first)).isTrue();
+    this.stop.set(true);
+    first.join();
+    this.stop.set(false);
+    assertThat(underTest.recover(start(spinner()))).isTrue();
+  }
+
+  @Test
+  public void abandonedThreadsThatLaterStopCountTowardsTotalLimit() throws Exception {
+    TimeoutRecovery underTest = new TimeoutRecovery(1, 1, 10);
+    Thread first = start(spinner());
+    assertThat(underTest.recover(first)).isTrue();
+    this.stop.set(true);
+    first.join();
+    this.stop.set(false);
+    assertThat(underTest.recover(start(spinner()))).isFalse();
+  }
+
+  @Test
+  public void threadsThatStopOnInterruptDoNotCountTowardsTotalLimit() throws Exception {
+    TimeoutRecovery underTest = new TimeoutRecovery(1, 1, 5000);
+    assertThat(underTest.recover(start(sleeper()))).isTrue();
+    assertThat(underTest.recover(start(sleeper()))).isTrue();
+  }
+
+  @Test
+  public void sharedRecoveriesCountTotalAbandonedThreadsTogether() throws Exception {
+    TimeoutRecovery first = new TimeoutRecovery(2, 1, 10);
+    TimeoutRecovery second = first.share();
+    assertThat(first.recover(start(spinner()))).isTrue();
+    assertThat(second.recover(start(spinner()))).isFalse();
+  }
+
+  @Test
+  public void recoveryIsOnlyReportedOnce() throws Exception {
+    TimeoutRecovery underTest = new TimeoutRecovery(0, 5000);
+    underTest.recover(start(sleeper()));
+    assertThat(underTest.takeRecovered()).isTrue();
+    assertThat(underTest.takeRecovered()).isFalse();
+  }
+
+  @Test
+  public void sharedRecoveriesCountAbandonedThreadsTogether() throws Exception {
+    TimeoutRecovery first = new TimeoutRecovery(1, 10);
+    TimeoutRecovery second = first.share();
+    assertThat(first.recover(start(spinner()))).isTrue();
+    assertThat(second.recover(start(spinner()))).isFalse();
+  }
+
+  @Test
+  public void sharedRecoveriesReportTheirOwnRecoveredTimeouts() throws Exception {
+    TimeoutRecovery first = new TimeoutRecovery(0, 5000);
+    TimeoutRecovery second = first.share();
+    second.recover(start(sleeper()));
+    assertThat(first.takeRecovered()).isFalse();
+    assertThat(second.takeRecovered()).isTrue();
+  }
+
+  private Runnable sleeper() {
+    return () -> {
+      try {
+        Thread.sleep(60000);
+      } catch (InterruptedException e) {
+        // expected
+      }
+    };
+  }
+
+  private Runnable spinner() {
+    return () -> {
+      while (!this.stop.get()) {
+        Thread.interrupted();
+      }
+    };
+  }
+
+  private static Thread start(Runnable r) throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    Thread t = new Thread(() -> {
+      started.countDown();
+      r.run();
+    });
+    t.setDaemon(true);
+    t.start();
+    started.await();
+    return t;
+  }
+
+}
@@ -0,0 +1,110 @@
+package org.pitest.util;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+import org.pitest.functional.prelude.Prelude;
+
+public class GlobMatcherTest {
+
+  @Test
+  public void matchesNothingWhenNoGlobs() {
+    assertThat(GlobMatcher.of(Collections.emptyList()).test("com.example.Foo")).isFalse();
+  }
+
+  @Test
+  public void matchesNothingWhenGlobsAreNull() {
+    assertThat(GlobMatcher.of((Collection<String>) null).test("com.example.Foo")).isFalse();
+  }
+
+  @Test
+  public void matchesExactStrings() {
+    GlobMatcher underTest = GlobMatcher.of("com.example.Foo", "com.example.Bar");
+    assertThat(underTest.test("com.example.Foo")).isTrue();
+    assertThat(underTest.test("com.example.Bar")).isTrue();
+    assertThat(underTest.test("com.example.Fo")).isFalse();
+    assertThat(underTest.test("com.example.FooBar")).isFalse();
+  }
+
+  @Test
+  public void matchesEverythingAfterTrailingStar() {
+    GlobMatcher underTest = GlobMatcher.of("com.example.*");
+    assertThat(underTest.test("com.example.Foo")).isTrue();
+    assertThat(underTest.test("com.example.")).isTrue();
+    assertThat(underTest.test("com.example")).isFalse();
+    assertThat(underTest.test("com.other.Foo")).isFalse();
+  }
+
+  @Test
+  public void matchesWildcardsWithinGlob() {
+    GlobMatcher underTest = GlobMatcher.of("com.*.Foo*Test", "org.?ar");
+    assertThat(underTest.test("com.example.FooTest")).isTrue();
+    assertThat(underTest.test("com.a.b.FooBarTest")).isTrue();
+    assertThat(underTest.test("com.example.FooTests")).isFalse();
+    assertThat(underTest.test("org.bar")).isTrue();
+    assertThat(underTest.test("org.ar")).isFalse();
+  }
+
+  @Test
+  public void matchesGlobsSharingPrefixes() {
+    GlobMatcher underTest = GlobMatcher.of("com.example.a.*", "com.example.b*Test",
+        "com.example");
+    assertThat(underTest.test("com.example.a.Foo")).isTrue();
+    assertThat(underTest.test("com.example.bFooTest")).isTrue();
+    assertThat(underTest.test("com.example")).isTrue();
+    assertThat(underTest.test("com.example.c.Foo")).isFalse();
+  }
+
+  @Test
+  public void treatsDotsAndDollarsLiterally() {
+    GlobMatcher underTest = GlobMatcher.of("com.Foo$*");
+    assertThat(underTest.test("com.Foo$1")).isTrue();
+    assertThat(underTest.test("comaFoo$1")).isFalse();
+  }
+
+  @Test
+  public void supportsRegexGlobs() {
+    GlobMatcher underTest = GlobMatcher.of("~com\\.example\\.[A-Z]*", "org.[ab]ar", "org.f*");
+    assertThat(underTest.test("com.example.FOO")).isTrue();
+    assertThat(underTest.test("com.example.foo")).isFalse();
+    assertThat(underTest.test("org.foo")).isTrue();
+    assertThat(underTest.test("org.bar")).isTrue();
+  }
+
+  @Test
+  public void givesSameAnswersAsCombinedGlobs() {
+    Random random = new Random(1);
+    for (int i = 0; i != 200; i++) {
+      List<String> globs = asList(randomGlob(random), randomGlob(random), randomGlob(random));
+      Predicate<String> expected = Prelude.or(Glob.toGlobPredicates(globs));
+      GlobMatcher underTest = GlobMatcher.of(globs);
+      for (int j = 0; j != 50; j++) {
+        String value = randomString(random, "ab.$");
+        assertThat(underTest.test(value))
+            .as(globs + " " + value)
+            .isEqualTo(expected.test(value));
+      }
+    }
+  }
+
+  private static String randomGlob(Random random) {
+    return randomString(random, "ab.$*?+");
+  }
+
+  private static String randomString(Random random, String alphabet) {
+    StringBuilder sb = new StringBuilder();
+    int length = random.nextInt(7);
+    for (int i = 0; i != length; i++) {
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return sb.toString();
+  }
+
+}
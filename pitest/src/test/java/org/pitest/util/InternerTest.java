@@ -0,0 +1,29 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class InternerTest {
+
+  private final Interner<String> underTest = new Interner<>();
+
+  @Test
+  public void returnsFirstInstanceOfEqualValues() {
+    final String first = new String("foo");
+    final String second = new String("foo");
+
+    assertThat(underTest.intern(first)).isSameAs(first);
+    assertThat(underTest.intern(second)).isSameAs(first);
+  }
+
+  @Test
+  public void keepsUnequalValuesApart() {
+    final String foo = new String("foo");
+    final String bar = new String("bar");
+
+    assertThat(underTest.intern(foo)).isSameAs(foo);
+    assertThat(underTest.intern(bar)).isSameAs(bar);
+  }
+
+}
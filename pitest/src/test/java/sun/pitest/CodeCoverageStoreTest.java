@@ -16,9 +16,13 @@ package sun.pitest;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
@@ -47,6 +51,7 @@ public class CodeCoverageStoreTest {
 
   @After
   public void cleanUp() {
+    CodeCoverageStore.releaseThreadProbes();
     CodeCoverageStore.resetAllStaticState();
   }
 
@@ -105,6 +110,107 @@ public class CodeCoverageStoreTest {
     assertEquals(Collections.emptyList(), actual);
   }
 
+  @Test
+  public void shouldUseSharedProbesForThreadsWithoutProbesOfTheirOwn() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    assertSame(CodeCoverageStore.getOrRegisterClassProbes(classId, 2),
+        CodeCoverageStore.getThreadProbes(classId, 2));
+  }
+
+  @Test
+  public void shouldRecordThreadHitsSeparatelyFromSharedHits() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.captureThreadProbes();
+
+    final boolean[] ar = CodeCoverageStore.getThreadProbes(classId, 2);
+    ar[0] = true;
+    ar[2] = true;
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 2)),
+        new ArrayList<>(CodeCoverageStore.getThreadHits()));
+    assertEquals(Collections.emptyList(), CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldNotShareThreadProbesBetweenThreads() throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.captureThreadProbes();
+    final boolean[] mine = CodeCoverageStore.getThreadProbes(classId, 2);
+
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+    final Future<boolean[]> theirs = pool.submit(() -> {
+      CodeCoverageStore.captureThreadProbes();
+      try {
+        return CodeCoverageStore.getThreadProbes(classId, 2);
+      } finally {
+        CodeCoverageStore.releaseThreadProbes();
+      }
+    });
+    pool.shutdown();
+
+    assertNotSame(mine, theirs.get());
+  }
+
+  @Test
+  public void shouldCountProbeRequestsFromThreadsWithoutProbesWhileOthersHaveThem()
+      throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.captureThreadProbes();
+    final long before = CodeCoverageStore.uncreditedProbeRequests();
+
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+    pool.submit(() -> CodeCoverageStore.getThreadProbes(classId, 2)).get();
+    pool.shutdown();
+
+    assertEquals(before + 1, CodeCoverageStore.uncreditedProbeRequests());
+  }
+
+  @Test
+  public void shouldNotCountProbeRequestsWhenNoThreadHasProbes() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final long before = CodeCoverageStore.uncreditedProbeRequests();
+
+    CodeCoverageStore.getThreadProbes(classId, 2);
+
+    assertEquals(before, CodeCoverageStore.uncreditedProbeRequests());
+  }
+
+  @Test
+  public void shouldNotCountProbeRequestsFromThreadsWithProbes() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.captureThreadProbes();
+    final long before = CodeCoverageStore.uncreditedProbeRequests();
+
+    CodeCoverageStore.getThreadProbes(classId, 2);
+
+    assertEquals(before, CodeCoverageStore.uncreditedProbeRequests());
+  }
+
+  @Test
+  public void shouldClearThreadHitsWhenThreadProbesReset() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.captureThreadProbes();
+
+    final boolean[] ar = CodeCoverageStore.getThreadProbes(classId, 2);
+    ar[0] = true;
+    ar[1] = true;
+    CodeCoverageStore.resetThreadProbes();
+
+    assertEquals(Collections.emptyList(), new ArrayList<>(CodeCoverageStore.getThreadHits()));
+  }
+
+  @Test
+  public void shouldGrowThreadProbesWhenClassHasMoreProbes() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.captureThreadProbes();
+
+    CodeCoverageStore.getThreadProbes(classId, 2)[1] = true;
+    final boolean[] grown = CodeCoverageStore.getThreadProbes(classId, 5);
+
+    assertEquals(6, grown.length);
+    assertTrue(grown[1]);
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
       throws InterruptedException, ExecutionException {